@@ -0,0 +1,74 @@
+package com.developing.app.accounts.accountmanaging.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Base de datos H2 en memoria para los benchmarks, con el esquema de benchmark-schema.sql y un
+ * pool Hikari dimensionado para el número de hilos del benchmark.
+ */
+final class BenchmarkDatabase implements AutoCloseable {
+
+  static final String ENTITY = "0049";
+  static final String CENTER = "1001";
+  static final String BRAND = "BENCH";
+
+  private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+  private final HikariDataSource dataSource;
+
+  BenchmarkDatabase(int poolSize) throws SQLException, IOException {
+    HikariConfig config = new HikariConfig();
+    config.setJdbcUrl("jdbc:h2:mem:bench" + SEQUENCE.incrementAndGet() + ";MODE=Oracle;DB_CLOSE_DELAY=-1");
+    config.setUsername("sa");
+    config.setPassword("");
+    config.setMaximumPoolSize(poolSize);
+    config.setMinimumIdle(poolSize);
+    dataSource = new HikariDataSource(config);
+
+    try (Connection conn = dataSource.getConnection(); Statement st = conn.createStatement()) {
+      for (String sql : readSchema().split(";")) {
+        if (!sql.isBlank()) {
+          st.execute(sql);
+        }
+      }
+      try (PreparedStatement ps = conn.prepareStatement(
+          "INSERT INTO DC_CONTRACT_COUNTER (ENTITY, CENTER, BRAND, CONTRACT_ID) VALUES (?, ?, ?, ?)")) {
+        ps.setString(1, ENTITY);
+        ps.setString(2, CENTER);
+        ps.setString(3, BRAND);
+        ps.setString(4, "00000000000000000000");
+        ps.executeUpdate();
+      }
+    }
+  }
+
+  HikariDataSource dataSource() {
+    return dataSource;
+  }
+
+  private static String readSchema() throws IOException {
+    try (InputStream in = BenchmarkDatabase.class.getResourceAsStream("/benchmark-schema.sql")) {
+      if (in == null) {
+        throw new IOException("benchmark-schema.sql not found");
+      }
+      String schema = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+      // se eliminan los comentarios de línea para poder separar por ';'
+      return schema.replaceAll("(?m)^--.*$", "");
+    }
+  }
+
+  @Override
+  public void close() {
+    dataSource.close();
+  }
+}
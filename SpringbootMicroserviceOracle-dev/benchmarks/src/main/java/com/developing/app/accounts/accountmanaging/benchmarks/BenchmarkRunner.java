@@ -0,0 +1,90 @@
+package com.developing.app.accounts.accountmanaging.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Ejecuta las suites JMH una vez por cada número de hilos y resume throughput y latencia p99 por
+ * benchmark y número de hilos, para comparar entre versiones antes de desplegar.
+ * <p>
+ * Uso: {@code java -cp benchmarks/target/benchmarks.jar
+ * com.developing.app.accounts.accountmanaging.benchmarks.BenchmarkRunner [regex] [hilos,...]}
+ * <br>Por defecto se ejecutan todas las suites con 1, 4, 16 y 64 hilos. Los resultados completos se
+ * escriben en target/jmh-&lt;hilos&gt;.json.
+ */
+public final class BenchmarkRunner {
+
+  private BenchmarkRunner() {
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    String include = args.length > 0 ? args[0] : ".*Benchmark.*";
+    int[] threadCounts = args.length > 1 ? parseThreads(args[1]) : new int[] {1, 4, 16, 64};
+
+    List<String> summary = new ArrayList<>();
+    summary.add(String.format(Locale.ROOT, "%-70s %7s %14s %12s", "benchmark", "threads", "ops/ms", "p99 (us)"));
+    for (int threads : threadCounts) {
+      ChainedOptionsBuilder options = new OptionsBuilder()
+          .include(include)
+          .threads(threads)
+          .resultFormat(ResultFormatType.JSON)
+          .result("target/jmh-" + threads + ".json");
+      Collection<RunResult> results = new Runner(options.build()).run();
+      for (RunResult result : results) {
+        summary.add(summarize(result, threads));
+      }
+    }
+    summary.forEach(System.out::println);
+  }
+
+  private static String summarize(RunResult result, int threads) {
+    var params = result.getParams();
+    String label = params.getBenchmark() + params.getParamsKeys().stream()
+        .map(key -> " " + key + "=" + params.getParam(key))
+        .reduce("", String::concat);
+    var primary = result.getPrimaryResult();
+    if (params.getMode() == Mode.SampleTime) {
+      double p99 = toMicros(primary.getStatistics().getPercentile(99), primary.getScoreUnit());
+      return String.format(Locale.ROOT, "%-70s %7d %14s %12.2f", label, threads, "-", p99);
+    }
+    return String.format(Locale.ROOT, "%-70s %7d %14.2f %12s", label, threads,
+        toPerMillisecond(primary.getScore(), primary.getScoreUnit()), "-");
+  }
+
+  private static double toMicros(double value, String unit) {
+    return switch (unit) {
+      case "ns/op" -> value / 1_000d;
+      case "ms/op" -> value * 1_000d;
+      case "s/op" -> value * 1_000_000d;
+      default -> value;
+    };
+  }
+
+  private static double toPerMillisecond(double value, String unit) {
+    return switch (unit) {
+      case "ops/us" -> value * 1_000d;
+      case "ops/s" -> value / 1_000d;
+      case "ops/ns" -> value * 1_000_000d;
+      default -> value;
+    };
+  }
+
+  private static int[] parseThreads(String value) {
+    String[] parts = value.split(",");
+    int[] threads = new int[parts.length];
+    for (int i = 0; i < parts.length; i++) {
+      threads[i] = Integer.parseInt(parts[i].trim());
+    }
+    return threads;
+  }
+}
@@ -0,0 +1,99 @@
+package com.developing.app.accounts.accountmanaging.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.java.developing.accounts.accountmanaging.model.Center;
+import com.java.developing.accounts.accountmanaging.model.Product;
+import com.java.developing.accounts.accountmanaging.model.genaccidentifiers.request.GenerateAccountIdentifiersPostRequest;
+import com.java.developing.accounts.accountmanaging.model.genaccidentifiers.response.GenerateAccountIdentifiersPostResponse;
+import com.java.developing.accounts.accountmanaging.repository.ContractCounterRepositoryExt;
+import com.java.developing.accounts.accountmanaging.repository.ContractIdentifiersPoolRepositoryExt;
+import com.java.developing.accounts.accountmanaging.repository.ContractIdentifiersRepositoryExt;
+import com.java.developing.accounts.accountmanaging.service.AccountIdentifierInventory;
+import com.java.developing.accounts.accountmanaging.service.AccountNumberRangeAllocator;
+import com.java.developing.accounts.accountmanaging.service.GenerateAccountIdentifiersMetrics;
+import com.java.developing.accounts.accountmanaging.service.UuidService;
+import com.java.developing.accounts.accountmanaging.service.accountmanagingService;
+import com.java.developing.accounts.accountmanaging.service.contractid.UuidV7ContractIdGenerator;
+import com.java.developing.accounts.accountmanaging.utils.AccountIdentifierCalculator;
+
+/**
+ * Benchmark de extremo a extremo de accountmanagingService.generateAccountIdentifiers sobre H2 en
+ * memoria: reserva de numeración en DC_CONTRACT_COUNTER, generación de CONTRACT_ID, cálculo de
+ * BBAN/IBAN, insert en DC_CONTRACT_IDENTIFIERS y commit.
+ * <p>
+ * Con blockSize = 1 cada petición bloquea y actualiza la fila del contador, como el camino por
+ * petición; con bloques mayores se mide la reserva por rangos. Todas las peticiones usan la misma
+ * clave (entity, center, brand), que es el caso de mayor contención.
+ * <p>
+ * H2 no reproduce la latencia de red ni el coste de Oracle: los números sirven para comparar
+ * versiones del microservicio entre sí, no como estimación de la capacidad en producción.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenerateAccountIdentifiersBenchmark {
+
+  @Param({"1", "100"})
+  private int blockSize;
+
+  private BenchmarkDatabase database;
+  private AccountNumberRangeAllocator allocator;
+  private accountmanagingService service;
+  private GenerateAccountIdentifiersPostRequest request;
+
+  @Setup(Level.Trial)
+  public void setUp(BenchmarkParams params) throws Exception {
+    database = new BenchmarkDatabase(Math.max(2, params.getThreads() + 1));
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(database.dataSource());
+
+    allocator = new AccountNumberRangeAllocator(new ContractCounterRepositoryExt(), jdbcTemplate, true,
+        blockSize, blockSize, 30);
+    AccountIdentifierCalculator calculator = new AccountIdentifierCalculator();
+    UuidService uuidService = new UuidService(new UuidV7ContractIdGenerator());
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    AccountIdentifierInventory inventory = new AccountIdentifierInventory(new ContractIdentifiersPoolRepositoryExt(),
+        allocator, jdbcTemplate, calculator, uuidService, meterRegistry, false, 50, 500, 100);
+    service = new accountmanagingService(new ContractIdentifiersRepositoryExt(jdbcTemplate), jdbcTemplate,
+        calculator, uuidService, null, allocator, new GenerateAccountIdentifiersMetrics(meterRegistry), null,
+        inventory);
+
+    Center center = new Center();
+    center.setCenterId(BenchmarkDatabase.CENTER);
+    Product product = new Product();
+    product.setProductCode("0049300130");
+    request = new GenerateAccountIdentifiersPostRequest(center, product);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    allocator.releaseUnusedRanges();
+    database.close();
+  }
+
+  @Benchmark
+  public GenerateAccountIdentifiersPostResponse generateAccountIdentifiers() throws Exception {
+    return service.generateAccountIdentifiers(request, BenchmarkDatabase.ENTITY, BenchmarkDatabase.BRAND, "Y");
+  }
+}
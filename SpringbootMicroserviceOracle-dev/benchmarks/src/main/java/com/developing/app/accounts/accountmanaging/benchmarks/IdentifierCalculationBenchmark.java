@@ -0,0 +1,92 @@
+package com.developing.app.accounts.accountmanaging.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.java.developing.accounts.accnumeratorlib.utils.Numeration;
+import com.java.developing.accounts.accountmanaging.utils.AccountIdentifierCalculator;
+
+/**
+ * Compara el cálculo de BBAN/IBAN de AccountIdentifierCalculator con el camino anterior basado en
+ * Numeration, que calculaba el IBAN dos veces por petición (legacy e internacional).
+ * Ejecutar con -prof gc para comparar también los bytes reservados por operación.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class IdentifierCalculationBenchmark {
+
+  @Param({"0049"})
+  private String entity;
+
+  @Param({"1001"})
+  private String center;
+
+  private Numeration numeration;
+  private AccountIdentifierCalculator calculator;
+  private String[] accountNumbers;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    numeration = new Numeration();
+    calculator = new AccountIdentifierCalculator();
+    accountNumbers = new String[1024];
+    for (int i = 0; i < accountNumbers.length; i++) {
+      accountNumbers[i] = String.format("%010d", 1_000_000L + i * 7919L);
+    }
+  }
+
+  private String nextAccountNumber() {
+    return accountNumbers[next++ & (accountNumbers.length - 1)];
+  }
+
+  /**
+   * Camino anterior de generateAccountIdentifiers: BBAN + dos IBAN.
+   */
+  @Benchmark
+  public void numeration(Blackhole bh) {
+    String bban = numeration.generateBBAN(entity, center, nextAccountNumber());
+    bh.consume(bban);
+    bh.consume(numeration.generateIBAN(bban, "ES"));
+    bh.consume(numeration.generateIBAN(bban, "ES"));
+  }
+
+  /**
+   * Camino actual: BBAN + un único IBAN reutilizado.
+   */
+  @Benchmark
+  public void calculator(Blackhole bh) {
+    String bban = calculator.bban(entity, center, nextAccountNumber());
+    bh.consume(bban);
+    bh.consume(calculator.iban(bban, "ES"));
+  }
+
+  /**
+   * Solo el IBAN, para comparar el coste de mod-97 sin el del BBAN.
+   */
+  @Benchmark
+  public String numerationIbanOnly() {
+    return numeration.generateIBAN("21000418450200051332", "ES");
+  }
+
+  @Benchmark
+  public String calculatorIbanOnly() {
+    return calculator.iban("21000418450200051332", "ES");
+  }
+}
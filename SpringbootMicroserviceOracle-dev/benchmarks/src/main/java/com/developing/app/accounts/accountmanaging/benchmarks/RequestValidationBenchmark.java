@@ -0,0 +1,65 @@
+package com.developing.app.accounts.accountmanaging.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.java.developing.accounts.accountmanaging.model.Center;
+import com.java.developing.accounts.accountmanaging.model.Product;
+import com.java.developing.accounts.accountmanaging.model.genaccidentifiers.request.GenerateAccountIdentifiersPostRequest;
+import com.java.developing.accounts.accountmanaging.service.UuidService;
+import com.java.developing.accounts.accountmanaging.service.contractid.RandomContractIdGenerator;
+import com.java.developing.accounts.accountmanaging.service.contractid.UuidV7ContractIdGenerator;
+
+/**
+ * Benchmarks de las piezas sin base de datos del camino de generación: validación de la petición
+ * y generación de CONTRACT_ID con cada uno de los generadores disponibles.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestValidationBenchmark {
+
+  private GenerateAccountIdentifiersPostRequest request;
+  private UuidService uuidV7Service;
+  private UuidService randomUuidService;
+
+  @Setup
+  public void setUp() {
+    Center center = new Center();
+    center.setCenterId("1001");
+    Product product = new Product();
+    product.setProductCode("0049300130");
+    request = new GenerateAccountIdentifiersPostRequest(center, product);
+    uuidV7Service = new UuidService(new UuidV7ContractIdGenerator());
+    randomUuidService = new UuidService(new RandomContractIdGenerator());
+  }
+
+  @Benchmark
+  public GenerateAccountIdentifiersPostRequest validate() {
+    request.validate();
+    return request;
+  }
+
+  @Benchmark
+  public String uuidV7ContractId() {
+    return uuidV7Service.generateUniqueContractId();
+  }
+
+  @Benchmark
+  public String randomContractId() {
+    return randomUuidService.generateUniqueContractId();
+  }
+}
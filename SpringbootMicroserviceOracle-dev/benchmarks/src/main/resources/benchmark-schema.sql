@@ -0,0 +1,24 @@
+-- Esquema mínimo de DC_CONTRACT_COUNTER / DC_CONTRACT_IDENTIFIERS para los benchmarks sobre H2 (MODE=Oracle).
+-- Reproduce las columnas que usan los repositorios del microservicio, no el DDL completo de Oracle.
+CREATE TABLE IF NOT EXISTS DC_CONTRACT_COUNTER (
+    ENTITY                 VARCHAR2(4)  NOT NULL,
+    CENTER                 VARCHAR2(4)  NOT NULL,
+    BRAND                  VARCHAR2(50) NOT NULL,
+    CONTRACT_ID            VARCHAR2(20) NOT NULL,
+    LAST_UPDATER_USER      VARCHAR2(50),
+    LAST_UPDATER_DATE_TIME TIMESTAMP,
+    PRIMARY KEY (ENTITY, CENTER, BRAND)
+);
+
+CREATE TABLE IF NOT EXISTS DC_CONTRACT_IDENTIFIERS (
+    ENTITY                       VARCHAR2(4)  NOT NULL,
+    BRAND                        VARCHAR2(50) NOT NULL,
+    CONTRACT_ID                  VARCHAR2(36) NOT NULL,
+    STATUS                       VARCHAR2(2),
+    LEGACY_IDENTIFICATION        VARCHAR2(34),
+    NATIONAL_IDENTIFICATION      VARCHAR2(34),
+    INTERNATIONAL_IDENTIFICATION VARCHAR2(34),
+    LAST_UPDATER_USER            VARCHAR2(50),
+    LAST_UPDATER_DATE_TIME       TIMESTAMP,
+    PRIMARY KEY (CONTRACT_ID)
+);
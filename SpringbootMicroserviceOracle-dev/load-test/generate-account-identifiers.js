@@ -0,0 +1,40 @@
+// Prueba de carga de POST /v5/accounts/generate_account_identifiers con k6 (https://k6.io).
+// Uso:
+//   k6 run load-test/generate-account-identifiers.js
+//   k6 run -e BASE_URL=http://localhost:8080/accountmanaging -e VUS=200 -e DURATION=2m load-test/generate-account-identifiers.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/accountmanaging';
+const CENTERS = ['1001', '1002', '1003', '1004'];
+
+export const options = {
+  scenarios: {
+    ramp: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: '30s', target: Number(__ENV.VUS || 200) },
+        { duration: __ENV.DURATION || '2m', target: Number(__ENV.VUS || 200) },
+        { duration: '15s', target: 0 },
+      ],
+    },
+  },
+  summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+};
+
+export default function () {
+  const body = JSON.stringify({
+    center: { centerId: CENTERS[__ITER % CENTERS.length] },
+    product: { productCode: '0049300130' },
+  });
+  const res = http.post(`${BASE_URL}/v5/accounts/generate_account_identifiers`, body, {
+    headers: {
+      'Content-Type': 'application/json',
+      'x-java-client-id': 'ACCOU1',
+      entityHeader: '0049',
+      brandHeader: 'SAN',
+    },
+  });
+  check(res, { 'status is 201': (r) => r.status === 201 });
+}
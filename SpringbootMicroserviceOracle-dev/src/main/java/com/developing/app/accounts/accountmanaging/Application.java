@@ -3,6 +3,7 @@ package com.developing.app.accounts.accountmanaging;
 import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * The main class of the Spring applications.
@@ -10,6 +11,7 @@ import org.springframework.boot.builder.SpringApplicationBuilder;
  * @author java Technology
  */
 @SpringBootApplication
+@EnableScheduling
 public class Application {
 
 	/**
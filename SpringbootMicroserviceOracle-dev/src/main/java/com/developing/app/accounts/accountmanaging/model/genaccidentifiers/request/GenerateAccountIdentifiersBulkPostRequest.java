@@ -0,0 +1,43 @@
+package com.developing.app.accounts.accountmanaging.model.genaccidentifiers.request;
+
+import java.util.List;
+
+import com.java.developing.accounts.util.lib.core.exceptions.BadRequestplsqlExceptionproject;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * GenerateAccountIdentifiersBulkPostRequest
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Data structure containing a list of accounts to generate identifiers for")
+public class GenerateAccountIdentifiersBulkPostRequest {
+
+	/**
+	 * items
+	 */
+	@ArraySchema(schema = @Schema(implementation = GenerateAccountIdentifiersPostRequest.class,
+			requiredMode = Schema.RequiredMode.REQUIRED))
+	private List<GenerateAccountIdentifiersPostRequest> items;
+
+	/**
+	 * Valida la estructura de la lista. La validación de cada elemento se hace de forma individual
+	 * para poder devolver el resultado por elemento.
+	 *
+	 * @param maxItems número máximo de elementos admitidos
+	 */
+	public void validate(int maxItems) {
+		if (items == null || items.isEmpty()) {
+			throw new BadRequestplsqlExceptionproject("CONTRACT-MANAGEMENT-F-0013");
+		}
+		if (items.size() > maxItems) {
+			throw new BadRequestplsqlExceptionproject("CONTRACT-MANAGEMENT-F-0014");
+		}
+	}
+}
@@ -55,7 +55,7 @@ public class GenerateAccountIdentifiersPostRequest extends AbstractprojectReques
 			throw new BadRequestplsqlExceptionproject("CONTRACT-MANAGEMENT-F-0006");
 		}
 
-		if (centerId.length() > 4 || !centerId.matches("\\d+")) {
+		if (centerId.length() > 4 || !isDigits(centerId)) {
 			throw new BadRequestplsqlExceptionproject("CONTRACT-MANAGEMENT-F-0007");
 		}
 	}
@@ -65,10 +65,23 @@ public class GenerateAccountIdentifiersPostRequest extends AbstractprojectReques
 			throw new BadRequestplsqlExceptionproject("CONTRACT-MANAGEMENT-F-0001");
 		}
 
-		if (productCode.length() > 10 || !productCode.matches("\\d+")) {
+		if (productCode.length() > 10 || !isDigits(productCode)) {
 			throw new BadRequestplsqlExceptionproject("CONTRACT-MANAGEMENT-F-0002");
 		}
 	}
+
+	/**
+	 * Comprueba que la cadena solo tenga dígitos ASCII, sin compilar una expresión regular en cada petición.
+	 */
+	private static boolean isDigits(String value) {
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c < '0' || c > '9') {
+				return false;
+			}
+		}
+		return true;
+	}
 //sonar
 //sonar
 //sonar
@@ -0,0 +1,74 @@
+package com.developing.app.accounts.accountmanaging.model.genaccidentifiers.response;
+
+import com.java.developing.accounts.accountmanaging.model.AccounIdentification;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * GenerateAccountIdentifiersBulkItemResult
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Result of the identifiers generation for one item of the bulk request")
+public class GenerateAccountIdentifiersBulkItemResult {
+
+	/**
+	 * Estado del elemento cuando se han generado los identificadores
+	 */
+	public static final String STATUS_CREATED = "CREATED";
+
+	/**
+	 * Estado del elemento cuando no se han podido generar los identificadores
+	 */
+	public static final String STATUS_ERROR = "ERROR";
+
+	/**
+	 * index
+	 */
+	@Schema(description = "Position of the item in the request list", requiredMode = Schema.RequiredMode.REQUIRED, example = "0")
+	private int index;
+
+	/**
+	 * status
+	 */
+	@Schema(description = "Result of the item", requiredMode = Schema.RequiredMode.REQUIRED, allowableValues = {"CREATED", "ERROR"})
+	private String status;
+
+	/**
+	 * accounIdentification
+	 */
+	@Schema(description = "Generated identifiers, only when status is CREATED")
+	private AccounIdentification accounIdentification;
+
+	/**
+	 * errorCode
+	 */
+	@Schema(description = "Error code, only when status is ERROR", example = "CONTRACT-MANAGEMENT-F-0007")
+	private String errorCode;
+
+	/**
+	 * Crea un resultado correcto.
+	 *
+	 * @param index                posición del elemento
+	 * @param accounIdentification identificadores generados
+	 * @return el resultado
+	 */
+	public static GenerateAccountIdentifiersBulkItemResult created(int index, AccounIdentification accounIdentification) {
+		return new GenerateAccountIdentifiersBulkItemResult(index, STATUS_CREATED, accounIdentification, null);
+	}
+
+	/**
+	 * Crea un resultado erróneo.
+	 *
+	 * @param index     posición del elemento
+	 * @param errorCode código de error
+	 * @return el resultado
+	 */
+	public static GenerateAccountIdentifiersBulkItemResult error(int index, String errorCode) {
+		return new GenerateAccountIdentifiersBulkItemResult(index, STATUS_ERROR, null, errorCode);
+	}
+}
@@ -0,0 +1,37 @@
+package com.developing.app.accounts.accountmanaging.model.genaccidentifiers.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * GenerateAccountIdentifiersBulkPostResponse
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Data structure containing the per item result of a bulk identifiers generation")
+public class GenerateAccountIdentifiersBulkPostResponse {
+
+	/**
+	 * created
+	 */
+	@Schema(description = "Number of items whose identifiers were created", requiredMode = Schema.RequiredMode.REQUIRED)
+	private int created;
+
+	/**
+	 * failed
+	 */
+	@Schema(description = "Number of items that failed", requiredMode = Schema.RequiredMode.REQUIRED)
+	private int failed;
+
+	/**
+	 * results
+	 */
+	@ArraySchema(schema = @Schema(implementation = GenerateAccountIdentifiersBulkItemResult.class))
+	private List<GenerateAccountIdentifiersBulkItemResult> results;
+}
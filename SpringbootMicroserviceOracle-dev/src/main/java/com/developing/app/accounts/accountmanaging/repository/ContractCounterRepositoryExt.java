@@ -0,0 +1,154 @@
+package com.developing.app.accounts.accountmanaging.repository;
+
+import com.java.developing.accounts.util.lib.core.exceptions.InternalServerErrorplsqlExceptionproject;
+import com.java.developing.accounts.util.lib.core.utils.UtilprojectData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Repositorio para reservar rangos de numeración sobre la tabla DC_CONTRACT_COUNTER.
+ * Permite reservar un bloque de números en una única transacción corta, en lugar de
+ * bloquear la fila del contador por cada número de cuenta generado.
+ */
+@Slf4j
+@Repository
+public class ContractCounterRepositoryExt {
+
+  private static final String LAST_UPDATER_USER = "fcm-app-accmanag";
+
+  /**
+   * Longitud con la que se almacena CONTRACT_ID en DC_CONTRACT_COUNTER.
+   */
+  private static final int CONTRACT_ID_LENGTH = 20;
+
+  /**
+   * Reserva un bloque de numeros consecutivos para la clave (entity, center, brand).
+   * Bloquea la fila del contador, la avanza en blockSize posiciones y devuelve el
+   * último valor que había antes de la reserva. El rango reservado es
+   * (valor devuelto + 1) .. (valor devuelto + blockSize).
+   * El commit de la transacción es responsabilidad del llamante.
+   *
+   * @param entity    La entidad.
+   * @param center    El centro.
+   * @param brand     La marca.
+   * @param blockSize Número de valores a reservar.
+   * @param conn      La conexión con la que realizar la reserva.
+   * @return el último valor del contador antes de la reserva.
+   * @throws InternalServerErrorplsqlExceptionproject si no existe el contador o falla el acceso a base de datos.
+   */
+  public long reserveRange(String entity, String center, String brand, int blockSize, Connection conn) {
+    String selectSql = """
+        SELECT CONTRACT_ID
+        FROM
+        DC_CONTRACT_COUNTER
+        WHERE
+        ENTITY = ? AND CENTER = ? AND BRAND = ?
+        FOR UPDATE
+        """;
+    String updateSql = """
+        UPDATE
+        DC_CONTRACT_COUNTER
+        SET
+        CONTRACT_ID = ?, LAST_UPDATER_USER = ?, LAST_UPDATER_DATE_TIME = ?
+        WHERE
+        ENTITY = ? AND CENTER = ? AND BRAND = ?
+        """;
+
+    if (conn == null) {
+      throw new InternalServerErrorplsqlExceptionproject("DC-COMMON-T-0001", "DATABASE_ERROR");
+    }
+    try {
+      String current;
+      try (PreparedStatement ps = conn.prepareStatement(selectSql)) {
+        ps.setString(1, entity);
+        ps.setString(2, center);
+        ps.setString(3, brand);
+        try (ResultSet rs = ps.executeQuery()) {
+          if (!rs.next()) {
+            log.error("No existe contador en DC_CONTRACT_COUNTER para entity '{}', center '{}', brand '{}'",
+                entity, center, brand);
+            throw new InternalServerErrorplsqlExceptionproject("DC-COMMON-T-0001", "DATABASE_ERROR");
+          }
+          current = rs.getString(1);
+        }
+      }
+
+      long last = Long.parseLong(current.trim());
+      try (PreparedStatement ps = conn.prepareStatement(updateSql)) {
+        ps.setString(1, padLeft(last + blockSize, CONTRACT_ID_LENGTH));
+        ps.setString(2, LAST_UPDATER_USER);
+        ps.setObject(3, UtilprojectData.getUtcTimestamp());
+        ps.setString(4, entity);
+        ps.setString(5, center);
+        ps.setString(6, brand);
+        ps.executeUpdate();
+      }
+      return last;
+    } catch (SQLException e) {
+      log.error("Error al reservar rango en DC_CONTRACT_COUNTER para entity '{}', center '{}': {}",
+          entity, center, e.getMessage());
+      throw new InternalServerErrorplsqlExceptionproject("DC-COMMON-T-0001", "DATABASE_ERROR", e);
+    }
+  }
+
+  /**
+   * Devuelve al contador la cola no utilizada de un rango reservado. Solo retrocede el
+   * contador si nadie ha reservado después (el valor actual sigue siendo el final del rango),
+   * por lo que nunca se pueden duplicar números.
+   * El commit de la transacción es responsabilidad del llamante.
+   *
+   * @param entity      La entidad.
+   * @param center      El centro.
+   * @param brand       La marca.
+   * @param rangeEnd    Último valor del rango reservado.
+   * @param lastUsed    Último valor del rango que se ha entregado.
+   * @param conn        La conexión con la que realizar la actualización.
+   * @return true si la cola se ha devuelto, false si el contador ya había avanzado.
+   */
+  public boolean releaseRange(String entity, String center, String brand, long rangeEnd, long lastUsed,
+                              Connection conn) {
+    String sql = """
+        UPDATE
+        DC_CONTRACT_COUNTER
+        SET
+        CONTRACT_ID = ?, LAST_UPDATER_USER = ?, LAST_UPDATER_DATE_TIME = ?
+        WHERE
+        ENTITY = ? AND CENTER = ? AND BRAND = ? AND TO_NUMBER(CONTRACT_ID) = ?
+        """;
+
+    if (conn == null) {
+      throw new InternalServerErrorplsqlExceptionproject("DC-COMMON-T-0001", "DATABASE_ERROR");
+    }
+    try (PreparedStatement ps = conn.prepareStatement(sql)) {
+      ps.setString(1, padLeft(lastUsed, CONTRACT_ID_LENGTH));
+      ps.setString(2, LAST_UPDATER_USER);
+      ps.setObject(3, UtilprojectData.getUtcTimestamp());
+      ps.setString(4, entity);
+      ps.setString(5, center);
+      ps.setString(6, brand);
+      ps.setLong(7, rangeEnd);
+      return ps.executeUpdate() > 0;
+    } catch (SQLException e) {
+      log.error("Error al devolver rango en DC_CONTRACT_COUNTER para entity '{}', center '{}': {}",
+          entity, center, e.getMessage());
+      throw new InternalServerErrorplsqlExceptionproject("DC-COMMON-T-0001", "DATABASE_ERROR", e);
+    }
+  }
+
+  private static String padLeft(long value, int length) {
+    String digits = Long.toString(value);
+    if (digits.length() >= length) {
+      return digits;
+    }
+    StringBuilder sb = new StringBuilder(length);
+    for (int i = digits.length(); i < length; i++) {
+      sb.append('0');
+    }
+    return sb.append(digits).toString();
+  }
+}
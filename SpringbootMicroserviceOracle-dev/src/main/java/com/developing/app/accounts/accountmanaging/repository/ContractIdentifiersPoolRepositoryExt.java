@@ -0,0 +1,170 @@
+package com.developing.app.accounts.accountmanaging.repository;
+
+import com.java.developing.accounts.util.lib.core.exceptions.InternalServerErrorplsqlExceptionproject;
+import com.java.developing.accounts.util.lib.core.utils.UtilprojectData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Repositorio de la tabla DC_CONTRACT_IDENTIFIERS_POOL, el inventario de identificadores de cuenta
+ * pregenerados por (entity, center, brand). Las filas del inventario aún no se han entregado a
+ * ningún cliente: al reclamarlas se borran del inventario y se insertan en DC_CONTRACT_IDENTIFIERS.
+ */
+@Slf4j
+@Repository
+public class ContractIdentifiersPoolRepositoryExt {
+
+  private static final String LAST_UPDATER_USER = "fcm-app-accmanag";
+
+  /**
+   * Reclama un identificador del inventario: bloquea la primera fila libre de la clave con
+   * FOR UPDATE SKIP LOCKED y la borra. Las filas bloqueadas por otras transacciones se saltan,
+   * por lo que las peticiones concurrentes no se esperan entre sí.
+   * El commit de la transacción es responsabilidad del llamante.
+   *
+   * @param entity La entidad.
+   * @param center El centro.
+   * @param brand  La marca.
+   * @param conn   La conexión de la transacción en curso.
+   * @return el identificador reclamado, o null si el inventario de la clave está vacío.
+   * @throws InternalServerErrorplsqlExceptionproject si falla el acceso a base de datos.
+   */
+  public PooledIdentifier claim(String entity, String center, String brand, Connection conn) {
+    String selectSql = """
+        SELECT CONTRACT_ID, NATIONAL_IDENTIFICATION, INTERNATIONAL_IDENTIFICATION
+        FROM
+        DC_CONTRACT_IDENTIFIERS_POOL
+        WHERE
+        ENTITY = ? AND CENTER = ? AND BRAND = ?
+        FOR UPDATE SKIP LOCKED
+        """;
+    String deleteSql = """
+        DELETE FROM
+        DC_CONTRACT_IDENTIFIERS_POOL
+        WHERE
+        CONTRACT_ID = ?
+        """;
+
+    if (conn == null) {
+      throw new InternalServerErrorplsqlExceptionproject("DC-COMMON-T-0001", "DATABASE_ERROR");
+    }
+    try {
+      PooledIdentifier claimed;
+      try (PreparedStatement ps = conn.prepareStatement(selectSql)) {
+        // Con SKIP LOCKED Oracle bloquea las filas al leerlas: se lee solo la primera
+        ps.setFetchSize(1);
+        ps.setString(1, entity);
+        ps.setString(2, center);
+        ps.setString(3, brand);
+        try (ResultSet rs = ps.executeQuery()) {
+          if (!rs.next()) {
+            return null;
+          }
+          claimed = new PooledIdentifier(rs.getString(1), rs.getString(2), rs.getString(3));
+        }
+      }
+      try (PreparedStatement ps = conn.prepareStatement(deleteSql)) {
+        ps.setString(1, claimed.contractId());
+        ps.executeUpdate();
+      }
+      return claimed;
+    } catch (SQLException e) {
+      log.error("Error al reclamar identificador de DC_CONTRACT_IDENTIFIERS_POOL para entity '{}', center '{}': {}",
+          entity, center, e.getMessage());
+      throw new InternalServerErrorplsqlExceptionproject("DC-COMMON-T-0001", "DATABASE_ERROR", e);
+    }
+  }
+
+  /**
+   * Cuenta los identificadores disponibles en el inventario de la clave.
+   *
+   * @param entity La entidad.
+   * @param center El centro.
+   * @param brand  La marca.
+   * @param conn   La conexión con la que realizar la consulta.
+   * @return el número de identificadores disponibles.
+   * @throws InternalServerErrorplsqlExceptionproject si falla el acceso a base de datos.
+   */
+  public int countAvailable(String entity, String center, String brand, Connection conn) {
+    String sql = """
+        SELECT COUNT(1)
+        FROM
+        DC_CONTRACT_IDENTIFIERS_POOL
+        WHERE
+        ENTITY = ? AND CENTER = ? AND BRAND = ?
+        """;
+
+    if (conn == null) {
+      throw new InternalServerErrorplsqlExceptionproject("DC-COMMON-T-0001", "DATABASE_ERROR");
+    }
+    try (PreparedStatement ps = conn.prepareStatement(sql)) {
+      ps.setString(1, entity);
+      ps.setString(2, center);
+      ps.setString(3, brand);
+      try (ResultSet rs = ps.executeQuery()) {
+        return rs.next() ? rs.getInt(1) : 0;
+      }
+    } catch (SQLException e) {
+      log.error("Error al contar DC_CONTRACT_IDENTIFIERS_POOL para entity '{}', center '{}': {}",
+          entity, center, e.getMessage());
+      throw new InternalServerErrorplsqlExceptionproject("DC-COMMON-T-0001", "DATABASE_ERROR", e);
+    }
+  }
+
+  /**
+   * Inserta identificadores pregenerados en el inventario con una única ejecución batch.
+   * El commit es responsabilidad del llamante.
+   *
+   * @param entity      La entidad.
+   * @param center      El centro.
+   * @param brand       La marca.
+   * @param identifiers Los identificadores a insertar.
+   * @param conn        La conexión de la transacción en curso.
+   * @throws SQLException si falla el batch.
+   */
+  public void insertBatch(String entity, String center, String brand, List<PooledIdentifier> identifiers,
+                          Connection conn) throws SQLException {
+    String sql = """
+        INSERT INTO DC_CONTRACT_IDENTIFIERS_POOL
+        (ENTITY, CENTER, BRAND, CONTRACT_ID, NATIONAL_IDENTIFICATION, INTERNATIONAL_IDENTIFICATION,
+        LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    if (conn == null) {
+      throw new InternalServerErrorplsqlExceptionproject("DC-COMMON-T-0001", "DATABASE_ERROR");
+    }
+    var now = UtilprojectData.getUtcTimestamp();
+    try (PreparedStatement ps = conn.prepareStatement(sql)) {
+      for (PooledIdentifier identifier : identifiers) {
+        ps.setString(1, entity);
+        ps.setString(2, center);
+        ps.setString(3, brand);
+        ps.setString(4, identifier.contractId());
+        ps.setString(5, identifier.nationalIdentification());
+        ps.setString(6, identifier.internationalIdentification());
+        ps.setString(7, LAST_UPDATER_USER);
+        ps.setObject(8, now);
+        ps.addBatch();
+      }
+      ps.executeBatch();
+    }
+  }
+
+  /**
+   * Identificador de cuenta pregenerado.
+   *
+   * @param contractId                  CONTRACT_ID
+   * @param nationalIdentification      BBAN
+   * @param internationalIdentification IBAN
+   */
+  public record PooledIdentifier(String contractId, String nationalIdentification,
+                                 String internationalIdentification) {
+  }
+}
@@ -1,6 +1,7 @@
 package com.developing.app.accounts.accountmanaging.repository;
 
 import com.java.developing.accounts.util.lib.core.exceptions.InternalServerErrorplsqlExceptionproject;
+import com.java.developing.accounts.util.lib.db.model.entity.ContractIdentifiersEntity;
 import com.java.developing.accounts.util.lib.db.model.repository.ContractIdentifiersRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -10,6 +11,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.List;
 
 @Service
 @Slf4j
@@ -58,4 +60,41 @@ public class ContractIdentifiersRepositoryExt extends ContractIdentifiersReposit
     return false;
   }
 
+  /**
+   * Inserta una lista de identificadores de contrato en DC_CONTRACT_IDENTIFIERS con una única
+   * ejecución batch (addBatch/executeBatch). El commit es responsabilidad del llamante.
+   *
+   * @param entities Las entidades a insertar.
+   * @param conn     La conexión de la transacción en curso.
+   * @return el número de filas afectadas por cada elemento del batch.
+   * @throws SQLException si falla el batch; si es un BatchUpdateException el llamante puede
+   *                      identificar las filas erróneas con getUpdateCounts().
+   */
+  public int[] insertBatch(List<ContractIdentifiersEntity> entities, Connection conn) throws SQLException {
+    String sql = """
+        INSERT INTO DC_CONTRACT_IDENTIFIERS
+        (ENTITY, BRAND, CONTRACT_ID, STATUS, LEGACY_IDENTIFICATION, NATIONAL_IDENTIFICATION,
+        INTERNATIONAL_IDENTIFICATION, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    if (conn == null) {
+      throw new InternalServerErrorplsqlExceptionproject("DC-COMMON-T-0001", "DATABASE_ERROR");
+    }
+    try (PreparedStatement ps = conn.prepareStatement(sql)) {
+      for (ContractIdentifiersEntity entity : entities) {
+        ps.setString(1, entity.getEntity());
+        ps.setString(2, entity.getBrand());
+        ps.setString(3, entity.getContractId());
+        ps.setString(4, entity.getStatus());
+        ps.setString(5, entity.getLegacyIdentification());
+        ps.setString(6, entity.getNationalIdentification());
+        ps.setString(7, entity.getInternationalIdentification());
+        ps.setString(8, entity.getLastUpdaterUser());
+        ps.setObject(9, entity.getLastUpdaterDateTime());
+        ps.addBatch();
+      }
+      return ps.executeBatch();
+    }
+  }
 }
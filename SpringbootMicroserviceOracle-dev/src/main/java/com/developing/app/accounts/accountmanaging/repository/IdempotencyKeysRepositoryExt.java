@@ -0,0 +1,170 @@
+package com.developing.app.accounts.accountmanaging.repository;
+
+import com.java.developing.accounts.util.lib.core.exceptions.InternalServerErrorplsqlExceptionproject;
+import com.java.developing.accounts.util.lib.core.utils.UtilprojectData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+/**
+ * Repositorio de la tabla DC_IDEMPOTENCY_KEYS, que guarda la respuesta de cada petición
+ * de generate_account_identifiers recibida con cabecera Idempotency-Key.
+ * La clave primaria (ENTITY, BRAND, IDEMPOTENCY_KEY) es la que impide que dos reintentos
+ * concurrentes generen dos identificadores distintos. Las filas anteriores a la retención
+ * se ignoran en las búsquedas y se borran periódicamente (índice IX_DC_IDEMPOTENCY_KEYS_LUPD).
+ */
+@Slf4j
+@Repository
+public class IdempotencyKeysRepositoryExt {
+
+  private static final String LAST_UPDATER_USER = "fcm-app-accmanag";
+
+  /**
+   * Busca la respuesta guardada para la clave de idempotencia.
+   *
+   * @param entity         La entidad.
+   * @param brand          La marca.
+   * @param idempotencyKey El valor de la cabecera Idempotency-Key.
+   * @param notBefore      Fecha UTC a partir de la cual la clave sigue vigente.
+   * @param conn           La conexión con la que realizar la consulta.
+   * @return la fila guardada, o null si la clave no se ha usado o ha caducado.
+   * @throws InternalServerErrorplsqlExceptionproject si falla el acceso a base de datos.
+   */
+  public IdempotencyKeyRow findByKey(String entity, String brand, String idempotencyKey, LocalDateTime notBefore,
+                                     Connection conn) {
+    String sql = """
+        SELECT REQUEST_HASH, RESPONSE
+        FROM
+        DC_IDEMPOTENCY_KEYS
+        WHERE
+        ENTITY = ? AND BRAND = ? AND IDEMPOTENCY_KEY = ? AND LAST_UPDATER_DATE_TIME >= ?
+        """;
+
+    if (conn == null) {
+      throw new InternalServerErrorplsqlExceptionproject("DC-COMMON-T-0001", "DATABASE_ERROR");
+    }
+    try (PreparedStatement ps = conn.prepareStatement(sql)) {
+      ps.setString(1, entity);
+      ps.setString(2, brand);
+      ps.setString(3, idempotencyKey);
+      ps.setObject(4, notBefore);
+      try (ResultSet rs = ps.executeQuery()) {
+        if (rs.next()) {
+          return new IdempotencyKeyRow(rs.getString(1), rs.getString(2));
+        }
+      }
+    } catch (SQLException e) {
+      log.error("Error al consultar DC_IDEMPOTENCY_KEYS para la clave '{}': {}", idempotencyKey, e.getMessage());
+      throw new InternalServerErrorplsqlExceptionproject("DC-COMMON-T-0001", "DATABASE_ERROR", e);
+    }
+    return null;
+  }
+
+  /**
+   * Inserta la respuesta asociada a la clave de idempotencia. Se ejecuta en la misma
+   * transacción que el insert en DC_CONTRACT_IDENTIFIERS, por lo que ambas filas se
+   * confirman o se deshacen juntas. El commit es responsabilidad del llamante.
+   *
+   * @param entity         La entidad.
+   * @param brand          La marca.
+   * @param idempotencyKey El valor de la cabecera Idempotency-Key.
+   * @param row            El resumen de la petición y la respuesta serializada.
+   * @param conn           La conexión de la transacción en curso.
+   * @throws SQLException si falla el insert; si la clave ya existe el llamante lo detecta
+   *                      como violación de clave única.
+   */
+  public void insert(String entity, String brand, String idempotencyKey, IdempotencyKeyRow row, Connection conn)
+      throws SQLException {
+    String sql = """
+        INSERT INTO DC_IDEMPOTENCY_KEYS
+        (ENTITY, BRAND, IDEMPOTENCY_KEY, REQUEST_HASH, RESPONSE, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    if (conn == null) {
+      throw new InternalServerErrorplsqlExceptionproject("DC-COMMON-T-0001", "DATABASE_ERROR");
+    }
+    try (PreparedStatement ps = conn.prepareStatement(sql)) {
+      ps.setString(1, entity);
+      ps.setString(2, brand);
+      ps.setString(3, idempotencyKey);
+      ps.setString(4, row.requestHash());
+      ps.setString(5, row.response());
+      ps.setString(6, LAST_UPDATER_USER);
+      ps.setObject(7, UtilprojectData.getUtcTimestamp());
+      ps.executeUpdate();
+    }
+  }
+
+  /**
+   * Borra la clave de idempotencia si ha caducado, para que se pueda volver a insertar antes de
+   * que la purga periódica la elimine. Se ejecuta en la transacción del insert.
+   *
+   * @param entity         La entidad.
+   * @param brand          La marca.
+   * @param idempotencyKey El valor de la cabecera Idempotency-Key.
+   * @param notBefore      Fecha UTC a partir de la cual la clave sigue vigente.
+   * @param conn           La conexión de la transacción en curso.
+   * @throws SQLException si falla el delete.
+   */
+  public void deleteExpired(String entity, String brand, String idempotencyKey, LocalDateTime notBefore,
+                            Connection conn) throws SQLException {
+    String sql = """
+        DELETE FROM DC_IDEMPOTENCY_KEYS
+        WHERE
+        ENTITY = ? AND BRAND = ? AND IDEMPOTENCY_KEY = ? AND LAST_UPDATER_DATE_TIME < ?
+        """;
+
+    if (conn == null) {
+      throw new InternalServerErrorplsqlExceptionproject("DC-COMMON-T-0001", "DATABASE_ERROR");
+    }
+    try (PreparedStatement ps = conn.prepareStatement(sql)) {
+      ps.setString(1, entity);
+      ps.setString(2, brand);
+      ps.setString(3, idempotencyKey);
+      ps.setObject(4, notBefore);
+      ps.executeUpdate();
+    }
+  }
+
+  /**
+   * Borra como mucho {@code limit} claves anteriores a la fecha indicada. El commit es
+   * responsabilidad del llamante.
+   *
+   * @param notBefore Fecha UTC a partir de la cual las claves siguen vigentes.
+   * @param limit     Número máximo de filas a borrar.
+   * @param conn      La conexión con la que realizar el borrado.
+   * @return el número de filas borradas.
+   * @throws SQLException si falla el delete.
+   */
+  public int deleteOlderThan(LocalDateTime notBefore, int limit, Connection conn) throws SQLException {
+    String sql = """
+        DELETE FROM DC_IDEMPOTENCY_KEYS
+        WHERE
+        LAST_UPDATER_DATE_TIME < ? AND ROWNUM <= ?
+        """;
+
+    if (conn == null) {
+      throw new InternalServerErrorplsqlExceptionproject("DC-COMMON-T-0001", "DATABASE_ERROR");
+    }
+    try (PreparedStatement ps = conn.prepareStatement(sql)) {
+      ps.setObject(1, notBefore);
+      ps.setInt(2, limit);
+      return ps.executeUpdate();
+    }
+  }
+
+  /**
+   * Fila de DC_IDEMPOTENCY_KEYS.
+   *
+   * @param requestHash resumen de la petición original
+   * @param response    respuesta original en JSON
+   */
+  public record IdempotencyKeyRow(String requestHash, String response) {
+  }
+}
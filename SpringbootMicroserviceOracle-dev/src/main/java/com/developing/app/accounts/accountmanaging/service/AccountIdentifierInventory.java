@@ -0,0 +1,335 @@
+package com.developing.app.accounts.accountmanaging.service;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.java.developing.accounts.accountmanaging.repository.ContractIdentifiersPoolRepositoryExt;
+import com.java.developing.accounts.accountmanaging.repository.ContractIdentifiersPoolRepositoryExt.PooledIdentifier;
+import com.java.developing.accounts.accountmanaging.utils.AccountIdentifierCalculator;
+import com.java.developing.accounts.util.lib.core.exceptions.InternalServerErrorplsqlExceptionproject;
+import com.java.developing.accounts.util.lib.db.utils.UtilprojectRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Inventario de identificadores de cuenta pregenerados para los contratos preasignados ("PR").
+ * Un proceso en segundo plano mantiene DC_CONTRACT_IDENTIFIERS_POOL por encima de una marca mínima
+ * para cada (entity, center, brand) con el que esta instancia ha generado identificadores: reserva un bloque de
+ * numeración, calcula BBAN/IBAN y CONTRACT_ID y los inserta por lotes en transacciones cortas.
+ * La petición solo tiene que reclamar una fila del inventario, sin pasar por el contador.
+ * Solo se siguen las claves de generaciones correctas, como mucho max-keys. Mientras llegan peticiones (menos de
+ * quiet-period-ms desde la última reclamación) solo se reponen las claves agotadas; el resto espera a un periodo sin
+ * carga. Una clave cuya reposición falla se reintenta cada vez más espaciada y se deja de seguir tras
+ * MAX_FAILURES fallos seguidos.
+ */
+@Service
+@Slf4j
+public class AccountIdentifierInventory {
+
+  /**
+   * Reclamaciones al inventario, etiquetadas con result = hit | miss
+   */
+  static final String CLAIMS_METRIC = "accountmanaging.inventory.claims";
+
+  /**
+   * Identificadores disponibles por clave en la última comprobación
+   */
+  static final String AVAILABLE_METRIC = "accountmanaging.inventory.available";
+
+  /**
+   * Fallos seguidos de reposición tras los que se deja de seguir una clave
+   */
+  static final int MAX_FAILURES = 5;
+
+  private final ContractIdentifiersPoolRepositoryExt contractIdentifiersPoolRepository;
+  private final AccountNumberRangeAllocator accountNumberRangeAllocator;
+  private final JdbcTemplate jdbcTemplate;
+  private final AccountIdentifierCalculator accountIdentifierCalculator;
+  private final UuidService uuidService;
+  private final MeterRegistry meterRegistry;
+  private final boolean enabled;
+  private final int lowWaterMark;
+  private final int highWaterMark;
+  private final int batchSize;
+  private final int maxKeys;
+  private final long quietPeriodNanos;
+
+  private final Counter hits;
+  private final Counter misses;
+  private final Map<String, InventoryKey> keys = new ConcurrentHashMap<>();
+  private final AtomicLong lastClaimNanos;
+
+  /**
+   * Constructor de la clase.
+   *
+   * @param contractIdentifiersPoolRepository repositorio de la tabla DC_CONTRACT_IDENTIFIERS_POOL
+   * @param accountNumberRangeAllocator       asignador de bloques de numeración
+   * @param jdbcTemplate                      JdbcTemplate para obtener conexiones
+   * @param accountIdentifierCalculator       cálculo de BBAN/IBAN
+   * @param uuidService                       servicio para generar CONTRACT_ID
+   * @param meterRegistry                     registro de métricas de la aplicación
+   * @param enabled                           activa el inventario
+   * @param lowWaterMark                      por debajo de este número de identificadores se repone
+   * @param highWaterMark                     número de identificadores hasta el que se repone
+   * @param batchSize                         identificadores por transacción de reposición
+   * @param maxKeys                           número máximo de claves que se siguen
+   * @param quietPeriodMillis                 tiempo sin reclamaciones a partir del cual se repone toda clave
+   */
+  public AccountIdentifierInventory(ContractIdentifiersPoolRepositoryExt contractIdentifiersPoolRepository,
+                                    AccountNumberRangeAllocator accountNumberRangeAllocator,
+                                    JdbcTemplate jdbcTemplate,
+                                    AccountIdentifierCalculator accountIdentifierCalculator,
+                                    UuidService uuidService,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${accountmanaging.inventory.enabled:false}") boolean enabled,
+                                    @Value("${accountmanaging.inventory.low-water-mark:50}") int lowWaterMark,
+                                    @Value("${accountmanaging.inventory.high-water-mark:500}") int highWaterMark,
+                                    @Value("${accountmanaging.inventory.batch-size:100}") int batchSize,
+                                    @Value("${accountmanaging.inventory.max-keys:100}") int maxKeys,
+                                    @Value("${accountmanaging.inventory.quiet-period-ms:1000}")
+                                    long quietPeriodMillis) {
+    this.contractIdentifiersPoolRepository = contractIdentifiersPoolRepository;
+    this.accountNumberRangeAllocator = accountNumberRangeAllocator;
+    this.jdbcTemplate = jdbcTemplate;
+    this.accountIdentifierCalculator = accountIdentifierCalculator;
+    this.uuidService = uuidService;
+    this.meterRegistry = meterRegistry;
+    this.enabled = enabled;
+    this.lowWaterMark = Math.max(0, lowWaterMark);
+    this.highWaterMark = Math.max(this.lowWaterMark + 1, highWaterMark);
+    this.batchSize = Math.max(1, batchSize);
+    this.maxKeys = Math.max(0, maxKeys);
+    this.quietPeriodNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, quietPeriodMillis));
+    // sin reclamaciones todavía
+    this.lastClaimNanos = new AtomicLong(System.nanoTime() - quietPeriodNanos);
+    this.hits = Counter.builder(CLAIMS_METRIC).tag("result", "hit").register(meterRegistry);
+    this.misses = Counter.builder(CLAIMS_METRIC).tag("result", "miss").register(meterRegistry);
+  }
+
+  /**
+   * Indica si el inventario está activo.
+   *
+   * @return true si los contratos preasignados se sirven del inventario
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Reclama un identificador del inventario dentro de la transacción de la petición.
+   *
+   * @param entity entidad
+   * @param center centro
+   * @param brand  marca
+   * @param conn   la conexión de la transacción en curso
+   * @return el identificador, o null si el inventario de la clave está vacío
+   */
+  public PooledIdentifier claim(String entity, String center, String brand, Connection conn) {
+    lastClaimNanos.set(System.nanoTime());
+    PooledIdentifier claimed = contractIdentifiersPoolRepository.claim(entity, center, brand, conn);
+    if (claimed == null) {
+      misses.increment();
+    } else {
+      hits.increment();
+      InventoryKey key = keys.get(key(entity, center, brand));
+      if (key != null) {
+        key.available().updateAndGet(available -> Math.max(0, available - 1));
+      }
+    }
+    return claimed;
+  }
+
+  /**
+   * Registra una generación confirmada para la clave, de modo que el proceso de reposición la mantenga en
+   * adelante. Solo se llama después del commit, para no seguir claves con datos de la petición que no existen.
+   *
+   * @param entity entidad
+   * @param center centro
+   * @param brand  marca
+   */
+  public void generated(String entity, String center, String brand) {
+    if (enabled) {
+      track(entity, center, brand);
+    }
+  }
+
+  /**
+   * Repone el inventario de las claves conocidas. Se ejecuta en segundo plano con un retardo
+   * fijo entre ejecuciones; un error en una clave no impide reponer el resto. Con peticiones recientes solo
+   * se reponen las claves agotadas.
+   */
+  @Scheduled(fixedDelayString = "${accountmanaging.inventory.replenish-delay-ms:5000}",
+      initialDelayString = "${accountmanaging.inventory.replenish-delay-ms:5000}")
+  public void replenish() {
+    if (!enabled) {
+      return;
+    }
+    boolean busy = System.nanoTime() - lastClaimNanos.get() < quietPeriodNanos;
+    for (InventoryKey key : keys.values()) {
+      if (key.skipRounds().get() > 0) {
+        key.skipRounds().decrementAndGet();
+        continue;
+      }
+      if (busy && key.available().get() > 0) {
+        continue;
+      }
+      try {
+        replenish(key);
+        key.failures().set(0);
+      } catch (RuntimeException e) {
+        failed(key, e);
+      }
+    }
+  }
+
+  /**
+   * Repone el inventario de una clave hasta la marca máxima si está por debajo de la mínima.
+   *
+   * @param key la clave
+   * @return el número de identificadores añadidos
+   */
+  int replenish(InventoryKey key) {
+    int available = countAvailable(key);
+    key.available().set(available);
+    if (available >= lowWaterMark) {
+      return 0;
+    }
+    int missing = highWaterMark - available;
+    int added = 0;
+    while (added < missing) {
+      int count = Math.min(batchSize, missing - added);
+      addBatch(key, count);
+      added += count;
+      key.available().addAndGet(count);
+    }
+    log.info("Inventario repuesto con {} identificadores para entity '{}', center '{}', brand '{}'",
+        added, key.entity(), key.center(), key.brand());
+    return added;
+  }
+
+  /**
+   * Registra la clave, si aún no se conocía y no se ha llegado a max-keys, para que el proceso de reposición la
+   * mantenga.
+   *
+   * @param entity entidad
+   * @param center centro
+   * @param brand  marca
+   * @return la clave registrada, o null si ya se siguen max-keys claves
+   */
+  InventoryKey track(String entity, String center, String brand) {
+    String id = key(entity, center, brand);
+    InventoryKey known = keys.get(id);
+    if (known != null) {
+      return known;
+    }
+    synchronized (keys) {
+      if (keys.size() >= maxKeys && !keys.containsKey(id)) {
+        log.debug("Inventario: se siguen ya {} claves, no se añade entity '{}', center '{}', brand '{}'",
+            maxKeys, entity, center, brand);
+        return null;
+      }
+      return keys.computeIfAbsent(id, k -> {
+        AtomicInteger available = new AtomicInteger();
+        Gauge gauge = Gauge.builder(AVAILABLE_METRIC, available, AtomicInteger::get)
+            .description("Identificadores pregenerados disponibles en DC_CONTRACT_IDENTIFIERS_POOL")
+            .tag("entity", entity)
+            .tag("center", center)
+            .tag("brand", brand)
+            .register(meterRegistry);
+        return new InventoryKey(entity, center, brand, available, new AtomicInteger(), new AtomicInteger(), gauge);
+      });
+    }
+  }
+
+  /**
+   * Registra un fallo de reposición de la clave: la siguiente se intenta tras 2^fallos ejecuciones y, tras
+   * MAX_FAILURES fallos seguidos, la clave se deja de seguir hasta la próxima generación correcta.
+   *
+   * @param key la clave
+   * @param e   el error
+   */
+  private void failed(InventoryKey key, RuntimeException e) {
+    int failures = key.failures().incrementAndGet();
+    if (failures >= MAX_FAILURES) {
+      log.warn("Inventario: se deja de reponer entity '{}', center '{}', brand '{}' tras {} fallos: {}",
+          key.entity(), key.center(), key.brand(), failures, e.getMessage());
+      synchronized (keys) {
+        keys.remove(key(key.entity(), key.center(), key.brand()));
+        meterRegistry.remove(key.gauge());
+      }
+      return;
+    }
+    key.skipRounds().set((1 << failures) - 1);
+    log.warn("Error al reponer el inventario de entity '{}', center '{}', brand '{}' (fallo {}): {}",
+        key.entity(), key.center(), key.brand(), failures, e.getMessage());
+  }
+
+  private static String key(String entity, String center, String brand) {
+    return entity + '|' + center + '|' + brand;
+  }
+
+  private int countAvailable(InventoryKey key) {
+    Connection conn = null;
+    try {
+      conn = Objects.requireNonNull(jdbcTemplate.getDataSource()).getConnection();
+      return contractIdentifiersPoolRepository.countAvailable(key.entity(), key.center(), key.brand(), conn);
+    } catch (SQLException e) {
+      throw new InternalServerErrorplsqlExceptionproject("DC-COMMON-T-0001", "DATABASE_ERROR", e);
+    } finally {
+      UtilprojectRepository.closeConnection(conn);
+    }
+  }
+
+  private void addBatch(InventoryKey key, int count) {
+    // La reserva de numeración se confirma en su propia transacción: si el insert falla, los números
+    // reservados quedan como huecos, igual que en las altas masivas
+    List<String> accountNumbers = accountNumberRangeAllocator.reserveBlock(key.center(), key.entity(), key.brand(),
+        count);
+    List<PooledIdentifier> identifiers = new ArrayList<>(count);
+    for (String accountNumber : accountNumbers) {
+      String bban = accountIdentifierCalculator.bban(key.entity(), key.center(), accountNumber);
+      identifiers.add(new PooledIdentifier(uuidService.generateUniqueContractId(), bban,
+          accountIdentifierCalculator.iban(bban, "ES")));
+    }
+
+    Connection conn = null;
+    try {
+      conn = Objects.requireNonNull(jdbcTemplate.getDataSource()).getConnection();
+      conn.setAutoCommit(false);
+      contractIdentifiersPoolRepository.insertBatch(key.entity(), key.center(), key.brand(), identifiers, conn);
+      UtilprojectRepository.commit(conn);
+    } catch (SQLException e) {
+      UtilprojectRepository.rollBack(conn);
+      throw new InternalServerErrorplsqlExceptionproject("DC-COMMON-T-0001", "DATABASE_ERROR", e);
+    } catch (RuntimeException e) {
+      UtilprojectRepository.rollBack(conn);
+      throw e;
+    } finally {
+      UtilprojectRepository.closeConnection(conn);
+    }
+  }
+
+  /**
+   * Clave del inventario, número de identificadores disponibles según esta instancia, fallos seguidos de
+   * reposición, ejecuciones que aún se salta por ellos y su gauge.
+   */
+  record InventoryKey(String entity, String center, String brand, AtomicInteger available,
+                      AtomicInteger failures, AtomicInteger skipRounds, Gauge gauge) {
+  }
+}
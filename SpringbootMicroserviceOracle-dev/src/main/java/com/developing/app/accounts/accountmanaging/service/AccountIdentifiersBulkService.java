@@ -0,0 +1,234 @@
+package com.developing.app.accounts.accountmanaging.service;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.java.developing.accounts.accountmanaging.model.AccounIdentification;
+import com.java.developing.accounts.accountmanaging.model.genaccidentifiers.request.GenerateAccountIdentifiersBulkPostRequest;
+import com.java.developing.accounts.accountmanaging.model.genaccidentifiers.request.GenerateAccountIdentifiersPostRequest;
+import com.java.developing.accounts.accountmanaging.model.genaccidentifiers.response.GenerateAccountIdentifiersBulkItemResult;
+import com.java.developing.accounts.accountmanaging.model.genaccidentifiers.response.GenerateAccountIdentifiersBulkPostResponse;
+import com.java.developing.accounts.accountmanaging.repository.ContractIdentifiersRepositoryExt;
+import com.java.developing.accounts.accountmanaging.utils.AccountIdentifierCalculator;
+import com.java.developing.accounts.util.lib.core.exceptions.BadRequestplsqlExceptionproject;
+import com.java.developing.accounts.util.lib.db.model.entity.ContractIdentifiersEntity;
+import com.java.developing.accounts.util.lib.db.utils.UtilprojectRepository;
+import com.java.plsql.core.exceptions.HttpBaseplsqlException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Servicio de generación masiva de identificadores de cuenta.
+ * Reserva los números de cuenta de todo el lote de una vez por centro, calcula BBAN/IBAN en una
+ * única pasada e inserta en DC_CONTRACT_IDENTIFIERS con un executeBatch por bloque.
+ * El resultado es por elemento: un elemento erróneo no impide el alta del resto.
+ */
+@Service
+@Slf4j
+public class AccountIdentifiersBulkService {
+
+  /**
+   * Número máximo de intentos por elemento ante colisión de CONTRACT_ID
+   */
+  private static final int MAX_CONTRACT_ID_ATTEMPTS = 3;
+
+  private static final String DATABASE_ERROR = "DC-COMMON-T-0001";
+
+  private final ContractIdentifiersRepositoryExt contractIdentifiersRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final AccountIdentifierCalculator accountIdentifierCalculator;
+  private final UuidService uuidService;
+  private final AccountNumberRangeAllocator accountNumberRangeAllocator;
+  private final int maxItems;
+  private final int chunkSize;
+
+  /**
+   * Constructor de la clase.
+   *
+   * @param contractIdentifiersRepository repositorio de la tabla DC_CONTRACT_IDENTIFIERS
+   * @param jdbcTemplate                  JdbcTemplate para obtener conexiones
+   * @param accountIdentifierCalculator   Cálculo de BBAN/IBAN
+   * @param uuidService                   Servicio para generar CONTRACT_ID
+   * @param accountNumberRangeAllocator   Asignador de números de cuenta por rangos
+   * @param maxItems                      número máximo de elementos por petición
+   * @param chunkSize                     número de filas por executeBatch y commit
+   */
+  public AccountIdentifiersBulkService(ContractIdentifiersRepositoryExt contractIdentifiersRepository,
+                                       JdbcTemplate jdbcTemplate,
+                                       AccountIdentifierCalculator accountIdentifierCalculator, UuidService uuidService,
+                                       AccountNumberRangeAllocator accountNumberRangeAllocator,
+                                       @Value("${accountmanaging.bulk.max-items:1000}") int maxItems,
+                                       @Value("${accountmanaging.bulk.chunk-size:200}") int chunkSize) {
+    this.contractIdentifiersRepository = contractIdentifiersRepository;
+    this.jdbcTemplate = jdbcTemplate;
+    this.accountIdentifierCalculator = accountIdentifierCalculator;
+    this.uuidService = uuidService;
+    this.accountNumberRangeAllocator = accountNumberRangeAllocator;
+    this.maxItems = maxItems;
+    this.chunkSize = Math.max(1, chunkSize);
+  }
+
+  /**
+   * Genera los identificadores de cuenta de una lista de peticiones.
+   * Cada bloque de chunkSize filas se confirma por separado; si un executeBatch falla, el bloque
+   * se deshace y se reintenta fila a fila con savepoints para aislar los elementos erróneos. Si un bloque
+   * falla por cualquier otro motivo, sus elementos se devuelven como erróneos y se conservan los
+   * resultados de los bloques ya confirmados.
+   *
+   * @param request                       la petición con la lista de elementos
+   * @param entityHeader                  entity that travels in the header of the request
+   * @param brandHeader                   brand that travels in the header of the request
+   * @param preAssigmentContractIndicator indicador de contrato preasignado
+   * @return el resultado por elemento
+   * @throws SQLException si no se puede obtener la conexión
+   */
+  public GenerateAccountIdentifiersBulkPostResponse generateAccountIdentifiersBulk(
+      GenerateAccountIdentifiersBulkPostRequest request, String entityHeader, String brandHeader,
+      String preAssigmentContractIndicator) throws SQLException {
+
+    request.validate(maxItems);
+    List<GenerateAccountIdentifiersPostRequest> items = request.getItems();
+    GenerateAccountIdentifiersBulkItemResult[] results = new GenerateAccountIdentifiersBulkItemResult[items.size()];
+
+    // 1. Validamos cada elemento y los agrupamos por centro
+    Map<String, List<Integer>> indexesByCenter = new LinkedHashMap<>();
+    for (int i = 0; i < items.size(); i++) {
+      GenerateAccountIdentifiersPostRequest item = items.get(i);
+      try {
+        if (item == null) {
+          throw new BadRequestplsqlExceptionproject("CONTRACT-MANAGEMENT-F-0005");
+        }
+        item.validate();
+        indexesByCenter.computeIfAbsent(item.getCenter().getCenterId(), k -> new ArrayList<>()).add(i);
+      } catch (HttpBaseplsqlException e) {
+        results[i] = GenerateAccountIdentifiersBulkItemResult.error(i, e.getErrorName());
+      }
+    }
+
+    // 2. Reservamos los números de cada centro de una vez y calculamos BBAN/IBAN
+    List<PendingItem> pending = new ArrayList<>();
+    for (Map.Entry<String, List<Integer>> entry : indexesByCenter.entrySet()) {
+      String center = entry.getKey();
+      List<Integer> indexes = entry.getValue();
+      List<String> accountNumbers;
+      try {
+        accountNumbers = accountNumberRangeAllocator.reserveBlock(center, entityHeader, brandHeader, indexes.size());
+      } catch (RuntimeException e) {
+        log.error("generateAccountIdentifiersBulk reserva ERROR center '{}': {}", center, e.getMessage());
+        indexes.forEach(i -> results[i] = GenerateAccountIdentifiersBulkItemResult.error(i, errorCode(e)));
+        continue;
+      }
+      for (int j = 0; j < indexes.size(); j++) {
+        pending.add(buildPendingItem(indexes.get(j), center, accountNumbers.get(j), entityHeader, brandHeader,
+            preAssigmentContractIndicator));
+      }
+    }
+
+    // 3. Insertamos por bloques
+    if (!pending.isEmpty()) {
+      Connection conn = null;
+      try {
+        conn = Objects.requireNonNull(jdbcTemplate.getDataSource()).getConnection();
+        conn.setAutoCommit(false);
+        for (int from = 0; from < pending.size(); from += chunkSize) {
+          List<PendingItem> chunk = pending.subList(from, Math.min(from + chunkSize, pending.size()));
+          try {
+            insertChunk(chunk, conn, results);
+          } catch (SQLException | RuntimeException e) {
+            // Los bloques anteriores ya están confirmados: este bloque se marca como erróneo y se sigue
+            log.error("generateAccountIdentifiersBulk bloque ERROR {}", e.getMessage());
+            UtilprojectRepository.rollBack(conn);
+            chunk.forEach(p -> results[p.index()] = GenerateAccountIdentifiersBulkItemResult.error(p.index(), errorCode(e)));
+          }
+        }
+      } catch (SQLException e) {
+        log.error("generateAccountIdentifiersBulk ERROR {}", e.getMessage());
+        throw e;
+      } finally {
+        UtilprojectRepository.closeConnection(conn);
+      }
+    }
+
+    int created = (int) Arrays.stream(results)
+        .filter(r -> GenerateAccountIdentifiersBulkItemResult.STATUS_CREATED.equals(r.getStatus()))
+        .count();
+    return new GenerateAccountIdentifiersBulkPostResponse(created, results.length - created, Arrays.asList(results));
+  }
+
+  private PendingItem buildPendingItem(int index, String center, String accountNumber, String entityHeader,
+                                       String brandHeader, String preAssigmentContractIndicator) {
+    AccounIdentification accounIdentification = new AccounIdentification();
+    accounIdentification.setNationalIdentification(accountIdentifierCalculator.bban(entityHeader, center, accountNumber));
+    String iban = accountIdentifierCalculator.iban(accounIdentification.getNationalIdentification(), "ES");
+    accounIdentification.setLegacyIdentification(iban);
+    accounIdentification.setInternationalIdentification(iban);
+
+    String contractId = uuidService.generateUniqueContractId();
+    accounIdentification.setInternalIdentification(contractId);
+    return new PendingItem(index, accounIdentification,
+        accountmanagingService.createContractIdentifiersEntity(entityHeader, brandHeader, contractId,
+            accounIdentification, preAssigmentContractIndicator));
+  }
+
+  private void insertChunk(List<PendingItem> chunk, Connection conn,
+                           GenerateAccountIdentifiersBulkItemResult[] results) throws SQLException {
+    try {
+      contractIdentifiersRepository.insertBatch(chunk.stream().map(PendingItem::entity).toList(), conn);
+      conn.commit();
+      chunk.forEach(p -> results[p.index()] = GenerateAccountIdentifiersBulkItemResult.created(p.index(), p.accounIdentification()));
+    } catch (SQLException e) {
+      log.warn("generateAccountIdentifiersBulk executeBatch ERROR {}, reintentando fila a fila", e.getMessage());
+      conn.rollback();
+      for (PendingItem item : chunk) {
+        insertSingle(item, conn, results);
+      }
+      conn.commit();
+    }
+  }
+
+  private void insertSingle(PendingItem item, Connection conn,
+                            GenerateAccountIdentifiersBulkItemResult[] results) throws SQLException {
+    ContractIdentifiersEntity entity = item.entity();
+    for (int attempt = 1; ; attempt++) {
+      Savepoint savepoint = conn.setSavepoint();
+      try {
+        contractIdentifiersRepository.insertContractIdentifiers(entity, conn);
+        conn.releaseSavepoint(savepoint);
+        results[item.index()] = GenerateAccountIdentifiersBulkItemResult.created(item.index(), item.accounIdentification());
+        return;
+      } catch (RuntimeException e) {
+        conn.rollback(savepoint);
+        if (attempt < MAX_CONTRACT_ID_ATTEMPTS && accountmanagingService.isDuplicateKey(e)) {
+          String contractId = uuidService.generateUniqueContractId();
+          entity.setContractId(contractId);
+          item.accounIdentification().setInternalIdentification(contractId);
+          continue;
+        }
+        log.error("generateAccountIdentifiersBulk item {} ERROR {}", item.index(), e.getMessage());
+        results[item.index()] = GenerateAccountIdentifiersBulkItemResult.error(item.index(), errorCode(e));
+        return;
+      }
+    }
+  }
+
+  private static String errorCode(Exception e) {
+    return e instanceof HttpBaseplsqlException httpException ? httpException.getErrorName() : DATABASE_ERROR;
+  }
+
+  /**
+   * Elemento pendiente de insertar.
+   */
+  private record PendingItem(int index, AccounIdentification accounIdentification, ContractIdentifiersEntity entity) {
+  }
+}
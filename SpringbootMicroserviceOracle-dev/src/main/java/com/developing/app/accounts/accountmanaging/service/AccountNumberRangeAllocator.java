@@ -0,0 +1,274 @@
+package com.developing.app.accounts.accountmanaging.service;
+
+import com.java.developing.accounts.accountmanaging.repository.ContractCounterRepositoryExt;
+import com.java.developing.accounts.util.lib.core.exceptions.InternalServerErrorplsqlExceptionproject;
+import com.java.developing.accounts.util.lib.db.utils.UtilprojectRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Asignador en memoria de números de cuenta por rangos reservados.
+ * Reserva bloques de numeración por (entity, center, brand) sobre DC_CONTRACT_COUNTER en una
+ * transacción corta y los reparte desde memoria, evitando bloquear la fila del contador en cada
+ * petición. El tamaño del bloque se adapta al ritmo de peticiones observado para cada clave.
+ * Al parar la aplicación intenta devolver al contador la cola no utilizada de cada rango.
+ */
+@Service
+@Slf4j
+public class AccountNumberRangeAllocator {
+
+  /**
+   * Longitud del número de cuenta que forma parte del BBAN.
+   */
+  static final int ACCOUNT_NUMBER_LENGTH = 10;
+
+  private final ContractCounterRepositoryExt contractCounterRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final boolean enabled;
+  private final int minBlockSize;
+  private final int maxBlockSize;
+  private final long targetRefillMillis;
+
+  private final Map<String, KeyRange> ranges = new ConcurrentHashMap<>();
+
+  /**
+   * Constructor de la clase.
+   *
+   * @param contractCounterRepository repositorio de la tabla DC_CONTRACT_COUNTER
+   * @param jdbcTemplate              JdbcTemplate para obtener conexiones
+   * @param enabled                   activa el modo de reserva por rangos
+   * @param minBlockSize              tamaño mínimo del bloque reservado
+   * @param maxBlockSize              tamaño máximo del bloque reservado
+   * @param targetRefillSeconds       segundos que debería durar un bloque al ritmo observado
+   */
+  public AccountNumberRangeAllocator(ContractCounterRepositoryExt contractCounterRepository,
+                                     JdbcTemplate jdbcTemplate,
+                                     @Value("${accountmanaging.numbering.range.enabled:false}") boolean enabled,
+                                     @Value("${accountmanaging.numbering.range.min-block-size:10}") int minBlockSize,
+                                     @Value("${accountmanaging.numbering.range.max-block-size:1000}") int maxBlockSize,
+                                     @Value("${accountmanaging.numbering.range.target-refill-seconds:30}")
+                                     long targetRefillSeconds) {
+    this.contractCounterRepository = contractCounterRepository;
+    this.jdbcTemplate = jdbcTemplate;
+    this.enabled = enabled;
+    this.minBlockSize = Math.max(1, minBlockSize);
+    this.maxBlockSize = Math.max(this.minBlockSize, maxBlockSize);
+    this.targetRefillMillis = Math.max(1, targetRefillSeconds) * 1000L;
+  }
+
+  /**
+   * Indica si el modo de reserva por rangos está activo.
+   *
+   * @return true si los números se reparten desde rangos reservados
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Devuelve el siguiente número de cuenta para la clave indicada, reservando un nuevo
+   * bloque en DC_CONTRACT_COUNTER cuando el rango en memoria se ha agotado.
+   *
+   * @param center centro
+   * @param entity entidad
+   * @param brand  marca
+   * @return número de cuenta con ceros a la izquierda
+   * @throws InternalServerErrorplsqlExceptionproject si el contador supera los 10 dígitos
+   */
+  public String nextAccountNumber(String center, String entity, String brand) {
+    KeyRange range = ranges.computeIfAbsent(key(entity, center, brand),
+        k -> new KeyRange(entity, center, brand));
+    return formatAccountNumber(range.next());
+  }
+
+  /**
+   * Reserva de una sola vez un bloque de números consecutivos para la clave indicada, con
+   * independencia de que el modo de reserva por rangos esté activo. Se usa en las altas masivas.
+   * La reserva se confirma en su propia transacción: los números que no lleguen a usarse quedan
+   * como huecos de numeración.
+   *
+   * @param center centro
+   * @param entity entidad
+   * @param brand  marca
+   * @param count  número de valores a reservar
+   * @return los números de cuenta reservados, con ceros a la izquierda
+   * @throws InternalServerErrorplsqlExceptionproject si el contador supera los 10 dígitos
+   */
+  public List<String> reserveBlock(String center, String entity, String brand, int count) {
+    long last = reserve(entity, center, brand, count);
+    List<String> numbers = new ArrayList<>(count);
+    for (int i = 1; i <= count; i++) {
+      numbers.add(formatAccountNumber(last + i));
+    }
+    return numbers;
+  }
+
+  /**
+   * Devuelve al contador las colas no utilizadas de los rangos en memoria.
+   * Si el contador ya ha avanzado (otra instancia ha reservado después) la cola se registra en el log
+   * como hueco de numeración.
+   */
+  @PreDestroy
+  public void releaseUnusedRanges() {
+    ranges.values().forEach(KeyRange::release);
+    ranges.clear();
+  }
+
+  /**
+   * Calcula el tamaño del siguiente bloque a partir del ritmo observado desde la última reserva.
+   *
+   * @param consumed      números entregados desde la última reserva
+   * @param elapsedMillis milisegundos transcurridos desde la última reserva
+   * @return tamaño del bloque, acotado entre el mínimo y el máximo configurados
+   */
+  int nextBlockSize(long consumed, long elapsedMillis) {
+    if (consumed <= 0) {
+      return minBlockSize;
+    }
+    double perMilli = (double) consumed / Math.max(1, elapsedMillis);
+    long wanted = (long) Math.ceil(perMilli * targetRefillMillis);
+    return (int) Math.max(minBlockSize, Math.min(maxBlockSize, wanted));
+  }
+
+  private long reserve(String entity, String center, String brand, int blockSize) {
+    Connection conn = null;
+    try {
+      conn = Objects.requireNonNull(jdbcTemplate.getDataSource()).getConnection();
+      conn.setAutoCommit(false);
+      long last = contractCounterRepository.reserveRange(entity, center, brand, blockSize, conn);
+      UtilprojectRepository.commit(conn);
+      log.info("Reservado rango {}..{} para entity '{}', center '{}', brand '{}'",
+          last + 1, last + blockSize, entity, center, brand);
+      return last;
+    } catch (SQLException e) {
+      log.error("reserve ERROR {}", e.getMessage());
+      UtilprojectRepository.rollBack(conn);
+      throw new InternalServerErrorplsqlExceptionproject("DC-COMMON-T-0001", "DATABASE_ERROR", e);
+    } catch (RuntimeException e) {
+      log.error("reserve ERROR {}", e.getMessage());
+      UtilprojectRepository.rollBack(conn);
+      throw e;
+    } finally {
+      UtilprojectRepository.closeConnection(conn);
+    }
+  }
+
+  private boolean release(String entity, String center, String brand, long rangeEnd, long lastUsed) {
+    Connection conn = null;
+    try {
+      conn = Objects.requireNonNull(jdbcTemplate.getDataSource()).getConnection();
+      conn.setAutoCommit(false);
+      boolean released = contractCounterRepository.releaseRange(entity, center, brand, rangeEnd, lastUsed, conn);
+      UtilprojectRepository.commit(conn);
+      return released;
+    } catch (Exception e) {
+      log.error("release ERROR {}", e.getMessage());
+      UtilprojectRepository.rollBack(conn);
+      return false;
+    } finally {
+      UtilprojectRepository.closeConnection(conn);
+    }
+  }
+
+  private static String key(String entity, String center, String brand) {
+    return entity + '|' + center + '|' + brand;
+  }
+
+  static String formatAccountNumber(long value) {
+    String digits = Long.toString(value);
+    if (digits.length() > ACCOUNT_NUMBER_LENGTH) {
+      // truncar repetiría números de cuenta ya asignados, con IBAN válido
+      log.error("El contador de numeración ha superado {} dígitos: {}", ACCOUNT_NUMBER_LENGTH, value);
+      throw new InternalServerErrorplsqlExceptionproject("DC-COMMON-T-9999", "ACCOUNT_NUMBER_OVERFLOW");
+    }
+    if (digits.length() == ACCOUNT_NUMBER_LENGTH) {
+      return digits;
+    }
+    char[] chars = new char[ACCOUNT_NUMBER_LENGTH];
+    int pad = ACCOUNT_NUMBER_LENGTH - digits.length();
+    for (int i = 0; i < pad; i++) {
+      chars[i] = '0';
+    }
+    digits.getChars(0, digits.length(), chars, pad);
+    return new String(chars);
+  }
+
+  /**
+   * Rango reservado para una clave (entity, center, brand).
+   * Usa un ReentrantLock en lugar de synchronized porque la recarga accede a base de datos con el
+   * bloqueo tomado; con hilos virtuales un monitor dejaría el hilo portador bloqueado (pinning).
+   */
+  private final class KeyRange {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final String entity;
+    private final String center;
+    private final String brand;
+
+    private long nextValue = 1;
+    private long rangeEnd = 0;
+    private int blockSize = minBlockSize;
+    private long lastReserveMillis;
+
+    private KeyRange(String entity, String center, String brand) {
+      this.entity = entity;
+      this.center = center;
+      this.brand = brand;
+    }
+
+    private long next() {
+      lock.lock();
+      try {
+        if (nextValue > rangeEnd) {
+          refill();
+        }
+        return nextValue++;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private void refill() {
+      long now = System.currentTimeMillis();
+      if (lastReserveMillis > 0) {
+        blockSize = nextBlockSize(blockSize, now - lastReserveMillis);
+      }
+      long last = reserve(entity, center, brand, blockSize);
+      nextValue = last + 1;
+      rangeEnd = last + blockSize;
+      lastReserveMillis = now;
+    }
+
+    private void release() {
+      lock.lock();
+      try {
+        if (nextValue > rangeEnd) {
+          return;
+        }
+        long unused = rangeEnd - nextValue + 1;
+        if (release(entity, center, brand, rangeEnd, nextValue - 1)) {
+          log.info("Devueltos {} números sin usar ({}..{}) para entity '{}', center '{}', brand '{}'",
+              unused, nextValue, rangeEnd, entity, center, brand);
+        } else {
+          log.warn("No se han podido devolver {} números sin usar ({}..{}) para entity '{}', center '{}', brand '{}'",
+              unused, nextValue, rangeEnd, entity, center, brand);
+        }
+        rangeEnd = nextValue - 1;
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+}
@@ -0,0 +1,177 @@
+package com.developing.app.accounts.accountmanaging.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Temporizadores por fase de generateAccountIdentifiers, etiquetados por entidad y marca.
+ * Los Timer se registran una sola vez por combinación fase/entidad/marca y se reutilizan, de forma
+ * que medir una fase solo cuesta dos System.nanoTime y una búsqueda en un mapa.
+ * Se publican como histograma (buckets entre 1 ms y 5 s) para poder calcular percentiles
+ * agregados en Prometheus.
+ * La entidad y la marca vienen de las cabeceras de la petición, así que sus valores se limitan para no crear series
+ * sin control: si se configuran accountmanaging.metrics.entities / brands solo se usan esos valores, y si no los
+ * max-tag-values primeros que llegan; el resto se agrupa como "other".
+ */
+@Component
+public class GenerateAccountIdentifiersMetrics {
+
+  /**
+   * Nombre de la métrica; en Prometheus aparece como accountmanaging_generate_phase_seconds
+   */
+  static final String METRIC_NAME = "accountmanaging.generate.phase";
+
+  /**
+   * Número de cuenta obtenido del rango reservado en memoria
+   */
+  static final String PHASE_RANGE = "range";
+  /**
+   * Identificador reclamado del inventario pregenerado
+   */
+  static final String PHASE_INVENTORY = "inventory";
+  /**
+   * Espera hasta obtener una conexión del pool
+   */
+  static final String PHASE_POOL_WAIT = "pool-wait";
+  /**
+   * Número de cuenta obtenido de DC_CONTRACT_COUNTER a través de accNumeratorService
+   */
+  static final String PHASE_COUNTER = "counter";
+  /**
+   * Cálculo de BBAN e IBAN
+   */
+  static final String PHASE_IBAN = "iban";
+  /**
+   * Generación del CONTRACT_ID
+   */
+  static final String PHASE_UUID = "uuid";
+  /**
+   * Insert en DC_CONTRACT_IDENTIFIERS
+   */
+  static final String PHASE_INSERT = "insert";
+  /**
+   * Commit de la transacción
+   */
+  static final String PHASE_COMMIT = "commit";
+  /**
+   * Consulta y guardado de la respuesta por Idempotency-Key
+   */
+  static final String PHASE_IDEMPOTENCY = "idempotency";
+
+  private static final String UNKNOWN = "unknown";
+  private static final String OTHER = "other";
+
+  private final MeterRegistry meterRegistry;
+  private final Set<String> knownEntities;
+  private final Set<String> knownBrands;
+  private final int maxTagValues;
+
+  /**
+   * Valores de entidad y marca admitidos cuando no hay lista configurada
+   */
+  private final Set<String> seenEntities = ConcurrentHashMap.newKeySet();
+  private final Set<String> seenBrands = ConcurrentHashMap.newKeySet();
+
+  private final Map<PhaseKey, Timer> timers = new ConcurrentHashMap<>();
+
+  /**
+   * Constructor de la clase.
+   *
+   * @param meterRegistry registro de métricas de la aplicación
+   * @param knownEntities entidades que se etiquetan con su valor; vacío para admitir las primeras que lleguen
+   * @param knownBrands   marcas que se etiquetan con su valor; vacío para admitir las primeras que lleguen
+   * @param maxTagValues  número máximo de entidades y de marcas distintas cuando no hay lista configurada
+   */
+  public GenerateAccountIdentifiersMetrics(MeterRegistry meterRegistry,
+                                           @Value("${accountmanaging.metrics.entities:}") Set<String> knownEntities,
+                                           @Value("${accountmanaging.metrics.brands:}") Set<String> knownBrands,
+                                           @Value("${accountmanaging.metrics.max-tag-values:10}") int maxTagValues) {
+    this.meterRegistry = meterRegistry;
+    this.knownEntities = Set.copyOf(knownEntities);
+    this.knownBrands = Set.copyOf(knownBrands);
+    this.maxTagValues = Math.max(0, maxTagValues);
+  }
+
+  /**
+   * Marca el inicio de una fase.
+   *
+   * @return instante de inicio, a pasar a {@link #record(String, String, String, long)}
+   */
+  public long start() {
+    return System.nanoTime();
+  }
+
+  /**
+   * Registra la duración de una fase desde el instante indicado.
+   *
+   * @param phase     la fase
+   * @param entity    la entidad de la petición
+   * @param brand     la marca de la petición
+   * @param startNano el valor devuelto por {@link #start()}
+   */
+  public void record(String phase, String entity, String brand, long startNano) {
+    timer(phase, entity, brand).record(System.nanoTime() - startNano, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Devuelve el Timer de la fase para la entidad y marca, registrándolo la primera vez.
+   *
+   * @param phase  la fase
+   * @param entity la entidad
+   * @param brand  la marca
+   * @return el Timer
+   */
+  Timer timer(String phase, String entity, String brand) {
+    return timers.computeIfAbsent(
+        new PhaseKey(phase, tagValue(entity, knownEntities, seenEntities), tagValue(brand, knownBrands, seenBrands)),
+        key -> Timer.builder(METRIC_NAME)
+            .description("Duración de cada fase de la generación de identificadores de cuenta")
+            .tag("phase", key.phase())
+            .tag("entity", key.entity())
+            .tag("brand", key.brand())
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofMillis(1))
+            .maximumExpectedValue(Duration.ofSeconds(5))
+            .register(meterRegistry));
+  }
+
+  /**
+   * Valor de la etiqueta: el recibido si está en la lista configurada o, sin lista, si es uno de los primeros
+   * max-tag-values; si no, "other".
+   *
+   * @param value el valor de la petición
+   * @param known la lista configurada
+   * @param seen  los valores admitidos hasta ahora sin lista
+   * @return el valor de la etiqueta
+   */
+  private String tagValue(String value, Set<String> known, Set<String> seen) {
+    if (value == null) {
+      return UNKNOWN;
+    }
+    if (!known.isEmpty()) {
+      return known.contains(value) ? value : OTHER;
+    }
+    if (seen.contains(value)) {
+      return value;
+    }
+    synchronized (seen) {
+      if (seen.size() < maxTagValues) {
+        seen.add(value);
+        return value;
+      }
+    }
+    return OTHER;
+  }
+
+  private record PhaseKey(String phase, String entity, String brand) {
+  }
+}
@@ -0,0 +1,257 @@
+package com.developing.app.accounts.accountmanaging.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.java.developing.accounts.accountmanaging.model.genaccidentifiers.request.GenerateAccountIdentifiersPostRequest;
+import com.java.developing.accounts.accountmanaging.model.genaccidentifiers.response.GenerateAccountIdentifiersPostResponse;
+import com.java.developing.accounts.accountmanaging.repository.IdempotencyKeysRepositoryExt;
+import com.java.developing.accounts.accountmanaging.repository.IdempotencyKeysRepositoryExt.IdempotencyKeyRow;
+import com.java.developing.accounts.util.lib.core.exceptions.BadRequestplsqlExceptionproject;
+import com.java.developing.accounts.util.lib.core.exceptions.InternalServerErrorplsqlExceptionproject;
+import com.java.developing.accounts.util.lib.db.utils.UtilprojectRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Almacén de respuestas de generate_account_identifiers por Idempotency-Key.
+ * Combina una caché en memoria acotada (Caffeine, por tamaño y tiempo) con la tabla
+ * DC_IDEMPOTENCY_KEYS, que es la que garantiza la deduplicación entre instancias y
+ * entre reintentos concurrentes. La memoria solo evita la consulta a base de datos en
+ * los reintentos que llegan a la misma instancia.
+ * Las claves solo se respetan durante la retención configurada: una clave más antigua se
+ * trata como nueva, y una tarea periódica borra de la tabla las que han caducado.
+ */
+@Service
+@Slf4j
+public class IdempotencyStore {
+
+  private static final char SEPARATOR = '\u001F';
+
+  private final IdempotencyKeysRepositoryExt idempotencyKeysRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final ObjectMapper objectMapper;
+  private final Cache<String, StoredResponse> cache;
+  private final Duration retention;
+  private final int purgeBatchSize;
+
+  /**
+   * Constructor de la clase.
+   *
+   * @param idempotencyKeysRepository repositorio de la tabla DC_IDEMPOTENCY_KEYS
+   * @param jdbcTemplate              JdbcTemplate para obtener conexiones
+   * @param objectMapper              serializador de la respuesta guardada
+   * @param cacheMaxSize              número máximo de respuestas en memoria
+   * @param cacheTtlMinutes           minutos que se mantiene en memoria cada respuesta (como mucho la retención)
+   * @param retentionHours            horas durante las que se respeta cada clave
+   * @param purgeBatchSize            filas borradas por transacción en la purga
+   */
+  public IdempotencyStore(IdempotencyKeysRepositoryExt idempotencyKeysRepository,
+                          JdbcTemplate jdbcTemplate,
+                          ObjectMapper objectMapper,
+                          @Value("${accountmanaging.idempotency.cache-max-size:10000}") long cacheMaxSize,
+                          @Value("${accountmanaging.idempotency.cache-ttl-minutes:60}") long cacheTtlMinutes,
+                          @Value("${accountmanaging.idempotency.retention-hours:24}") long retentionHours,
+                          @Value("${accountmanaging.idempotency.purge-batch-size:1000}") int purgeBatchSize) {
+    this.idempotencyKeysRepository = idempotencyKeysRepository;
+    this.jdbcTemplate = jdbcTemplate;
+    this.objectMapper = objectMapper;
+    this.retention = Duration.ofHours(Math.max(1, retentionHours));
+    this.purgeBatchSize = Math.max(1, purgeBatchSize);
+    Duration cacheTtl = Duration.ofMinutes(Math.max(1, cacheTtlMinutes));
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(Math.max(0, cacheMaxSize))
+        .expireAfterWrite(cacheTtl.compareTo(retention) < 0 ? cacheTtl : retention)
+        .build();
+  }
+
+  /**
+   * Devuelve la respuesta original de la clave, buscándola primero en memoria y después
+   * en DC_IDEMPOTENCY_KEYS con una conexión propia.
+   *
+   * @param entity         La entidad.
+   * @param brand          La marca.
+   * @param idempotencyKey El valor de la cabecera Idempotency-Key.
+   * @param requestHash    El resumen de la petición, ver {@link #requestHash(GenerateAccountIdentifiersPostRequest)}.
+   * @return la respuesta original, o null si la clave no se ha usado.
+   * @throws BadRequestplsqlExceptionproject si la clave se usó con una petición distinta.
+   */
+  public GenerateAccountIdentifiersPostResponse find(String entity, String brand, String idempotencyKey,
+                                                     String requestHash) {
+    StoredResponse cached = cache.getIfPresent(cacheKey(entity, brand, idempotencyKey));
+    if (cached != null) {
+      return cached.responseFor(requestHash);
+    }
+    Connection conn = null;
+    try {
+      conn = Objects.requireNonNull(jdbcTemplate.getDataSource()).getConnection();
+      return load(entity, brand, idempotencyKey, requestHash, conn);
+    } catch (SQLException e) {
+      log.error("Error al obtener conexión para consultar la clave de idempotencia '{}': {}", idempotencyKey,
+          e.getMessage());
+      throw new InternalServerErrorplsqlExceptionproject("DC-COMMON-T-0001", "DATABASE_ERROR", e);
+    } finally {
+      UtilprojectRepository.closeConnection(conn);
+    }
+  }
+
+  /**
+   * Devuelve la respuesta original de la clave leyéndola de DC_IDEMPOTENCY_KEYS con la conexión
+   * indicada, y la deja en memoria.
+   *
+   * @param entity         La entidad.
+   * @param brand          La marca.
+   * @param idempotencyKey El valor de la cabecera Idempotency-Key.
+   * @param requestHash    El resumen de la petición.
+   * @param conn           La conexión con la que realizar la consulta.
+   * @return la respuesta original, o null si la clave no se ha usado o ha caducado.
+   * @throws BadRequestplsqlExceptionproject si la clave se usó con una petición distinta.
+   */
+  public GenerateAccountIdentifiersPostResponse load(String entity, String brand, String idempotencyKey,
+                                                     String requestHash, Connection conn) {
+    IdempotencyKeyRow row = idempotencyKeysRepository.findByKey(entity, brand, idempotencyKey, notBefore(), conn);
+    if (row == null) {
+      return null;
+    }
+    StoredResponse stored = new StoredResponse(row.requestHash(), fromJson(row.response()));
+    cache.put(cacheKey(entity, brand, idempotencyKey), stored);
+    return stored.responseFor(requestHash);
+  }
+
+  /**
+   * Guarda la respuesta en DC_IDEMPOTENCY_KEYS dentro de la transacción en curso, sustituyendo
+   * la de la misma clave si ha caducado y aún no se ha purgado.
+   * Si otra petición con la misma clave ya la ha guardado, el insert falla por clave duplicada.
+   *
+   * @param entity         La entidad.
+   * @param brand          La marca.
+   * @param idempotencyKey El valor de la cabecera Idempotency-Key.
+   * @param requestHash    El resumen de la petición.
+   * @param response       La respuesta generada.
+   * @param conn           La conexión de la transacción en curso.
+   * @throws SQLException si falla el insert.
+   */
+  public void save(String entity, String brand, String idempotencyKey, String requestHash,
+                   GenerateAccountIdentifiersPostResponse response, Connection conn) throws SQLException {
+    idempotencyKeysRepository.deleteExpired(entity, brand, idempotencyKey, notBefore(), conn);
+    idempotencyKeysRepository.insert(entity, brand, idempotencyKey,
+        new IdempotencyKeyRow(requestHash, toJson(response)), conn);
+  }
+
+  /**
+   * Deja en memoria la respuesta ya confirmada en base de datos.
+   *
+   * @param entity         La entidad.
+   * @param brand          La marca.
+   * @param idempotencyKey El valor de la cabecera Idempotency-Key.
+   * @param requestHash    El resumen de la petición.
+   * @param response       La respuesta generada.
+   */
+  public void remember(String entity, String brand, String idempotencyKey, String requestHash,
+                       GenerateAccountIdentifiersPostResponse response) {
+    cache.put(cacheKey(entity, brand, idempotencyKey), new StoredResponse(requestHash, response));
+  }
+
+  /**
+   * Borra de DC_IDEMPOTENCY_KEYS las claves anteriores a la retención, en transacciones de
+   * como mucho purge-batch-size filas. Se ejecuta en segundo plano en todas las instancias;
+   * si coinciden, cada una borra las filas que la otra aún no ha borrado.
+   *
+   * @return el número de filas borradas.
+   */
+  @Scheduled(fixedDelayString = "${accountmanaging.idempotency.purge-delay-ms:3600000}",
+      initialDelayString = "${accountmanaging.idempotency.purge-delay-ms:3600000}")
+  public int purge() {
+    LocalDateTime notBefore = notBefore();
+    int purged = 0;
+    Connection conn = null;
+    try {
+      conn = Objects.requireNonNull(jdbcTemplate.getDataSource()).getConnection();
+      conn.setAutoCommit(false);
+      int deleted;
+      do {
+        deleted = idempotencyKeysRepository.deleteOlderThan(notBefore, purgeBatchSize, conn);
+        UtilprojectRepository.commit(conn);
+        purged += deleted;
+      } while (deleted == purgeBatchSize);
+    } catch (SQLException | RuntimeException e) {
+      UtilprojectRepository.rollBack(conn);
+      log.warn("Error al purgar DC_IDEMPOTENCY_KEYS tras borrar {} claves: {}", purged, e.getMessage());
+    } finally {
+      UtilprojectRepository.closeConnection(conn);
+    }
+    if (purged > 0) {
+      log.info("Purgadas {} claves de idempotencia anteriores a {}", purged, notBefore);
+    }
+    return purged;
+  }
+
+  /**
+   * Resumen SHA-256 de los campos de la petición que determinan la respuesta. Permite detectar
+   * que se reutiliza una clave con una petición distinta.
+   *
+   * @param request la petición
+   * @return el resumen en hexadecimal
+   */
+  public static String requestHash(GenerateAccountIdentifiersPostRequest request) {
+    String canonical = request.getCenter().getCenterId() + SEPARATOR + request.getProduct().getProductCode();
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  private String toJson(GenerateAccountIdentifiersPostResponse response) {
+    try {
+      return objectMapper.writeValueAsString(response);
+    } catch (JsonProcessingException e) {
+      throw new InternalServerErrorplsqlExceptionproject("DC-COMMON-T-9999", "", e);
+    }
+  }
+
+  private GenerateAccountIdentifiersPostResponse fromJson(String json) {
+    try {
+      return objectMapper.readValue(json, GenerateAccountIdentifiersPostResponse.class);
+    } catch (JsonProcessingException e) {
+      throw new InternalServerErrorplsqlExceptionproject("DC-COMMON-T-9999", "", e);
+    }
+  }
+
+  private LocalDateTime notBefore() {
+    // LAST_UPDATER_DATE_TIME se guarda en UTC (UtilprojectData.getUtcTimestamp)
+    return LocalDateTime.now(ZoneOffset.UTC).minus(retention);
+  }
+
+  private static String cacheKey(String entity, String brand, String idempotencyKey) {
+    return entity + SEPARATOR + brand + SEPARATOR + idempotencyKey;
+  }
+
+  private record StoredResponse(String requestHash, GenerateAccountIdentifiersPostResponse response) {
+
+    GenerateAccountIdentifiersPostResponse responseFor(String requestHash) {
+      if (!this.requestHash.equals(requestHash)) {
+        throw new BadRequestplsqlExceptionproject("CONTRACT-MANAGEMENT-F-0016");
+      }
+      return response;
+    }
+  }
+}
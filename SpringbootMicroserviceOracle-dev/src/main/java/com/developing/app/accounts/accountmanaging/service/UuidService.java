@@ -1,57 +1,31 @@
 package com.developing.app.accounts.accountmanaging.service;
 
-import com.java.developing.accounts.accountmanaging.repository.ContractIdentifiersRepositoryExt;
-import com.java.developing.accounts.util.lib.db.utils.UtilprojectRepository;
+import com.java.developing.accounts.accountmanaging.service.contractid.ContractIdGenerator;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
-import java.sql.Connection;
-import java.sql.SQLException;
-import java.util.Objects;
-import java.util.UUID;
-
+/**
+ * Servicio de generación de CONTRACT_ID.
+ * No accede a base de datos: la unicidad la garantiza la restricción única de
+ * DC_CONTRACT_IDENTIFIERS y el llamante reintenta el insert si se produce un duplicado.
+ */
 @Service
 @Slf4j
 public class UuidService {
 
-  private final ContractIdentifiersRepositoryExt contractIdentifiersRepository;
-  private final JdbcTemplate jdbcTemplate;
+  private final ContractIdGenerator contractIdGenerator;
 
-  public UuidService(ContractIdentifiersRepositoryExt contractIdentifiersRepository, JdbcTemplate jdbcTemplate) {
-    this.contractIdentifiersRepository = contractIdentifiersRepository;
-    this.jdbcTemplate = jdbcTemplate;
-  }
-
-  public String generateUniqueContractId() throws SQLException {
-    Connection conn = null;
-    try {
-      conn = Objects.requireNonNull(jdbcTemplate.getDataSource()).getConnection();
-      conn.setAutoCommit(false);
-
-      String uuid;
-      do {
-        uuid = UUID.randomUUID().toString();
-      } while (existsInDatabase(uuid, conn));
-      return uuid;
-    } catch (Exception e) {
-      log.error("generateUniqueContractId ERROR {}", e.getMessage());
-      UtilprojectRepository.rollBack(conn);
-      throw e;
-    } finally {
-      UtilprojectRepository.closeConnection(conn);
-    }
+  public UuidService(ContractIdGenerator contractIdGenerator) {
+    this.contractIdGenerator = contractIdGenerator;
   }
 
   /**
-   * Checks if the given UUID already exists in the database.
+   * Genera un nuevo CONTRACT_ID con el generador configurado
+   * (accountmanaging.contract-id.generator).
    *
-   * @param uuid the UUID to check
-   * @param conn the database connection to use for the check
-   * @return true if the UUID exists, false otherwise
+   * @return el nuevo CONTRACT_ID
    */
-  private boolean existsInDatabase(String uuid, Connection conn) {
-    return contractIdentifiersRepository.existsByContractId(uuid, conn);
+  public String generateUniqueContractId() {
+    return contractIdGenerator.nextContractId();
   }
 }
-
@@ -1,6 +1,7 @@
 package com.developing.app.accounts.accountmanaging.service;
 
 import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.Objects;
 import com.java.developing.accounts.util.lib.db.model.repository.ContractIdentifiersRepository;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -9,10 +10,11 @@ import org.springframework.stereotype.Service;
 import com.java.developing.accounts.accountmanaging.model.AccounIdentification;
 import com.java.developing.accounts.accountmanaging.model.genaccidentifiers.request.GenerateAccountIdentifiersPostRequest;
 import com.java.developing.accounts.accountmanaging.model.genaccidentifiers.response.GenerateAccountIdentifiersPostResponse;
-import com.java.developing.accounts.accnumeratorlib.utils.Numeration;
+import com.java.developing.accounts.accountmanaging.repository.ContractIdentifiersPoolRepositoryExt.PooledIdentifier;
 import com.java.developing.accounts.accnumeratorlib.service.AccNumeratorService;
 import com.java.developing.accounts.util.lib.core.utils.UtilprojectData;
 import com.java.developing.accounts.util.lib.db.model.entity.ContractIdentifiersEntity;
+import com.java.developing.accounts.accountmanaging.utils.AccountIdentifierCalculator;
 
 import com.java.developing.accounts.util.lib.db.utils.UtilprojectRepository;
 
@@ -28,6 +30,22 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class accountmanagingService {
 
+  /**
+   * Número máximo de intentos de insert ante colisión de CONTRACT_ID
+   */
+  private static final int MAX_CONTRACT_ID_ATTEMPTS = 3;
+
+  /**
+   * ORA-00001: unique constraint violated
+   */
+  private static final int ORACLE_UNIQUE_CONSTRAINT_ERROR = 1;
+
+  /**
+   * SQLState estándar de violación de clave única (H2 y otros drivers; Oracle usa 23000 para todas las violaciones
+   * de integridad)
+   */
+  private static final String SQLSTATE_UNIQUE_VIOLATION = "23505";
+
   private final ContractIdentifiersRepository contractIdentifiersRepository;
 
   /**
@@ -35,7 +53,10 @@ public class accountmanagingService {
    */
   private final JdbcTemplate jdbcTemplate;
 
-  private final Numeration numeration;
+  /**
+   * Cálculo de BBAN/IBAN
+   */
+  private final AccountIdentifierCalculator accountIdentifierCalculator;
 
   /**
    * uuidService
@@ -47,25 +68,57 @@ public class accountmanagingService {
    */
   private final AccNumeratorService accNumeratorService;
 
+  /**
+   * Asignador de números de cuenta por rangos reservados
+   */
+  private final AccountNumberRangeAllocator accountNumberRangeAllocator;
+
+  /**
+   * Temporizadores por fase
+   */
+  private final GenerateAccountIdentifiersMetrics metrics;
+
+  /**
+   * Respuestas guardadas por Idempotency-Key
+   */
+  private final IdempotencyStore idempotencyStore;
+
+  /**
+   * Inventario de identificadores pregenerados
+   */
+  private final AccountIdentifierInventory accountIdentifierInventory;
+
   /**
    * Constructor de la clase.
    *
    * @param contractIdentifiersRepository      repositorio de la tabla DC_CONTRACT_IDENTIFIERS
    * @param jdbcTemplate                       JdbcTemplate para realizar operaciones de base de datos.
-   * @param numeration                         Numerator para generar identificadores de cuenta.
+   * @param accountIdentifierCalculator        Cálculo de BBAN/IBAN de los identificadores de cuenta.
    * @param uuidService                        Servicio para generar UUIDs únicos.
    * @param accNumeratorService                Servicio para manejar la numeración de cuentas.
+   * @param accountNumberRangeAllocator        Asignador de números de cuenta por rangos reservados.
+   * @param metrics                            Temporizadores por fase de la generación.
+   * @param idempotencyStore                   Respuestas guardadas por Idempotency-Key.
+   * @param accountIdentifierInventory         Inventario de identificadores pregenerados.
    *
    */
   public accountmanagingService(ContractIdentifiersRepository contractIdentifiersRepository,
                               JdbcTemplate jdbcTemplate,
-                              Numeration numeration, UuidService uuidService,
-                              AccNumeratorService accNumeratorService) {
+                              AccountIdentifierCalculator accountIdentifierCalculator, UuidService uuidService,
+                              AccNumeratorService accNumeratorService,
+                              AccountNumberRangeAllocator accountNumberRangeAllocator,
+                              GenerateAccountIdentifiersMetrics metrics,
+                              IdempotencyStore idempotencyStore,
+                              AccountIdentifierInventory accountIdentifierInventory) {
     this.contractIdentifiersRepository = contractIdentifiersRepository;
     this.jdbcTemplate = jdbcTemplate;
-    this.numeration = numeration;
+    this.accountIdentifierCalculator = accountIdentifierCalculator;
     this.uuidService = uuidService;
     this.accNumeratorService = accNumeratorService;
+    this.accountNumberRangeAllocator = accountNumberRangeAllocator;
+    this.metrics = metrics;
+    this.idempotencyStore = idempotencyStore;
+    this.accountIdentifierInventory = accountIdentifierInventory;
   }
 
   /**
@@ -79,57 +132,134 @@ public class accountmanagingService {
    */
   public GenerateAccountIdentifiersPostResponse generateAccountIdentifiers(
       GenerateAccountIdentifiersPostRequest request, String entityHeader, String brandHeader, String preAssigmentContractIndicator) throws Exception {
+    return generateAccountIdentifiers(request, entityHeader, brandHeader, preAssigmentContractIndicator, null);
+  }
+
+  /**
+   * generateInternalIdentification con clave de idempotencia. Si la clave ya se ha usado con la
+   * misma petición se devuelve la respuesta original sin volver a generar identificadores; la
+   * respuesta nueva se guarda en DC_IDEMPOTENCY_KEYS en la misma transacción que el insert en
+   * DC_CONTRACT_IDENTIFIERS.
+   *
+   * @param request        the request
+   * @param entityHeader   entity that travels in the header of the request
+   * @param brandHeader    brand that travels in the header of the request
+   * @param idempotencyKey valor de la cabecera Idempotency-Key, o null si no se informa
+   * @return contractID value retrieved by access DC_CONTRACT_COUNTER TABLE
+   * @throws Exception Exception
+   */
+  public GenerateAccountIdentifiersPostResponse generateAccountIdentifiers(
+      GenerateAccountIdentifiersPostRequest request, String entityHeader, String brandHeader,
+      String preAssigmentContractIndicator, String idempotencyKey) throws Exception {
+
+    String requestHash = null;
+    if (idempotencyKey != null) {
+      requestHash = IdempotencyStore.requestHash(request);
+      long start = metrics.start();
+      GenerateAccountIdentifiersPostResponse stored =
+          idempotencyStore.find(entityHeader, brandHeader, idempotencyKey, requestHash);
+      metrics.record(GenerateAccountIdentifiersMetrics.PHASE_IDEMPOTENCY, entityHeader, brandHeader, start);
+      if (stored != null) {
+        log.info("generateAccountIdentifiers: Idempotency-Key '{}' repetida, se devuelve la respuesta original",
+            idempotencyKey);
+        return stored;
+      }
+    }
 
     Connection conn = null;
     try {
+      // Los contratos preasignados se sirven del inventario pregenerado cuando está activo
+      boolean useInventory = accountIdentifierInventory.isEnabled() && "Y".equals(preAssigmentContractIndicator);
+
+      // Con la reserva por rangos activa, el número se obtiene del rango en memoria antes de
+      // abrir la transacción, de forma que la fila de DC_CONTRACT_COUNTER no queda bloqueada
+      // durante el resto de la petición
+      String accountNumber = null;
+      if (!useInventory && accountNumberRangeAllocator.isEnabled()) {
+        accountNumber = nextAccountNumberFromRange(request, entityHeader, brandHeader);
+      }
+
+      long poolWaitStart = metrics.start();
       conn = Objects.requireNonNull(jdbcTemplate.getDataSource()).getConnection();
+      metrics.record(GenerateAccountIdentifiersMetrics.PHASE_POOL_WAIT, entityHeader, brandHeader, poolWaitStart);
       conn.setAutoCommit(false);
 
-      //Accedemos a la tabla DC_CONTRACT_COUNTER_java por entity y center
-      // Obtenemos el último número de contract_id para la entidad y centro
-      //llamando al servicio de la libreria accnumeratorlib
+      PooledIdentifier pooled = null;
+      if (useInventory) {
+        long start = metrics.start();
+        pooled = accountIdentifierInventory.claim(entityHeader, request.getCenter().getCenterId(), brandHeader, conn);
+        metrics.record(GenerateAccountIdentifiersMetrics.PHASE_INVENTORY, entityHeader, brandHeader, start);
+        if (pooled == null && accountNumberRangeAllocator.isEnabled()) {
+          // Inventario agotado: el rango en memoria sigue evitando el bloqueo del contador
+          accountNumber = nextAccountNumberFromRange(request, entityHeader, brandHeader);
+        }
+      }
 
-      var accountNumber =
-          accNumeratorService.getAccountNumber(
-              request.getCenter().getCenterId(),
-              entityHeader,
-              brandHeader,
-              conn);
+      if (pooled == null && accountNumber == null) {
+        //Accedemos a la tabla DC_CONTRACT_COUNTER_java por entity y center
+        // Obtenemos el último número de contract_id para la entidad y centro
+        //llamando al servicio de la libreria accnumeratorlib
+        long start = metrics.start();
+        accountNumber =
+            accNumeratorService.getAccountNumber(
+                request.getCenter().getCenterId(),
+                entityHeader,
+                brandHeader,
+                conn);
+        metrics.record(GenerateAccountIdentifiersMetrics.PHASE_COUNTER, entityHeader, brandHeader, start);
+      }
 
       // componemos la response
       GenerateAccountIdentifiersPostResponse response = new GenerateAccountIdentifiersPostResponse();
 
-      // 1. Generar UUID único
-      String newUUIDContractId = uuidService.generateUniqueContractId();
-
       AccounIdentification accounIdentification = new AccounIdentification();
 
-      // 2. Setear los valores de la response AccounIdentification
-      accounIdentification.setInternalIdentification(newUUIDContractId);
-
-      accounIdentification.
-          setNationalIdentification(numeration
-              .generateBBAN(entityHeader,
-                  request.getCenter().getCenterId(), accountNumber));
-      accounIdentification.setLegacyIdentification(
-          numeration.generateIBAN(accounIdentification.getNationalIdentification(), "ES"));
-
-      accounIdentification.setInternationalIdentification(
-          numeration.generateIBAN(accounIdentification.getNationalIdentification(), "ES"));
+      // 1. Setear los valores de la response AccounIdentification. El IBAN se calcula una sola vez
+      // y se usa tanto para la identificación legacy como para la internacional. Si el identificador
+      // viene del inventario, BBAN e IBAN ya están calculados
+      if (pooled != null) {
+        accounIdentification.setNationalIdentification(pooled.nationalIdentification());
+        accounIdentification.setLegacyIdentification(pooled.internationalIdentification());
+        accounIdentification.setInternationalIdentification(pooled.internationalIdentification());
+      } else {
+        long ibanStart = metrics.start();
+        accounIdentification.setNationalIdentification(accountIdentifierCalculator
+            .bban(entityHeader, request.getCenter().getCenterId(), accountNumber));
+        String iban = accountIdentifierCalculator.iban(accounIdentification.getNationalIdentification(), "ES");
+        accounIdentification.setLegacyIdentification(iban);
+        accounIdentification.setInternationalIdentification(iban);
+        metrics.record(GenerateAccountIdentifiersMetrics.PHASE_IBAN, entityHeader, brandHeader, ibanStart);
+      }
 
       response.setAccounIdentification(accounIdentification);
 
-      // Crear ContractIdentifiersEntity
-      ContractIdentifiersEntity contractIdentifiersEntity =
-          createContractIdentifiersEntity(entityHeader, brandHeader, newUUIDContractId, accounIdentification, preAssigmentContractIndicator);
+      // 2. Generar UUID (o usar el del inventario) e insertar en la tabla DC_CONTRACT_IDENTIFIERS. La
+      // unicidad del CONTRACT_ID la garantiza la restricción única: si hay colisión se genera otro y se reintenta
+      insertWithNewContractId(conn, entityHeader, brandHeader, accounIdentification, preAssigmentContractIndicator,
+          pooled == null ? null : pooled.contractId());
 
-      // Insertar en la base de datos - tabla DC_CONTRACT_IDENTIFIERS
-      contractIdentifiersRepository
-          .insertContractIdentifiers(contractIdentifiersEntity, conn);
+      // 3. Guardar la respuesta por clave de idempotencia. Si un reintento concurrente con la misma
+      // clave ya la ha confirmado, se deshace lo generado y se devuelve su respuesta
+      if (idempotencyKey != null) {
+        GenerateAccountIdentifiersPostResponse stored =
+            saveIdempotentResponse(conn, entityHeader, brandHeader, idempotencyKey, requestHash, response);
+        if (stored != null) {
+          return stored;
+        }
+      }
 
       // Commit transaction
+      long commitStart = metrics.start();
       UtilprojectRepository.commit(conn);
+      metrics.record(GenerateAccountIdentifiersMetrics.PHASE_COMMIT, entityHeader, brandHeader, commitStart);
 
+      if (useInventory) {
+        // la clave solo se repone a partir de una generación correcta
+        accountIdentifierInventory.generated(entityHeader, request.getCenter().getCenterId(), brandHeader);
+      }
+      if (idempotencyKey != null) {
+        idempotencyStore.remember(entityHeader, brandHeader, idempotencyKey, requestHash, response);
+      }
       return response;
     } catch (Exception e) {
       log.error("generateAccountIdentifiers ERROR {}", e.getMessage());
@@ -140,6 +270,128 @@ public class accountmanagingService {
     }
   }
 
+  /**
+   * Obtiene el número de cuenta del rango reservado en memoria.
+   *
+   * @param request      the request
+   * @param entityHeader La entidad que viaja en el header de la petición.
+   * @param brandHeader  La marca que viaja en el header de la petición.
+   * @return el número de cuenta
+   */
+  private String nextAccountNumberFromRange(GenerateAccountIdentifiersPostRequest request, String entityHeader,
+                                            String brandHeader) {
+    long start = metrics.start();
+    String accountNumber = accountNumberRangeAllocator.nextAccountNumber(
+        request.getCenter().getCenterId(), entityHeader, brandHeader);
+    metrics.record(GenerateAccountIdentifiersMetrics.PHASE_RANGE, entityHeader, brandHeader, start);
+    return accountNumber;
+  }
+
+  /**
+   * Inserta la respuesta en DC_IDEMPOTENCY_KEYS. Si la clave ya existe (otro reintento con la misma
+   * clave ha confirmado antes; Oracle espera a que termine su transacción antes de dar el error) se
+   * deshace la transacción en curso y se devuelve la respuesta ya guardada.
+   *
+   * @param conn           La conexión de la transacción en curso.
+   * @param entityHeader   La entidad que viaja en el header de la petición.
+   * @param brandHeader    La marca que viaja en el header de la petición.
+   * @param idempotencyKey El valor de la cabecera Idempotency-Key.
+   * @param requestHash    El resumen de la petición.
+   * @param response       La respuesta generada en esta petición.
+   * @return la respuesta original si la clave ya existía, o null si se ha guardado la nueva.
+   * @throws SQLException si falla el insert por un motivo distinto a la clave duplicada.
+   */
+  private GenerateAccountIdentifiersPostResponse saveIdempotentResponse(Connection conn, String entityHeader,
+                                                                        String brandHeader, String idempotencyKey,
+                                                                        String requestHash,
+                                                                        GenerateAccountIdentifiersPostResponse response)
+      throws SQLException {
+    long start = metrics.start();
+    try {
+      idempotencyStore.save(entityHeader, brandHeader, idempotencyKey, requestHash, response, conn);
+      return null;
+    } catch (SQLException e) {
+      if (!isDuplicateKey(e)) {
+        throw e;
+      }
+      log.info("generateAccountIdentifiers: Idempotency-Key '{}' guardada por otra petición, se deshace la generación",
+          idempotencyKey);
+      UtilprojectRepository.rollBack(conn);
+      GenerateAccountIdentifiersPostResponse stored =
+          idempotencyStore.load(entityHeader, brandHeader, idempotencyKey, requestHash, conn);
+      if (stored == null) {
+        throw e;
+      }
+      return stored;
+    } finally {
+      metrics.record(GenerateAccountIdentifiersMetrics.PHASE_IDEMPOTENCY, entityHeader, brandHeader, start);
+    }
+  }
+
+  /**
+   * Genera un CONTRACT_ID y realiza el insert en DC_CONTRACT_IDENTIFIERS, reintentando con un
+   * nuevo identificador si el insert falla por clave duplicada. En Oracle el error de restricción
+   * solo deshace la sentencia fallida, por lo que la transacción en curso sigue siendo válida.
+   *
+   * @param conn                          La conexión de la transacción en curso.
+   * @param entityHeader                  La entidad que viaja en el header de la petición.
+   * @param brandHeader                   La marca que viaja en el header de la petición.
+   * @param accounIdentification          La identificación de la cuenta, donde se informa el CONTRACT_ID.
+   * @param preAssigmentContractIndicator Indicador de contrato preasignado.
+   * @param firstContractId               CONTRACT_ID a usar en el primer intento, o null para generarlo.
+   */
+  private void insertWithNewContractId(Connection conn, String entityHeader, String brandHeader,
+                                       AccounIdentification accounIdentification,
+                                       String preAssigmentContractIndicator, String firstContractId) {
+    for (int attempt = 1; ; attempt++) {
+      String newUUIDContractId;
+      if (attempt == 1 && firstContractId != null) {
+        newUUIDContractId = firstContractId;
+      } else {
+        long uuidStart = metrics.start();
+        newUUIDContractId = uuidService.generateUniqueContractId();
+        metrics.record(GenerateAccountIdentifiersMetrics.PHASE_UUID, entityHeader, brandHeader, uuidStart);
+      }
+      accounIdentification.setInternalIdentification(newUUIDContractId);
+
+      // Crear ContractIdentifiersEntity
+      ContractIdentifiersEntity contractIdentifiersEntity =
+          createContractIdentifiersEntity(entityHeader, brandHeader, newUUIDContractId, accounIdentification, preAssigmentContractIndicator);
+      long insertStart = metrics.start();
+      try {
+        contractIdentifiersRepository
+            .insertContractIdentifiers(contractIdentifiersEntity, conn);
+        return;
+      } catch (RuntimeException e) {
+        if (attempt >= MAX_CONTRACT_ID_ATTEMPTS || !isDuplicateKey(e)) {
+          throw e;
+        }
+        log.warn("CONTRACT_ID '{}' duplicado, reintento {} de {}", newUUIDContractId, attempt,
+            MAX_CONTRACT_ID_ATTEMPTS);
+      } finally {
+        metrics.record(GenerateAccountIdentifiersMetrics.PHASE_INSERT, entityHeader, brandHeader, insertStart);
+      }
+    }
+  }
+
+  /**
+   * Indica si la excepción (o alguna de sus causas) es una violación de clave única (ORA-00001 o SQLState 23505).
+   * Las demás violaciones de integridad (NOT NULL, FK, CHECK) no se reintentan.
+   *
+   * @param e la excepción
+   * @return true si se trata de una clave duplicada
+   */
+  static boolean isDuplicateKey(Throwable e) {
+    for (Throwable t = e; t != null; t = t.getCause()) {
+      if (t instanceof SQLException sqlException
+          && (sqlException.getErrorCode() == ORACLE_UNIQUE_CONSTRAINT_ERROR
+          || SQLSTATE_UNIQUE_VIOLATION.equals(sqlException.getSQLState()))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * Crea una entidad ContractIdentifiersEntity con los datos proporcionados.
    *
@@ -149,7 +401,7 @@ public class accountmanagingService {
    * @param accounIdentification La identificación de la cuenta.
    * @return ContractIdentifiersEntity
    */
-  private ContractIdentifiersEntity createContractIdentifiersEntity(String entityHeader, String brandHeader, String newUUIDContractId, AccounIdentification accounIdentification, String preAssigmentContractIndicator) {
+  static ContractIdentifiersEntity createContractIdentifiersEntity(String entityHeader, String brandHeader, String newUUIDContractId, AccounIdentification accounIdentification, String preAssigmentContractIndicator) {
     ContractIdentifiersEntity contractIdentifiersEntity = new ContractIdentifiersEntity();
     contractIdentifiersEntity.setEntity(entityHeader);
     contractIdentifiersEntity.setBrand(brandHeader);
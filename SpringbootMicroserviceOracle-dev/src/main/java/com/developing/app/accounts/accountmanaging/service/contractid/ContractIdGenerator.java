@@ -0,0 +1,16 @@
+package com.developing.app.accounts.accountmanaging.service.contractid;
+
+/**
+ * Generador de identificadores internos de contrato (CONTRACT_ID).
+ * La unicidad final la garantiza la restricción única de DC_CONTRACT_IDENTIFIERS en el insert;
+ * las implementaciones no deben acceder a base de datos.
+ */
+public interface ContractIdGenerator {
+
+  /**
+   * Genera un nuevo identificador de contrato.
+   *
+   * @return identificador en formato UUID canónico (36 caracteres)
+   */
+  String nextContractId();
+}
@@ -0,0 +1,20 @@
+package com.developing.app.accounts.accountmanaging.service.contractid;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Generador de CONTRACT_ID basado en UUID versión 4 (aleatorio).
+ * Se mantiene para poder volver al comportamiento anterior por configuración.
+ */
+@Component
+@ConditionalOnProperty(name = "accountmanaging.contract-id.generator", havingValue = "random")
+public class RandomContractIdGenerator implements ContractIdGenerator {
+
+  @Override
+  public String nextContractId() {
+    return UUID.randomUUID().toString();
+  }
+}
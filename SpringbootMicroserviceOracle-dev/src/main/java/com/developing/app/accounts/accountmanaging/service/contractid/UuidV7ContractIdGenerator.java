@@ -0,0 +1,80 @@
+package com.developing.app.accounts.accountmanaging.service.contractid;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+/**
+ * Generador de CONTRACT_ID basado en UUID versión 7 (RFC 9562).
+ * Los 48 bits altos son el instante Unix en milisegundos y los 12 bits de rand_a se usan como
+ * contador monotónico dentro del mismo milisegundo, por lo que los identificadores generados por
+ * una instancia son estrictamente crecientes y se insertan de forma ordenada en el índice.
+ * Los 62 bits de rand_b son aleatorios.
+ */
+@Component
+@ConditionalOnProperty(name = "accountmanaging.contract-id.generator", havingValue = "uuidv7", matchIfMissing = true)
+public class UuidV7ContractIdGenerator implements ContractIdGenerator {
+
+  private static final int COUNTER_BITS = 12;
+  private static final long COUNTER_MAX = (1L << COUNTER_BITS) - 1;
+
+  private final SecureRandom random = new SecureRandom();
+  private final LongSupplier clock;
+
+  private long lastMillis = -1;
+  private long counter;
+
+  /**
+   * Constructor de la clase.
+   */
+  public UuidV7ContractIdGenerator() {
+    this(System::currentTimeMillis);
+  }
+
+  /**
+   * Constructor con reloj configurable.
+   *
+   * @param clock proveedor de milisegundos Unix
+   */
+  UuidV7ContractIdGenerator(LongSupplier clock) {
+    this.clock = clock;
+  }
+
+  @Override
+  public String nextContractId() {
+    return next().toString();
+  }
+
+  /**
+   * Genera el siguiente UUID versión 7.
+   *
+   * @return UUID generado
+   */
+  UUID next() {
+    long millis;
+    long seq;
+    synchronized (this) {
+      millis = Math.max(clock.getAsLong(), lastMillis);
+      if (millis == lastMillis) {
+        if (counter == COUNTER_MAX) {
+          // contador agotado en este milisegundo: se avanza el instante lógico
+          millis++;
+          counter = 0;
+        } else {
+          counter++;
+        }
+      } else {
+        counter = 0;
+      }
+      lastMillis = millis;
+      seq = counter;
+    }
+
+    long msb = (millis << 16) | 0x7000L | seq;
+    long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+    return new UUID(msb, lsb);
+  }
+}
@@ -0,0 +1,146 @@
+package com.developing.app.accounts.accountmanaging.utils;
+
+import com.java.developing.accounts.util.lib.core.exceptions.BadRequestplsqlExceptionproject;
+import com.java.developing.accounts.util.lib.core.exceptions.InternalServerErrorplsqlExceptionproject;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cálculo de identificadores de cuenta nacionales (CCC/BBAN) e internacionales (IBAN).
+ * Los dígitos de control se calculan con aritmética de char/int sobre un único char[] por valor,
+ * sin BigInteger, expresiones regulares ni concatenaciones intermedias.
+ * <ul>
+ *   <li>BBAN: EEEE OOOO DD NNNNNNNNNN, dígitos de control del CCC con pesos 1,2,4,8,5,10,9,7,3,6.</li>
+ *   <li>IBAN: país + dígitos de control ISO 13616 (98 - mod 97) + BBAN.</li>
+ * </ul>
+ */
+@Component
+public class AccountIdentifierCalculator {
+
+  /**
+   * Longitud de la entidad y del centro dentro del BBAN.
+   */
+  static final int ENTITY_LENGTH = 4;
+
+  /**
+   * Longitud del número de cuenta dentro del BBAN.
+   */
+  static final int ACCOUNT_NUMBER_LENGTH = 10;
+
+  /**
+   * Longitud del BBAN español.
+   */
+  static final int BBAN_LENGTH = 20;
+
+  private static final String TECHNICAL_ERROR = "DC-COMMON-T-9999";
+
+  private static final int[] CCC_WEIGHTS = {1, 2, 4, 8, 5, 10, 9, 7, 3, 6};
+
+  /**
+   * Calcula el BBAN (CCC) a partir de entidad, centro y número de cuenta.
+   * El centro y el número de cuenta se completan con ceros a la izquierda.
+   *
+   * @param entity        entidad (4 dígitos)
+   * @param center        centro (hasta 4 dígitos)
+   * @param accountNumber número de cuenta (hasta 10 dígitos)
+   * @return el BBAN de 20 dígitos
+   */
+  public String bban(String entity, String center, String accountNumber) {
+    char[] bban = new char[BBAN_LENGTH];
+    if (!copyDigits(entity, ENTITY_LENGTH, bban, 0)) {
+      throw new BadRequestplsqlExceptionproject("CONTRACT-MANAGEMENT-F-0012");
+    }
+    if (!copyDigits(center, ENTITY_LENGTH, bban, 4)) {
+      throw new BadRequestplsqlExceptionproject("CONTRACT-MANAGEMENT-F-0007");
+    }
+    if (!copyDigits(accountNumber, ACCOUNT_NUMBER_LENGTH, bban, 10)) {
+      throw new InternalServerErrorplsqlExceptionproject(TECHNICAL_ERROR, "INVALID_ACCOUNT_NUMBER");
+    }
+
+    // primer dígito: "00" + entidad + centro, segundo dígito: número de cuenta
+    int sum = 0;
+    for (int i = 0; i < 8; i++) {
+      sum += (bban[i] - '0') * CCC_WEIGHTS[i + 2];
+    }
+    bban[8] = controlDigit(sum);
+    sum = 0;
+    for (int i = 0; i < ACCOUNT_NUMBER_LENGTH; i++) {
+      sum += (bban[10 + i] - '0') * CCC_WEIGHTS[i];
+    }
+    bban[9] = controlDigit(sum);
+    return new String(bban);
+  }
+
+  /**
+   * Calcula el IBAN a partir de un BBAN y el código de país.
+   *
+   * @param bban        BBAN alfanumérico
+   * @param countryCode código de país ISO 3166 (2 letras)
+   * @return el IBAN sin espacios
+   */
+  public String iban(String bban, String countryCode) {
+    int length = bban.length();
+    char[] iban = new char[length + 4];
+    iban[0] = Character.toUpperCase(countryCode.charAt(0));
+    iban[1] = Character.toUpperCase(countryCode.charAt(1));
+
+    // mod 97 de BBAN + país + "00", procesando los caracteres sin construir la cadena numérica
+    int remainder = 0;
+    for (int i = 0; i < length; i++) {
+      char c = bban.charAt(i);
+      iban[i + 4] = c;
+      remainder = mod97(remainder, c);
+    }
+    remainder = mod97(remainder, iban[0]);
+    remainder = mod97(remainder, iban[1]);
+    remainder = (remainder * 100) % 97;
+
+    int check = 98 - remainder;
+    iban[2] = (char) ('0' + check / 10);
+    iban[3] = (char) ('0' + check % 10);
+    return new String(iban);
+  }
+
+  private static int mod97(int remainder, char c) {
+    if (c >= '0' && c <= '9') {
+      return (remainder * 10 + (c - '0')) % 97;
+    }
+    int value;
+    if (c >= 'A' && c <= 'Z') {
+      value = c - 'A' + 10;
+    } else if (c >= 'a' && c <= 'z') {
+      value = c - 'a' + 10;
+    } else {
+      throw new InternalServerErrorplsqlExceptionproject(TECHNICAL_ERROR, "INVALID_BBAN");
+    }
+    return (remainder * 100 + value) % 97;
+  }
+
+  private static char controlDigit(int sum) {
+    int digit = 11 - sum % 11;
+    if (digit == 11) {
+      return '0';
+    }
+    if (digit == 10) {
+      return '1';
+    }
+    return (char) ('0' + digit);
+  }
+
+  private static boolean copyDigits(String value, int length, char[] target, int offset) {
+    if (value == null || value.isEmpty() || value.length() > length) {
+      return false;
+    }
+    int pad = length - value.length();
+    for (int i = 0; i < pad; i++) {
+      target[offset + i] = '0';
+    }
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c < '0' || c > '9') {
+        return false;
+      }
+      target[offset + pad + i] = c;
+    }
+    return true;
+  }
+}
@@ -0,0 +1,113 @@
+package com.developing.app.accounts.accountmanaging.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Cola circular acotada y sin bloqueos para varios productores y consumidores.
+ * Cada posición lleva un número de secuencia que indica si está libre para el productor de la
+ * vuelta actual o lista para el consumidor; productores y consumidores solo compiten con un
+ * compareAndSet sobre su contador, nunca con un lock. Si la cola está llena, offer devuelve false
+ * en lugar de esperar.
+ *
+ * @param <E> tipo de los elementos
+ */
+public final class BoundedRingBuffer<E> {
+
+  private final int mask;
+  private final AtomicReferenceArray<E> elements;
+  private final AtomicLongArray sequences;
+  private final AtomicLong enqueuePosition = new AtomicLong();
+  private final AtomicLong dequeuePosition = new AtomicLong();
+
+  /**
+   * Constructor de la clase.
+   *
+   * @param capacity capacidad mínima; se redondea a la siguiente potencia de dos
+   */
+  public BoundedRingBuffer(int capacity) {
+    int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+    this.mask = size - 1;
+    this.elements = new AtomicReferenceArray<>(size);
+    this.sequences = new AtomicLongArray(size);
+    for (int i = 0; i < size; i++) {
+      sequences.set(i, i);
+    }
+  }
+
+  /**
+   * Añade un elemento si hay hueco.
+   *
+   * @param element el elemento, no null
+   * @return true si se ha añadido, false si la cola está llena
+   */
+  public boolean offer(E element) {
+    long position = enqueuePosition.get();
+    int index;
+    while (true) {
+      index = (int) (position & mask);
+      long difference = sequences.get(index) - position;
+      if (difference == 0) {
+        if (enqueuePosition.compareAndSet(position, position + 1)) {
+          break;
+        }
+        position = enqueuePosition.get();
+      } else if (difference < 0) {
+        return false;
+      } else {
+        position = enqueuePosition.get();
+      }
+    }
+    elements.set(index, element);
+    sequences.set(index, position + 1);
+    return true;
+  }
+
+  /**
+   * Extrae el elemento más antiguo.
+   *
+   * @return el elemento, o null si la cola está vacía
+   */
+  public E poll() {
+    long position = dequeuePosition.get();
+    int index;
+    while (true) {
+      index = (int) (position & mask);
+      long difference = sequences.get(index) - (position + 1);
+      if (difference == 0) {
+        if (dequeuePosition.compareAndSet(position, position + 1)) {
+          break;
+        }
+        position = dequeuePosition.get();
+      } else if (difference < 0) {
+        return null;
+      } else {
+        position = dequeuePosition.get();
+      }
+    }
+    E element = elements.get(index);
+    elements.set(index, null);
+    sequences.set(index, position + mask + 1);
+    return element;
+  }
+
+  /**
+   * Número aproximado de elementos en la cola.
+   *
+   * @return el número de elementos
+   */
+  public int size() {
+    long size = enqueuePosition.get() - dequeuePosition.get();
+    return (int) Math.max(0, Math.min(size, capacity()));
+  }
+
+  /**
+   * Capacidad real de la cola.
+   *
+   * @return la capacidad
+   */
+  public int capacity() {
+    return mask + 1;
+  }
+}
@@ -0,0 +1,267 @@
+package com.developing.app.accounts.accountmanaging.web;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.java.developing.accounts.accountmanaging.utils.BoundedRingBuffer;
+import com.java.developing.accounts.util.lib.core.funtionallog.FuntionalLogUtil;
+import com.java.plsql.core.exceptions.HttpBaseplsqlException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Traza funcional del Controller, con las mismas operaciones que FuntionalLogUtil.
+ * En modo asíncrono la petición solo encola un evento (petición, resultado y copia del MDC) en una
+ * cola circular acotada sin bloqueos; un hilo en segundo plano la vacía por lotes y reproduce las
+ * llamadas a FuntionalLogUtil con el MDC original, de forma que la escritura en Kafka no forma parte
+ * de la latencia de la petición. Con la cola llena el evento se descarta (DROP) o se espera como
+ * máximo block-timeout-ms (BLOCK) antes de descartarlo.
+ * En modo síncrono (por defecto) las llamadas se delegan directamente en FuntionalLogUtil.
+ */
+@Component
+@Slf4j
+public class AsyncFuntionalLog {
+
+  /**
+   * Eventos pendientes en la cola
+   */
+  static final String QUEUE_DEPTH_METRIC = "accountmanaging.functional-log.queue.depth";
+
+  /**
+   * Eventos descartados por cola llena
+   */
+  static final String DROPPED_METRIC = "accountmanaging.functional-log.dropped";
+
+  /**
+   * Eventos cuya reproducción en FuntionalLogUtil ha fallado
+   */
+  static final String FAILED_METRIC = "accountmanaging.functional-log.failed";
+
+  private static final long STOP_TIMEOUT_MILLIS = 5000;
+
+  /**
+   * Política con la cola llena.
+   */
+  public enum OverflowPolicy {
+    /**
+     * Se descarta el evento sin esperar
+     */
+    DROP,
+    /**
+     * Se espera hasta block-timeout-ms y, si sigue llena, se descarta
+     */
+    BLOCK
+  }
+
+  private enum Outcome { OK, FUNCTIONAL_ERROR, INTERNAL_ERROR }
+
+  private final FuntionalLogUtil funtionalLogUtil;
+  private final boolean async;
+  private final OverflowPolicy overflowPolicy;
+  private final long blockTimeoutNanos;
+  private final int batchSize;
+  private final long idleWaitNanos;
+  private final BoundedRingBuffer<FuntionalLogEvent> buffer;
+  private final Counter dropped;
+  private final Counter failed;
+
+  /**
+   * Petición pendiente de trazar en el hilo de la petición, hasta la llamada final
+   */
+  private final ThreadLocal<Object> pendingRequest = new ThreadLocal<>();
+
+  private volatile boolean running;
+  private Thread drainer;
+
+  /**
+   * Constructor de la clase.
+   *
+   * @param funtionalLogUtil traza funcional de la librería
+   * @param meterRegistry    registro de métricas de la aplicación
+   * @param async            activa el modo asíncrono
+   * @param capacity         número máximo de eventos en cola (se redondea a potencia de dos)
+   * @param overflowPolicy   política con la cola llena
+   * @param blockTimeoutMs   espera máxima con la política BLOCK
+   * @param batchSize        eventos reproducidos por lote
+   * @param idleWaitMs       espera del hilo de fondo cuando la cola está vacía
+   */
+  public AsyncFuntionalLog(FuntionalLogUtil funtionalLogUtil, MeterRegistry meterRegistry,
+                           @Value("${accountmanaging.functional-log.async.enabled:false}") boolean async,
+                           @Value("${accountmanaging.functional-log.async.capacity:8192}") int capacity,
+                           @Value("${accountmanaging.functional-log.async.overflow-policy:DROP}")
+                           OverflowPolicy overflowPolicy,
+                           @Value("${accountmanaging.functional-log.async.block-timeout-ms:5}") long blockTimeoutMs,
+                           @Value("${accountmanaging.functional-log.async.batch-size:256}") int batchSize,
+                           @Value("${accountmanaging.functional-log.async.idle-wait-ms:5}") long idleWaitMs) {
+    this.funtionalLogUtil = funtionalLogUtil;
+    this.async = async;
+    this.overflowPolicy = overflowPolicy;
+    this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, blockTimeoutMs));
+    this.batchSize = Math.max(1, batchSize);
+    this.idleWaitNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, idleWaitMs));
+    this.buffer = new BoundedRingBuffer<>(capacity);
+    this.dropped = Counter.builder(DROPPED_METRIC).register(meterRegistry);
+    this.failed = Counter.builder(FAILED_METRIC).register(meterRegistry);
+    Gauge.builder(QUEUE_DEPTH_METRIC, buffer, BoundedRingBuffer::size).register(meterRegistry);
+  }
+
+  /**
+   * Arranca el hilo que vacía la cola en modo asíncrono.
+   */
+  @PostConstruct
+  public void start() {
+    if (!async) {
+      return;
+    }
+    running = true;
+    drainer = new Thread(this::drainLoop, "funtional-log-drainer");
+    drainer.setDaemon(true);
+    drainer.start();
+  }
+
+  /**
+   * Detiene el hilo de fondo después de reproducir los eventos pendientes.
+   */
+  @PreDestroy
+  public void stop() {
+    running = false;
+    if (drainer != null) {
+      LockSupport.unpark(drainer);
+      try {
+        drainer.join(STOP_TIMEOUT_MILLIS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * Equivalente a FuntionalLogUtil.setRequest.
+   *
+   * @param request la petición recibida
+   */
+  public void setRequest(Object request) {
+    if (async) {
+      pendingRequest.set(request);
+    } else {
+      funtionalLogUtil.setRequest(request);
+    }
+  }
+
+  /**
+   * Equivalente a FuntionalLogUtil.logTraceOK.
+   */
+  public void logTraceOK() {
+    if (async) {
+      enqueue(Outcome.OK, null);
+    } else {
+      funtionalLogUtil.logTraceOK();
+    }
+  }
+
+  /**
+   * Equivalente a FuntionalLogUtil.logTraceFuntionalError.
+   *
+   * @param e el error funcional
+   */
+  public void logTraceFuntionalError(HttpBaseplsqlException e) {
+    if (async) {
+      enqueue(Outcome.FUNCTIONAL_ERROR, e);
+    } else {
+      funtionalLogUtil.logTraceFuntionalError(e);
+    }
+  }
+
+  /**
+   * Equivalente a FuntionalLogUtil.logTraceInternalError.
+   *
+   * @param e el error técnico
+   */
+  public void logTraceInternalError(Exception e) {
+    if (async) {
+      enqueue(Outcome.INTERNAL_ERROR, e);
+    } else {
+      funtionalLogUtil.logTraceInternalError(e);
+    }
+  }
+
+  /**
+   * Reproduce los eventos pendientes, como máximo un lote.
+   *
+   * @return el número de eventos reproducidos
+   */
+  int drain() {
+    int drained = 0;
+    FuntionalLogEvent event;
+    while (drained < batchSize && (event = buffer.poll()) != null) {
+      replay(event);
+      drained++;
+    }
+    return drained;
+  }
+
+  private void enqueue(Outcome outcome, Exception error) {
+    Object request = pendingRequest.get();
+    pendingRequest.remove();
+    FuntionalLogEvent event = new FuntionalLogEvent(request, outcome, error, MDC.getCopyOfContextMap());
+    if (buffer.offer(event)) {
+      return;
+    }
+    if (overflowPolicy == OverflowPolicy.BLOCK) {
+      long deadline = System.nanoTime() + blockTimeoutNanos;
+      while (System.nanoTime() < deadline) {
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+        if (buffer.offer(event)) {
+          return;
+        }
+      }
+    }
+    dropped.increment();
+  }
+
+  private void drainLoop() {
+    while (running) {
+      if (drain() == 0) {
+        LockSupport.parkNanos(this, idleWaitNanos);
+      }
+    }
+    // se vacía lo pendiente antes de terminar
+    int drained;
+    do {
+      drained = drain();
+    } while (drained > 0);
+  }
+
+  private void replay(FuntionalLogEvent event) {
+    try {
+      if (event.mdc() != null) {
+        MDC.setContextMap(event.mdc());
+      }
+      // siempre, también con null: el hilo que vacía la cola conserva la petición del evento anterior
+      funtionalLogUtil.setRequest(event.request());
+      switch (event.outcome()) {
+        case OK -> funtionalLogUtil.logTraceOK();
+        case FUNCTIONAL_ERROR -> funtionalLogUtil.logTraceFuntionalError((HttpBaseplsqlException) event.error());
+        case INTERNAL_ERROR -> funtionalLogUtil.logTraceInternalError(event.error());
+      }
+    } catch (RuntimeException e) {
+      failed.increment();
+      log.warn("Error al escribir la traza funcional: {}", e.getMessage());
+    } finally {
+      MDC.clear();
+    }
+  }
+
+  private record FuntionalLogEvent(Object request, Outcome outcome, Exception error, Map<String, String> mdc) {
+  }
+}
@@ -14,12 +14,15 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.java.plsql.core.exceptions.HttpBaseplsqlException;
+import com.java.developing.accounts.accountmanaging.model.genaccidentifiers.request.GenerateAccountIdentifiersBulkPostRequest;
 import com.java.developing.accounts.accountmanaging.model.genaccidentifiers.request.GenerateAccountIdentifiersPostRequest;
+import com.java.developing.accounts.accountmanaging.model.genaccidentifiers.response.GenerateAccountIdentifiersBulkPostResponse;
 import com.java.developing.accounts.accountmanaging.model.genaccidentifiers.response.GenerateAccountIdentifiersPostResponse;
+import com.java.developing.accounts.accountmanaging.service.AccountIdentifiersBulkService;
 import com.java.developing.accounts.accountmanaging.service.accountmanagingService;
+import com.java.developing.accounts.accountmanaging.web.info.GenerateAccountsIdentifiersBulkPostDoc;
 import com.java.developing.accounts.accountmanaging.web.info.GenerateAccountsIdentifiersPostDoc;
 import com.java.developing.accounts.util.lib.core.exceptions.InternalServerErrorplsqlExceptionproject;
-import com.java.developing.accounts.util.lib.core.funtionallog.FuntionalLogUtil;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -33,18 +36,27 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class Controller {
 
-  private final FuntionalLogUtil funtionalLogUtil;
+  /**
+   * Longitud máxima de la cabecera Idempotency-Key (columna IDEMPOTENCY_KEY de DC_IDEMPOTENCY_KEYS)
+   */
+  private static final int IDEMPOTENCY_KEY_MAX_LENGTH = 64;
+
+  private final AsyncFuntionalLog funtionalLogUtil;
   private final accountmanagingService accountmanagingService;
+  private final AccountIdentifiersBulkService accountIdentifiersBulkService;
 
   /**
    * Controller
    *
-   * @param funtionalLogUtil     funtionalLogUtil
+   * @param funtionalLogUtil     traza funcional, síncrona o asíncrona según configuración
    * @param accountmanagingService generateAccountIdentifiersService
+   * @param accountIdentifiersBulkService generateAccountIdentifiersBulkService
    */
-  public Controller(FuntionalLogUtil funtionalLogUtil, accountmanagingService accountmanagingService) {
+  public Controller(AsyncFuntionalLog funtionalLogUtil, accountmanagingService accountmanagingService,
+                    AccountIdentifiersBulkService accountIdentifiersBulkService) {
     this.funtionalLogUtil = funtionalLogUtil;
     this.accountmanagingService = accountmanagingService;
+    this.accountIdentifiersBulkService = accountIdentifiersBulkService;
   }
 
   /**
@@ -64,7 +76,11 @@ public class Controller {
    * This method is used to generate account identifiers based on the
    * request provided.
    *
+   * Si se informa la cabecera Idempotency-Key, los reintentos con la misma clave y la misma
+   * petición devuelven la respuesta original sin generar nuevos identificadores.
+   *
    * @param request the request containing the necessary data to generate account identifiers
+   * @param idempotencyKey optional key that identifies the request among its retries
    * @return response
    */
 
@@ -75,11 +91,13 @@ public class Controller {
   public GenerateAccountIdentifiersPostResponse generateAccountsIdentifiersPost(
       @RequestBody GenerateAccountIdentifiersPostRequest request,
       @RequestHeader(value = "entityHeader") String entityHeader,
-      @RequestHeader(value = "brandHeader") String brandHeader) {
+      @RequestHeader(value = "brandHeader") String brandHeader,
+      @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
 
     try {
       // Validar que los headers no sean nulos ni vacíos
       validateHeaders(entityHeader, brandHeader);
+      validateIdempotencyKey(idempotencyKey);
 
       // Validamos la entrada
       request.validate();
@@ -89,7 +107,7 @@ public class Controller {
 
       var preAssigmentContractIndicator = "Y";
       // llamamos al servicio para recuperar el identificador interno
-      GenerateAccountIdentifiersPostResponse response = accountmanagingService.generateAccountIdentifiers(request, entityHeader, brandHeader, preAssigmentContractIndicator);
+      GenerateAccountIdentifiersPostResponse response = accountmanagingService.generateAccountIdentifiers(request, entityHeader, brandHeader, preAssigmentContractIndicator, idempotencyKey);
 
       // dejamos traza de salida
       funtionalLogUtil.logTraceOK();
@@ -105,6 +123,48 @@ public class Controller {
 
   }
 
+  /**
+   * Method to control the "/generate_account_identifiers/bulk" endpoint that, when
+   * receives a list of requests, will return the Account Identifiers of each one using POST.
+   * The result is returned per item: items that fail do not prevent the creation of the rest.
+   *
+   * @param request the request containing the list of items to generate account identifiers
+   * @return response
+   */
+  @ResponseStatus(HttpStatus.OK)
+  @ResponseBody
+  @GenerateAccountsIdentifiersBulkPostDoc
+  @PostMapping(path = "generate_account_identifiers/bulk")
+  public GenerateAccountIdentifiersBulkPostResponse generateAccountsIdentifiersBulkPost(
+      @RequestBody GenerateAccountIdentifiersBulkPostRequest request,
+      @RequestHeader(value = "entityHeader") String entityHeader,
+      @RequestHeader(value = "brandHeader") String brandHeader) {
+
+    try {
+      // Validar que los headers no sean nulos ni vacíos
+      validateHeaders(entityHeader, brandHeader);
+
+      // Inicializamos el log
+      funtionalLogUtil.setRequest(request);
+
+      var preAssigmentContractIndicator = "Y";
+      // llamamos al servicio para generar los identificadores de todos los elementos
+      GenerateAccountIdentifiersBulkPostResponse response = accountIdentifiersBulkService
+          .generateAccountIdentifiersBulk(request, entityHeader, brandHeader, preAssigmentContractIndicator);
+
+      // dejamos traza de salida
+      funtionalLogUtil.logTraceOK();
+
+      return response;
+    } catch (HttpBaseplsqlException e) {
+      funtionalLogUtil.logTraceFuntionalError(e);
+      throw e;
+    } catch (Exception e) {
+      funtionalLogUtil.logTraceInternalError(e);
+      throw new InternalServerErrorplsqlExceptionproject("DC-COMMON-T-9999", "", e);
+    }
+  }
+
   private void validateHeaders(String entityHeader, String brandHeader) {
     if (entityHeader == null || entityHeader.isEmpty()) {
       throw new BadRequestplsqlExceptionproject("CONTRACT-MANAGEMENT-F-0009");
@@ -119,4 +179,11 @@ public class Controller {
     }
   }
 
+  private void validateIdempotencyKey(String idempotencyKey) {
+    if (idempotencyKey != null
+        && (idempotencyKey.isBlank() || idempotencyKey.length() > IDEMPOTENCY_KEY_MAX_LENGTH)) {
+      throw new BadRequestplsqlExceptionproject("CONTRACT-MANAGEMENT-F-0015");
+    }
+  }
+
 }
@@ -0,0 +1,51 @@
+package com.developing.app.accounts.accountmanaging.web.info;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.java.developing.accounts.accountmanaging.model.genaccidentifiers.response.GenerateAccountIdentifiersBulkPostResponse;
+import com.java.developing.accounts.util.lib.core.error.custom.CustomatomErrorModel;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+/**
+ * GenerateAccountsIdentifiersBulkPostDoc
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Operation( 
+		description = 
+		"""
+		Generates account identifiers for a list of accounts in a single request.
+
+		Each item of the list must provide the bank centre and product, as in the single generation operation.
+
+		The response includes the result of every item, in request order. Items that fail do not prevent the
+		creation of the remaining ones.
+			
+		""",
+			
+		summary = "Generates account identifiers in bulk", 
+		
+		tags = { "" })
+@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "OK", content = @Content(schema = @Schema(implementation = GenerateAccountIdentifiersBulkPostResponse.class))),
+		@ApiResponse(responseCode = "400", description = "Bad request", content = @Content(schema = @Schema(implementation = CustomatomErrorModel.class))),
+		@ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(implementation = CustomatomErrorModel.class))),
+		@ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(schema = @Schema(implementation = CustomatomErrorModel.class))),
+		@ApiResponse(responseCode = "404", description = "Not Found", content = @Content(schema = @Schema(implementation = CustomatomErrorModel.class))),
+		@ApiResponse(responseCode = "415", description = "Unsupported Media Type",content = @Content(schema = @Schema(implementation = CustomatomErrorModel.class))),
+		@ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(schema = @Schema(implementation = CustomatomErrorModel.class))),
+		@ApiResponse(responseCode = "503", description = "Service Unavailable", content = @Content(schema = @Schema(implementation = CustomatomErrorModel.class))),
+		@ApiResponse(responseCode = "504", description = "Gateway Timeout", content = @Content(schema = @Schema(implementation = CustomatomErrorModel.class)))
+
+})
+public @interface GenerateAccountsIdentifiersBulkPostDoc {
+	
+}
@@ -27,6 +27,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 		The bank centre and product must be provided in the request body.
 
 		The response includes the created account identifiers.
+
+		The optional 'Idempotency-Key' header (up to 64 characters) makes retries safe: a request repeated with the same key and body returns the original account identifiers, with no new identifiers generated. Reusing a key with a different body is rejected with 400.
 			
 		""",
 			
@@ -0,0 +1,23 @@
+-- Variante H2 (MODE=Oracle) de db/migration/oracle, para el perfil local-h2 y los tests
+CREATE TABLE DC_CONTRACT_COUNTER (
+    ENTITY                 VARCHAR2(4)  NOT NULL,
+    CENTER                 VARCHAR2(4)  NOT NULL,
+    BRAND                  VARCHAR2(50) NOT NULL,
+    CONTRACT_ID            VARCHAR2(20) NOT NULL,
+    LAST_UPDATER_USER      VARCHAR2(50),
+    LAST_UPDATER_DATE_TIME TIMESTAMP,
+    CONSTRAINT PK_DC_CONTRACT_COUNTER PRIMARY KEY (ENTITY, CENTER, BRAND)
+);
+
+CREATE TABLE DC_CONTRACT_IDENTIFIERS (
+    ENTITY                       VARCHAR2(4)  NOT NULL,
+    BRAND                        VARCHAR2(50) NOT NULL,
+    CONTRACT_ID                  VARCHAR2(36) NOT NULL,
+    STATUS                       VARCHAR2(2),
+    LEGACY_IDENTIFICATION        VARCHAR2(34),
+    NATIONAL_IDENTIFICATION      VARCHAR2(34),
+    INTERNATIONAL_IDENTIFICATION VARCHAR2(34),
+    LAST_UPDATER_USER            VARCHAR2(50),
+    LAST_UPDATER_DATE_TIME       TIMESTAMP,
+    CONSTRAINT PK_DC_CONTRACT_IDENTIFIERS PRIMARY KEY (CONTRACT_ID)
+);
@@ -0,0 +1,25 @@
+-- Variante H2 (MODE=Oracle) de db/migration/oracle; IF NOT EXISTS en lugar de ignorar ORA-00955/ORA-01408
+CREATE TABLE IF NOT EXISTS DC_IDEMPOTENCY_KEYS (
+    ENTITY                 VARCHAR2(4)    NOT NULL,
+    BRAND                  VARCHAR2(50)   NOT NULL,
+    IDEMPOTENCY_KEY        VARCHAR2(64)   NOT NULL,
+    REQUEST_HASH           VARCHAR2(64)   NOT NULL,
+    RESPONSE               VARCHAR2(4000) NOT NULL,
+    LAST_UPDATER_USER      VARCHAR2(50),
+    LAST_UPDATER_DATE_TIME TIMESTAMP,
+    CONSTRAINT PK_DC_IDEMPOTENCY_KEYS PRIMARY KEY (ENTITY, BRAND, IDEMPOTENCY_KEY)
+);
+
+CREATE TABLE IF NOT EXISTS DC_CONTRACT_IDENTIFIERS_POOL (
+    ENTITY                       VARCHAR2(4)  NOT NULL,
+    CENTER                       VARCHAR2(4)  NOT NULL,
+    BRAND                        VARCHAR2(50) NOT NULL,
+    CONTRACT_ID                  VARCHAR2(36) NOT NULL,
+    NATIONAL_IDENTIFICATION      VARCHAR2(34),
+    INTERNATIONAL_IDENTIFICATION VARCHAR2(34),
+    LAST_UPDATER_USER            VARCHAR2(50),
+    LAST_UPDATER_DATE_TIME       TIMESTAMP,
+    CONSTRAINT PK_DC_CONTRACT_IDENTIFIERS_POOL PRIMARY KEY (CONTRACT_ID)
+);
+
+CREATE INDEX IF NOT EXISTS IX_DC_CONTRACT_IDENTIFIERS_POOL_KEY ON DC_CONTRACT_IDENTIFIERS_POOL (ENTITY, CENTER, BRAND);
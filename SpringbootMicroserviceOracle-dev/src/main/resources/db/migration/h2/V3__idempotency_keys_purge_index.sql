@@ -0,0 +1,2 @@
+-- Variante H2 (MODE=Oracle) de db/migration/oracle
+CREATE INDEX IX_DC_IDEMPOTENCY_KEYS_LUPD ON DC_IDEMPOTENCY_KEYS (LAST_UPDATER_DATE_TIME);
@@ -0,0 +1,27 @@
+-- Contadores de numeración e identificadores de contrato. En los esquemas donde ya existen, Flyway los toma como
+-- línea base (spring.flyway.baseline-on-migrate) y esta migración no se ejecuta.
+CREATE TABLE DC_CONTRACT_COUNTER (
+    ENTITY                 VARCHAR2(4)  NOT NULL,
+    CENTER                 VARCHAR2(4)  NOT NULL,
+    BRAND                  VARCHAR2(50) NOT NULL,
+    CONTRACT_ID            VARCHAR2(20) NOT NULL,
+    LAST_UPDATER_USER      VARCHAR2(50),
+    LAST_UPDATER_DATE_TIME TIMESTAMP,
+    CONSTRAINT PK_DC_CONTRACT_COUNTER PRIMARY KEY (ENTITY, CENTER, BRAND)
+);
+
+-- ${contract-identifiers-partitioning} (spring.flyway.placeholders) permite crear la tabla particionada por entidad,
+-- p. ej. PARTITION BY LIST (ENTITY) AUTOMATIC (PARTITION P_0049 VALUES ('0049')). La clave primaria queda como
+-- índice global, porque existsByContractId busca solo por CONTRACT_ID.
+CREATE TABLE DC_CONTRACT_IDENTIFIERS (
+    ENTITY                       VARCHAR2(4)  NOT NULL,
+    BRAND                        VARCHAR2(50) NOT NULL,
+    CONTRACT_ID                  VARCHAR2(36) NOT NULL,
+    STATUS                       VARCHAR2(2),
+    LEGACY_IDENTIFICATION        VARCHAR2(34),
+    NATIONAL_IDENTIFICATION      VARCHAR2(34),
+    INTERNATIONAL_IDENTIFICATION VARCHAR2(34),
+    LAST_UPDATER_USER            VARCHAR2(50),
+    LAST_UPDATER_DATE_TIME       TIMESTAMP,
+    CONSTRAINT PK_DC_CONTRACT_IDENTIFIERS PRIMARY KEY (CONTRACT_ID)
+) ${contract-identifiers-partitioning};
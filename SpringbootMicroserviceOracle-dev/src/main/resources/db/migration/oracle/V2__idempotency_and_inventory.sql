@@ -0,0 +1,55 @@
+-- Tablas de idempotencia e inventario. En los esquemas donde ya se crearon a mano, una tabla o índice con el mismo
+-- nombre (ORA-00955) o un índice con las mismas columnas (ORA-01408) se deja como está.
+
+-- Claves de idempotencia de generate_account_identifiers
+BEGIN
+    EXECUTE IMMEDIATE 'CREATE TABLE DC_IDEMPOTENCY_KEYS ('
+        || '    ENTITY                 VARCHAR2(4)    NOT NULL,'
+        || '    BRAND                  VARCHAR2(50)   NOT NULL,'
+        || '    IDEMPOTENCY_KEY        VARCHAR2(64)   NOT NULL,'
+        || '    REQUEST_HASH           VARCHAR2(64)   NOT NULL,'
+        || '    RESPONSE               VARCHAR2(4000) NOT NULL,'
+        || '    LAST_UPDATER_USER      VARCHAR2(50),'
+        || '    LAST_UPDATER_DATE_TIME TIMESTAMP,'
+        || '    CONSTRAINT PK_DC_IDEMPOTENCY_KEYS PRIMARY KEY (ENTITY, BRAND, IDEMPOTENCY_KEY)'
+        || ')';
+EXCEPTION
+    WHEN OTHERS THEN
+        IF SQLCODE != -955 THEN
+            RAISE;
+        END IF;
+END;
+/
+
+-- Inventario de identificadores "PR" pregenerados (accountmanaging.inventory)
+BEGIN
+    EXECUTE IMMEDIATE 'CREATE TABLE DC_CONTRACT_IDENTIFIERS_POOL ('
+        || '    ENTITY                       VARCHAR2(4)  NOT NULL,'
+        || '    CENTER                       VARCHAR2(4)  NOT NULL,'
+        || '    BRAND                        VARCHAR2(50) NOT NULL,'
+        || '    CONTRACT_ID                  VARCHAR2(36) NOT NULL,'
+        || '    NATIONAL_IDENTIFICATION      VARCHAR2(34),'
+        || '    INTERNATIONAL_IDENTIFICATION VARCHAR2(34),'
+        || '    LAST_UPDATER_USER            VARCHAR2(50),'
+        || '    LAST_UPDATER_DATE_TIME       TIMESTAMP,'
+        || '    CONSTRAINT PK_DC_CONTRACT_IDENTIFIERS_POOL PRIMARY KEY (CONTRACT_ID)'
+        || ')';
+EXCEPTION
+    WHEN OTHERS THEN
+        IF SQLCODE != -955 THEN
+            RAISE;
+        END IF;
+END;
+/
+
+-- SELECT ... FOR UPDATE SKIP LOCKED y el recuento por clave
+BEGIN
+    EXECUTE IMMEDIATE 'CREATE INDEX IX_DC_CONTRACT_IDENTIFIERS_POOL_KEY ON DC_CONTRACT_IDENTIFIERS_POOL '
+        || '(ENTITY, CENTER, BRAND)';
+EXCEPTION
+    WHEN OTHERS THEN
+        IF SQLCODE NOT IN (-955, -1408) THEN
+            RAISE;
+        END IF;
+END;
+/
@@ -0,0 +1,12 @@
+-- Purga periódica de DC_IDEMPOTENCY_KEYS: DELETE ... WHERE LAST_UPDATER_DATE_TIME < ?. Si ya existe un índice con el
+-- mismo nombre (ORA-00955) o con las mismas columnas (ORA-01408), p. ej. creado antes con ONLINE por el DBA, se deja
+-- el existente.
+BEGIN
+    EXECUTE IMMEDIATE 'CREATE INDEX IX_DC_IDEMPOTENCY_KEYS_LUPD ON DC_IDEMPOTENCY_KEYS (LAST_UPDATER_DATE_TIME)';
+EXCEPTION
+    WHEN OTHERS THEN
+        IF SQLCODE NOT IN (-955, -1408) THEN
+            RAISE;
+        END IF;
+END;
+/
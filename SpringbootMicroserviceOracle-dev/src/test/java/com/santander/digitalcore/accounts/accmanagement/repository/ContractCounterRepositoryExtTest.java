@@ -0,0 +1,106 @@
+package com.java.developing.accounts.accountmanaging.repository;
+
+import com.developing.app.accounts.accountmanaging.repository.ContractCounterRepositoryExt;
+import com.java.developing.accounts.util.lib.core.exceptions.InternalServerErrorplsqlExceptionproject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ContractCounterRepositoryExtTest {
+
+  @InjectMocks
+  private ContractCounterRepositoryExt repositoryExt;
+
+  @Test
+  void reserveRangeAdvancesCounterByBlockSize() throws SQLException {
+    Connection mockConnection = mock(Connection.class);
+    PreparedStatement selectStatement = mock(PreparedStatement.class);
+    PreparedStatement updateStatement = mock(PreparedStatement.class);
+    ResultSet mockResultSet = mock(ResultSet.class);
+
+    when(mockConnection.prepareStatement(contains("FOR UPDATE"))).thenReturn(selectStatement);
+    when(mockConnection.prepareStatement(startsWith("UPDATE"))).thenReturn(updateStatement);
+    when(selectStatement.executeQuery()).thenReturn(mockResultSet);
+    when(mockResultSet.next()).thenReturn(true);
+    when(mockResultSet.getString(1)).thenReturn("00000000000000000041");
+
+    long last = repositoryExt.reserveRange("0049", "1001", "brand", 50, mockConnection);
+
+    assertEquals(41L, last);
+    verify(updateStatement).setString(1, "00000000000000000091");
+    verify(updateStatement).executeUpdate();
+  }
+
+  @Test
+  void reserveRangeThrowsExceptionWhenCounterDoesNotExist() throws SQLException {
+    Connection mockConnection = mock(Connection.class);
+    PreparedStatement selectStatement = mock(PreparedStatement.class);
+    ResultSet mockResultSet = mock(ResultSet.class);
+
+    when(mockConnection.prepareStatement(anyString())).thenReturn(selectStatement);
+    when(selectStatement.executeQuery()).thenReturn(mockResultSet);
+    when(mockResultSet.next()).thenReturn(false);
+
+    InternalServerErrorplsqlExceptionproject exception = assertThrows(
+        InternalServerErrorplsqlExceptionproject.class,
+        () -> repositoryExt.reserveRange("0049", "1001", "brand", 50, mockConnection)
+    );
+
+    assertEquals("DC-COMMON-T-0001", exception.getErrorName());
+    verify(selectStatement, never()).executeUpdate();
+  }
+
+  @Test
+  void reserveRangeThrowsExceptionWhenSqlErrorOccurs() throws SQLException {
+    Connection mockConnection = mock(Connection.class);
+    when(mockConnection.prepareStatement(anyString())).thenThrow(new SQLException("Database error"));
+
+    InternalServerErrorplsqlExceptionproject exception = assertThrows(
+        InternalServerErrorplsqlExceptionproject.class,
+        () -> repositoryExt.reserveRange("0049", "1001", "brand", 50, mockConnection)
+    );
+
+    assertEquals("DATABASE_ERROR", exception.getMessage());
+  }
+
+  @Test
+  void reserveRangeThrowsExceptionWhenConnectionIsNull() {
+    assertThrows(InternalServerErrorplsqlExceptionproject.class,
+        () -> repositoryExt.reserveRange("0049", "1001", "brand", 50, null));
+  }
+
+  @Test
+  void releaseRangeReturnsTrueWhenCounterHasNotMoved() throws SQLException {
+    Connection mockConnection = mock(Connection.class);
+    PreparedStatement mockPreparedStatement = mock(PreparedStatement.class);
+
+    when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+    when(mockPreparedStatement.executeUpdate()).thenReturn(1);
+
+    assertTrue(repositoryExt.releaseRange("0049", "1001", "brand", 91L, 60L, mockConnection));
+    verify(mockPreparedStatement).setString(1, "00000000000000000060");
+    verify(mockPreparedStatement).setLong(7, 91L);
+  }
+
+  @Test
+  void releaseRangeReturnsFalseWhenCounterHasMoved() throws SQLException {
+    Connection mockConnection = mock(Connection.class);
+    PreparedStatement mockPreparedStatement = mock(PreparedStatement.class);
+
+    when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+    when(mockPreparedStatement.executeUpdate()).thenReturn(0);
+
+    assertFalse(repositoryExt.releaseRange("0049", "1001", "brand", 91L, 60L, mockConnection));
+  }
+}
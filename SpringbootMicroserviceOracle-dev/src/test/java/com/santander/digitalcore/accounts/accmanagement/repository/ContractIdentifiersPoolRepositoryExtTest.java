@@ -0,0 +1,99 @@
+package com.java.developing.accounts.accountmanaging.repository;
+
+import com.developing.app.accounts.accountmanaging.repository.ContractIdentifiersPoolRepositoryExt;
+import com.developing.app.accounts.accountmanaging.repository.ContractIdentifiersPoolRepositoryExt.PooledIdentifier;
+import com.java.developing.accounts.util.lib.core.exceptions.InternalServerErrorplsqlExceptionproject;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ContractIdentifiersPoolRepositoryExtTest {
+
+  private final ContractIdentifiersPoolRepositoryExt repositoryExt = new ContractIdentifiersPoolRepositoryExt();
+
+  @Test
+  void claimLocksFirstFreeRowAndDeletesIt() throws SQLException {
+    Connection mockConnection = mock(Connection.class);
+    PreparedStatement selectStatement = mock(PreparedStatement.class);
+    PreparedStatement deleteStatement = mock(PreparedStatement.class);
+    ResultSet mockResultSet = mock(ResultSet.class);
+
+    when(mockConnection.prepareStatement(contains("SKIP LOCKED"))).thenReturn(selectStatement);
+    when(mockConnection.prepareStatement(contains("DELETE"))).thenReturn(deleteStatement);
+    when(selectStatement.executeQuery()).thenReturn(mockResultSet);
+    when(mockResultSet.next()).thenReturn(true);
+    when(mockResultSet.getString(1)).thenReturn("uuid");
+    when(mockResultSet.getString(2)).thenReturn("bban");
+    when(mockResultSet.getString(3)).thenReturn("iban");
+
+    PooledIdentifier claimed = repositoryExt.claim("0049", "1001", "SAN", mockConnection);
+
+    assertEquals(new PooledIdentifier("uuid", "bban", "iban"), claimed);
+    verify(selectStatement).setFetchSize(1);
+    verify(deleteStatement).setString(1, "uuid");
+    verify(deleteStatement).executeUpdate();
+  }
+
+  @Test
+  void claimReturnsNullWhenInventoryIsEmpty() throws SQLException {
+    Connection mockConnection = mock(Connection.class);
+    PreparedStatement selectStatement = mock(PreparedStatement.class);
+    ResultSet mockResultSet = mock(ResultSet.class);
+
+    when(mockConnection.prepareStatement(anyString())).thenReturn(selectStatement);
+    when(selectStatement.executeQuery()).thenReturn(mockResultSet);
+    when(mockResultSet.next()).thenReturn(false);
+
+    assertNull(repositoryExt.claim("0049", "1001", "SAN", mockConnection));
+    verify(mockConnection, times(1)).prepareStatement(anyString());
+  }
+
+  @Test
+  void claimThrowsExceptionWhenSqlErrorOccurs() throws SQLException {
+    Connection mockConnection = mock(Connection.class);
+    when(mockConnection.prepareStatement(anyString())).thenThrow(new SQLException("Database error"));
+
+    InternalServerErrorplsqlExceptionproject exception = assertThrows(
+        InternalServerErrorplsqlExceptionproject.class,
+        () -> repositoryExt.claim("0049", "1001", "SAN", mockConnection)
+    );
+
+    assertEquals("DC-COMMON-T-0001", exception.getErrorName());
+  }
+
+  @Test
+  void countAvailableReturnsCount() throws SQLException {
+    Connection mockConnection = mock(Connection.class);
+    PreparedStatement mockPreparedStatement = mock(PreparedStatement.class);
+    ResultSet mockResultSet = mock(ResultSet.class);
+
+    when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+    when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+    when(mockResultSet.next()).thenReturn(true);
+    when(mockResultSet.getInt(1)).thenReturn(42);
+
+    assertEquals(42, repositoryExt.countAvailable("0049", "1001", "SAN", mockConnection));
+  }
+
+  @Test
+  void insertBatchAddsOneBatchEntryPerIdentifier() throws SQLException {
+    Connection mockConnection = mock(Connection.class);
+    PreparedStatement mockPreparedStatement = mock(PreparedStatement.class);
+    when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+
+    repositoryExt.insertBatch("0049", "1001", "SAN",
+        List.of(new PooledIdentifier("uuid-1", "bban-1", "iban-1"), new PooledIdentifier("uuid-2", "bban-2", "iban-2")),
+        mockConnection);
+
+    verify(mockPreparedStatement, times(2)).addBatch();
+    verify(mockPreparedStatement, times(1)).executeBatch();
+  }
+}
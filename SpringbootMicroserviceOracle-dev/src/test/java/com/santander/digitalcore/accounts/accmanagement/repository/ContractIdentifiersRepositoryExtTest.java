@@ -2,6 +2,7 @@ package com.java.developing.accounts.accountmanaging.repository;
 
 import com.developing.app.accounts.accountmanaging.repository.ContractIdentifiersRepositoryExt;
 import com.java.developing.accounts.util.lib.core.exceptions.InternalServerErrorplsqlExceptionproject;
+import com.java.developing.accounts.util.lib.db.model.entity.ContractIdentifiersEntity;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,6 +15,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -87,4 +89,26 @@ class ContractIdentifiersRepositoryExtTest {
     assertEquals("DC-COMMON-T-0001", exception.getErrorName());
     assertEquals("DATABASE_ERROR", exception.getMessage());
   }
+
+  @Test
+  void insertBatchAddsOneBatchEntryPerEntity() throws SQLException {
+    Connection mockConnection = mock(Connection.class);
+    PreparedStatement mockPreparedStatement = mock(PreparedStatement.class);
+
+    when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+    when(mockPreparedStatement.executeBatch()).thenReturn(new int[] {1, 1});
+
+    int[] result = repositoryExt.insertBatch(
+        List.of(new ContractIdentifiersEntity(), new ContractIdentifiersEntity()), mockConnection);
+
+    assertArrayEquals(new int[] {1, 1}, result);
+    verify(mockPreparedStatement, times(2)).addBatch();
+    verify(mockPreparedStatement, times(1)).executeBatch();
+  }
+
+  @Test
+  void insertBatchThrowsExceptionWhenConnectionIsNull() {
+    assertThrows(InternalServerErrorplsqlExceptionproject.class,
+        () -> repositoryExt.insertBatch(List.of(new ContractIdentifiersEntity()), null));
+  }
 }
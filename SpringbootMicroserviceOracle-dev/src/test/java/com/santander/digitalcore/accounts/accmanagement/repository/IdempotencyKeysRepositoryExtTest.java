@@ -0,0 +1,112 @@
+package com.java.developing.accounts.accountmanaging.repository;
+
+import com.developing.app.accounts.accountmanaging.repository.IdempotencyKeysRepositoryExt;
+import com.developing.app.accounts.accountmanaging.repository.IdempotencyKeysRepositoryExt.IdempotencyKeyRow;
+import com.java.developing.accounts.util.lib.core.exceptions.InternalServerErrorplsqlExceptionproject;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class IdempotencyKeysRepositoryExtTest {
+
+  private static final LocalDateTime NOT_BEFORE = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+  private final IdempotencyKeysRepositoryExt repositoryExt = new IdempotencyKeysRepositoryExt();
+
+  @Test
+  void returnsStoredRowWhenKeyExists() throws SQLException {
+    Connection mockConnection = mock(Connection.class);
+    PreparedStatement mockPreparedStatement = mock(PreparedStatement.class);
+    ResultSet mockResultSet = mock(ResultSet.class);
+
+    when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+    when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+    when(mockResultSet.next()).thenReturn(true);
+    when(mockResultSet.getString(1)).thenReturn("hash");
+    when(mockResultSet.getString(2)).thenReturn("{}");
+
+    IdempotencyKeyRow row = repositoryExt.findByKey("0049", "SAN", "key-1", NOT_BEFORE, mockConnection);
+
+    assertEquals(new IdempotencyKeyRow("hash", "{}"), row);
+    verify(mockPreparedStatement).setString(1, "0049");
+    verify(mockPreparedStatement).setString(2, "SAN");
+    verify(mockPreparedStatement).setString(3, "key-1");
+    verify(mockPreparedStatement).setObject(4, NOT_BEFORE);
+  }
+
+  @Test
+  void returnsNullWhenKeyDoesNotExist() throws SQLException {
+    Connection mockConnection = mock(Connection.class);
+    PreparedStatement mockPreparedStatement = mock(PreparedStatement.class);
+    ResultSet mockResultSet = mock(ResultSet.class);
+
+    when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+    when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+    when(mockResultSet.next()).thenReturn(false);
+
+    assertNull(repositoryExt.findByKey("0049", "SAN", "key-1", NOT_BEFORE, mockConnection));
+  }
+
+  @Test
+  void throwsExceptionWhenSqlErrorOccursOnFind() throws SQLException {
+    Connection mockConnection = mock(Connection.class);
+    when(mockConnection.prepareStatement(anyString())).thenThrow(new SQLException("Database error"));
+
+    InternalServerErrorplsqlExceptionproject exception = assertThrows(
+        InternalServerErrorplsqlExceptionproject.class,
+        () -> repositoryExt.findByKey("0049", "SAN", "key-1", NOT_BEFORE, mockConnection)
+    );
+
+    assertEquals("DC-COMMON-T-0001", exception.getErrorName());
+  }
+
+  @Test
+  void insertPropagatesDuplicateKeyError() throws SQLException {
+    Connection mockConnection = mock(Connection.class);
+    PreparedStatement mockPreparedStatement = mock(PreparedStatement.class);
+
+    when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+    when(mockPreparedStatement.executeUpdate()).thenThrow(new SQLException("ORA-00001", "23000", 1));
+
+    SQLException exception = assertThrows(SQLException.class,
+        () -> repositoryExt.insert("0049", "SAN", "key-1", new IdempotencyKeyRow("hash", "{}"), mockConnection));
+
+    assertEquals(1, exception.getErrorCode());
+  }
+
+  @Test
+  void deleteOlderThanReturnsTheDeletedRows() throws SQLException {
+    Connection mockConnection = mock(Connection.class);
+    PreparedStatement mockPreparedStatement = mock(PreparedStatement.class);
+
+    when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+    when(mockPreparedStatement.executeUpdate()).thenReturn(3);
+
+    assertEquals(3, repositoryExt.deleteOlderThan(NOT_BEFORE, 1000, mockConnection));
+    verify(mockPreparedStatement).setObject(1, NOT_BEFORE);
+    verify(mockPreparedStatement).setInt(2, 1000);
+  }
+
+  @Test
+  void deleteExpiredOnlyDeletesTheKeyWhenItIsOlderThanTheRetention() throws SQLException {
+    Connection mockConnection = mock(Connection.class);
+    PreparedStatement mockPreparedStatement = mock(PreparedStatement.class);
+
+    when(mockConnection.prepareStatement(argThat(sql -> sql.contains("LAST_UPDATER_DATE_TIME < ?"))))
+        .thenReturn(mockPreparedStatement);
+
+    repositoryExt.deleteExpired("0049", "SAN", "key-1", NOT_BEFORE, mockConnection);
+
+    verify(mockPreparedStatement).setString(3, "key-1");
+    verify(mockPreparedStatement).setObject(4, NOT_BEFORE);
+    verify(mockPreparedStatement).executeUpdate();
+  }
+}
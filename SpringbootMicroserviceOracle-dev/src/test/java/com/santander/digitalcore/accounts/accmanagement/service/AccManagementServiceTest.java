@@ -2,24 +2,33 @@ package com.java.developing.accounts.accountmanaging.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
 import java.util.Objects;
+import java.util.Set;
 
 import javax.sql.DataSource;
 
+import com.developing.app.accounts.accountmanaging.service.AccountIdentifierInventory;
+import com.developing.app.accounts.accountmanaging.service.AccountNumberRangeAllocator;
+import com.developing.app.accounts.accountmanaging.service.GenerateAccountIdentifiersMetrics;
+import com.developing.app.accounts.accountmanaging.service.IdempotencyStore;
 import com.developing.app.accounts.accountmanaging.service.UuidService;
 import com.developing.app.accounts.accountmanaging.service.accountmanagingService;
 import com.java.developing.accounts.accnumeratorlib.service.AccNumeratorService;
-import com.java.developing.accounts.accnumeratorlib.utils.Numeration;
+import com.developing.app.accounts.accountmanaging.utils.AccountIdentifierCalculator;
 import com.java.developing.accounts.util.lib.db.model.entity.ContractCounterjavaEntity;
 import com.java.developing.accounts.util.lib.db.model.repository.ContractCounterjavaRepository;
 
@@ -29,12 +38,16 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import com.java.developing.accounts.accountmanaging.model.Center;
 import com.java.developing.accounts.accountmanaging.model.Product;
 import com.java.developing.accounts.accountmanaging.model.genaccidentifiers.request.GenerateAccountIdentifiersPostRequest;
 import com.java.developing.accounts.accountmanaging.model.genaccidentifiers.response.GenerateAccountIdentifiersPostResponse;
+import com.java.developing.accounts.accountmanaging.repository.ContractIdentifiersPoolRepositoryExt.PooledIdentifier;
 import com.java.developing.accounts.accountmanaging.repository.ContractIdentifiersRepositoryExt;
 
 import com.java.developing.accounts.util.lib.db.model.entity.ContractIdentifiersEntity;
@@ -54,7 +67,7 @@ class accountmanagingServiceTest {
   private GenerateAccountIdentifiersPostRequest request;
 
   @Mock
-  private Numeration numeration;
+  private AccountIdentifierCalculator accountIdentifierCalculator;
 
   @Mock
   private UuidService uuidService;
@@ -62,6 +75,20 @@ class accountmanagingServiceTest {
   @Mock
   private AccNumeratorService accNumeratorService;
 
+  @Mock
+  private AccountNumberRangeAllocator accountNumberRangeAllocator;
+
+  @Mock
+  private IdempotencyStore idempotencyStore;
+
+  @Mock
+  private AccountIdentifierInventory accountIdentifierInventory;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Spy
+  private GenerateAccountIdentifiersMetrics metrics = new GenerateAccountIdentifiersMetrics(meterRegistry, Set.of(), Set.of(), 10);
+
   @InjectMocks
   private accountmanagingService accountmanagingService;
 
@@ -92,8 +119,8 @@ class accountmanagingServiceTest {
     when(contractCounterjavaRepository.findByEntityAndCenter(anyString(), anyString(), eq(mockConnection)))
         .thenReturn(accountCounter);
     when(uuidService.generateUniqueContractId()).thenReturn("mockedUUID");
-    when(numeration.generateBBAN(anyString(), anyString(), anyString())).thenReturn("mockedBBAN");
-    when(numeration.generateIBAN(anyString(), eq("ES"))).thenReturn("mockedIBAN");
+    when(accountIdentifierCalculator.bban(anyString(), anyString(), anyString())).thenReturn("mockedBBAN");
+    when(accountIdentifierCalculator.iban(anyString(), eq("ES"))).thenReturn("mockedIBAN");
     String entityHeader = "0049";
     String brandHeader = "brand-header-value";
     String preAssigmentContractIndicator = "Y";
@@ -106,6 +133,121 @@ class accountmanagingServiceTest {
     verify(mockConnection, times(1)).commit();
   }
 
+  @Test
+  void generateAccountIdentifiersUsesReservedRangeWhenEnabled() throws Exception {
+    GenerateAccountIdentifiersPostRequest validRequest = mock(GenerateAccountIdentifiersPostRequest.class);
+    Center center = mock(Center.class);
+    when(validRequest.getCenter()).thenReturn(center);
+    when(center.getCenterId()).thenReturn("1001");
+
+    Connection mockConnection = mock(Connection.class);
+    when(jdbcTemplate.getDataSource()).thenReturn(mock(DataSource.class));
+    when(Objects.requireNonNull(jdbcTemplate.getDataSource()).getConnection()).thenReturn(mockConnection);
+    when(accountNumberRangeAllocator.isEnabled()).thenReturn(true);
+    when(accountNumberRangeAllocator.nextAccountNumber("1001", "0049", "brand-header-value")).thenReturn("0000000042");
+    when(uuidService.generateUniqueContractId()).thenReturn("mockedUUID");
+    when(accountIdentifierCalculator.bban("0049", "1001", "0000000042")).thenReturn("mockedBBAN");
+    when(accountIdentifierCalculator.iban(anyString(), eq("ES"))).thenReturn("mockedIBAN");
+
+    GenerateAccountIdentifiersPostResponse response =
+        accountmanagingService.generateAccountIdentifiers(validRequest, "0049", "brand-header-value", "N");
+
+    assertEquals("mockedBBAN", response.getAccounIdentification().getNationalIdentification());
+    verify(accNumeratorService, times(0)).getAccountNumber(anyString(), anyString(), anyString(), any(Connection.class));
+    verify(mockConnection, times(1)).commit();
+  }
+
+  @Test
+  void generateAccountIdentifiersRecordsOneTimerPerPhase() throws Exception {
+    GenerateAccountIdentifiersPostRequest validRequest = mock(GenerateAccountIdentifiersPostRequest.class);
+    Center center = mock(Center.class);
+    when(validRequest.getCenter()).thenReturn(center);
+    when(center.getCenterId()).thenReturn("1001");
+
+    Connection mockConnection = mock(Connection.class);
+    when(jdbcTemplate.getDataSource()).thenReturn(mock(DataSource.class));
+    when(Objects.requireNonNull(jdbcTemplate.getDataSource()).getConnection()).thenReturn(mockConnection);
+    when(accNumeratorService.getAccountNumber(anyString(), anyString(), anyString(), eq(mockConnection))).thenReturn("0000000001");
+    when(uuidService.generateUniqueContractId()).thenReturn("mockedUUID");
+    when(accountIdentifierCalculator.bban(anyString(), anyString(), anyString())).thenReturn("mockedBBAN");
+    when(accountIdentifierCalculator.iban(anyString(), eq("ES"))).thenReturn("mockedIBAN");
+
+    accountmanagingService.generateAccountIdentifiers(validRequest, "0049", "SAN", "N");
+
+    for (String phase : new String[] {"pool-wait", "counter", "iban", "uuid", "insert", "commit"}) {
+      assertEquals(1L, meterRegistry.get("accountmanaging.generate.phase")
+          .tags("phase", phase, "entity", "0049", "brand", "SAN").timer().count(), phase);
+    }
+    assertNull(meterRegistry.find("accountmanaging.generate.phase").tag("phase", "range").timer());
+  }
+
+  @Test
+  void generateAccountIdentifiersRetriesWithNewContractIdOnDuplicateKey() throws Exception {
+    GenerateAccountIdentifiersPostRequest validRequest = mock(GenerateAccountIdentifiersPostRequest.class);
+    Center center = mock(Center.class);
+    when(validRequest.getCenter()).thenReturn(center);
+    when(center.getCenterId()).thenReturn("1001");
+
+    Connection mockConnection = mock(Connection.class);
+    when(jdbcTemplate.getDataSource()).thenReturn(mock(DataSource.class));
+    when(Objects.requireNonNull(jdbcTemplate.getDataSource()).getConnection()).thenReturn(mockConnection);
+    when(accNumeratorService.getAccountNumber(anyString(), anyString(), anyString(), eq(mockConnection))).thenReturn("0000000001");
+    when(uuidService.generateUniqueContractId()).thenReturn("duplicatedUUID", "newUUID");
+    when(accountIdentifierCalculator.bban(anyString(), anyString(), anyString())).thenReturn("mockedBBAN");
+    when(accountIdentifierCalculator.iban(anyString(), eq("ES"))).thenReturn("mockedIBAN");
+    doThrow(new RuntimeException("insert error", new SQLIntegrityConstraintViolationException("ORA-00001", "23000", 1)))
+        .doNothing()
+        .when(contractIdentifiersRepository).insertContractIdentifiers(any(ContractIdentifiersEntity.class), eq(mockConnection));
+
+    GenerateAccountIdentifiersPostResponse response =
+        accountmanagingService.generateAccountIdentifiers(validRequest, "0049", "brand-header-value", "N");
+
+    assertEquals("newUUID", response.getAccounIdentification().getInternalIdentification());
+    verify(contractIdentifiersRepository, times(2)).insertContractIdentifiers(any(ContractIdentifiersEntity.class), eq(mockConnection));
+    verify(mockConnection, times(1)).commit();
+  }
+
+  @Test
+  void generateAccountIdentifiersFailsAfterMaxDuplicateKeyAttempts() throws Exception {
+    GenerateAccountIdentifiersPostRequest validRequest = mock(GenerateAccountIdentifiersPostRequest.class);
+    Center center = mock(Center.class);
+    when(validRequest.getCenter()).thenReturn(center);
+    when(center.getCenterId()).thenReturn("1001");
+
+    Connection mockConnection = mock(Connection.class);
+    when(jdbcTemplate.getDataSource()).thenReturn(mock(DataSource.class));
+    when(Objects.requireNonNull(jdbcTemplate.getDataSource()).getConnection()).thenReturn(mockConnection);
+    when(uuidService.generateUniqueContractId()).thenReturn("duplicatedUUID");
+    doThrow(new RuntimeException("insert error", new SQLException("ORA-00001", "23000", 1)))
+        .when(contractIdentifiersRepository).insertContractIdentifiers(any(ContractIdentifiersEntity.class), eq(mockConnection));
+
+    Assertions.assertThrows(RuntimeException.class,
+        () -> accountmanagingService.generateAccountIdentifiers(validRequest, "0049", "brand-header-value", "N"));
+    verify(contractIdentifiersRepository, times(3)).insertContractIdentifiers(any(ContractIdentifiersEntity.class), eq(mockConnection));
+    verify(mockConnection, times(1)).rollback();
+  }
+
+  @Test
+  void generateAccountIdentifiersDoesNotRetryOtherIntegrityViolations() throws Exception {
+    GenerateAccountIdentifiersPostRequest validRequest = mock(GenerateAccountIdentifiersPostRequest.class);
+    Center center = mock(Center.class);
+    when(validRequest.getCenter()).thenReturn(center);
+    when(center.getCenterId()).thenReturn("1001");
+
+    Connection mockConnection = mock(Connection.class);
+    when(jdbcTemplate.getDataSource()).thenReturn(mock(DataSource.class));
+    when(Objects.requireNonNull(jdbcTemplate.getDataSource()).getConnection()).thenReturn(mockConnection);
+    when(uuidService.generateUniqueContractId()).thenReturn("newUUID");
+    doThrow(new RuntimeException("insert error",
+        new SQLIntegrityConstraintViolationException("ORA-01400: cannot insert NULL", "23000", 1400)))
+        .when(contractIdentifiersRepository).insertContractIdentifiers(any(ContractIdentifiersEntity.class), eq(mockConnection));
+
+    Assertions.assertThrows(RuntimeException.class,
+        () -> accountmanagingService.generateAccountIdentifiers(validRequest, "0049", "brand-header-value", "N"));
+    verify(contractIdentifiersRepository, times(1)).insertContractIdentifiers(any(ContractIdentifiersEntity.class), eq(mockConnection));
+    verify(mockConnection, times(1)).rollback();
+  }
+
   @Test
   void generateAccountIdentifiersRollsBackWhenInsertFails() throws Exception {
     GenerateAccountIdentifiersPostRequest requestInsertFails = mock(GenerateAccountIdentifiersPostRequest.class);
@@ -118,8 +260,8 @@ class accountmanagingServiceTest {
 
     String newUUID = "mockedUUID";
     when(uuidService.generateUniqueContractId()).thenReturn(newUUID);
-    when(numeration.generateBBAN(anyString(), anyString(), anyString())).thenReturn("mockedBBAN");
-    when(numeration.generateIBAN(anyString(), eq("ES"))).thenReturn("mockedIBAN");
+    when(accountIdentifierCalculator.bban(anyString(), anyString(), anyString())).thenReturn("mockedBBAN");
+    when(accountIdentifierCalculator.iban(anyString(), eq("ES"))).thenReturn("mockedIBAN");
 
     Connection mockConnection = mock(Connection.class);
     when(jdbcTemplate.getDataSource()).thenReturn(mock(DataSource.class));
@@ -167,5 +309,123 @@ class accountmanagingServiceTest {
     Assertions.assertThrows(RuntimeException.class, () -> accountmanagingService.generateAccountIdentifiers(requestUuidFails, entityHeader, brandHeader, preAssigmentContractIndicator));
     verify(mockConnection, times(1)).rollback();
   }
-}
 
+  @Test
+  void generateAccountIdentifiersReturnsStoredResponseWhenIdempotencyKeyIsRepeated() throws Exception {
+    GenerateAccountIdentifiersPostRequest validRequest = idempotentRequest();
+    GenerateAccountIdentifiersPostResponse storedResponse = new GenerateAccountIdentifiersPostResponse();
+    when(idempotencyStore.find("0049", "SAN", "key-1", IdempotencyStore.requestHash(validRequest)))
+        .thenReturn(storedResponse);
+
+    GenerateAccountIdentifiersPostResponse response =
+        accountmanagingService.generateAccountIdentifiers(validRequest, "0049", "SAN", "Y", "key-1");
+
+    assertEquals(storedResponse, response);
+    verify(jdbcTemplate, never()).getDataSource();
+    verify(accountNumberRangeAllocator, never()).nextAccountNumber(anyString(), anyString(), anyString());
+    verify(uuidService, never()).generateUniqueContractId();
+  }
+
+  @Test
+  void generateAccountIdentifiersSavesResponseWhenIdempotencyKeyIsNew() throws Exception {
+    GenerateAccountIdentifiersPostRequest validRequest = idempotentRequest();
+    String requestHash = IdempotencyStore.requestHash(validRequest);
+    Connection mockConnection = mockGeneration();
+
+    GenerateAccountIdentifiersPostResponse response =
+        accountmanagingService.generateAccountIdentifiers(validRequest, "0049", "SAN", "Y", "key-1");
+
+    assertEquals("mockedUUID", response.getAccounIdentification().getInternalIdentification());
+    verify(idempotencyStore).save("0049", "SAN", "key-1", requestHash, response, mockConnection);
+    verify(mockConnection, times(1)).commit();
+    verify(idempotencyStore).remember("0049", "SAN", "key-1", requestHash, response);
+  }
+
+  @Test
+  void generateAccountIdentifiersRollsBackAndReturnsStoredResponseWhenConcurrentRetryWins() throws Exception {
+    GenerateAccountIdentifiersPostRequest validRequest = idempotentRequest();
+    String requestHash = IdempotencyStore.requestHash(validRequest);
+    Connection mockConnection = mockGeneration();
+    GenerateAccountIdentifiersPostResponse storedResponse = new GenerateAccountIdentifiersPostResponse();
+    doThrow(new SQLIntegrityConstraintViolationException("ORA-00001", "23000", 1))
+        .when(idempotencyStore).save(eq("0049"), eq("SAN"), eq("key-1"), eq(requestHash), any(), eq(mockConnection));
+    when(idempotencyStore.load("0049", "SAN", "key-1", requestHash, mockConnection)).thenReturn(storedResponse);
+
+    GenerateAccountIdentifiersPostResponse response =
+        accountmanagingService.generateAccountIdentifiers(validRequest, "0049", "SAN", "Y", "key-1");
+
+    assertEquals(storedResponse, response);
+    verify(mockConnection, times(1)).rollback();
+    verify(mockConnection, never()).commit();
+  }
+
+  @Test
+  void generateAccountIdentifiersUsesInventoryForPreAssignedContracts() throws Exception {
+    GenerateAccountIdentifiersPostRequest validRequest = idempotentRequest();
+    Connection mockConnection = mock(Connection.class);
+    when(jdbcTemplate.getDataSource()).thenReturn(mock(DataSource.class));
+    when(Objects.requireNonNull(jdbcTemplate.getDataSource()).getConnection()).thenReturn(mockConnection);
+    when(accountIdentifierInventory.isEnabled()).thenReturn(true);
+    when(accountNumberRangeAllocator.isEnabled()).thenReturn(true);
+    when(accountIdentifierInventory.claim("0049", "1001", "SAN", mockConnection))
+        .thenReturn(new PooledIdentifier("pooledUUID", "pooledBBAN", "pooledIBAN"));
+
+    GenerateAccountIdentifiersPostResponse response =
+        accountmanagingService.generateAccountIdentifiers(validRequest, "0049", "SAN", "Y");
+
+    assertEquals("pooledUUID", response.getAccounIdentification().getInternalIdentification());
+    assertEquals("pooledBBAN", response.getAccounIdentification().getNationalIdentification());
+    assertEquals("pooledIBAN", response.getAccounIdentification().getInternationalIdentification());
+    verify(accountNumberRangeAllocator, never()).nextAccountNumber(anyString(), anyString(), anyString());
+    verify(accNumeratorService, never()).getAccountNumber(anyString(), anyString(), anyString(), any(Connection.class));
+    verify(uuidService, never()).generateUniqueContractId();
+    verify(contractIdentifiersRepository).insertContractIdentifiers(any(ContractIdentifiersEntity.class), eq(mockConnection));
+    verify(mockConnection, times(1)).commit();
+  }
+
+  @Test
+  void generateAccountIdentifiersFallsBackToCounterWhenInventoryIsEmpty() throws Exception {
+    GenerateAccountIdentifiersPostRequest validRequest = idempotentRequest();
+    Connection mockConnection = mockGeneration();
+    when(accountIdentifierInventory.isEnabled()).thenReturn(true);
+
+    GenerateAccountIdentifiersPostResponse response =
+        accountmanagingService.generateAccountIdentifiers(validRequest, "0049", "SAN", "Y");
+
+    assertEquals("mockedUUID", response.getAccounIdentification().getInternalIdentification());
+    verify(accountIdentifierInventory).claim("0049", "1001", "SAN", mockConnection);
+    verify(accNumeratorService).getAccountNumber("1001", "0049", "SAN", mockConnection);
+    verify(mockConnection, times(1)).commit();
+    verify(accountIdentifierInventory).generated("0049", "1001", "SAN");
+  }
+
+  @Test
+  void generateAccountIdentifiersSkipsInventoryForAssignedContracts() throws Exception {
+    GenerateAccountIdentifiersPostRequest validRequest = idempotentRequest();
+    mockGeneration();
+    when(accountIdentifierInventory.isEnabled()).thenReturn(true);
+
+    accountmanagingService.generateAccountIdentifiers(validRequest, "0049", "SAN", "N");
+
+    verify(accountIdentifierInventory, never()).claim(anyString(), anyString(), anyString(), any(Connection.class));
+  }
+
+  private GenerateAccountIdentifiersPostRequest idempotentRequest() {
+    Center center = new Center();
+    center.setCenterId("1001");
+    Product product = new Product();
+    product.setProductCode("0049300130");
+    return new GenerateAccountIdentifiersPostRequest(center, product);
+  }
+
+  private Connection mockGeneration() throws Exception {
+    Connection mockConnection = mock(Connection.class);
+    when(jdbcTemplate.getDataSource()).thenReturn(mock(DataSource.class));
+    when(Objects.requireNonNull(jdbcTemplate.getDataSource()).getConnection()).thenReturn(mockConnection);
+    when(accNumeratorService.getAccountNumber(anyString(), anyString(), anyString(), eq(mockConnection))).thenReturn("0000000001");
+    when(uuidService.generateUniqueContractId()).thenReturn("mockedUUID");
+    when(accountIdentifierCalculator.bban(anyString(), anyString(), anyString())).thenReturn("mockedBBAN");
+    when(accountIdentifierCalculator.iban(anyString(), eq("ES"))).thenReturn("mockedIBAN");
+    return mockConnection;
+  }
+}
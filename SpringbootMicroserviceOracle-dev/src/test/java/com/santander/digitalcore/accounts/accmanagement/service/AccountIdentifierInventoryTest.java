@@ -0,0 +1,200 @@
+package com.java.developing.accounts.accountmanaging.service;
+
+import com.developing.app.accounts.accountmanaging.repository.ContractIdentifiersPoolRepositoryExt;
+import com.developing.app.accounts.accountmanaging.repository.ContractIdentifiersPoolRepositoryExt.PooledIdentifier;
+import com.developing.app.accounts.accountmanaging.service.AccountIdentifierInventory;
+import com.developing.app.accounts.accountmanaging.service.AccountNumberRangeAllocator;
+import com.developing.app.accounts.accountmanaging.service.UuidService;
+import com.developing.app.accounts.accountmanaging.utils.AccountIdentifierCalculator;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountIdentifierInventoryTest {
+
+  @Mock
+  private ContractIdentifiersPoolRepositoryExt contractIdentifiersPoolRepository;
+
+  @Mock
+  private AccountNumberRangeAllocator accountNumberRangeAllocator;
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  @Mock
+  private AccountIdentifierCalculator accountIdentifierCalculator;
+
+  @Mock
+  private UuidService uuidService;
+
+  @Mock
+  private DataSource dataSource;
+
+  @Mock
+  private Connection connection;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private AccountIdentifierInventory inventory;
+
+  @BeforeEach
+  void setUp() {
+    inventory = new AccountIdentifierInventory(contractIdentifiersPoolRepository, accountNumberRangeAllocator,
+        jdbcTemplate, accountIdentifierCalculator, uuidService, meterRegistry, true, 2, 5, 2, 10, 0);
+  }
+
+  @Test
+  void claimCountsHitsAndMisses() {
+    PooledIdentifier pooled = new PooledIdentifier("uuid", "bban", "iban");
+    when(contractIdentifiersPoolRepository.claim("0049", "1001", "SAN", connection)).thenReturn(pooled, (PooledIdentifier) null);
+
+    assertEquals(pooled, inventory.claim("0049", "1001", "SAN", connection));
+    assertNull(inventory.claim("0049", "1001", "SAN", connection));
+
+    assertEquals(1.0, meterRegistry.get("accountmanaging.inventory.claims").tag("result", "hit").counter().count());
+    assertEquals(1.0, meterRegistry.get("accountmanaging.inventory.claims").tag("result", "miss").counter().count());
+  }
+
+  @Test
+  void replenishTopsUpKeysBelowLowWaterMarkInBatches() throws SQLException {
+    when(jdbcTemplate.getDataSource()).thenReturn(dataSource);
+    when(dataSource.getConnection()).thenReturn(connection);
+    inventory.generated("0049", "1001", "SAN");
+    when(contractIdentifiersPoolRepository.countAvailable("0049", "1001", "SAN", connection)).thenReturn(1);
+    when(accountNumberRangeAllocator.reserveBlock(eq("1001"), eq("0049"), eq("SAN"), anyInt()))
+        .thenAnswer(invocation -> Collections.nCopies(invocation.<Integer>getArgument(3), "0000000001"));
+    when(accountIdentifierCalculator.bban(anyString(), anyString(), anyString())).thenReturn("bban");
+    when(accountIdentifierCalculator.iban("bban", "ES")).thenReturn("iban");
+    when(uuidService.generateUniqueContractId()).thenReturn("uuid");
+
+    inventory.replenish();
+
+    // 1 disponible, marca máxima 5 y lotes de 2: se añaden 2 + 2
+    verify(accountNumberRangeAllocator, times(2)).reserveBlock("1001", "0049", "SAN", 2);
+    verify(contractIdentifiersPoolRepository, times(2)).insertBatch(eq("0049"), eq("1001"), eq("SAN"),
+        argThat(list -> list.size() == 2), eq(connection));
+    verify(connection, times(2)).commit();
+    assertEquals(5.0, meterRegistry.get("accountmanaging.inventory.available").tag("center", "1001").gauge().value());
+  }
+
+  @Test
+  void replenishDoesNothingAboveLowWaterMark() throws SQLException {
+    when(jdbcTemplate.getDataSource()).thenReturn(dataSource);
+    when(dataSource.getConnection()).thenReturn(connection);
+    inventory.generated("0049", "1001", "SAN");
+    when(contractIdentifiersPoolRepository.countAvailable("0049", "1001", "SAN", connection)).thenReturn(3);
+
+    inventory.replenish();
+
+    verify(accountNumberRangeAllocator, never()).reserveBlock(anyString(), anyString(), anyString(), anyInt());
+  }
+
+  @Test
+  void replenishRollsBackAndContinuesWhenInsertFails() throws SQLException {
+    when(jdbcTemplate.getDataSource()).thenReturn(dataSource);
+    when(dataSource.getConnection()).thenReturn(connection);
+    inventory.generated("0049", "1001", "SAN");
+    inventory.generated("0049", "1002", "SAN");
+    when(contractIdentifiersPoolRepository.countAvailable(eq("0049"), anyString(), eq("SAN"), eq(connection))).thenReturn(4, 0);
+    when(accountNumberRangeAllocator.reserveBlock(anyString(), eq("0049"), eq("SAN"), anyInt()))
+        .thenReturn(List.of("0000000001", "0000000002"));
+    doThrow(new SQLException("insert error"))
+        .when(contractIdentifiersPoolRepository).insertBatch(anyString(), anyString(), anyString(), anyList(), any());
+
+    assertDoesNotThrow(() -> inventory.replenish());
+
+    verify(connection, times(1)).rollback();
+  }
+
+  @Test
+  void claimDoesNotTrackKeys() {
+    inventory.claim("0049", "1001", "UNKNOWN", connection);
+
+    inventory.replenish();
+
+    verifyNoInteractions(jdbcTemplate, accountNumberRangeAllocator);
+    assertNull(meterRegistry.find("accountmanaging.inventory.available").gauge());
+  }
+
+  @Test
+  void generatedTracksAtMostMaxKeys() {
+    AccountIdentifierInventory limited = new AccountIdentifierInventory(contractIdentifiersPoolRepository,
+        accountNumberRangeAllocator, jdbcTemplate, accountIdentifierCalculator, uuidService, meterRegistry,
+        true, 2, 5, 2, 1, 0);
+
+    limited.generated("0049", "1001", "SAN");
+    limited.generated("0049", "1002", "SAN");
+
+    assertEquals(1, meterRegistry.find("accountmanaging.inventory.available").gauges().size());
+  }
+
+  @Test
+  void replenishBacksOffAndDropsKeysThatKeepFailing() throws SQLException {
+    when(jdbcTemplate.getDataSource()).thenReturn(dataSource);
+    when(dataSource.getConnection()).thenReturn(connection);
+    when(contractIdentifiersPoolRepository.countAvailable("0049", "1001", "SAN", connection)).thenReturn(0);
+    when(accountNumberRangeAllocator.reserveBlock(anyString(), anyString(), anyString(), anyInt()))
+        .thenThrow(new IllegalStateException("no counter row"));
+    inventory.generated("0049", "1001", "SAN");
+
+    // fallos en las ejecuciones 1, 3, 7, 15 y 31; las demás se saltan
+    for (int i = 0; i < 40; i++) {
+      inventory.replenish();
+    }
+
+    verify(accountNumberRangeAllocator, times(5))
+        .reserveBlock(anyString(), anyString(), anyString(), anyInt());
+    assertNull(meterRegistry.find("accountmanaging.inventory.available").gauge());
+  }
+
+  @Test
+  void replenishOnlyTopsUpExhaustedKeysWhileRequestsArrive() throws SQLException {
+    AccountIdentifierInventory busy = new AccountIdentifierInventory(contractIdentifiersPoolRepository,
+        accountNumberRangeAllocator, jdbcTemplate, accountIdentifierCalculator, uuidService, meterRegistry,
+        true, 2, 5, 2, 10, 60_000);
+    when(jdbcTemplate.getDataSource()).thenReturn(dataSource);
+    when(dataSource.getConnection()).thenReturn(connection);
+    when(contractIdentifiersPoolRepository.countAvailable(eq("0049"), anyString(), eq("SAN"), eq(connection)))
+        .thenReturn(1);
+    busy.generated("0049", "1001", "SAN");
+    busy.replenish();
+    busy.claim("0049", "1001", "SAN", connection);
+
+    busy.replenish();
+
+    // la primera ejecución repone (disponible 1 < 2); en la segunda hay carga y la clave no está agotada
+    verify(contractIdentifiersPoolRepository, times(1)).countAvailable("0049", "1001", "SAN", connection);
+  }
+
+  @Test
+  void replenishDoesNothingWhenDisabled() {
+    AccountIdentifierInventory disabled = new AccountIdentifierInventory(contractIdentifiersPoolRepository,
+        accountNumberRangeAllocator, jdbcTemplate, accountIdentifierCalculator, uuidService, meterRegistry,
+        false, 2, 5, 2, 10, 0);
+
+    disabled.replenish();
+
+    assertFalse(disabled.isEnabled());
+    verifyNoInteractions(jdbcTemplate, accountNumberRangeAllocator);
+  }
+}
@@ -0,0 +1,222 @@
+package com.java.developing.accounts.accountmanaging.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import com.developing.app.accounts.accountmanaging.service.AccountIdentifiersBulkService;
+import com.developing.app.accounts.accountmanaging.service.AccountNumberRangeAllocator;
+import com.developing.app.accounts.accountmanaging.service.UuidService;
+import com.developing.app.accounts.accountmanaging.utils.AccountIdentifierCalculator;
+import com.java.developing.accounts.accountmanaging.model.Center;
+import com.java.developing.accounts.accountmanaging.model.Product;
+import com.java.developing.accounts.accountmanaging.model.genaccidentifiers.request.GenerateAccountIdentifiersBulkPostRequest;
+import com.java.developing.accounts.accountmanaging.model.genaccidentifiers.request.GenerateAccountIdentifiersPostRequest;
+import com.java.developing.accounts.accountmanaging.model.genaccidentifiers.response.GenerateAccountIdentifiersBulkPostResponse;
+import com.java.developing.accounts.accountmanaging.repository.ContractIdentifiersRepositoryExt;
+import com.java.developing.accounts.util.lib.core.exceptions.BadRequestplsqlExceptionproject;
+import com.java.developing.accounts.util.lib.core.exceptions.InternalServerErrorplsqlExceptionproject;
+import com.java.developing.accounts.util.lib.db.model.entity.ContractIdentifiersEntity;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class AccountIdentifiersBulkServiceTest {
+
+  @Mock
+  private ContractIdentifiersRepositoryExt contractIdentifiersRepository;
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  @Mock
+  private AccountIdentifierCalculator accountIdentifierCalculator;
+
+  @Mock
+  private UuidService uuidService;
+
+  @Mock
+  private AccountNumberRangeAllocator accountNumberRangeAllocator;
+
+  @Mock
+  private Connection connection;
+
+  private AccountIdentifiersBulkService bulkService;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    bulkService = new AccountIdentifiersBulkService(contractIdentifiersRepository, jdbcTemplate, accountIdentifierCalculator,
+        uuidService, accountNumberRangeAllocator, 5, 2);
+    DataSource dataSource = mock(DataSource.class);
+    when(jdbcTemplate.getDataSource()).thenReturn(dataSource);
+    when(dataSource.getConnection()).thenReturn(connection);
+    when(connection.setSavepoint()).thenReturn(mock(Savepoint.class));
+    when(accountIdentifierCalculator.bban(anyString(), anyString(), anyString())).thenReturn("mockedBBAN");
+    when(accountIdentifierCalculator.iban(anyString(), eq("ES"))).thenReturn("mockedIBAN");
+    when(uuidService.generateUniqueContractId()).thenReturn("uuid-1", "uuid-2", "uuid-3", "uuid-4", "uuid-5");
+  }
+
+  @Test
+  void reservesNumbersOncePerCenterAndInsertsInChunks() throws Exception {
+    when(accountNumberRangeAllocator.reserveBlock("1001", "0049", "brand", 2))
+        .thenReturn(List.of("0000000001", "0000000002"));
+    when(accountNumberRangeAllocator.reserveBlock("2002", "0049", "brand", 1))
+        .thenReturn(List.of("0000000050"));
+
+    GenerateAccountIdentifiersBulkPostResponse response = bulkService.generateAccountIdentifiersBulk(
+        request(item("1001"), item("2002"), item("1001")), "0049", "brand", "Y");
+
+    assertEquals(3, response.getCreated());
+    assertEquals(0, response.getFailed());
+    assertEquals("uuid-1", response.getResults().get(0).getAccounIdentification().getInternalIdentification());
+    verify(accountIdentifierCalculator).bban("0049", "2002", "0000000050");
+    verify(contractIdentifiersRepository, times(2)).insertBatch(anyList(), eq(connection));
+    verify(connection, times(2)).commit();
+  }
+
+  @Test
+  void reportsValidationErrorsPerItem() throws Exception {
+    when(accountNumberRangeAllocator.reserveBlock("1001", "0049", "brand", 1)).thenReturn(List.of("0000000001"));
+
+    GenerateAccountIdentifiersBulkPostResponse response = bulkService.generateAccountIdentifiersBulk(
+        request(item("1001"), item("10A1")), "0049", "brand", "Y");
+
+    assertEquals(1, response.getCreated());
+    assertEquals(1, response.getFailed());
+    assertEquals("ERROR", response.getResults().get(1).getStatus());
+    assertEquals("CONTRACT-MANAGEMENT-F-0007", response.getResults().get(1).getErrorCode());
+    assertNull(response.getResults().get(1).getAccounIdentification());
+  }
+
+  @Test
+  void retriesRowByRowWhenBatchFails() throws Exception {
+    when(accountNumberRangeAllocator.reserveBlock("1001", "0049", "brand", 2))
+        .thenReturn(List.of("0000000001", "0000000002"));
+    when(contractIdentifiersRepository.insertBatch(anyList(), eq(connection)))
+        .thenThrow(new BatchUpdateException("batch error", new int[0]));
+    doNothing()
+        .doThrow(new InternalServerErrorplsqlExceptionproject("DC-COMMON-T-0001", "DATABASE_ERROR"))
+        .when(contractIdentifiersRepository).insertContractIdentifiers(any(ContractIdentifiersEntity.class), eq(connection));
+
+    GenerateAccountIdentifiersBulkPostResponse response = bulkService.generateAccountIdentifiersBulk(
+        request(item("1001"), item("1001")), "0049", "brand", "Y");
+
+    assertEquals(1, response.getCreated());
+    assertEquals("CREATED", response.getResults().get(0).getStatus());
+    assertEquals("DC-COMMON-T-0001", response.getResults().get(1).getErrorCode());
+    verify(connection, times(1)).rollback();
+    verify(connection, times(1)).rollback(any(Savepoint.class));
+    verify(connection, times(1)).commit();
+  }
+
+  @Test
+  void regeneratesContractIdOnDuplicateKeyInRowByRowMode() throws Exception {
+    when(accountNumberRangeAllocator.reserveBlock("1001", "0049", "brand", 1)).thenReturn(List.of("0000000001"));
+    when(contractIdentifiersRepository.insertBatch(anyList(), eq(connection)))
+        .thenThrow(new BatchUpdateException("batch error", new int[0]));
+    List<String> insertedIds = new ArrayList<>();
+    doThrow(new RuntimeException(new SQLIntegrityConstraintViolationException("ORA-00001", "23000", 1)))
+        .doAnswer(invocation -> insertedIds.add(((ContractIdentifiersEntity) invocation.getArgument(0)).getContractId()))
+        .when(contractIdentifiersRepository).insertContractIdentifiers(any(ContractIdentifiersEntity.class), eq(connection));
+
+    GenerateAccountIdentifiersBulkPostResponse response = bulkService.generateAccountIdentifiersBulk(
+        request(item("1001")), "0049", "brand", "Y");
+
+    assertEquals(1, response.getCreated());
+    assertEquals("uuid-2", response.getResults().get(0).getAccounIdentification().getInternalIdentification());
+    assertEquals(List.of("uuid-2"), insertedIds);
+  }
+
+  @Test
+  void keepsCommittedChunksWhenALaterChunkFails() throws Exception {
+    when(accountNumberRangeAllocator.reserveBlock("1001", "0049", "brand", 3))
+        .thenReturn(List.of("0000000001", "0000000002", "0000000003"));
+    doNothing()
+        .doThrow(new IllegalStateException("connection reset"))
+        .when(connection).commit();
+
+    GenerateAccountIdentifiersBulkPostResponse response = bulkService.generateAccountIdentifiersBulk(
+        request(item("1001"), item("1001"), item("1001")), "0049", "brand", "Y");
+
+    assertEquals(2, response.getCreated());
+    assertEquals(1, response.getFailed());
+    assertEquals("CREATED", response.getResults().get(1).getStatus());
+    assertEquals("ERROR", response.getResults().get(2).getStatus());
+    assertEquals("DC-COMMON-T-0001", response.getResults().get(2).getErrorCode());
+    verify(contractIdentifiersRepository, times(2)).insertBatch(anyList(), eq(connection));
+  }
+
+  @Test
+  void marksCenterItemsAsErrorWhenReservationFails() throws Exception {
+    when(accountNumberRangeAllocator.reserveBlock("1001", "0049", "brand", 1))
+        .thenThrow(new InternalServerErrorplsqlExceptionproject("DC-COMMON-T-0001", "DATABASE_ERROR"));
+
+    GenerateAccountIdentifiersBulkPostResponse response = bulkService.generateAccountIdentifiersBulk(
+        request(item("1001")), "0049", "brand", "Y");
+
+    assertEquals(0, response.getCreated());
+    assertEquals("DC-COMMON-T-0001", response.getResults().get(0).getErrorCode());
+    verify(jdbcTemplate, never()).getDataSource();
+  }
+
+  @Test
+  void throwsBadRequestWhenListExceedsMaxItems() {
+    GenerateAccountIdentifiersBulkPostRequest request =
+        request(item("1001"), item("1001"), item("1001"), item("1001"), item("1001"), item("1001"));
+
+    BadRequestplsqlExceptionproject exception = assertThrows(BadRequestplsqlExceptionproject.class,
+        () -> bulkService.generateAccountIdentifiersBulk(request, "0049", "brand", "Y"));
+
+    assertEquals("CONTRACT-MANAGEMENT-F-0014", exception.getErrorName());
+  }
+
+  @Test
+  void throwsBadRequestWhenListIsEmpty() {
+    GenerateAccountIdentifiersBulkPostRequest request = new GenerateAccountIdentifiersBulkPostRequest(List.of());
+
+    BadRequestplsqlExceptionproject exception = assertThrows(BadRequestplsqlExceptionproject.class,
+        () -> bulkService.generateAccountIdentifiersBulk(request, "0049", "brand", "Y"));
+
+    assertEquals("CONTRACT-MANAGEMENT-F-0013", exception.getErrorName());
+  }
+
+  private static GenerateAccountIdentifiersBulkPostRequest request(GenerateAccountIdentifiersPostRequest... items) {
+    return new GenerateAccountIdentifiersBulkPostRequest(List.of(items));
+  }
+
+  private static GenerateAccountIdentifiersPostRequest item(String centerId) {
+    Center center = new Center();
+    center.setCenterId(centerId);
+    Product product = new Product();
+    product.setProductCode("0049300130");
+    return new GenerateAccountIdentifiersPostRequest(center, product);
+  }
+}
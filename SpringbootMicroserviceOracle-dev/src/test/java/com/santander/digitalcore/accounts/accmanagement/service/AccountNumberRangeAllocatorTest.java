@@ -0,0 +1,166 @@
+package com.java.developing.accounts.accountmanaging.service;
+
+import com.developing.app.accounts.accountmanaging.repository.ContractCounterRepositoryExt;
+import com.developing.app.accounts.accountmanaging.service.AccountNumberRangeAllocator;
+import com.java.developing.accounts.util.lib.core.exceptions.InternalServerErrorplsqlExceptionproject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountNumberRangeAllocatorTest {
+
+  @Mock
+  private ContractCounterRepositoryExt contractCounterRepository;
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  @Mock
+  private DataSource dataSource;
+
+  @Mock
+  private Connection connection;
+
+  private AccountNumberRangeAllocator allocator;
+
+  @BeforeEach
+  void setUp() {
+    allocator = new AccountNumberRangeAllocator(contractCounterRepository, jdbcTemplate, true, 3, 100, 30);
+  }
+
+  @Test
+  void servesNumbersFromReservedRangeWithSingleReservation() throws SQLException {
+    when(jdbcTemplate.getDataSource()).thenReturn(dataSource);
+    when(dataSource.getConnection()).thenReturn(connection);
+    when(contractCounterRepository.reserveRange("0049", "1001", "brand", 3, connection)).thenReturn(41L);
+
+    assertEquals("0000000042", allocator.nextAccountNumber("1001", "0049", "brand"));
+    assertEquals("0000000043", allocator.nextAccountNumber("1001", "0049", "brand"));
+    assertEquals("0000000044", allocator.nextAccountNumber("1001", "0049", "brand"));
+
+    verify(contractCounterRepository, times(1)).reserveRange(anyString(), anyString(), anyString(), anyInt(), any());
+    verify(connection, times(1)).commit();
+    verify(connection, times(1)).close();
+  }
+
+  @Test
+  void reservesNewRangeWhenCurrentIsExhausted() throws SQLException {
+    when(jdbcTemplate.getDataSource()).thenReturn(dataSource);
+    when(dataSource.getConnection()).thenReturn(connection);
+    when(contractCounterRepository.reserveRange(eq("0049"), eq("1001"), eq("brand"), anyInt(), eq(connection)))
+        .thenReturn(0L, 500L);
+
+    for (int i = 0; i < 3; i++) {
+      allocator.nextAccountNumber("1001", "0049", "brand");
+    }
+
+    assertEquals("0000000501", allocator.nextAccountNumber("1001", "0049", "brand"));
+    verify(contractCounterRepository, times(2)).reserveRange(anyString(), anyString(), anyString(), anyInt(), any());
+  }
+
+  @Test
+  void keepsSeparateRangesPerKey() throws SQLException {
+    when(jdbcTemplate.getDataSource()).thenReturn(dataSource);
+    when(dataSource.getConnection()).thenReturn(connection);
+    when(contractCounterRepository.reserveRange(eq("0049"), eq("1001"), eq("brand"), anyInt(), eq(connection)))
+        .thenReturn(10L);
+    when(contractCounterRepository.reserveRange(eq("0049"), eq("2002"), eq("brand"), anyInt(), eq(connection)))
+        .thenReturn(70L);
+
+    assertEquals("0000000011", allocator.nextAccountNumber("1001", "0049", "brand"));
+    assertEquals("0000000071", allocator.nextAccountNumber("2002", "0049", "brand"));
+  }
+
+  @Test
+  void rollsBackAndPropagatesWhenReservationFails() throws SQLException {
+    when(jdbcTemplate.getDataSource()).thenReturn(dataSource);
+    when(dataSource.getConnection()).thenReturn(connection);
+    when(contractCounterRepository.reserveRange(anyString(), anyString(), anyString(), anyInt(), any()))
+        .thenThrow(new InternalServerErrorplsqlExceptionproject("DC-COMMON-T-0001", "DATABASE_ERROR"));
+
+    assertThrows(InternalServerErrorplsqlExceptionproject.class,
+        () -> allocator.nextAccountNumber("1001", "0049", "brand"));
+    verify(connection, times(1)).rollback();
+    verify(connection, times(1)).close();
+  }
+
+  @Test
+  void releasesUnusedTailOnShutdown() throws SQLException {
+    when(jdbcTemplate.getDataSource()).thenReturn(dataSource);
+    when(dataSource.getConnection()).thenReturn(connection);
+    when(contractCounterRepository.reserveRange(anyString(), anyString(), anyString(), anyInt(), any()))
+        .thenReturn(41L);
+    when(contractCounterRepository.releaseRange(anyString(), anyString(), anyString(), anyLong(), anyLong(), any()))
+        .thenReturn(true);
+
+    allocator.nextAccountNumber("1001", "0049", "brand");
+    allocator.releaseUnusedRanges();
+
+    verify(contractCounterRepository).releaseRange("0049", "1001", "brand", 44L, 42L, connection);
+  }
+
+  @Test
+  void doesNotReleaseWhenRangeIsFullyUsed() throws SQLException {
+    when(jdbcTemplate.getDataSource()).thenReturn(dataSource);
+    when(dataSource.getConnection()).thenReturn(connection);
+    when(contractCounterRepository.reserveRange(anyString(), anyString(), anyString(), anyInt(), any()))
+        .thenReturn(41L);
+
+    for (int i = 0; i < 3; i++) {
+      allocator.nextAccountNumber("1001", "0049", "brand");
+    }
+    allocator.releaseUnusedRanges();
+
+    verify(contractCounterRepository, never())
+        .releaseRange(anyString(), anyString(), anyString(), anyLong(), anyLong(), any());
+  }
+
+  @Test
+  void failsInsteadOfTruncatingWhenTheCounterExceedsTenDigits() throws SQLException {
+    when(jdbcTemplate.getDataSource()).thenReturn(dataSource);
+    when(dataSource.getConnection()).thenReturn(connection);
+    when(contractCounterRepository.reserveRange(anyString(), anyString(), anyString(), anyInt(), any()))
+        .thenReturn(9_999_999_998L);
+
+    assertEquals("9999999999", allocator.nextAccountNumber("1001", "0049", "brand"));
+    InternalServerErrorplsqlExceptionproject exception = assertThrows(InternalServerErrorplsqlExceptionproject.class,
+        () -> allocator.nextAccountNumber("1001", "0049", "brand"));
+    assertEquals("DC-COMMON-T-9999", exception.getErrorName());
+  }
+
+  @Test
+  void reserveBlockFailsWhenTheBlockExceedsTenDigits() throws SQLException {
+    when(jdbcTemplate.getDataSource()).thenReturn(dataSource);
+    when(dataSource.getConnection()).thenReturn(connection);
+    when(contractCounterRepository.reserveRange(anyString(), anyString(), anyString(), anyInt(), any()))
+        .thenReturn(9_999_999_997L);
+
+    assertThrows(InternalServerErrorplsqlExceptionproject.class,
+        () -> allocator.reserveBlock("1001", "0049", "brand", 3));
+  }
+
+  @Test
+  void isEnabledReflectsConfiguration() {
+    AccountNumberRangeAllocator disabled =
+        new AccountNumberRangeAllocator(contractCounterRepository, jdbcTemplate, false, 10, 1000, 30);
+
+    assertTrue(allocator.isEnabled());
+    assertFalse(disabled.isEnabled());
+  }
+}
@@ -0,0 +1,48 @@
+package com.java.developing.accounts.accountmanaging.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.developing.app.accounts.accountmanaging.service.GenerateAccountIdentifiersMetrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class GenerateAccountIdentifiersMetricsTest {
+
+  private static final String METRIC_NAME = "accountmanaging.generate.phase";
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void unknownEntitiesAndBrandsAreTaggedAsOther() {
+    GenerateAccountIdentifiersMetrics metrics =
+        new GenerateAccountIdentifiersMetrics(meterRegistry, Set.of("0049"), Set.of("SAN"), 10);
+
+    metrics.record("iban", "0049", "SAN", metrics.start());
+    metrics.record("iban", "9999", "XYZ", metrics.start());
+    metrics.record("iban", "8888", "ABC", metrics.start());
+
+    assertNotNull(meterRegistry.find(METRIC_NAME).tags("entity", "0049", "brand", "SAN").timer());
+    assertEquals(2, meterRegistry.find(METRIC_NAME).tags("entity", "other", "brand", "other").timer().count());
+    assertEquals(2, meterRegistry.find(METRIC_NAME).timers().size());
+  }
+
+  @Test
+  void withoutKnownValuesOnlyTheFirstOnesGetTheirOwnTag() {
+    GenerateAccountIdentifiersMetrics metrics =
+        new GenerateAccountIdentifiersMetrics(meterRegistry, Set.of(), Set.of(), 2);
+
+    for (int i = 0; i < 50; i++) {
+      metrics.record("iban", "0049", "brand-" + i, metrics.start());
+    }
+
+    assertNotNull(meterRegistry.find(METRIC_NAME).tag("brand", "brand-0").timer());
+    assertNotNull(meterRegistry.find(METRIC_NAME).tag("brand", "brand-1").timer());
+    assertEquals(48, meterRegistry.find(METRIC_NAME).tag("brand", "other").timer().count());
+    assertEquals(3, meterRegistry.find(METRIC_NAME).timers().size());
+  }
+}
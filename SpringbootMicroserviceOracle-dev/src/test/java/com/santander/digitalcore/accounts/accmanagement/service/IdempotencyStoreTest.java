@@ -0,0 +1,178 @@
+package com.java.developing.accounts.accountmanaging.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.developing.app.accounts.accountmanaging.service.IdempotencyStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.java.developing.accounts.accountmanaging.model.AccounIdentification;
+import com.java.developing.accounts.accountmanaging.model.Center;
+import com.java.developing.accounts.accountmanaging.model.Product;
+import com.java.developing.accounts.accountmanaging.model.genaccidentifiers.request.GenerateAccountIdentifiersPostRequest;
+import com.java.developing.accounts.accountmanaging.model.genaccidentifiers.response.GenerateAccountIdentifiersPostResponse;
+import com.java.developing.accounts.accountmanaging.repository.IdempotencyKeysRepositoryExt;
+import com.java.developing.accounts.accountmanaging.repository.IdempotencyKeysRepositoryExt.IdempotencyKeyRow;
+import com.java.developing.accounts.util.lib.core.exceptions.BadRequestplsqlExceptionproject;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyStoreTest {
+
+  @Mock
+  private IdempotencyKeysRepositoryExt idempotencyKeysRepository;
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private IdempotencyStore idempotencyStore;
+
+  @BeforeEach
+  void setUp() {
+    idempotencyStore = new IdempotencyStore(idempotencyKeysRepository, jdbcTemplate, objectMapper, 100, 60, 24, 2);
+  }
+
+  @Test
+  void findReturnsNullWhenKeyIsUnknown() throws Exception {
+    Connection connection = mockConnection();
+
+    assertNull(idempotencyStore.find("0049", "SAN", "key-1", "hash"));
+    verify(idempotencyKeysRepository).findByKey(eq("0049"), eq("SAN"), eq("key-1"), any(LocalDateTime.class),
+        eq(connection));
+  }
+
+  @Test
+  void findReadsStoredResponseFromDatabaseOnlyOnce() throws Exception {
+    Connection connection = mockConnection();
+    GenerateAccountIdentifiersPostResponse original = response("contract-1");
+    when(idempotencyKeysRepository.findByKey(eq("0049"), eq("SAN"), eq("key-1"), any(LocalDateTime.class),
+        eq(connection)))
+        .thenReturn(new IdempotencyKeyRow("hash", objectMapper.writeValueAsString(original)));
+
+    assertEquals(original, idempotencyStore.find("0049", "SAN", "key-1", "hash"));
+    assertEquals(original, idempotencyStore.find("0049", "SAN", "key-1", "hash"));
+    verify(idempotencyKeysRepository, times(1)).findByKey(eq("0049"), eq("SAN"), eq("key-1"),
+        any(LocalDateTime.class), eq(connection));
+  }
+
+  @Test
+  void findReturnsRememberedResponseWithoutDatabaseAccess() {
+    GenerateAccountIdentifiersPostResponse original = response("contract-1");
+    idempotencyStore.remember("0049", "SAN", "key-1", "hash", original);
+
+    assertEquals(original, idempotencyStore.find("0049", "SAN", "key-1", "hash"));
+    verify(jdbcTemplate, never()).getDataSource();
+  }
+
+  @Test
+  void findThrowsBadRequestWhenKeyWasUsedWithDifferentRequest() {
+    idempotencyStore.remember("0049", "SAN", "key-1", "hash", response("contract-1"));
+
+    BadRequestplsqlExceptionproject exception = assertThrows(BadRequestplsqlExceptionproject.class,
+        () -> idempotencyStore.find("0049", "SAN", "key-1", "other-hash"));
+
+    assertEquals("CONTRACT-MANAGEMENT-F-0016", exception.getErrorName());
+  }
+
+  @Test
+  void saveStoresResponseAsJson() throws Exception {
+    Connection connection = mock(Connection.class);
+    GenerateAccountIdentifiersPostResponse original = response("contract-1");
+
+    idempotencyStore.save("0049", "SAN", "key-1", "hash", original, connection);
+
+    verify(idempotencyKeysRepository).insert(eq("0049"), eq("SAN"), eq("key-1"),
+        argThat(row -> "hash".equals(row.requestHash()) && row.response().contains("contract-1")), eq(connection));
+  }
+
+  @Test
+  void findIgnoresKeysOlderThanTheRetention() throws Exception {
+    Connection connection = mockConnection();
+
+    idempotencyStore.find("0049", "SAN", "key-1", "hash");
+
+    LocalDateTime expected = LocalDateTime.now(ZoneOffset.UTC).minusHours(24);
+    verify(idempotencyKeysRepository).findByKey(eq("0049"), eq("SAN"), eq("key-1"),
+        argThat(notBefore -> Math.abs(Duration.between(expected, notBefore).toSeconds()) < 60),
+        eq(connection));
+  }
+
+  @Test
+  void saveReplacesAnExpiredKeyBeforeTheInsert() throws Exception {
+    Connection connection = mock(Connection.class);
+
+    idempotencyStore.save("0049", "SAN", "key-1", "hash", response("contract-1"), connection);
+
+    InOrder inOrder = inOrder(idempotencyKeysRepository);
+    inOrder.verify(idempotencyKeysRepository).deleteExpired(eq("0049"), eq("SAN"), eq("key-1"),
+        any(LocalDateTime.class), eq(connection));
+    inOrder.verify(idempotencyKeysRepository).insert(eq("0049"), eq("SAN"), eq("key-1"), any(), eq(connection));
+  }
+
+  @Test
+  void purgeDeletesInBatchesUntilNoFullBatchIsLeft() throws Exception {
+    Connection connection = mockConnection();
+    when(idempotencyKeysRepository.deleteOlderThan(any(LocalDateTime.class), anyInt(), eq(connection)))
+        .thenReturn(2, 2, 1);
+
+    assertEquals(5, idempotencyStore.purge());
+    verify(idempotencyKeysRepository, times(3)).deleteOlderThan(any(LocalDateTime.class), eq(2), eq(connection));
+  }
+
+  @Test
+  void requestHashDependsOnCenterAndProduct() {
+    Center center = new Center();
+    center.setCenterId("1001");
+    Product product = new Product();
+    product.setProductCode("0049300130");
+    GenerateAccountIdentifiersPostRequest request = new GenerateAccountIdentifiersPostRequest(center, product);
+    String hash = IdempotencyStore.requestHash(request);
+
+    product.setProductCode("0049300131");
+
+    assertEquals(64, hash.length());
+    assertNotEquals(hash, IdempotencyStore.requestHash(request));
+  }
+
+  private Connection mockConnection() throws Exception {
+    Connection connection = mock(Connection.class);
+    DataSource dataSource = mock(DataSource.class);
+    when(jdbcTemplate.getDataSource()).thenReturn(dataSource);
+    when(dataSource.getConnection()).thenReturn(connection);
+    return connection;
+  }
+
+  private static GenerateAccountIdentifiersPostResponse response(String contractId) {
+    AccounIdentification accounIdentification = new AccounIdentification();
+    accounIdentification.setInternalIdentification(contractId);
+    accounIdentification.setNationalIdentification("00491001000000000001");
+    return new GenerateAccountIdentifiersPostResponse(accounIdentification);
+  }
+}
@@ -1,7 +1,7 @@
 package com.java.developing.accounts.accountmanaging.service;
 
 import com.developing.app.accounts.accountmanaging.service.UuidService;
-import com.java.developing.accounts.accountmanaging.repository.ContractIdentifiersRepositoryExt;
+import com.java.developing.accounts.accountmanaging.service.contractid.ContractIdGenerator;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,10 +9,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.jdbc.core.JdbcTemplate;
-import java.sql.Connection;
-import java.sql.SQLException;
-import java.util.Objects;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -21,57 +17,25 @@ import static org.mockito.Mockito.*;
 class UuidServiceTest {
 
   @Mock
-  private ContractIdentifiersRepositoryExt contractIdentifiersRepository;
-
-  @Mock
-  private JdbcTemplate jdbcTemplate;
+  private ContractIdGenerator contractIdGenerator;
 
   @InjectMocks
   private UuidService uuidService;
 
   @Test
-  void generateUniqueContractIdReturnsNewUuidWhenNotInDatabase() throws SQLException {
-    Connection mockConnection = mock(Connection.class);
-    when(jdbcTemplate.getDataSource()).thenReturn(mock(javax.sql.DataSource.class));
-    when(Objects.requireNonNull(jdbcTemplate.getDataSource()).getConnection()).thenReturn(mockConnection);
-    when(contractIdentifiersRepository.existsByContractId(anyString(), eq(mockConnection))).thenReturn(false);
-
-    String uuid = uuidService.generateUniqueContractId();
-
-    assertNotNull(uuid);
-    verify(contractIdentifiersRepository, times(1)).existsByContractId(uuid, mockConnection);
-  }
-
-  @Test
-  void generateUniqueContractIdRetriesWhenUuidExistsInDatabase() throws SQLException {
-    Connection mockConnection = mock(Connection.class);
-    when(jdbcTemplate.getDataSource()).thenReturn(mock(javax.sql.DataSource.class));
-    when(Objects.requireNonNull(jdbcTemplate.getDataSource()).getConnection()).thenReturn(mockConnection);
-    when(contractIdentifiersRepository.existsByContractId(anyString(), eq(mockConnection)))
-        .thenReturn(true)
-        .thenReturn(false);
+  void generateUniqueContractIdDelegatesToGenerator() {
+    when(contractIdGenerator.nextContractId()).thenReturn("0190b3e4-7c1a-7000-8000-000000000001");
 
     String uuid = uuidService.generateUniqueContractId();
 
-    assertNotNull(uuid);
-    verify(contractIdentifiersRepository, times(2)).existsByContractId(anyString(), eq(mockConnection));
-  }
-
-  @Test
-  void generateUniqueContractIdThrowsExceptionWhenConnectionFails(){
-    when(jdbcTemplate.getDataSource()).thenReturn(null);
-
-    assertThrows(NullPointerException.class, () -> uuidService.generateUniqueContractId());
+    assertEquals("0190b3e4-7c1a-7000-8000-000000000001", uuid);
+    verify(contractIdGenerator, times(1)).nextContractId();
   }
 
   @Test
-  void generateUniqueContractIdRollsBackOnException() throws SQLException {
-    Connection mockConnection = mock(Connection.class);
-    when(jdbcTemplate.getDataSource()).thenReturn(mock(javax.sql.DataSource.class));
-    when(Objects.requireNonNull(jdbcTemplate.getDataSource()).getConnection()).thenReturn(mockConnection);
-    doThrow(new RuntimeException("Database error")).when(contractIdentifiersRepository).existsByContractId(anyString(), eq(mockConnection));
+  void generateUniqueContractIdPropagatesGeneratorErrors() {
+    when(contractIdGenerator.nextContractId()).thenThrow(new IllegalStateException("generator error"));
 
-    assertThrows(RuntimeException.class, () -> uuidService.generateUniqueContractId());
-    verify(mockConnection, times(1)).rollback();
+    assertThrows(IllegalStateException.class, () -> uuidService.generateUniqueContractId());
   }
 }
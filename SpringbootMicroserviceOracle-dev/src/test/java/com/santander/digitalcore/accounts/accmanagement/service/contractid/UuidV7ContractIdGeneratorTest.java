@@ -0,0 +1,59 @@
+package com.developing.app.accounts.accountmanaging.service.contractid;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7ContractIdGeneratorTest {
+
+  @Test
+  void generatesVersion7Uuids() {
+    UUID uuid = UUID.fromString(new UuidV7ContractIdGenerator().nextContractId());
+
+    assertEquals(7, uuid.version());
+    assertEquals(2, uuid.variant());
+  }
+
+  @Test
+  void embedsUnixMillisInMostSignificantBits() {
+    UuidV7ContractIdGenerator generator = new UuidV7ContractIdGenerator(() -> 1_700_000_000_000L);
+
+    UUID uuid = generator.next();
+
+    assertEquals(1_700_000_000_000L, uuid.getMostSignificantBits() >>> 16);
+  }
+
+  @Test
+  void isStrictlyIncreasingWithinSameMillisecond() {
+    UuidV7ContractIdGenerator generator = new UuidV7ContractIdGenerator(() -> 1_700_000_000_000L);
+
+    String previous = generator.nextContractId();
+    for (int i = 0; i < 10_000; i++) {
+      String current = generator.nextContractId();
+      assertTrue(current.compareTo(previous) > 0);
+      previous = current;
+    }
+  }
+
+  @Test
+  void isStrictlyIncreasingWhenClockGoesBackwards() {
+    AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+    UuidV7ContractIdGenerator generator = new UuidV7ContractIdGenerator(clock::get);
+
+    String first = generator.nextContractId();
+    clock.addAndGet(-5_000);
+    String second = generator.nextContractId();
+
+    assertTrue(second.compareTo(first) > 0);
+  }
+
+  @Test
+  void randomGeneratorProducesVersion4Uuids() {
+    UUID uuid = UUID.fromString(new RandomContractIdGenerator().nextContractId());
+
+    assertEquals(4, uuid.version());
+  }
+}
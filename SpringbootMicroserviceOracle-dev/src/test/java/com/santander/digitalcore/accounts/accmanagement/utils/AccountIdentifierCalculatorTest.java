@@ -0,0 +1,66 @@
+package com.java.developing.accounts.accountmanaging.utils;
+
+import com.developing.app.accounts.accountmanaging.utils.AccountIdentifierCalculator;
+import com.java.developing.accounts.util.lib.core.exceptions.BadRequestplsqlExceptionproject;
+import com.java.developing.accounts.util.lib.core.exceptions.InternalServerErrorplsqlExceptionproject;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccountIdentifierCalculatorTest {
+
+  private final AccountIdentifierCalculator calculator = new AccountIdentifierCalculator();
+
+  @Test
+  void bbanComputesCccControlDigits() {
+    assertEquals("21000418450200051332", calculator.bban("2100", "0418", "0200051332"));
+  }
+
+  @Test
+  void bbanPadsCenterAndAccountNumberWithZeros() {
+    assertEquals(calculator.bban("0049", "0101", "0000000042"), calculator.bban("0049", "101", "42"));
+  }
+
+  @Test
+  void bbanMapsControlDigitTenToOneAndElevenToZero() {
+    // "00" + 0000 + 0000 suma 0 -> 11 -> 0; 1000000000 suma 1 -> 10 -> 1
+    assertEquals("00000000011000000000", calculator.bban("0000", "0000", "1000000000"));
+  }
+
+  @Test
+  void ibanComputesMod97CheckDigits() {
+    assertEquals("ES9121000418450200051332", calculator.iban("21000418450200051332", "ES"));
+  }
+
+  @Test
+  void ibanAcceptsAlphanumericBban() {
+    assertEquals("GB82WEST12345698765432", calculator.iban("WEST12345698765432", "GB"));
+  }
+
+  @Test
+  void bbanThrowsBadRequestWhenEntityIsNotNumeric() {
+    BadRequestplsqlExceptionproject exception = assertThrows(BadRequestplsqlExceptionproject.class,
+        () -> calculator.bban("00A9", "1001", "0000000001"));
+
+    assertEquals("CONTRACT-MANAGEMENT-F-0012", exception.getErrorName());
+  }
+
+  @Test
+  void bbanThrowsBadRequestWhenCenterIsTooLong() {
+    BadRequestplsqlExceptionproject exception = assertThrows(BadRequestplsqlExceptionproject.class,
+        () -> calculator.bban("0049", "10011", "0000000001"));
+
+    assertEquals("CONTRACT-MANAGEMENT-F-0007", exception.getErrorName());
+  }
+
+  @Test
+  void bbanThrowsInternalErrorWhenAccountNumberIsMissing() {
+    assertThrows(InternalServerErrorplsqlExceptionproject.class, () -> calculator.bban("0049", "1001", null));
+  }
+
+  @Test
+  void ibanThrowsInternalErrorWhenBbanHasInvalidCharacters() {
+    assertThrows(InternalServerErrorplsqlExceptionproject.class, () -> calculator.iban("2100-0418", "ES"));
+  }
+}
@@ -0,0 +1,95 @@
+package com.java.developing.accounts.accountmanaging.utils;
+
+import com.developing.app.accounts.accountmanaging.utils.BoundedRingBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedRingBufferTest {
+
+  @Test
+  void capacityIsRoundedUpToPowerOfTwo() {
+    assertEquals(8, new BoundedRingBuffer<String>(5).capacity());
+    assertEquals(8, new BoundedRingBuffer<String>(8).capacity());
+    assertEquals(2, new BoundedRingBuffer<String>(0).capacity());
+  }
+
+  @Test
+  void pollReturnsElementsInInsertionOrder() {
+    BoundedRingBuffer<String> buffer = new BoundedRingBuffer<>(4);
+
+    assertTrue(buffer.offer("a"));
+    assertTrue(buffer.offer("b"));
+    assertTrue(buffer.offer("c"));
+
+    assertEquals(3, buffer.size());
+    assertEquals("a", buffer.poll());
+    assertEquals("b", buffer.poll());
+    assertEquals("c", buffer.poll());
+    assertNull(buffer.poll());
+    assertEquals(0, buffer.size());
+  }
+
+  @Test
+  void offerReturnsFalseWhenFullAndAcceptsAgainAfterPoll() {
+    BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(2);
+
+    assertTrue(buffer.offer(1));
+    assertTrue(buffer.offer(2));
+    assertFalse(buffer.offer(3));
+
+    assertEquals(1, buffer.poll());
+    assertTrue(buffer.offer(3));
+    assertEquals(2, buffer.poll());
+    assertEquals(3, buffer.poll());
+  }
+
+  @Test
+  void concurrentProducersDoNotLoseOrDuplicateElements() throws Exception {
+    int producers = 4;
+    int perProducer = 10_000;
+    BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(1024);
+    ExecutorService executor = Executors.newFixedThreadPool(producers);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int p = 0; p < producers; p++) {
+        int base = p * perProducer;
+        futures.add(executor.submit(() -> {
+          start.await();
+          for (int i = 0; i < perProducer; i++) {
+            while (!buffer.offer(base + i)) {
+              Thread.onSpinWait();
+            }
+          }
+          return null;
+        }));
+      }
+      start.countDown();
+
+      Set<Integer> received = new HashSet<>();
+      while (received.size() < producers * perProducer) {
+        Integer element = buffer.poll();
+        if (element != null) {
+          assertTrue(received.add(element));
+        }
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+      assertNull(buffer.poll());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,177 @@
+package com.java.developing.accounts.accountmanaging.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.MDC;
+
+import com.developing.app.accounts.accountmanaging.web.AsyncFuntionalLog;
+import com.developing.app.accounts.accountmanaging.web.AsyncFuntionalLog.OverflowPolicy;
+import com.java.developing.accounts.util.lib.core.exceptions.BadRequestplsqlExceptionproject;
+import com.java.developing.accounts.util.lib.core.funtionallog.FuntionalLogUtil;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncFuntionalLogTest {
+
+  @Mock
+  private FuntionalLogUtil funtionalLogUtil;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private AsyncFuntionalLog asyncFuntionalLog;
+
+  @AfterEach
+  void tearDown() {
+    if (asyncFuntionalLog != null) {
+      asyncFuntionalLog.stop();
+    }
+    MDC.clear();
+  }
+
+  @Test
+  void syncModeDelegatesOnCallingThread() {
+    asyncFuntionalLog = build(false, 16, OverflowPolicy.DROP);
+    BadRequestplsqlExceptionproject error = new BadRequestplsqlExceptionproject("CONTRACT-MANAGEMENT-F-0001");
+    RuntimeException internal = new RuntimeException("boom");
+
+    asyncFuntionalLog.setRequest("request");
+    asyncFuntionalLog.logTraceOK();
+    asyncFuntionalLog.logTraceFuntionalError(error);
+    asyncFuntionalLog.logTraceInternalError(internal);
+
+    verify(funtionalLogUtil).setRequest("request");
+    verify(funtionalLogUtil).logTraceOK();
+    verify(funtionalLogUtil).logTraceFuntionalError(error);
+    verify(funtionalLogUtil).logTraceInternalError(internal);
+  }
+
+  @Test
+  void asyncModeReplaysEventsOnBackgroundThreadWithOriginalMdc() {
+    asyncFuntionalLog = build(true, 16, OverflowPolicy.DROP);
+    AtomicReference<String> replayedTrace = new AtomicReference<>();
+    AtomicReference<String> replayThread = new AtomicReference<>();
+    doAnswer(invocation -> {
+      replayedTrace.set(MDC.get("traceId"));
+      replayThread.set(Thread.currentThread().getName());
+      return null;
+    }).when(funtionalLogUtil).logTraceOK();
+
+    MDC.put("traceId", "trace-1");
+    asyncFuntionalLog.setRequest("request");
+    asyncFuntionalLog.logTraceOK();
+
+    verify(funtionalLogUtil, never()).setRequest(any());
+    verify(funtionalLogUtil, never()).logTraceOK();
+
+    asyncFuntionalLog.start();
+    asyncFuntionalLog.stop();
+
+    InOrder inOrder = inOrder(funtionalLogUtil);
+    inOrder.verify(funtionalLogUtil).setRequest("request");
+    inOrder.verify(funtionalLogUtil).logTraceOK();
+    assertEquals("trace-1", replayedTrace.get());
+    assertEquals("funtional-log-drainer", replayThread.get());
+    assertEquals(0.0, meterRegistry.get("accountmanaging.functional-log.queue.depth").gauge().value());
+  }
+
+  @Test
+  void asyncModeReplaysFunctionalAndInternalErrors() {
+    asyncFuntionalLog = build(true, 16, OverflowPolicy.DROP);
+    BadRequestplsqlExceptionproject error = new BadRequestplsqlExceptionproject("CONTRACT-MANAGEMENT-F-0001");
+    RuntimeException internal = new RuntimeException("boom");
+
+    asyncFuntionalLog.logTraceFuntionalError(error);
+    asyncFuntionalLog.setRequest("request");
+    asyncFuntionalLog.logTraceInternalError(internal);
+    asyncFuntionalLog.start();
+    asyncFuntionalLog.stop();
+
+    verify(funtionalLogUtil, times(1)).setRequest("request");
+    verify(funtionalLogUtil).logTraceFuntionalError(error);
+    verify(funtionalLogUtil).logTraceInternalError(internal);
+  }
+
+  @Test
+  void asyncModeResetsTheRequestOfEventsWithoutRequest() {
+    asyncFuntionalLog = build(true, 16, OverflowPolicy.DROP);
+    RuntimeException internal = new RuntimeException("boom");
+
+    asyncFuntionalLog.setRequest("request");
+    asyncFuntionalLog.logTraceOK();
+    asyncFuntionalLog.logTraceInternalError(internal);
+    asyncFuntionalLog.start();
+    asyncFuntionalLog.stop();
+
+    InOrder inOrder = inOrder(funtionalLogUtil);
+    inOrder.verify(funtionalLogUtil).setRequest("request");
+    inOrder.verify(funtionalLogUtil).logTraceOK();
+    inOrder.verify(funtionalLogUtil).setRequest(null);
+    inOrder.verify(funtionalLogUtil).logTraceInternalError(internal);
+  }
+
+  @Test
+  void dropPolicyDiscardsEventsWhenQueueIsFull() {
+    asyncFuntionalLog = build(true, 2, OverflowPolicy.DROP);
+
+    asyncFuntionalLog.logTraceOK();
+    asyncFuntionalLog.logTraceOK();
+    asyncFuntionalLog.logTraceOK();
+
+    assertEquals(2.0, meterRegistry.get("accountmanaging.functional-log.queue.depth").gauge().value());
+    assertEquals(1.0, meterRegistry.get("accountmanaging.functional-log.dropped").counter().count());
+
+    asyncFuntionalLog.start();
+    asyncFuntionalLog.stop();
+
+    verify(funtionalLogUtil, times(2)).logTraceOK();
+  }
+
+  @Test
+  void blockPolicyWaitsAtMostTimeoutBeforeDiscarding() {
+    asyncFuntionalLog = build(true, 2, OverflowPolicy.BLOCK);
+    asyncFuntionalLog.logTraceOK();
+    asyncFuntionalLog.logTraceOK();
+
+    long start = System.nanoTime();
+    asyncFuntionalLog.logTraceOK();
+    long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+    assertTrue(elapsedMillis >= 5, "elapsed " + elapsedMillis + " ms");
+    assertEquals(1.0, meterRegistry.get("accountmanaging.functional-log.dropped").counter().count());
+  }
+
+  @Test
+  void replayFailureIsCountedAndDoesNotStopTheDrainer() {
+    asyncFuntionalLog = build(true, 16, OverflowPolicy.DROP);
+    doThrow(new IllegalStateException("kafka down")).doNothing().when(funtionalLogUtil).logTraceOK();
+
+    asyncFuntionalLog.logTraceOK();
+    asyncFuntionalLog.logTraceOK();
+    asyncFuntionalLog.start();
+    asyncFuntionalLog.stop();
+
+    verify(funtionalLogUtil, times(2)).logTraceOK();
+    assertEquals(1.0, meterRegistry.get("accountmanaging.functional-log.failed").counter().count());
+  }
+
+  private AsyncFuntionalLog build(boolean async, int capacity, OverflowPolicy overflowPolicy) {
+    return new AsyncFuntionalLog(funtionalLogUtil, meterRegistry, async, capacity, overflowPolicy, 5, 256, 1);
+  }
+}
@@ -1,11 +1,15 @@
 package com.java.developing.accounts.accountmanaging.web;
 
 import com.java.plsql.core.exceptions.GenericplsqlException;
+import com.developing.app.accounts.accountmanaging.web.AsyncFuntionalLog;
 import com.developing.app.accounts.accountmanaging.web.Controller;
 import com.java.developing.accounts.accountmanaging.model.Center;
 import com.java.developing.accounts.accountmanaging.model.Product;
+import com.java.developing.accounts.accountmanaging.model.genaccidentifiers.request.GenerateAccountIdentifiersBulkPostRequest;
 import com.java.developing.accounts.accountmanaging.model.genaccidentifiers.request.GenerateAccountIdentifiersPostRequest;
+import com.java.developing.accounts.accountmanaging.model.genaccidentifiers.response.GenerateAccountIdentifiersBulkPostResponse;
 import com.java.developing.accounts.accountmanaging.model.genaccidentifiers.response.GenerateAccountIdentifiersPostResponse;
+import com.java.developing.accounts.accountmanaging.service.AccountIdentifiersBulkService;
 import com.java.developing.accounts.accountmanaging.service.accountmanagingService;
 import com.java.developing.accounts.util.lib.core.exceptions.BadRequestplsqlExceptionproject;
 import com.java.developing.accounts.util.lib.core.exceptions.InternalServerErrorplsqlExceptionproject;
@@ -15,7 +19,6 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.java.developing.accounts.util.lib.core.funtionallog.FuntionalLogUtil;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,14 +28,19 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.springframework.web.bind.WebDataBinder;
 
+import java.util.List;
+
 class ControllerTest {
 
   @Mock
-  private FuntionalLogUtil funtionalLogUtil;
+  private AsyncFuntionalLog funtionalLogUtil;
 
   @Mock
   private accountmanagingService accountmanagingService;
 
+  @Mock
+  private AccountIdentifiersBulkService accountIdentifiersBulkService;
+
   @InjectMocks
   private Controller controller;
   // Mock the dependencies
@@ -73,10 +81,10 @@ class ControllerTest {
     String entityHeader = "0049";
     String brandHeader = "brand-header-value";
     String preAssigmentContractIndicator = "Y";
-    when(accountmanagingService.generateAccountIdentifiers(request, entityHeader, brandHeader, preAssigmentContractIndicator)).thenReturn(expectedResponse);
+    when(accountmanagingService.generateAccountIdentifiers(request, entityHeader, brandHeader, preAssigmentContractIndicator, null)).thenReturn(expectedResponse);
 
     // Act
-    GenerateAccountIdentifiersPostResponse actualResponse = controller.generateAccountsIdentifiersPost(request, entityHeader, brandHeader);
+    GenerateAccountIdentifiersPostResponse actualResponse = controller.generateAccountsIdentifiersPost(request, entityHeader, brandHeader, null);
 
     // Assert
     Assertions.assertEquals(expectedResponse, actualResponse);
@@ -95,7 +103,7 @@ class ControllerTest {
     String entityHeader = "0049";
     String brandHeader = "brand-header-value";
     String preAssigmentContractIndicator = "Y";
-    when(accountmanagingService.generateAccountIdentifiers(request, entityHeader, brandHeader, preAssigmentContractIndicator)).thenReturn(new GenerateAccountIdentifiersPostResponse());
+    when(accountmanagingService.generateAccountIdentifiers(request, entityHeader, brandHeader, preAssigmentContractIndicator, null)).thenReturn(new GenerateAccountIdentifiersPostResponse());
 
     Assertions.assertNotNull(request);
 
@@ -110,10 +118,10 @@ class ControllerTest {
     String entityHeader = "0049";
     String brandHeader = "brand-header-value";
     String preAssigmentContractIndicator = "Y";
-    when(accountmanagingService.generateAccountIdentifiers(request, entityHeader, brandHeader, preAssigmentContractIndicator))
+    when(accountmanagingService.generateAccountIdentifiers(request, entityHeader, brandHeader, preAssigmentContractIndicator, null))
         .thenThrow(new BadRequestplsqlExceptionproject("accountmanaging-0001"));
 
-    assertThrows(BadRequestplsqlExceptionproject.class, () -> controller.generateAccountsIdentifiersPost(request, entityHeader, brandHeader));
+    assertThrows(BadRequestplsqlExceptionproject.class, () -> controller.generateAccountsIdentifiersPost(request, entityHeader, brandHeader, null));
   }
 
   @Test
@@ -127,9 +135,9 @@ class ControllerTest {
     String entityHeader = "0049";
     String brandHeader = "brand-header-value";
     String preAssigmentContractIndicator = "Y";
-    when(accountmanagingService.generateAccountIdentifiers(request, entityHeader, brandHeader, preAssigmentContractIndicator)).thenThrow(new RuntimeException("Unexpected error"));
+    when(accountmanagingService.generateAccountIdentifiers(request, entityHeader, brandHeader, preAssigmentContractIndicator, null)).thenThrow(new RuntimeException("Unexpected error"));
 
-    assertThrows(InternalServerErrorplsqlExceptionproject.class, () -> controller.generateAccountsIdentifiersPost(request, entityHeader, brandHeader));
+    assertThrows(InternalServerErrorplsqlExceptionproject.class, () -> controller.generateAccountsIdentifiersPost(request, entityHeader, brandHeader, null));
   }
 
 
@@ -148,18 +156,19 @@ class ControllerTest {
     String entityHeader = "0049";
     String brandHeader = "brand-header-value";
 
-    when(accountmanagingService.generateAccountIdentifiers(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+    when(accountmanagingService.generateAccountIdentifiers(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
         .thenThrow(new GenericplsqlException("XX1111", 500, "Internal Server Error", "Something is horribly wrong."));
 
-    assertThrows(GenericplsqlException.class, () -> controller.generateAccountsIdentifiersPost(request, entityHeader, brandHeader));
+    assertThrows(GenericplsqlException.class, () -> controller.generateAccountsIdentifiersPost(request, entityHeader, brandHeader, null));
   }
 
   @Test
   void controllerConstructorInitializesDependenciesCorrectly() {
-    FuntionalLogUtil mockFuntionalLogUtil = mock(FuntionalLogUtil.class);
+    AsyncFuntionalLog mockFuntionalLogUtil = mock(AsyncFuntionalLog.class);
     accountmanagingService mockaccountmanagingService = mock(accountmanagingService.class);
+    AccountIdentifiersBulkService mockBulkService = mock(AccountIdentifiersBulkService.class);
 
-    Controller controllerG = new Controller(mockFuntionalLogUtil, mockaccountmanagingService);
+    Controller controllerG = new Controller(mockFuntionalLogUtil, mockaccountmanagingService, mockBulkService);
 
     Assertions.assertNotNull(controllerG);
   }
@@ -181,10 +190,10 @@ void testGenerateAccountsIdentifiers_ProductCodeNull() throws Exception {
   String entityHeader = "0049";
   String brandHeader = "brand-header-value";
   String preAssigmentContractIndicator = "Y";
-  when(accountmanagingService.generateAccountIdentifiers(request, entityHeader, brandHeader, preAssigmentContractIndicator)).thenReturn(expectedResponse);
+  when(accountmanagingService.generateAccountIdentifiers(request, entityHeader, brandHeader, preAssigmentContractIndicator, null)).thenReturn(expectedResponse);
 
   BadRequestplsqlExceptionproject exception = assertThrows(BadRequestplsqlExceptionproject.class, () ->
-      controller.generateAccountsIdentifiersPost(request, entityHeader, brandHeader));
+      controller.generateAccountsIdentifiersPost(request, entityHeader, brandHeader, null));
 
   Assertions.assertEquals("CONTRACT-MANAGEMENT-F-0001", exception.getErrorName());
 
@@ -207,10 +216,10 @@ void testGenerateAccountsIdentifiers_ProductCodeNull() throws Exception {
     String entityHeader = "0049";
     String brandHeader = "brand-header-value";
     String preAssigmentContractIndicator = "Y";
-    when(accountmanagingService.generateAccountIdentifiers(request, entityHeader, brandHeader, preAssigmentContractIndicator)).thenReturn(expectedResponse);
+    when(accountmanagingService.generateAccountIdentifiers(request, entityHeader, brandHeader, preAssigmentContractIndicator, null)).thenReturn(expectedResponse);
 
     BadRequestplsqlExceptionproject exception = assertThrows(BadRequestplsqlExceptionproject.class, () ->
-        controller.generateAccountsIdentifiersPost(request, entityHeader, brandHeader));
+        controller.generateAccountsIdentifiersPost(request, entityHeader, brandHeader, null));
 
     Assertions.assertEquals("CONTRACT-MANAGEMENT-F-0001", exception.getErrorName());
 
@@ -232,10 +241,10 @@ void testGenerateAccountsIdentifiers_ProductCodeNull() throws Exception {
     String entityHeader = "0049";
     String brandHeader = "brand-header-value";
     String preAssigmentContractIndicator = "Y";
-    when(accountmanagingService.generateAccountIdentifiers(request, entityHeader, brandHeader, preAssigmentContractIndicator)).thenReturn(expectedResponse);
+    when(accountmanagingService.generateAccountIdentifiers(request, entityHeader, brandHeader, preAssigmentContractIndicator, null)).thenReturn(expectedResponse);
 
     // Act
-    GenerateAccountIdentifiersPostResponse actualResponse = controller.generateAccountsIdentifiersPost(request, entityHeader, brandHeader);
+    GenerateAccountIdentifiersPostResponse actualResponse = controller.generateAccountsIdentifiersPost(request, entityHeader, brandHeader, null);
 
     // Assert
     Assertions.assertEquals(expectedResponse, actualResponse);
@@ -256,13 +265,55 @@ void testGenerateAccountsIdentifiers_ProductCodeNull() throws Exception {
     String entityHeader = "0049";
     String brandHeader = "brand-header-value";
     String preAssigmentContractIndicator = "Y";
-    when(accountmanagingService.generateAccountIdentifiers(request, entityHeader, brandHeader, preAssigmentContractIndicator))
+    when(accountmanagingService.generateAccountIdentifiers(request, entityHeader, brandHeader, preAssigmentContractIndicator, null))
         .thenThrow(new BadRequestplsqlExceptionproject("accountmanaging-0002"));
 
     BadRequestplsqlExceptionproject exception = assertThrows(BadRequestplsqlExceptionproject.class, () ->
-        controller.generateAccountsIdentifiersPost(request, entityHeader, brandHeader));
+        controller.generateAccountsIdentifiersPost(request, entityHeader, brandHeader, null));
 
     Assertions.assertEquals("CONTRACT-MANAGEMENT-F-0002", exception.getErrorName());
 
   }
+
+  @Test
+  void generateAccountsIdentifiersBulkPostReturnsResponse() throws Exception {
+    GenerateAccountIdentifiersPostRequest item = new GenerateAccountIdentifiersPostRequest();
+    item.setCenter(new Center());
+    item.getCenter().setCenterId("1001");
+    item.setProduct(new Product());
+    item.getProduct().setProductCode("0049300130");
+    GenerateAccountIdentifiersBulkPostRequest request = new GenerateAccountIdentifiersBulkPostRequest(List.of(item));
+    GenerateAccountIdentifiersBulkPostResponse expectedResponse = new GenerateAccountIdentifiersBulkPostResponse();
+
+    when(accountIdentifiersBulkService.generateAccountIdentifiersBulk(request, "0049", "brand-header-value", "Y"))
+        .thenReturn(expectedResponse);
+
+    GenerateAccountIdentifiersBulkPostResponse actualResponse =
+        controller.generateAccountsIdentifiersBulkPost(request, "0049", "brand-header-value");
+
+    Assertions.assertEquals(expectedResponse, actualResponse);
+    verify(funtionalLogUtil).setRequest(request);
+    verify(funtionalLogUtil).logTraceOK();
+  }
+
+  @Test
+  void generateAccountsIdentifiersBulkPostThrowsBadRequestWhenEntityHeaderIsNotValid() {
+    GenerateAccountIdentifiersBulkPostRequest request = new GenerateAccountIdentifiersBulkPostRequest(List.of());
+
+    BadRequestplsqlExceptionproject exception = assertThrows(BadRequestplsqlExceptionproject.class, () ->
+        controller.generateAccountsIdentifiersBulkPost(request, "049", "brand-header-value"));
+
+    Assertions.assertEquals("CONTRACT-MANAGEMENT-F-0012", exception.getErrorName());
+  }
+
+  @Test
+  void generateAccountsIdentifiersBulkPostThrowsInternalServerErrorOnUnexpectedException() throws Exception {
+    GenerateAccountIdentifiersBulkPostRequest request = new GenerateAccountIdentifiersBulkPostRequest(List.of());
+
+    when(accountIdentifiersBulkService.generateAccountIdentifiersBulk(request, "0049", "brand-header-value", "Y"))
+        .thenThrow(new RuntimeException("Unexpected error"));
+
+    assertThrows(InternalServerErrorplsqlExceptionproject.class, () ->
+        controller.generateAccountsIdentifiersBulkPost(request, "0049", "brand-header-value"));
+  }
 }
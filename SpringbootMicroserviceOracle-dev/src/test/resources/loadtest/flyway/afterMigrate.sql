@@ -0,0 +1,6 @@
+-- Callback de Flyway del perfil local-h2: se ejecuta después de las migraciones de db/migration/h2
+-- Contadores de los centros que usa load-test/generate-account-identifiers.js
+INSERT INTO DC_CONTRACT_COUNTER (ENTITY, CENTER, BRAND, CONTRACT_ID) VALUES ('0049', '1001', 'SAN', '00000000000000000000');
+INSERT INTO DC_CONTRACT_COUNTER (ENTITY, CENTER, BRAND, CONTRACT_ID) VALUES ('0049', '1002', 'SAN', '00000000000000000000');
+INSERT INTO DC_CONTRACT_COUNTER (ENTITY, CENTER, BRAND, CONTRACT_ID) VALUES ('0049', '1003', 'SAN', '00000000000000000000');
+INSERT INTO DC_CONTRACT_COUNTER (ENTITY, CENTER, BRAND, CONTRACT_ID) VALUES ('0049', '1004', 'SAN', '00000000000000000000');
@@ -0,0 +1,116 @@
+package com.santander.digitalcore.accounts.overdraftrs.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.santander.digitalcore.accounts.overdraftrs.dto.ReasonOverdraftDTO;
+import com.santander.digitalcore.accounts.overdraftrs.mapper.ReasonOverdraftMapper;
+import com.santander.digitalcore.accounts.overdraftrs.util.DateTimeCodec;
+import com.santander.digitalcore.accounts.util.lib.db.model.entity.ReasonOverdraftEntity;
+import com.santander.digitalcore.accounts.util.lib.db.model.entity.ReasonOverdraftEntityPK;
+
+/**
+ * Coste de las fechas de una página del listado de motivos de descubierto (20 filas, 5 fechas por fila):
+ * {@link DateTimeCodec} frente a un DateTimeFormatter.ofPattern por llamada, como hacía antes
+ * ReasonOverdraftMapper. Incluye también el mapeo completo de la página con el mapper y el parseo de las
+ * fechas de una petición.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateMappingBenchmark {
+
+  private static final int PAGE_SIZE = 20;
+  private static final String DATE_PATTERN = "yyyy-MM-dd";
+  private static final String DATE_TIME_PATTERN = "yyyy-MM-dd HH:mm:ss.SSS";
+
+  private final ReasonOverdraftMapper reasonOverdraftMapper = Mappers.getMapper(ReasonOverdraftMapper.class);
+  private List<ReasonOverdraftEntity> page;
+  private ReasonOverdraftDTO request;
+
+  @Setup
+  public void setUp() {
+    page = new ArrayList<>(PAGE_SIZE);
+    LocalDateTime base = LocalDateTime.of(2026, 1, 1, 8, 30, 15, 123_000_000);
+    for (int i = 0; i < PAGE_SIZE; i++) {
+      var entity = new ReasonOverdraftEntity();
+      entity.setPk(new ReasonOverdraftEntityPK("0049", "SAN", String.format("%04d", i)));
+      entity.setStartDateTime(base.plusDays(i));
+      entity.setEndDateTime(LocalDateTime.of(9999, 12, 31, 23, 59, 59, 999_000_000));
+      entity.setDefaultDate(base.toLocalDate().plusMonths(i));
+      entity.setCreationDateTime(base.minusDays(i));
+      entity.setLastUpdaterDateTime(base.minusHours(i));
+      entity.setDescData("Motivo " + i);
+      entity.setMandatory("N");
+      entity.setSettlementIndicator("Y");
+      entity.setMonths(new BigDecimal("3.15"));
+      entity.setCounter(BigDecimal.ONE);
+      page.add(entity);
+    }
+    request = reasonOverdraftMapper.mapToDto(page.get(0));
+  }
+
+  @Benchmark
+  public void legacyFormatPage(Blackhole blackhole) {
+    for (ReasonOverdraftEntity entity : page) {
+      blackhole.consume(entity.getStartDateTime().format(DateTimeFormatter.ofPattern(DATE_TIME_PATTERN)));
+      blackhole.consume(entity.getEndDateTime().format(DateTimeFormatter.ofPattern(DATE_TIME_PATTERN)));
+      blackhole.consume(entity.getDefaultDate().format(DateTimeFormatter.ofPattern(DATE_PATTERN)));
+      blackhole.consume(entity.getCreationDateTime().format(DateTimeFormatter.ofPattern(DATE_TIME_PATTERN)));
+      blackhole.consume(entity.getLastUpdaterDateTime().format(DateTimeFormatter.ofPattern(DATE_TIME_PATTERN)));
+    }
+  }
+
+  @Benchmark
+  public void formatPage(Blackhole blackhole) {
+    for (ReasonOverdraftEntity entity : page) {
+      blackhole.consume(DateTimeCodec.formatDateTime(entity.getStartDateTime()));
+      blackhole.consume(DateTimeCodec.formatDateTime(entity.getEndDateTime()));
+      blackhole.consume(DateTimeCodec.formatDate(entity.getDefaultDate()));
+      blackhole.consume(DateTimeCodec.formatDateTime(entity.getCreationDateTime()));
+      blackhole.consume(DateTimeCodec.formatDateTime(entity.getLastUpdaterDateTime()));
+    }
+  }
+
+  @Benchmark
+  public void mapPage(Blackhole blackhole) {
+    for (ReasonOverdraftEntity entity : page) {
+      blackhole.consume(reasonOverdraftMapper.mapToDto(entity));
+    }
+  }
+
+  @Benchmark
+  public void legacyParseRequest(Blackhole blackhole) {
+    blackhole.consume(LocalDateTime.parse(request.getStartDateTime(), DateTimeFormatter.ofPattern(DATE_TIME_PATTERN)));
+    blackhole.consume(LocalDateTime.parse(request.getEndDateTime(), DateTimeFormatter.ofPattern(DATE_TIME_PATTERN)));
+    blackhole.consume(LocalDate.parse(request.getDefaultDate(), DateTimeFormatter.ofPattern(DATE_PATTERN)));
+  }
+
+  @Benchmark
+  public void parseRequest(Blackhole blackhole) {
+    blackhole.consume(DateTimeCodec.parseDateTime(request.getStartDateTime()));
+    blackhole.consume(DateTimeCodec.parseDateTime(request.getEndDateTime()));
+    blackhole.consume(DateTimeCodec.parseDate(request.getDefaultDate()));
+  }
+}
@@ -0,0 +1,107 @@
+package com.santander.digitalcore.accounts.overdraftrs.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.santander.digitalcore.accounts.overdraftrs.dto.ReasonOverdraftDTO;
+import com.santander.digitalcore.accounts.overdraftrs.util.ReasonOverdraftRules;
+import com.santander.digitalcore.accounts.overdraftrs.util.Validations;
+
+/**
+ * Compara las validaciones de alta y modificación de motivos de descubierto con las reglas compiladas
+ * ({@link Validations}, {@link ReasonOverdraftRules}) frente a la implementación anterior
+ * ({@link LegacyValidations}), con una petición válida y con una petición con varios errores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+  @Param({"valid", "invalid"})
+  public String payload;
+
+  private ReasonOverdraftDTO request;
+
+  @Setup
+  public void setUp() {
+    String nextYear = String.valueOf(LocalDate.now().getYear() + 1);
+    request = new ReasonOverdraftDTO();
+    request.setEntity("0049");
+    request.setBrand("SAN");
+    request.setReasonCode("0101");
+    request.setStartDateTime(nextYear + "-01-01 00:00:00.000");
+    request.setEndDateTime("9999-12-31 23:59:59.999");
+    request.setMandatory("y");
+    request.setDefaultDate(nextYear + "-02-01");
+    request.setSettlementIndicator("n");
+    request.setMonths(new BigDecimal("3.15"));
+    request.setCounter(BigDecimal.TEN);
+    if ("invalid".equals(payload)) {
+      // el primer error llega después de parsear las fechas en la implementación anterior
+      request.setMandatory("X");
+      request.setCounter(new BigDecimal("10000"));
+    }
+  }
+
+  @Benchmark
+  public Object legacyCreateValidation() {
+    try {
+      LegacyValidations.createValidation(request);
+      return request;
+    } catch (RuntimeException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object createValidation() {
+    try {
+      Validations.createValidation(request);
+      return request;
+    } catch (RuntimeException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public List<String> createViolations() {
+    return ReasonOverdraftRules.createViolations(request);
+  }
+
+  @Benchmark
+  public Object legacyUpdateValidation() {
+    try {
+      LegacyValidations.updateValidation(request);
+      return request;
+    } catch (RuntimeException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object updateValidation() {
+    try {
+      Validations.updateValidation(request);
+      return request;
+    } catch (RuntimeException e) {
+      return e;
+    }
+  }
+}
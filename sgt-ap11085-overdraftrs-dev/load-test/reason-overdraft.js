@@ -0,0 +1,36 @@
+// Prueba de carga de las consultas de /reason con k6 (https://k6.io).
+// Uso:
+//   k6 run load-test/reason-overdraft.js
+//   k6 run -e BASE_URL=http://localhost:8080/overdrafts-reason -e VUS=200 -e DURATION=2m load-test/reason-overdraft.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/overdrafts-reason';
+const BRANDS = ['SAN', 'BANIF'];
+
+export const options = {
+  scenarios: {
+    ramp: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: '30s', target: Number(__ENV.VUS || 200) },
+        { duration: __ENV.DURATION || '2m', target: Number(__ENV.VUS || 200) },
+        { duration: '15s', target: 0 },
+      ],
+    },
+  },
+  summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+};
+
+export default function () {
+  const brand = BRANDS[__ITER % BRANDS.length];
+  const reasonCode = String(10 + (__ITER % 50));
+  const get = http.get(`${BASE_URL}/reason/${reasonCode}/entity/0000000049/brand/${brand}`,
+    { tags: { name: 'GET /reason/{reason_code}' } });
+  check(get, { 'get status is 200': (r) => r.status === 200 });
+
+  const list = http.get(`${BASE_URL}/reason/list?entity=0000000049&brand=${brand}&_offset=0&_limit=20`,
+    { tags: { name: 'GET /reason/list' } });
+  check(list, { 'list status is 200': (r) => r.status === 200 });
+}
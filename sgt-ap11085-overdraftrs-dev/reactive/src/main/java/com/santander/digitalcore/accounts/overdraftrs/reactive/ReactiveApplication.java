@@ -0,0 +1,31 @@
+package com.santander.digitalcore.accounts.overdraftrs.reactive;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+/**
+ * The main class of the reactive read application.
+ *
+ * @author Santander Technology
+ */
+@SpringBootApplication
+public class ReactiveApplication {
+
+	/**
+	 * Main method of the application
+	 * where the application entry-point is.
+	 *
+	 * This application is defined as Reactive
+	 * web application (WebApplicationType.REACTIVE)
+	 * even if servlet classes are on the classpath.
+	 *
+	 * @param args input arguments
+	 */
+	public static void main(String[] args) {
+		new SpringApplicationBuilder(ReactiveApplication.class)
+			.web(WebApplicationType.REACTIVE)
+			.run(args);
+	}
+
+}
@@ -0,0 +1,202 @@
+package com.santander.digitalcore.accounts.overdraftrs.reactive.repository;
+
+import com.santander.digitalcore.accounts.util.lib.db.model.entity.ReasonOverdraftEntity;
+import com.santander.digitalcore.accounts.util.lib.db.model.entity.ReasonOverdraftEntityPK;
+
+import io.r2dbc.spi.Readable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Lecturas de DC_REASON_OVERDRAFT con R2DBC.
+ * Las consultas del listado tienen las mismas formas fijas que ReasonOverdraftRepositoryExt.buildQuery del
+ * microservicio (estado x camino de acceso x paginación), con parámetros con nombre en lugar de posicionales.
+ * Las filas se piden a la base de datos según las consume el suscriptor, como mucho {@code prefetch} por adelantado.
+ */
+@Slf4j
+@Repository
+public class ReactiveReasonOverdraftRepository {
+
+  private static final String SELECT = """
+      SELECT
+          ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME,
+          DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE,
+          MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME,
+          LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME
+      FROM
+          DC_REASON_OVERDRAFT
+      """;
+
+  private final DatabaseClient databaseClient;
+  private final int prefetch;
+
+  /**
+   * Constructor de la clase.
+   *
+   * @param databaseClient cliente R2DBC
+   * @param prefetch       filas pedidas por adelantado a la base de datos en los listados (como mínimo 1)
+   */
+  public ReactiveReasonOverdraftRepository(DatabaseClient databaseClient,
+                                           @Value("${overdraftrs.reactive.prefetch:256}") int prefetch) {
+    this.databaseClient = databaseClient;
+    this.prefetch = Math.max(1, prefetch);
+  }
+
+  /**
+   * Busca un motivo de descubierto por su clave primaria.
+   *
+   * @param entityPK la clave primaria del motivo de descubierto
+   * @return el motivo, o vacío si no existe
+   */
+  public Mono<ReasonOverdraftEntity> findByPK(ReasonOverdraftEntityPK entityPK) {
+    return databaseClient.sql(SELECT + " WHERE ENTITY = :entity AND BRAND = :brand AND REASON_CODE = :reasonCode")
+        .bind("entity", entityPK.getEntity())
+        .bind("brand", entityPK.getBrand())
+        .bind("reasonCode", entityPK.getReasonCode())
+        .map(ReactiveReasonOverdraftRepository::mapRow)
+        .one()
+        .doOnError(e -> log.error("Error findByPK", e));
+  }
+
+  /**
+   * Busca una página de motivos de descubierto con offset.
+   *
+   * @param reasonCode the reason code
+   * @param entity     the entity
+   * @param brand      the brand
+   * @param status     the status (ACT, CAN, PEN, or null for default active)
+   * @param offset     the offset for pagination
+   * @param limit      the limit for pagination
+   * @return the reason overdrafts, in primary key order
+   */
+  public Flux<ReasonOverdraftEntity> findList(
+      String reasonCode, String entity, String brand, String status, int offset, int limit) {
+    Map<String, Object> parameters = new LinkedHashMap<>();
+    var sql = buildQuery(status, reasonCode, entity, brand, null, parameters)
+        + " OFFSET :offset ROWS FETCH NEXT :limit ROWS ONLY";
+    parameters.put("offset", offset);
+    parameters.put("limit", limit);
+    return query(sql, parameters, "findList");
+  }
+
+  /**
+   * Busca una página de motivos de descubierto a continuación de una clave (keyset pagination).
+   *
+   * @param reasonCode the reason code
+   * @param entity     the entity
+   * @param brand      the brand
+   * @param status     the status (ACT, CAN, PEN, or null for default active)
+   * @param after      the last key of the previous page, or null for the first page
+   * @param limit      the maximum number of rows to return
+   * @return the reason overdrafts after the given key, in primary key order
+   */
+  public Flux<ReasonOverdraftEntity> findListAfter(
+      String reasonCode, String entity, String brand, String status, ReasonOverdraftEntityPK after, int limit) {
+    Map<String, Object> parameters = new LinkedHashMap<>();
+    var sql = buildQuery(status, reasonCode, entity, brand, after, parameters) + " FETCH FIRST :limit ROWS ONLY";
+    parameters.put("limit", limit);
+    return query(sql, parameters, "findListAfter");
+  }
+
+  private Flux<ReasonOverdraftEntity> query(String sql, Map<String, Object> parameters, String name) {
+    var spec = databaseClient.sql(sql);
+    for (var parameter : parameters.entrySet()) {
+      spec = parameter.getValue() == null
+          ? spec.bindNull(parameter.getKey(), String.class)
+          : spec.bind(parameter.getKey(), parameter.getValue());
+    }
+    return spec.map(ReactiveReasonOverdraftRepository::mapRow)
+        .all()
+        .limitRate(prefetch)
+        .doOnError(e -> log.error("Error {}", name, e));
+  }
+
+  /**
+   * Construye la consulta del listado. Ver ReasonOverdraftRepositoryExt.buildQuery: el texto solo depende del estado,
+   * del camino de acceso (clave primaria, código o estado) y de si hay clave a partir de la que continuar; los
+   * filtros que no forman parte del camino de acceso se escriben como {@code COLUMNA = NVL(:param, COLUMNA)}.
+   *
+   * @param status     the status of the reason (ACT, CAN, PEN, or null for default active)
+   * @param reasonCode the reason code to filter by
+   * @param entity     the entity to filter by
+   * @param brand      the brand to filter by
+   * @param after      the key to continue after (keyset pagination), or null
+   * @param parameters the map to hold the named query parameters
+   * @return the constructed SQL query string
+   */
+  static String buildQuery(
+      String status, String reasonCode, String entity, String brand,
+      ReasonOverdraftEntityPK after, Map<String, Object> parameters) {
+    var sql = new StringBuilder(SELECT).append("WHERE");
+
+    var now = LocalDateTime.now();
+
+    if (status == null || "ACT".equalsIgnoreCase(status)) {
+      sql.append(" START_DATE_TIME <= :now AND END_DATE_TIME >= :now");
+      parameters.put("now", now);
+    } else if ("CAN".equalsIgnoreCase(status)) {
+      sql.append(" (START_DATE_TIME > :now OR END_DATE_TIME < :now)");
+      parameters.put("now", now);
+    } else if ("PEN".equalsIgnoreCase(status)) {
+      sql.append(" START_DATE_TIME > :now");
+      parameters.put("now", now);
+    } else {
+      log.warn("Unhandled status: {}", status);
+      sql.append(" 1=1");
+    }
+
+    if (entity != null) {
+      sql.append(" AND ENTITY = :entity AND BRAND = NVL(:brand, BRAND)")
+          .append(" AND REASON_CODE = NVL(:reasonCode, REASON_CODE)");
+      parameters.put("entity", entity);
+      parameters.put("reasonCode", reasonCode);
+    } else if (reasonCode != null) {
+      sql.append(" AND REASON_CODE = :reasonCode AND BRAND = NVL(:brand, BRAND)");
+      parameters.put("reasonCode", reasonCode);
+    } else {
+      sql.append(" AND BRAND = NVL(:brand, BRAND)");
+    }
+    parameters.put("brand", brand);
+    if (after != null) {
+      // (ENTITY, BRAND, REASON_CODE) > (...) desarrollado para que use el índice de la clave primaria
+      sql.append(" AND (ENTITY > :afterEntity OR (ENTITY = :afterEntity AND (BRAND > :afterBrand"
+          + " OR (BRAND = :afterBrand AND REASON_CODE > :afterReasonCode))))");
+      parameters.put("afterEntity", after.getEntity());
+      parameters.put("afterBrand", after.getBrand());
+      parameters.put("afterReasonCode", after.getReasonCode());
+    }
+
+    sql.append(" ORDER BY ENTITY, BRAND, REASON_CODE");
+    return sql.toString();
+  }
+
+  private static ReasonOverdraftEntity mapRow(Readable row) {
+    var entity = new ReasonOverdraftEntity();
+    entity.setPk(new ReasonOverdraftEntityPK(row.get("ENTITY", String.class), row.get("BRAND", String.class),
+        row.get("REASON_CODE", String.class)));
+    entity.setStartDateTime(row.get("START_DATE_TIME", LocalDateTime.class));
+    entity.setEndDateTime(row.get("END_DATE_TIME", LocalDateTime.class));
+    entity.setDescData(row.get("DESCDATA", String.class));
+    entity.setSettlementIndicator(row.get("SETTLEMENT_INDICATOR", String.class));
+    entity.setMandatory(row.get("MANDATORY", String.class));
+    entity.setDefaultDate(row.get("DEFAULTDATE", LocalDate.class));
+    entity.setMonths(row.get("MONTHS", BigDecimal.class));
+    entity.setCounter(row.get("COUNTER", BigDecimal.class));
+    entity.setCondition(row.get("CONDITION", String.class));
+    entity.setCreationUser(row.get("CREATION_USER", String.class));
+    entity.setCreationDateTime(row.get("CREATION_DATE_TIME", LocalDateTime.class));
+    entity.setLastUpdaterUser(row.get("LAST_UPDATER_USER", String.class));
+    entity.setLastUpdaterDateTime(row.get("LAST_UPDATER_DATE_TIME", LocalDateTime.class));
+    return entity;
+  }
+}
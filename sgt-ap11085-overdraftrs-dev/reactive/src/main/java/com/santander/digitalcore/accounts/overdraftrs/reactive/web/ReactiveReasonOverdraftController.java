@@ -0,0 +1,177 @@
+package com.santander.digitalcore.accounts.overdraftrs.reactive.web;
+
+import com.santander.digitalcore.accounts.overdraftrs.dto.ReasonOverdraftDTO;
+import com.santander.digitalcore.accounts.overdraftrs.mapper.ReasonOverdraftMapper;
+import com.santander.digitalcore.accounts.overdraftrs.reactive.repository.ReactiveReasonOverdraftRepository;
+import com.santander.digitalcore.accounts.overdraftrs.service.ReasonOverdraftService;
+import com.santander.digitalcore.accounts.overdraftrs.util.Constants;
+import com.santander.digitalcore.accounts.overdraftrs.util.ETags;
+import com.santander.digitalcore.accounts.overdraftrs.util.OperationType;
+import com.santander.digitalcore.accounts.overdraftrs.util.ReasonOverdraftCursor;
+import com.santander.digitalcore.accounts.overdraftrs.util.Validations;
+import com.santander.digitalcore.accounts.util.lib.core.exceptions.InternalServerErrorDarwinExceptionLeancore;
+import com.santander.digitalcore.accounts.util.lib.core.exceptions.NotFoundDarwinExceptionLeancore;
+import com.santander.digitalcore.accounts.util.lib.db.model.entity.ReasonOverdraftEntity;
+import com.santander.digitalcore.accounts.util.lib.db.model.entity.ReasonOverdraftEntityPK;
+import lombok.AllArgsConstructor;
+import org.mapstruct.factory.Mappers;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Controlador REST reactivo con las lecturas de motivos de descubierto: las mismas rutas, parámetros y respuestas
+ * que GET /reason/{reason_code}/entity/{entity}/brand/{brand} y GET /reason/list del microservicio, servidas con
+ * WebFlux y R2DBC. El listado también se puede pedir como application/x-ndjson: cada motivo se escribe según llega
+ * de la base de datos, al ritmo que lo consume el cliente.
+ */
+@RestController
+@AllArgsConstructor
+@RequestMapping(path = "/reason")
+public class ReactiveReasonOverdraftController {
+
+  private static final ReasonOverdraftMapper reasonOverdraftMapper = Mappers.getMapper(ReasonOverdraftMapper.class);
+
+  private ReactiveReasonOverdraftRepository reasonOverdraftRepository;
+
+  /**
+   * Endpoint para obtener un motivo de descubierto específico.
+   *
+   * @param reasonCode  Código del motivo de descubierto.
+   * @param entity      Entidad asociada al motivo.
+   * @param brand       Marca asociada al motivo.
+   * @param ifNoneMatch ETag de la versión que ya tiene el cliente (opcional).
+   * @return el motivo de descubierto y su ETag, o 304 si coincide con If-None-Match.
+   */
+  @GetMapping("/{reason_code}/entity/{entity}/brand/{brand}")
+  public Mono<ResponseEntity<ReasonOverdraftDTO>> getReasonOverdraft(
+      @PathVariable(name = "reason_code") String reasonCode,
+      @PathVariable(name = "entity") String entity,
+      @PathVariable(name = "brand") String brand,
+      @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    // Validación de parámetros
+    Validations.doValidationsWithoutRequestBody(OperationType.GET, entity, brand, reasonCode);
+    return reasonOverdraftRepository.findByPK(new ReasonOverdraftEntityPK(entity, brand, reasonCode))
+        .switchIfEmpty(Mono.error(() -> new NotFoundDarwinExceptionLeancore("OVERDRAFT-REASON-0001")))
+        .onErrorMap(DataAccessException.class, ReactiveReasonOverdraftController::databaseError)
+        .map(reasonOverdraft -> {
+          var etag = ETags.of(reasonOverdraft.getLastUpdaterDateTime());
+          if (ETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).<ReasonOverdraftDTO>build();
+          }
+          var builder = ResponseEntity.ok();
+          if (etag != null) {
+            builder.eTag(etag);
+          }
+          return builder.body(reasonOverdraftMapper.mapToDto(reasonOverdraft));
+        });
+  }
+
+  /**
+   * Endpoint para obtener una lista de motivos de descubierto en JSON.
+   *
+   * @param reasonCode Código del motivo de descubierto (opcional).
+   * @param entity     Entidad asociada al motivo (opcional).
+   * @param brand      Marca asociada al motivo (opcional).
+   * @param status     Estado del motivo (opcional).
+   * @param offset     Número de página para la paginación (por defecto 0).
+   * @param limit      Tamaño de la página para la paginación (por defecto 20).
+   * @param cursor     Cursor de paginación por clave (opcional); vacío para la primera página.
+   * @return la lista de motivos y, si puede haber más resultados, el cursor de la siguiente página en la cabecera
+   * X-Next-Cursor.
+   */
+  @GetMapping(path = "/list", produces = MediaType.APPLICATION_JSON_VALUE)
+  public Mono<ResponseEntity<List<ReasonOverdraftDTO>>> getReasonOverdraftList(
+      @RequestParam(name = "reason", required = false) String reasonCode,
+      @RequestParam(name = "entity", required = false) String entity,
+      @RequestParam(name = "brand", required = false) String brand,
+      @RequestParam(name = "status", required = false) String status,
+      @RequestParam(name = "_offset", defaultValue = "0") String offset,
+      @RequestParam(name = "_limit", defaultValue = "20") String limit,
+      @RequestParam(name = "_cursor", required = false) String cursor
+  ) {
+    var pageSize = Integer.parseInt(limit);
+    if (cursor != null) {
+      // una fila de más para saber si hay página siguiente
+      return findListAfter(reasonCode, entity, brand, status, cursor, pageSize + 1)
+          .collectList()
+          .map(items -> withNextCursor(items.stream().limit(pageSize).toList(), items.size() > pageSize));
+    }
+    return findList(reasonCode, entity, brand, status, Integer.parseInt(offset), pageSize)
+        .collectList()
+        .map(items -> withNextCursor(items, items.size() == pageSize));
+  }
+
+  /**
+   * Endpoint para obtener una lista de motivos de descubierto en NDJSON, un motivo por línea.
+   * Admite los mismos filtros y paginación que el listado en JSON, pero no devuelve X-Next-Cursor: las cabeceras se
+   * envían antes que el primer motivo.
+   *
+   * @param reasonCode Código del motivo de descubierto (opcional).
+   * @param entity     Entidad asociada al motivo (opcional).
+   * @param brand      Marca asociada al motivo (opcional).
+   * @param status     Estado del motivo (opcional).
+   * @param offset     Número de página para la paginación (por defecto 0).
+   * @param limit      Tamaño de la página para la paginación (por defecto 20).
+   * @param cursor     Cursor de paginación por clave (opcional); vacío para la primera página.
+   * @return los motivos, según se leen de la base de datos.
+   */
+  @GetMapping(path = "/list", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public Flux<ReasonOverdraftDTO> streamReasonOverdraftList(
+      @RequestParam(name = "reason", required = false) String reasonCode,
+      @RequestParam(name = "entity", required = false) String entity,
+      @RequestParam(name = "brand", required = false) String brand,
+      @RequestParam(name = "status", required = false) String status,
+      @RequestParam(name = "_offset", defaultValue = "0") String offset,
+      @RequestParam(name = "_limit", defaultValue = "20") String limit,
+      @RequestParam(name = "_cursor", required = false) String cursor
+  ) {
+    var pageSize = Integer.parseInt(limit);
+    return cursor != null
+        ? findListAfter(reasonCode, entity, brand, status, cursor, pageSize)
+        : findList(reasonCode, entity, brand, status, Integer.parseInt(offset), pageSize);
+  }
+
+  private Flux<ReasonOverdraftDTO> findList(
+      String reasonCode, String entity, String brand, String status, int offset, int limit) {
+    return map(reasonOverdraftRepository.findList(reasonCode, entity, brand, status, offset, limit));
+  }
+
+  private Flux<ReasonOverdraftDTO> findListAfter(
+      String reasonCode, String entity, String brand, String status, String cursor, int limit) {
+    var after = cursor.isBlank() ? null : ReasonOverdraftCursor.decode(cursor);
+    return map(reasonOverdraftRepository.findListAfter(reasonCode, entity, brand, status, after, limit));
+  }
+
+  private static Flux<ReasonOverdraftDTO> map(Flux<ReasonOverdraftEntity> entities) {
+    return entities
+        .onErrorMap(DataAccessException.class, ReactiveReasonOverdraftController::databaseError)
+        .map(reasonOverdraftMapper::mapToDto);
+  }
+
+  private static InternalServerErrorDarwinExceptionLeancore databaseError(DataAccessException e) {
+    return new InternalServerErrorDarwinExceptionLeancore("XX1111", e.getMessage(), e);
+  }
+
+  private static ResponseEntity<List<ReasonOverdraftDTO>> withNextCursor(
+      List<ReasonOverdraftDTO> body, boolean hasNext) {
+    var builder = ResponseEntity.ok();
+    var nextCursor = hasNext ? ReasonOverdraftService.nextCursor(body) : null;
+    if (nextCursor != null) {
+      builder.header(Constants.HEADER_NEXT_CURSOR, nextCursor);
+    }
+    return builder.body(body);
+  }
+}
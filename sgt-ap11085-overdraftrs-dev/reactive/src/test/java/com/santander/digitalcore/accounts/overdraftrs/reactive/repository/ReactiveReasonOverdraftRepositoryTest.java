@@ -0,0 +1,154 @@
+package com.santander.digitalcore.accounts.overdraftrs.reactive.repository;
+
+import com.santander.digitalcore.accounts.util.lib.db.model.entity.ReasonOverdraftEntity;
+import com.santander.digitalcore.accounts.util.lib.db.model.entity.ReasonOverdraftEntityPK;
+import io.r2dbc.spi.ConnectionFactories;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.test.StepVerifier;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Lecturas de {@link ReactiveReasonOverdraftRepository} contra un H2 en memoria migrado con db/migration/h2 del
+ * microservicio: Flyway escribe por JDBC y el repositorio lee la misma base de datos por R2DBC.
+ */
+class ReactiveReasonOverdraftRepositoryTest {
+
+  private static final String JDBC_URL = "jdbc:h2:mem:reactive-reason-overdraft;MODE=Oracle;DB_CLOSE_DELAY=-1";
+  private static final String R2DBC_URL =
+      "r2dbc:h2:mem:///reactive-reason-overdraft?options=MODE=Oracle;DB_CLOSE_DELAY=-1";
+
+  private static Connection conn;
+  private static ReactiveReasonOverdraftRepository repository;
+
+  @BeforeAll
+  static void setUp() throws SQLException {
+    Flyway.configure().dataSource(JDBC_URL, "sa", "").locations("classpath:db/migration/h2").load().migrate();
+    conn = DriverManager.getConnection(JDBC_URL, "sa", "");
+
+    // 30 motivos vigentes de SAN y 5 caducados de BANIF
+    var now = LocalDateTime.now();
+    try (var ps = conn.prepareStatement("""
+        INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA,
+            LAST_UPDATER_DATE_TIME) VALUES ('0000000049', ?, ?, ?, ?, ?, ?)
+        """)) {
+      for (var i = 10; i < 45; i++) {
+        var active = i < 40;
+        ps.setString(1, active ? "SAN" : "BANIF");
+        ps.setString(2, String.valueOf(i));
+        ps.setTimestamp(3, Timestamp.valueOf(now.minusDays(30)));
+        ps.setTimestamp(4, Timestamp.valueOf(active ? now.plusYears(1) : now.minusDays(1)));
+        ps.setString(5, "Motivo " + i);
+        ps.setTimestamp(6, Timestamp.valueOf(LocalDateTime.of(2026, 1, 1, 0, 0)));
+        ps.addBatch();
+      }
+      ps.executeBatch();
+    }
+
+    repository = new ReactiveReasonOverdraftRepository(DatabaseClient.create(ConnectionFactories.get(R2DBC_URL)), 8);
+  }
+
+  @AfterAll
+  static void tearDown() throws SQLException {
+    try (var statement = conn.createStatement()) {
+      statement.execute("DROP ALL OBJECTS");
+    }
+    conn.close();
+  }
+
+  @Test
+  void testFindByPK() {
+    StepVerifier.create(repository.findByPK(new ReasonOverdraftEntityPK("0000000049", "SAN", "15")))
+        .assertNext(entity -> {
+          assertEquals("15", entity.getPk().getReasonCode());
+          assertEquals("Motivo 15", entity.getDescData());
+          assertEquals(LocalDateTime.of(2026, 1, 1, 0, 0), entity.getLastUpdaterDateTime());
+        })
+        .verifyComplete();
+  }
+
+  @Test
+  void testFindByPKNotFound() {
+    StepVerifier.create(repository.findByPK(new ReasonOverdraftEntityPK("0000000049", "SAN", "99")))
+        .verifyComplete();
+  }
+
+  @Test
+  void testFindListFiltersByStatusAndPages() {
+    StepVerifier.create(repository.findList(null, "0000000049", "SAN", "ACT", 20, 20).map(this::reasonCode))
+        .expectNext("30", "31", "32", "33", "34", "35", "36", "37", "38", "39")
+        .verifyComplete();
+
+    StepVerifier.create(repository.findList(null, null, null, "CAN", 0, 20).map(this::reasonCode))
+        .expectNext("40", "41", "42", "43", "44")
+        .verifyComplete();
+  }
+
+  @Test
+  void testFindListAfterContinuesAfterTheKey() {
+    var after = new ReasonOverdraftEntityPK("0000000049", "SAN", "36");
+
+    StepVerifier.create(repository.findListAfter(null, "0000000049", null, null, after, 10).map(this::reasonCode))
+        .expectNext("37", "38", "39")
+        .verifyComplete();
+  }
+
+  @Test
+  void testFindListIsRequestedOnDemand() {
+    // se piden filas de 5 en 5 aunque la página tenga 30
+    StepVerifier.create(repository.findList(null, null, "SAN", null, 0, 30), 5)
+        .expectNextCount(5)
+        .thenRequest(5)
+        .expectNextCount(5)
+        .thenCancel()
+        .verify();
+  }
+
+  @Test
+  void testNonPositivePrefetchStillReadsTheList() {
+    // un prefetch de 0 se corrige a 1 en lugar de hacer fallar limitRate
+    var clamped = new ReactiveReasonOverdraftRepository(DatabaseClient.create(ConnectionFactories.get(R2DBC_URL)), 0);
+
+    StepVerifier.create(clamped.findList(null, null, "BANIF", "CAN", 0, 20).map(this::reasonCode))
+        .expectNext("40", "41", "42", "43", "44")
+        .verifyComplete();
+  }
+
+  @Test
+  void testListQueriesUseTheSameShapesAsTheMicroservice() {
+    Set<String> shapes = new HashSet<>();
+    var after = new ReasonOverdraftEntityPK("0000000049", "SAN", "10");
+    for (var status : Arrays.asList(null, "ACT", "act", "CAN", "PEN", "XXX")) {
+      for (var filters = 0; filters < 8; filters++) {
+        var reasonCode = (filters & 1) == 0 ? null : "15";
+        var entity = (filters & 2) == 0 ? null : "0000000049";
+        var brand = (filters & 4) == 0 ? null : "SAN";
+        for (var key : Arrays.asList(null, after)) {
+          shapes.add(ReactiveReasonOverdraftRepository.buildQuery(status, reasonCode, entity, brand, key,
+              new LinkedHashMap<>()));
+        }
+      }
+    }
+
+    // estado (ACT, CAN, PEN u otro) x camino de acceso (entidad, código o estado) x paginación por clave
+    assertEquals(24, shapes.size());
+  }
+
+  private String reasonCode(ReasonOverdraftEntity entity) {
+    return entity.getPk().getReasonCode();
+  }
+}
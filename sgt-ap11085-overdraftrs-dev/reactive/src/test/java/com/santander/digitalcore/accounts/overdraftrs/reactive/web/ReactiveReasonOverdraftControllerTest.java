@@ -0,0 +1,139 @@
+package com.santander.digitalcore.accounts.overdraftrs.reactive.web;
+
+import com.santander.digitalcore.accounts.overdraftrs.dto.ReasonOverdraftDTO;
+import com.santander.digitalcore.accounts.overdraftrs.reactive.repository.ReactiveReasonOverdraftRepository;
+import com.santander.digitalcore.accounts.overdraftrs.util.Constants;
+import com.santander.digitalcore.accounts.overdraftrs.util.ReasonOverdraftCursor;
+import com.santander.digitalcore.accounts.util.lib.core.exceptions.NotFoundDarwinExceptionLeancore;
+import com.santander.digitalcore.accounts.util.lib.db.model.entity.ReasonOverdraftEntity;
+import com.santander.digitalcore.accounts.util.lib.db.model.entity.ReasonOverdraftEntityPK;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+
+class ReactiveReasonOverdraftControllerTest {
+
+  @Mock
+  private ReactiveReasonOverdraftRepository repository;
+
+  private ReactiveReasonOverdraftController controller;
+  private WebTestClient webTestClient;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    controller = new ReactiveReasonOverdraftController(repository);
+    webTestClient = WebTestClient.bindToController(controller).build();
+  }
+
+  @Test
+  void testGetReasonOverdraftOk() {
+    when(repository.findByPK(any())).thenReturn(Mono.just(entity("SAN", "15")));
+
+    webTestClient.get().uri("/reason/15/entity/0000000049/brand/SAN")
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().exists(HttpHeaders.ETAG)
+        .expectBody()
+        .jsonPath("$.reasonCode").isEqualTo("15")
+        .jsonPath("$.descData").isEqualTo("Motivo 15");
+  }
+
+  @Test
+  void testGetReasonOverdraftNotModified() {
+    when(repository.findByPK(any())).thenReturn(Mono.just(entity("SAN", "15")));
+
+    var etag = webTestClient.get().uri("/reason/15/entity/0000000049/brand/SAN")
+        .exchange()
+        .expectStatus().isOk()
+        .returnResult(ReasonOverdraftDTO.class).getResponseHeaders().getETag();
+
+    webTestClient.get().uri("/reason/15/entity/0000000049/brand/SAN")
+        .header(HttpHeaders.IF_NONE_MATCH, etag)
+        .exchange()
+        .expectStatus().isNotModified()
+        .expectHeader().valueEquals(HttpHeaders.ETAG, etag);
+  }
+
+  @Test
+  void testGetReasonOverdraftNotFound() {
+    when(repository.findByPK(any())).thenReturn(Mono.empty());
+
+    StepVerifier.create(controller.getReasonOverdraft("15", "0000000049", "SAN", null))
+        .expectError(NotFoundDarwinExceptionLeancore.class)
+        .verify();
+  }
+
+  @Test
+  void testGetReasonOverdraftListFullPageReturnsNextCursor() {
+    when(repository.findList(isNull(), eq("0000000049"), isNull(), isNull(), eq(0), eq(2)))
+        .thenReturn(Flux.just(entity("SAN", "10"), entity("SAN", "11")));
+
+    webTestClient.get().uri("/reason/list?entity=0000000049&_limit=2")
+        .accept(MediaType.APPLICATION_JSON)
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().valueEquals(Constants.HEADER_NEXT_CURSOR,
+            ReasonOverdraftCursor.encode("0000000049", "SAN", "11"))
+        .expectBody()
+        .jsonPath("$.length()").isEqualTo(2);
+  }
+
+  @Test
+  void testGetReasonOverdraftListWithCursorReadsOneMoreRow() {
+    var cursor = ReasonOverdraftCursor.encode("0000000049", "SAN", "11");
+    when(repository.findListAfter(isNull(), isNull(), isNull(), isNull(), any(), eq(3)))
+        .thenReturn(Flux.just(entity("SAN", "12"), entity("SAN", "13")));
+
+    webTestClient.get().uri("/reason/list?_limit=2&_cursor={cursor}", cursor)
+        .accept(MediaType.APPLICATION_JSON)
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().doesNotExist(Constants.HEADER_NEXT_CURSOR)
+        .expectBody()
+        .jsonPath("$[1].reasonCode").isEqualTo("13");
+  }
+
+  @Test
+  void testStreamReasonOverdraftList() {
+    when(repository.findList(isNull(), isNull(), eq("SAN"), isNull(), eq(0), eq(20)))
+        .thenReturn(Flux.fromStream(IntStream.range(10, 30).mapToObj(i -> entity("SAN", String.valueOf(i)))));
+
+    var result = webTestClient.get().uri("/reason/list?brand=SAN")
+        .accept(MediaType.APPLICATION_NDJSON)
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+        .returnResult(ReasonOverdraftDTO.class);
+
+    StepVerifier.create(result.getResponseBody().map(ReasonOverdraftDTO::getReasonCode))
+        .expectNext("10")
+        .expectNextCount(19)
+        .verifyComplete();
+  }
+
+  private static ReasonOverdraftEntity entity(String brand, String reasonCode) {
+    var entity = new ReasonOverdraftEntity();
+    entity.setPk(new ReasonOverdraftEntityPK("0000000049", brand, reasonCode));
+    entity.setStartDateTime(LocalDateTime.of(2025, 1, 1, 0, 0));
+    entity.setEndDateTime(LocalDateTime.of(9999, 12, 31, 23, 59, 59));
+    entity.setDescData("Motivo " + reasonCode);
+    entity.setLastUpdaterDateTime(LocalDateTime.of(2026, 1, 1, 0, 0));
+    return entity;
+  }
+}
@@ -0,0 +1,8 @@
+-- Callback de Flyway del perfil local-h2: se ejecuta después de las migraciones de db/migration/h2
+-- Motivos que consulta load-test/reason-overdraft.js (los mismos que el perfil local-h2 del microservicio)
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME)
+SELECT '0000000049', 'SAN', CAST(X AS VARCHAR), TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo ' || X, 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00'
+FROM SYSTEM_RANGE(10, 59);
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME)
+SELECT '0000000049', 'BANIF', CAST(X AS VARCHAR), TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo ' || X, 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00'
+FROM SYSTEM_RANGE(10, 59);
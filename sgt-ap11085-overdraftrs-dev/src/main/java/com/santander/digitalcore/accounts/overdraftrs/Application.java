@@ -3,6 +3,7 @@ package com.santander.digitalcore.accounts.overdraftrs;
 import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.annotation.EnableCaching;
 
 /**
  * The main class of the Spring applications.
@@ -10,6 +11,7 @@ import org.springframework.boot.builder.SpringApplicationBuilder;
  * @author Santander Technology
  */
 @SpringBootApplication
+@EnableCaching
 public class Application {
 
 	/**
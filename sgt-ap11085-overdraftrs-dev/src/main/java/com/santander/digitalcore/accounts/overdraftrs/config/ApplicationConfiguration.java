@@ -2,17 +2,25 @@ package com.santander.digitalcore.accounts.overdraftrs.config;
 
 import com.santander.digitalcore.accounts.util.lib.db.config.OverdraftConfiguration;
 import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
 import org.springframework.jdbc.core.JdbcTemplate;
 
 import javax.sql.DataSource;
 
 /**
  * Enable caching in the application.
+ * The application DataSource routes the connections of GET requests to the read pool (spring.datasource.read.*)
+ * when it is configured, and everything else to the primary pool (spring.datasource.*).
  */
 @Configuration
 @Import(OverdraftConfiguration.class)
@@ -20,8 +28,48 @@ class ApplicationConfiguration {
 
   @Bean
   @ConfigurationProperties(prefix = "spring.datasource")
-  public DataSource dataSource() {
-    return DataSourceBuilder.create().type(HikariDataSource.class).build();
+  public HikariDataSource writeDataSource() {
+    var dataSource = DataSourceBuilder.create().type(HikariDataSource.class).build();
+    dataSource.setPoolName("overdraftrs-write");
+    return dataSource;
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "spring.datasource.read", name = "jdbc-url")
+  @ConfigurationProperties(prefix = "spring.datasource.read")
+  public HikariDataSource readDataSource() {
+    var dataSource = DataSourceBuilder.create().type(HikariDataSource.class).build();
+    dataSource.setPoolName("overdraftrs-read");
+    // el servicio arranca aunque la réplica no esté disponible; sus peticiones van al pool principal
+    dataSource.setInitializationFailTimeout(-1);
+    return dataSource;
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(@Qualifier("writeDataSource") DataSource writeDataSource,
+                               @Qualifier("readDataSource") ObjectProvider<DataSource> readDataSource,
+                               @Value("${overdraftrs.read-routing.retry-after-ms:30000}") long retryAfterMillis,
+                               @Value("${overdraftrs.statement-cache.size:50}") int statementCacheSize,
+                               ObjectProvider<MeterRegistry> meterRegistry) {
+    enableStatementCache(writeDataSource, statementCacheSize);
+    readDataSource.ifAvailable(read -> enableStatementCache(read, statementCacheSize));
+    return new ReadWriteRoutingDataSource(writeDataSource, readDataSource.getIfAvailable(), retryAfterMillis,
+        meterRegistry.getIfAvailable());
+  }
+
+  /**
+   * Activa la caché implícita de sentencias del driver de Oracle en un pool que aún no ha abierto conexiones.
+   * Los demás drivers (H2 en local-h2) no se tocan, porque rechazan las propiedades que no conocen.
+   *
+   * @param dataSource el pool
+   * @param size       sentencias cacheadas por conexión; 0 la deja desactivada
+   */
+  static void enableStatementCache(DataSource dataSource, int size) {
+    if (size > 0 && dataSource instanceof HikariDataSource hikari && hikari.getJdbcUrl() != null
+        && hikari.getJdbcUrl().startsWith("jdbc:oracle:")) {
+      hikari.addDataSourceProperty("oracle.jdbc.implicitStatementCacheSize", String.valueOf(size));
+    }
   }
 
   @Bean
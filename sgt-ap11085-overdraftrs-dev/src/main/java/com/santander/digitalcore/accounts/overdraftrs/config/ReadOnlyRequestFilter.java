@@ -0,0 +1,31 @@
+package com.santander.digitalcore.accounts.overdraftrs.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Envía las consultas de las peticiones GET y HEAD al pool de lectura de {@link ReadWriteRoutingDataSource}.
+ * El resto de peticiones usan el pool principal.
+ */
+@Component
+public class ReadOnlyRequestFilter extends OncePerRequestFilter {
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+    try (var ignored = ReadWriteRoutingDataSource.readOnly()) {
+      filterChain.doFilter(request, response);
+    }
+  }
+}
@@ -0,0 +1,125 @@
+package com.santander.digitalcore.accounts.overdraftrs.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DataSource que envía las lecturas al pool de lectura (spring.datasource.read.*) y el resto al pool principal.
+ * Una conexión va al pool de lectura solo si el hilo está dentro de {@link #readOnly()} (las peticiones GET, ver
+ * {@link ReadOnlyRequestFilter}) y el pool de lectura está configurado.
+ * Si el pool de lectura no da conexión, la petición usa el principal y el de lectura no se vuelve a intentar hasta
+ * pasados retry-after-ms, para no esperar su connection-timeout en cada petición.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+  /**
+   * Pool al que se envía la conexión
+   */
+  public enum Route {
+    WRITE, READ
+  }
+
+  private static final ThreadLocal<Route> ROUTE = new ThreadLocal<>();
+
+  private final DataSource writeDataSource;
+  private final DataSource readDataSource;
+  private final long retryAfterNanos;
+  private final Counter fallbacks;
+  private volatile boolean readUnavailable;
+  private volatile long readRetryAt;
+
+  /**
+   * Constructor de la clase.
+   *
+   * @param writeDataSource  pool principal
+   * @param readDataSource   pool de lectura, o null si no está configurado
+   * @param retryAfterMillis tiempo sin intentar el pool de lectura después de un error
+   * @param meterRegistry    registro de métricas, o null
+   */
+  public ReadWriteRoutingDataSource(DataSource writeDataSource, DataSource readDataSource, long retryAfterMillis,
+                                    MeterRegistry meterRegistry) {
+    this.writeDataSource = writeDataSource;
+    this.readDataSource = readDataSource;
+    this.retryAfterNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, retryAfterMillis));
+    this.fallbacks = meterRegistry == null ? null : Counter.builder("overdraftrs.datasource.read.fallback")
+        .description("Read connections served by the primary pool because the read pool was unavailable")
+        .register(meterRegistry);
+    Map<Object, Object> targets = new HashMap<>();
+    targets.put(Route.WRITE, writeDataSource);
+    if (readDataSource != null) {
+      targets.put(Route.READ, readDataSource);
+    }
+    setTargetDataSources(targets);
+    setDefaultTargetDataSource(writeDataSource);
+    afterPropertiesSet();
+  }
+
+  /**
+   * Marca el hilo actual como de solo lectura hasta que se cierra el ámbito devuelto.
+   *
+   * @return el ámbito, que restaura el pool anterior al cerrarse
+   */
+  public static Scope readOnly() {
+    var previous = ROUTE.get();
+    ROUTE.set(Route.READ);
+    return () -> {
+      if (previous == null) {
+        ROUTE.remove();
+      } else {
+        ROUTE.set(previous);
+      }
+    };
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (readDataSource == null || ROUTE.get() != Route.READ) {
+      return Route.WRITE;
+    }
+    if (readUnavailable && System.nanoTime() - readRetryAt < 0) {
+      return Route.WRITE;
+    }
+    return Route.READ;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    if (determineCurrentLookupKey() != Route.READ) {
+      return writeDataSource.getConnection();
+    }
+    try {
+      var connection = readDataSource.getConnection();
+      readUnavailable = false;
+      return connection;
+    } catch (SQLException e) {
+      log.warn("Read pool unavailable, using the primary pool for {} ms: {}",
+          TimeUnit.NANOSECONDS.toMillis(retryAfterNanos), e.getMessage());
+      readRetryAt = System.nanoTime() + retryAfterNanos;
+      readUnavailable = true;
+      if (fallbacks != null) {
+        fallbacks.increment();
+      }
+      return writeDataSource.getConnection();
+    }
+  }
+
+  /**
+   * Ámbito de {@link #readOnly()}; se cierra con try-with-resources.
+   */
+  @FunctionalInterface
+  public interface Scope extends AutoCloseable {
+
+    @Override
+    void close();
+  }
+}
@@ -0,0 +1,65 @@
+package com.santander.digitalcore.accounts.overdraftrs.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * ReasonOverdraftBatchResult
+ * Resultado del alta de cada motivo de descubierto de un lote, en el mismo orden que la petición.
+ *
+ * @param index      posición del motivo en la petición, empezando en 0
+ * @param entity     entidad del motivo
+ * @param brand      marca del motivo
+ * @param reasonCode código del motivo
+ * @param status     CREATED si se ha dado de alta, REJECTED si no
+ * @param errors     códigos de error del motivo rechazado; vacía si se ha dado de alta
+ */
+@Schema(description = "Result of the creation of one overdraft reason of a batch.")
+public record ReasonOverdraftBatchResult(
+    @Schema(description = "Position of the item in the request, starting at 0.") int index,
+    @Schema(description = "Entity associated with the overdraft reason.") String entity,
+    @Schema(description = "Brand associated with the overdraft reason.") String brand,
+    @Schema(description = "Reason code for the overdraft.") String reasonCode,
+    @Schema(description = "CREATED or REJECTED.") Status status,
+    @Schema(description = "Error codes of a rejected item.") List<String> errors) {
+
+  /**
+   * Estado del alta de un motivo del lote.
+   */
+  public enum Status {
+    /**
+     * Dado de alta
+     */
+    CREATED,
+    /**
+     * No se ha dado de alta por los errores indicados
+     */
+    REJECTED
+  }
+
+  /**
+   * Resultado de un motivo dado de alta.
+   *
+   * @param index   posición del motivo en la petición
+   * @param request el motivo
+   * @return el resultado
+   */
+  public static ReasonOverdraftBatchResult created(int index, ReasonOverdraftDTO request) {
+    return new ReasonOverdraftBatchResult(index, request.getEntity(), request.getBrand(), request.getReasonCode(),
+        Status.CREATED, List.of());
+  }
+
+  /**
+   * Resultado de un motivo rechazado.
+   *
+   * @param index   posición del motivo en la petición
+   * @param request el motivo
+   * @param errors  los códigos de error
+   * @return el resultado
+   */
+  public static ReasonOverdraftBatchResult rejected(int index, ReasonOverdraftDTO request, List<String> errors) {
+    return new ReasonOverdraftBatchResult(index, request.getEntity(), request.getBrand(), request.getReasonCode(),
+        Status.REJECTED, List.copyOf(errors));
+  }
+}
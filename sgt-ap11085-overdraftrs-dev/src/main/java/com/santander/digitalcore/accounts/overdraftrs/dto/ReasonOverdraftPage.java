@@ -0,0 +1,13 @@
+package com.santander.digitalcore.accounts.overdraftrs.dto;
+
+import java.util.List;
+
+/**
+ * ReasonOverdraftPage
+ * Página del listado de motivos de descubierto y el cursor para pedir la siguiente.
+ *
+ * @param items      los motivos de la página
+ * @param nextCursor cursor de la siguiente página, o null si no hay más resultados
+ */
+public record ReasonOverdraftPage(List<ReasonOverdraftDTO> items, String nextCursor) {
+}
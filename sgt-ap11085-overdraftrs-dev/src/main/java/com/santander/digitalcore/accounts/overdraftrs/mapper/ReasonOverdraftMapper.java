@@ -3,6 +3,7 @@ package com.santander.digitalcore.accounts.overdraftrs.mapper;
 import com.santander.digitalcore.accounts.util.lib.db.model.entity.ReasonOverdraftEntity;
 import com.santander.digitalcore.accounts.util.lib.db.model.entity.ReasonOverdraftEntityPK;
 import com.santander.digitalcore.accounts.overdraftrs.dto.ReasonOverdraftDTO;
+import com.santander.digitalcore.accounts.overdraftrs.util.DateTimeCodec;
 
 import org.apache.commons.lang3.StringUtils;
 import org.mapstruct.Mapper;
@@ -13,7 +14,6 @@ import org.mapstruct.MappingTarget;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 @Mapper
 public interface ReasonOverdraftMapper {
@@ -66,19 +66,19 @@ public interface ReasonOverdraftMapper {
     }
 
     default LocalDate mapToDate(String date) {
-        return (date != null) ? LocalDate.parse(date, DateTimeFormatter.ofPattern("yyyy-MM-dd")) : null;
+        return DateTimeCodec.parseDate(date);
     }
 
     default LocalDateTime mapToDateTime(String dateTime) {
-        return (dateTime != null) ? LocalDateTime.parse(dateTime, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS")) : null;
+        return DateTimeCodec.parseDateTime(dateTime);
     }
 
     default String mapToDateStr(LocalDate date) {
-        return date != null ? date.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")) : null;
+        return DateTimeCodec.formatDate(date);
     }
 
     default String mapToDateTimeStr(LocalDateTime dateTime) {
-        return dateTime != null ? dateTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS")) : null;
+        return DateTimeCodec.formatDateTime(dateTime);
     }
 
 }
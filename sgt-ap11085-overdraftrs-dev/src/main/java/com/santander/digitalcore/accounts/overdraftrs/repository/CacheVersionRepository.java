@@ -0,0 +1,61 @@
+package com.santander.digitalcore.accounts.overdraftrs.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Repositorio de la tabla DC_CACHE_VERSION, que guarda una versión por catálogo cacheado.
+ * Usa el JdbcTemplate (y no una conexión propia) para que el incremento de la versión forme parte de la
+ * transacción de Spring en curso, la misma de la escritura del catálogo.
+ */
+@Repository
+public class CacheVersionRepository {
+
+  private static final String BUMP_SQL = """
+      MERGE INTO DC_CACHE_VERSION T
+      USING (SELECT CAST(? AS VARCHAR2(30)) CACHE_NAME FROM DUAL) S
+      ON (T.CACHE_NAME = S.CACHE_NAME)
+      WHEN MATCHED THEN UPDATE SET
+          T.VERSION = T.VERSION + 1, T.LAST_UPDATER_DATE_TIME = CURRENT_TIMESTAMP
+      WHEN NOT MATCHED THEN INSERT (CACHE_NAME, VERSION, LAST_UPDATER_DATE_TIME)
+          VALUES (S.CACHE_NAME, 1, CURRENT_TIMESTAMP)
+      """;
+
+  private static final String FIND_ALL_SQL = "SELECT CACHE_NAME, VERSION FROM DC_CACHE_VERSION";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Constructor de la clase.
+   *
+   * @param jdbcTemplate El JdbcTemplate utilizado para las operaciones de base de datos.
+   */
+  public CacheVersionRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Incrementa la versión del catálogo, creando la fila si no existe.
+   *
+   * @param cacheName el nombre del catálogo (la tabla cacheada)
+   */
+  public void bump(String cacheName) {
+    jdbcTemplate.update(BUMP_SQL, cacheName);
+  }
+
+  /**
+   * Lee la versión de todos los catálogos.
+   *
+   * @return la versión de cada catálogo con fila en la tabla
+   */
+  public Map<String, Long> findAll() {
+    Map<String, Long> versions = new HashMap<>();
+    jdbcTemplate.query(FIND_ALL_SQL, rs -> {
+      versions.put(rs.getString("CACHE_NAME"), rs.getLong("VERSION"));
+    });
+    return versions;
+  }
+}
@@ -1,22 +1,35 @@
 package com.santander.digitalcore.accounts.overdraftrs.repository;
 
 import com.santander.digitalcore.accounts.overdraftrs.util.Constants;
+import com.santander.digitalcore.accounts.util.lib.core.utils.UtilLeanCoreData;
 import com.santander.digitalcore.accounts.util.lib.db.model.entity.ReasonOverdraftEntity;
 import com.santander.digitalcore.accounts.util.lib.db.model.entity.ReasonOverdraftEntityPK;
 import com.santander.digitalcore.accounts.util.lib.db.model.repository.ReasonOverdraftRepository;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
 
 
 /**
@@ -27,15 +40,25 @@ import java.util.Optional;
 @Repository
 public class ReasonOverdraftRepositoryExt extends ReasonOverdraftRepository {
 
+  private final StatementCacheMetrics statementCacheMetrics;
+
   /**
    * Constructor que inicializa el repositorio con un JdbcTemplate.
    *
-   * @param jdbcTemplate El JdbcTemplate utilizado para las operaciones de base de datos.
+   * @param jdbcTemplate          El JdbcTemplate utilizado para las operaciones de base de datos.
+   * @param statementCacheMetrics métricas de la caché de sentencias del driver
    */
-  public ReasonOverdraftRepositoryExt(JdbcTemplate jdbcTemplate) {
+  public ReasonOverdraftRepositoryExt(JdbcTemplate jdbcTemplate, StatementCacheMetrics statementCacheMetrics) {
     super(jdbcTemplate);
+    this.statementCacheMetrics = statementCacheMetrics;
   }
 
+  /**
+   * Número máximo de claves por consulta en {@link #findExistingKeys(List)}; Oracle admite hasta 1000
+   * elementos en una lista IN.
+   */
+  static final int MAX_KEYS_PER_QUERY = 500;
+
   /**
    * Método para buscar un motivo de descubierto por su clave primaria.
    * Este método devuelve un Optional que contiene el motivo de descubierto si se encuentra,
@@ -59,6 +82,7 @@ public class ReasonOverdraftRepositoryExt extends ReasonOverdraftRepository {
         """;
 
     try (var conn = getConnection(); PreparedStatement ps = conn.prepareStatement(sql)) {
+      statementCacheMetrics.record("findByPK", ps);
       ps.setString(Constants.NUMBER_1, entityPK.getEntity());
       ps.setString(Constants.NUMBER_2, entityPK.getBrand());
       ps.setString(Constants.NUMBER_3, entityPK.getReasonCode());
@@ -92,15 +116,55 @@ public class ReasonOverdraftRepositoryExt extends ReasonOverdraftRepository {
     List<ReasonOverdraftEntity> resultList = new ArrayList<>();
     List<Object> parameters = new ArrayList<>();
 
-    var sql = buildQuery(status, reasonCode, entity, brand, parameters);
+    // la paginación va siempre en la consulta, sin límite si no se informa, para no duplicar las formas
+    var sql = buildQuery(status, reasonCode, entity, brand, null, parameters) + " OFFSET ? ROWS FETCH NEXT ? ROWS ONLY";
+    var paged = offset != null && limit != null;
+    parameters.add(paged ? Integer.parseInt(offset) : 0);
+    parameters.add(paged ? Integer.parseInt(limit) : Integer.MAX_VALUE);
+
+    try (var conn = getConnection(); PreparedStatement ps = conn.prepareStatement(sql)) {
+      statementCacheMetrics.record("findList", ps);
+      setPreparedStatementParameters(ps, parameters);
 
-    if (offset != null && limit != null) {
-      sql += " OFFSET ? ROWS FETCH NEXT ? ROWS ONLY";
-      parameters.add(Integer.parseInt(offset));
-      parameters.add(Integer.parseInt(limit));
+      try (ResultSet rs = ps.executeQuery()) {
+        while (rs.next()) {
+          resultList.add(mapper.mapRow(rs, rs.getRow()));
+        }
+      }
+    } catch (SQLException e) {
+      log.error("Error findList", e);
+      throw e;
     }
 
+    return resultList;
+  }
+
+  /**
+   * Método para buscar una página de motivos de descubierto por clave (keyset pagination).
+   * En lugar de descartar filas con OFFSET, continúa a partir de la última clave devuelta con un
+   * predicado sobre (ENTITY, BRAND, REASON_CODE) que Oracle resuelve recorriendo la clave primaria.
+   *
+   * @param reasonCode the reason code
+   * @param entity     the entity
+   * @param brand      the brand
+   * @param status     the status (ACT, CAN, PEN, or null for default active)
+   * @param after      the last key of the previous page, or null for the first page
+   * @param limit      the maximum number of rows to return
+   * @return a list of ReasonOverdraftEntity objects after the given key
+   * @throws SQLException if an SQL error occurs
+   */
+  public List<ReasonOverdraftEntity> findListAfter(
+      String reasonCode, String entity, String brand,
+      String status, ReasonOverdraftEntityPK after, int limit) throws SQLException {
+
+    List<ReasonOverdraftEntity> resultList = new ArrayList<>();
+    List<Object> parameters = new ArrayList<>();
+
+    var sql = buildQuery(status, reasonCode, entity, brand, after, parameters) + " FETCH FIRST ? ROWS ONLY";
+    parameters.add(limit);
+
     try (var conn = getConnection(); PreparedStatement ps = conn.prepareStatement(sql)) {
+      statementCacheMetrics.record("findListAfter", ps);
       setPreparedStatementParameters(ps, parameters);
 
       try (ResultSet rs = ps.executeQuery()) {
@@ -109,62 +173,325 @@ public class ReasonOverdraftRepositoryExt extends ReasonOverdraftRepository {
         }
       }
     } catch (SQLException e) {
-      log.error("Error findList", e);
+      log.error("Error findListAfter", e);
+      throw e;
+    }
+
+    return resultList;
+  }
+
+  /**
+   * Recorre todos los motivos de descubierto, opcionalmente filtrados por entidad y marca, sin cargarlos en memoria.
+   * Cada fila se entrega al consumidor según se lee; el driver trae las filas de fetchSize en fetchSize.
+   *
+   * @param entity    the entity to filter by (optional)
+   * @param brand     the brand to filter by (optional)
+   * @param fetchSize the number of rows fetched from the database per round trip
+   * @param consumer  the consumer of each row
+   * @return the number of rows read
+   * @throws SQLException if an SQL error occurs
+   */
+  public long forEach(String entity, String brand, int fetchSize, Consumer<ReasonOverdraftEntity> consumer)
+      throws SQLException {
+    var sql = new StringBuilder("""
+        SELECT
+            ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME,
+            DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE,
+            MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME,
+            LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME
+        FROM
+            DC_REASON_OVERDRAFT
+        WHERE
+            1=1
+        """);
+    List<Object> parameters = new ArrayList<>();
+    if (entity != null) {
+      sql.append(" AND ENTITY = ?");
+      parameters.add(entity);
+    }
+    if (brand != null) {
+      sql.append(" AND BRAND = ?");
+      parameters.add(brand);
+    }
+    sql.append(" ORDER BY ENTITY, BRAND, REASON_CODE");
+
+    long rows = 0;
+    try (var conn = getConnection();
+         PreparedStatement ps = conn.prepareStatement(sql.toString(),
+             ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+      ps.setFetchSize(fetchSize);
+      setPreparedStatementParameters(ps, parameters);
+
+      try (ResultSet rs = ps.executeQuery()) {
+        while (rs.next()) {
+          consumer.accept(mapper.mapRow(rs, (int) ++rows));
+        }
+      }
+    } catch (SQLException e) {
+      log.error("Error forEach", e);
       throw e;
     }
+    return rows;
+  }
 
+  /**
+   * Método para buscar los motivos de descubierto modificados después de una fecha.
+   * Se usa para refrescar de forma incremental la copia en memoria de la tabla; las filas sin
+   * LAST_UPDATER_DATE_TIME no se devuelven.
+   *
+   * @param since la fecha a partir de la cual buscar, sin incluirla
+   * @return los motivos modificados, ordenados por LAST_UPDATER_DATE_TIME
+   * @throws SQLException if an SQL error occurs
+   */
+  public List<ReasonOverdraftEntity> findUpdatedSince(LocalDateTime since) throws SQLException {
+    var sql = """
+        SELECT
+            ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME,
+            DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE,
+            MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME,
+            LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME
+        FROM
+            DC_REASON_OVERDRAFT
+        WHERE
+            LAST_UPDATER_DATE_TIME > ?
+        ORDER BY LAST_UPDATER_DATE_TIME
+        """;
+
+    List<ReasonOverdraftEntity> resultList = new ArrayList<>();
+    try (var conn = getConnection(); PreparedStatement ps = conn.prepareStatement(sql)) {
+      ps.setObject(Constants.NUMBER_1, since);
+
+      try (ResultSet rs = ps.executeQuery()) {
+        while (rs.next()) {
+          resultList.add(mapper.mapRow(rs, rs.getRow()));
+        }
+      }
+    } catch (SQLException e) {
+      log.error("Error findUpdatedSince", e);
+      throw e;
+    }
     return resultList;
   }
 
+  /**
+   * Devuelve cuáles de las claves indicadas existen ya en DC_REASON_OVERDRAFT.
+   * Las claves se consultan con una lista IN sobre (ENTITY, BRAND, REASON_CODE), en una sola consulta por
+   * cada {@value #MAX_KEYS_PER_QUERY} claves y con la misma conexión.
+   *
+   * @param keys las claves a comprobar
+   * @return las claves que ya existen
+   * @throws SQLException if an SQL error occurs
+   */
+  public Set<ReasonOverdraftEntityPK> findExistingKeys(List<ReasonOverdraftEntityPK> keys) throws SQLException {
+    Set<ReasonOverdraftEntityPK> existing = new HashSet<>();
+    if (keys.isEmpty()) {
+      return existing;
+    }
+
+    try (var conn = getConnection()) {
+      for (var from = 0; from < keys.size(); from += MAX_KEYS_PER_QUERY) {
+        var chunk = keys.subList(from, Math.min(from + MAX_KEYS_PER_QUERY, keys.size()));
+        var in = new StringJoiner(", ", "(", ")");
+        chunk.forEach(key -> in.add("(?, ?, ?)"));
+        var sql = "SELECT ENTITY, BRAND, REASON_CODE FROM DC_REASON_OVERDRAFT"
+            + " WHERE (ENTITY, BRAND, REASON_CODE) IN " + in;
+
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+          var index = 1;
+          for (var key : chunk) {
+            ps.setString(index++, key.getEntity());
+            ps.setString(index++, key.getBrand());
+            ps.setString(index++, key.getReasonCode());
+          }
+          try (ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+              existing.add(new ReasonOverdraftEntityPK(rs.getString("ENTITY"), rs.getString("BRAND"),
+                  rs.getString("REASON_CODE")));
+            }
+          }
+        }
+      }
+    } catch (SQLException e) {
+      log.error("Error findExistingKeys", e);
+      throw e;
+    }
+    return existing;
+  }
+
+  /**
+   * Inserta los motivos de descubierto en una sola transacción, enviando los INSERT por lotes de
+   * {@code batchSize} con executeBatch. Si alguno falla no se inserta ninguno.
+   *
+   * @param entities  los motivos a insertar
+   * @param batchSize el número de filas por cada executeBatch
+   * @return el número de filas insertadas
+   * @throws SQLException if an SQL error occurs; the transaction has been rolled back
+   */
+  public int insertBatch(List<ReasonOverdraftEntity> entities, int batchSize) throws SQLException {
+    if (entities.isEmpty()) {
+      return 0;
+    }
+    var sql = """
+        INSERT INTO DC_REASON_OVERDRAFT (
+            ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME,
+            DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE,
+            MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME,
+            LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME
+        ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    try (var conn = getConnection()) {
+      var autoCommit = conn.getAutoCommit();
+      conn.setAutoCommit(false);
+      try (PreparedStatement ps = conn.prepareStatement(sql)) {
+        var pending = 0;
+        for (var entity : entities) {
+          setInsertParameters(ps, entity);
+          ps.addBatch();
+          if (++pending == batchSize) {
+            ps.executeBatch();
+            pending = 0;
+          }
+        }
+        if (pending > 0) {
+          ps.executeBatch();
+        }
+        conn.commit();
+        return entities.size();
+      } catch (SQLException e) {
+        rollback(conn);
+        throw e;
+      } finally {
+        conn.setAutoCommit(autoCommit);
+      }
+    } catch (SQLException e) {
+      log.error("Error insertBatch", e);
+      throw e;
+    }
+  }
+
+  private static void setInsertParameters(PreparedStatement ps, ReasonOverdraftEntity entity) throws SQLException {
+    ps.setString(Constants.NUMBER_1, entity.getPk().getEntity());
+    ps.setString(Constants.NUMBER_2, entity.getPk().getBrand());
+    ps.setString(Constants.NUMBER_3, entity.getPk().getReasonCode());
+    setNullable(ps, Constants.NUMBER_4, entity.getStartDateTime(), Types.TIMESTAMP);
+    setNullable(ps, Constants.NUMBER_5, entity.getEndDateTime(), Types.TIMESTAMP);
+    setNullable(ps, Constants.NUMBER_6, entity.getDescData(), Types.VARCHAR);
+    setNullable(ps, Constants.NUMBER_7, entity.getSettlementIndicator(), Types.VARCHAR);
+    setNullable(ps, Constants.NUMBER_8, entity.getMandatory(), Types.VARCHAR);
+    setNullable(ps, Constants.NUMBER_9, entity.getDefaultDate(), Types.DATE);
+    setNullable(ps, Constants.NUMBER_10, entity.getMonths(), Types.NUMERIC);
+    setNullable(ps, Constants.NUMBER_11, entity.getCounter(), Types.NUMERIC);
+    setNullable(ps, Constants.NUMBER_12, entity.getCondition(), Types.VARCHAR);
+    setNullable(ps, Constants.NUMBER_13, entity.getCreationUser(), Types.VARCHAR);
+    setNullable(ps, Constants.NUMBER_14, entity.getCreationDateTime(), Types.TIMESTAMP);
+    setNullable(ps, Constants.NUMBER_15, entity.getLastUpdaterUser(), Types.VARCHAR);
+    setNullable(ps, Constants.NUMBER_16, entity.getLastUpdaterDateTime(), Types.TIMESTAMP);
+  }
+
+  private static void setNullable(PreparedStatement ps, int index, Object value, int sqlType) throws SQLException {
+    if (value == null) {
+      ps.setNull(index, sqlType);
+    } else {
+      ps.setObject(index, value);
+    }
+  }
+
+  private static void rollback(Connection conn) {
+    try {
+      conn.rollback();
+    } catch (SQLException e) {
+      log.error("Error rollback insertBatch", e);
+    }
+  }
+
+  /**
+   * Indica si la excepción, o alguna de sus causas, es una violación de clave única (ORA-00001 o SQLState 23505).
+   * Las demás violaciones de integridad (NOT NULL, FK, CHECK) comparten el SQLState 23000 en Oracle y no cuentan.
+   *
+   * @param throwable la excepción lanzada por el insert
+   * @return true si el registro ya existía
+   */
+  public static boolean isDuplicateKey(Throwable throwable) {
+    for (var cause = throwable; cause != null; cause = cause.getCause()) {
+      if (cause instanceof DuplicateKeyException) {
+        return true;
+      }
+      if (cause instanceof SQLException sqlException
+          && (sqlException.getErrorCode() == Constants.ORA_UNIQUE_CONSTRAINT
+          || Constants.SQLSTATE_UNIQUE_VIOLATION.equals(sqlException.getSQLState()))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * Builds the SQL query for finding ReasonOverdraftEntity records based on the provided parameters.
+   * The text of the query only depends on the status, on the access path and on whether there is a key to continue
+   * after, so there are at most 24 distinct queries (together with the paging clause of the caller) and Oracle
+   * shares their cursors. The access path is the primary key when the entity is informed, the reason code index
+   * (IX_DC_REASON_OVERDRAFT_CODE) when only the reason code is, and the status index otherwise. The remaining
+   * filters are always present as {@code COLUMN = NVL(?, COLUMN)} and are bound to null when not informed.
    *
    * @param status     the status of the reason (ACT, CAN, PEN, or null for default active)
    * @param reasonCode the reason code to filter by
    * @param entity     the entity to filter by
    * @param brand      the brand to filter by
+   * @param after      the key to continue after (keyset pagination), or null
    * @param parameters the list to hold query parameters
    * @return the constructed SQL query string
    */
-  private static String buildQuery(
-      String status, String reasonCode, String entity, String brand, List<Object> parameters) {
+  static String buildQuery(
+      String status, String reasonCode, String entity, String brand,
+      ReasonOverdraftEntityPK after, List<Object> parameters) {
     var sql = new StringBuilder("""
         SELECT
             *
         FROM
             DC_REASON_OVERDRAFT
         WHERE
-            1=1
         """);
 
     var now = new Timestamp(System.currentTimeMillis());
 
     if (status == null || "ACT".equalsIgnoreCase(status)) {
-      sql.append(" AND START_DATE_TIME <= ? AND END_DATE_TIME >= ?");
+      sql.append(" START_DATE_TIME <= ? AND END_DATE_TIME >= ?");
       parameters.add(now);
       parameters.add(now);
     } else if ("CAN".equalsIgnoreCase(status)) {
-      sql.append(" AND (START_DATE_TIME > ? OR END_DATE_TIME < ?)");
+      sql.append(" (START_DATE_TIME > ? OR END_DATE_TIME < ?)");
       parameters.add(now);
       parameters.add(now);
     } else if ("PEN".equalsIgnoreCase(status)) {
-      sql.append(" AND START_DATE_TIME > ?");
+      sql.append(" START_DATE_TIME > ?");
       parameters.add(now);
     } else {
       log.warn("Unhandled status: {}", status);
+      sql.append(" 1=1");
     }
 
-    if (reasonCode != null) {
-      sql.append(" AND REASON_CODE = ?");
-      parameters.add(reasonCode);
-    }
     if (entity != null) {
-      sql.append(" AND ENTITY = ?");
+      sql.append(" AND ENTITY = ? AND BRAND = NVL(?, BRAND) AND REASON_CODE = NVL(?, REASON_CODE)");
       parameters.add(entity);
-    }
-    if (brand != null) {
-      sql.append(" AND BRAND = ?");
       parameters.add(brand);
+      parameters.add(reasonCode);
+    } else if (reasonCode != null) {
+      sql.append(" AND REASON_CODE = ? AND BRAND = NVL(?, BRAND)");
+      parameters.add(reasonCode);
+      parameters.add(brand);
+    } else {
+      sql.append(" AND BRAND = NVL(?, BRAND)");
+      parameters.add(brand);
+    }
+    if (after != null) {
+      // (ENTITY, BRAND, REASON_CODE) > (?, ?, ?) desarrollado para que use el índice de la clave primaria
+      sql.append(" AND (ENTITY > ? OR (ENTITY = ? AND (BRAND > ? OR (BRAND = ? AND REASON_CODE > ?))))");
+      parameters.add(after.getEntity());
+      parameters.add(after.getEntity());
+      parameters.add(after.getBrand());
+      parameters.add(after.getBrand());
+      parameters.add(after.getReasonCode());
     }
 
     sql.append(" ORDER BY ENTITY, BRAND, REASON_CODE");
@@ -182,12 +509,19 @@ public class ReasonOverdraftRepositoryExt extends ReasonOverdraftRepository {
       PreparedStatement ps, List<Object> parameters) throws SQLException {
     for (var i = 0; i < parameters.size(); i++) {
       Object param = parameters.get(i);
-      if (param instanceof String string) {
+      if (param == null) {
+        // filtros opcionales de buildQuery no informados
+        ps.setNull(i + 1, Types.VARCHAR);
+      } else if (param instanceof String string) {
         ps.setString(i + 1, string);
       } else if (param instanceof Integer integer) {
         ps.setInt(i + 1, integer);
       } else if (param instanceof Timestamp timestamp) {
         ps.setTimestamp(i + 1, timestamp);
+      } else if (param instanceof BigDecimal bigDecimal) {
+        ps.setBigDecimal(i + 1, bigDecimal);
+      } else if (param instanceof LocalDateTime || param instanceof LocalDate) {
+        ps.setObject(i + 1, param);
       } else {
         log.warn("Unhandled param type: {}", param.getClass().getSimpleName());
       }
@@ -195,47 +529,89 @@ public class ReasonOverdraftRepositoryExt extends ReasonOverdraftRepository {
   }
 
   /**
-   * Updates an existing ReasonOverdraftEntity in the database.
+   * Actualiza en una única sentencia solo las columnas informadas (no nulas) de {@code changes}.
+   * La sentencia solo modifica la fila si:
+   * <ul>
+   * <li>alguna de las columnas informadas tiene un valor distinto al actual (DECODE trata dos nulos como iguales),</li>
+   * <li>LAST_UPDATER_DATE_TIME coincide, al milisegundo, con {@code expectedLastUpdaterDateTime} si se informa,</li>
+   * <li>las nuevas fechas de vigencia son coherentes con las fechas que se mantienen.</li>
+   * </ul>
+   * Si no hay ninguna columna informada no se lanza ninguna sentencia y se devuelve 0.
    *
-   * @param reasonOverdraftEntity the entity to be updated
+   * @param changes                     la clave y las columnas a modificar, junto con LAST_UPDATER_USER y
+   *                                    LAST_UPDATER_DATE_TIME
+   * @param expectedLastUpdaterDateTime la versión leída por el cliente, o null para no comprobarla
+   * @return el número de filas modificadas (0 o 1)
    * @throws SQLException if an SQL error occurs
    */
-  public void update(ReasonOverdraftEntity reasonOverdraftEntity) throws SQLException {
-    var sql = """
-        UPDATE
-            DC_REASON_OVERDRAFT
-        SET
-            START_DATE_TIME = ?, END_DATE_TIME = ?, DESCDATA = ?,
-            SETTLEMENT_INDICATOR = ?, MANDATORY = ?, DEFAULTDATE = ?,
-            MONTHS = ?, COUNTER = ?, CONDITION = ?, LAST_UPDATER_USER = ?,
-            LAST_UPDATER_DATE_TIME = ?
-        WHERE
-            ENTITY = ? AND BRAND = ? AND REASON_CODE = ?
-        """;
+  public int updateChanged(ReasonOverdraftEntity changes, LocalDateTime expectedLastUpdaterDateTime)
+      throws SQLException {
+    var columns = new LinkedHashMap<String, Object>();
+    putIfNotNull(columns, "START_DATE_TIME", changes.getStartDateTime());
+    putIfNotNull(columns, "END_DATE_TIME", changes.getEndDateTime());
+    putIfNotNull(columns, "DESCDATA", changes.getDescData());
+    putIfNotNull(columns, "SETTLEMENT_INDICATOR", changes.getSettlementIndicator());
+    putIfNotNull(columns, "MANDATORY", changes.getMandatory());
+    putIfNotNull(columns, "DEFAULTDATE", changes.getDefaultDate());
+    putIfNotNull(columns, "MONTHS", changes.getMonths());
+    putIfNotNull(columns, "COUNTER", changes.getCounter());
+    putIfNotNull(columns, "CONDITION", changes.getCondition());
+    if (columns.isEmpty()) {
+      return 0;
+    }
 
-    try (var conn = getConnection(); PreparedStatement ps = conn.prepareStatement(sql)) {
-      ps.setObject(Constants.NUMBER_1, reasonOverdraftEntity.getStartDateTime());
-      ps.setObject(Constants.NUMBER_2, reasonOverdraftEntity.getEndDateTime());
-      ps.setString(Constants.NUMBER_3, reasonOverdraftEntity.getDescData());
-      ps.setString(Constants.NUMBER_4, reasonOverdraftEntity.getSettlementIndicator());
-      ps.setString(Constants.NUMBER_5, reasonOverdraftEntity.getMandatory());
-      ps.setObject(Constants.NUMBER_6, reasonOverdraftEntity.getDefaultDate());
-      ps.setBigDecimal(Constants.NUMBER_7, reasonOverdraftEntity.getMonths());
-      ps.setBigDecimal(Constants.NUMBER_8, reasonOverdraftEntity.getCounter());
-      ps.setString(Constants.NUMBER_9, reasonOverdraftEntity.getCondition());
-      ps.setString(Constants.NUMBER_10, reasonOverdraftEntity.getLastUpdaterUser());
-      ps.setObject(Constants.NUMBER_11, LocalDateTime.now());
-      ps.setString(Constants.NUMBER_12, reasonOverdraftEntity.getPk().getEntity());
-      ps.setString(Constants.NUMBER_13, reasonOverdraftEntity.getPk().getBrand());
-      ps.setString(Constants.NUMBER_14, reasonOverdraftEntity.getPk().getReasonCode());
+    List<Object> parameters = new ArrayList<>();
+    var sql = new StringBuilder("UPDATE DC_REASON_OVERDRAFT SET LAST_UPDATER_USER = ?, LAST_UPDATER_DATE_TIME = ?");
+    parameters.add(changes.getLastUpdaterUser());
+    parameters.add(changes.getLastUpdaterDateTime());
+    columns.forEach((column, value) -> {
+      sql.append(", ").append(column).append(" = ?");
+      parameters.add(value);
+    });
 
-      ps.executeUpdate();
+    sql.append(" WHERE ENTITY = ? AND BRAND = ? AND REASON_CODE = ?");
+    parameters.add(changes.getPk().getEntity());
+    parameters.add(changes.getPk().getBrand());
+    parameters.add(changes.getPk().getReasonCode());
+
+    var changed = new StringJoiner(" OR ", " AND (", ")");
+    columns.forEach((column, value) -> {
+      changed.add("DECODE(" + column + ", ?, 0, 1) = 1");
+      parameters.add(value);
+    });
+    sql.append(changed);
+
+    if (expectedLastUpdaterDateTime != null) {
+      // La versión viaja con precisión de milisegundos
+      var version = expectedLastUpdaterDateTime.truncatedTo(ChronoUnit.MILLIS);
+      sql.append(" AND LAST_UPDATER_DATE_TIME >= ? AND LAST_UPDATER_DATE_TIME < ?");
+      parameters.add(version);
+      parameters.add(version.plus(1, ChronoUnit.MILLIS));
+    }
+    if (changes.getStartDateTime() != null && changes.getEndDateTime() == null) {
+      sql.append(" AND (END_DATE_TIME IS NULL OR END_DATE_TIME >= ?)");
+      parameters.add(changes.getStartDateTime());
+    }
+    if (changes.getEndDateTime() != null && changes.getStartDateTime() == null) {
+      sql.append(" AND (START_DATE_TIME IS NULL OR START_DATE_TIME <= ?)");
+      parameters.add(changes.getEndDateTime());
+    }
+
+    try (var conn = getConnection(); PreparedStatement ps = conn.prepareStatement(sql.toString())) {
+      setPreparedStatementParameters(ps, parameters);
+      return ps.executeUpdate();
     } catch (SQLException e) {
       log.error("Error updateReasonOverdraft", e);
       throw e;
     }
   }
 
+  private static void putIfNotNull(Map<String, Object> columns, String column, Object value) {
+    if (value != null) {
+      columns.put(column, value);
+    }
+  }
+
   /**
    * Deletes a ReasonOverdraftEntity by its primary key.
    *
@@ -255,7 +631,9 @@ public class ReasonOverdraftRepositoryExt extends ReasonOverdraftRepository {
 
     try (var conn = getConnection(); PreparedStatement ps = conn.prepareStatement(sql)) {
       ps.setString(Constants.NUMBER_1, userId);
-      ps.setObject(Constants.NUMBER_2, LocalDateTime.now());
+      // la versión va en UTC, como en el alta y la modificación; END_DATE_TIME en la hora local, la misma con la
+      // que los filtros de estado (ACT, CAN, PEN) comparan las fechas de vigencia
+      ps.setObject(Constants.NUMBER_2, UtilLeanCoreData.getUtcTimestamp());
       ps.setObject(Constants.NUMBER_3, LocalDateTime.now());
       ps.setString(Constants.NUMBER_4, entityPK.getEntity());
       ps.setString(Constants.NUMBER_5, entityPK.getBrand());
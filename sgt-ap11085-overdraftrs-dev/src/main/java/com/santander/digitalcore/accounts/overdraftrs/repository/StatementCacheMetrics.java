@@ -0,0 +1,85 @@
+package com.santander.digitalcore.accounts.overdraftrs.repository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cuenta cuántas sentencias preparadas se sirven desde la caché implícita del driver de Oracle
+ * (oracle.jdbc.implicitStatementCacheSize). Publica overdraftrs.jdbc.statement.cache con las etiquetas query y
+ * result=hit|miss. Una sentencia que sale de la caché no se vuelve a analizar en la base de datos.
+ * El driver de Oracle no es una dependencia de compilación, así que OracleStatement.creationState() se consulta por
+ * reflexión. Con otros drivers, como H2, no se publica nada.
+ */
+@Slf4j
+@Component
+public class StatementCacheMetrics {
+
+  private static final String ORACLE_STATEMENT = "oracle.jdbc.OracleStatement";
+
+  private final MeterRegistry meterRegistry;
+  private final Class<?> oracleStatement;
+  private final Method creationState;
+  private final int implicit;
+  private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+  /**
+   * Constructor de la clase.
+   *
+   * @param meterRegistry registro de métricas; si no hay, no se publica nada
+   */
+  public StatementCacheMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+    this.meterRegistry = meterRegistry.getIfAvailable();
+    Class<?> type = null;
+    Method method = null;
+    var implicitState = -1;
+    try {
+      type = Class.forName(ORACLE_STATEMENT);
+      method = type.getMethod("creationState");
+      implicitState = type.getField("IMPLICIT").getInt(null);
+    } catch (ReflectiveOperationException | LinkageError e) {
+      log.debug("{} not available, statement cache metrics disabled", ORACLE_STATEMENT);
+      type = null;
+    }
+    this.oracleStatement = type;
+    this.creationState = method;
+    this.implicit = implicitState;
+  }
+
+  /**
+   * Anota si la sentencia recién preparada viene de la caché implícita del driver.
+   *
+   * @param query nombre de la consulta, para la etiqueta query
+   * @param ps    la sentencia devuelta por prepareStatement
+   */
+  public void record(String query, PreparedStatement ps) {
+    if (meterRegistry == null || oracleStatement == null) {
+      return;
+    }
+    try {
+      if (!ps.isWrapperFor(oracleStatement)) {
+        return;
+      }
+      var hit = (int) creationState.invoke(ps.unwrap(oracleStatement)) == implicit;
+      counter(query, hit ? "hit" : "miss").increment();
+    } catch (SQLException | ReflectiveOperationException e) {
+      log.debug("Unable to read the statement cache state of {}: {}", query, e.getMessage());
+    }
+  }
+
+  private Counter counter(String query, String result) {
+    return counters.computeIfAbsent(query + '|' + result, key -> Counter.builder("overdraftrs.jdbc.statement.cache")
+        .description("Prepared statements served (hit) or not (miss) by the driver's implicit statement cache")
+        .tag("query", query)
+        .tag("result", result)
+        .register(meterRegistry));
+  }
+}
@@ -0,0 +1,188 @@
+package com.santander.digitalcore.accounts.overdraftrs.service;
+
+import com.santander.digitalcore.accounts.overdraftrs.repository.CacheVersionRepository;
+import com.santander.digitalcore.accounts.overdraftrs.util.Constants;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coherencia entre instancias de las cachés de los catálogos, mediante la tabla DC_CACHE_VERSION.
+ * Se activa con overdraftrs.cache-coherence.enabled.
+ * Cada escritura de DC_CODE_REASON_OVERDRAFT, DC_OPERATOR_REASON_OVERDRAFT o DC_REASON_OVERDRAFT incrementa la
+ * versión de su tabla con {@link #bump(String)}; un hilo en segundo plano lee cada poll-interval-ms las versiones
+ * (una consulta sobre una tabla de tres filas) y, cuando la de una tabla cambia, vacía solo las cachés de esa
+ * tabla. Para DC_REASON_OVERDRAFT además pide un refresco de la copia en memoria. Los incrementos que fallan
+ * después de una escritura ya confirmada se reintentan en cada lectura hasta que se aplican.
+ * Así las cachés pueden tener un TTL largo y las demás instancias ven los cambios en pocos segundos.
+ */
+@Slf4j
+@Component
+public class CacheCoherence {
+
+  /**
+   * Cachés que dependen de cada tabla
+   */
+  private static final Map<String, List<String>> CACHES_BY_TABLE = Map.of(
+      Constants.TABLE_CODE_REASON_OVERDRAFT,
+      List.of(Constants.CACHE_CODE_REASON_OVERDRAFT, Constants.CACHE_CODE_REASON_OVERDRAFT_LIST),
+      Constants.TABLE_OPERATOR_REASON_OVERDRAFT,
+      List.of(Constants.CACHE_OPERATOR_REASON_OVERDRAFT, Constants.CACHE_OPERATOR_REASON_OVERDRAFT_LIST),
+      Constants.TABLE_REASON_OVERDRAFT,
+      List.of(Constants.CACHE_REASON_OVERDRAFT_VERSION));
+
+  private final CacheVersionRepository cacheVersionRepository;
+  private final CacheManager cacheManager;
+  private final ReasonOverdraftSnapshot reasonOverdraftSnapshot;
+  private final boolean enabled;
+  private final long pollIntervalMillis;
+
+  /**
+   * Última versión vista de cada tabla; solo se modifica dentro de {@link #poll()}
+   */
+  private Map<String, Long> versions;
+  /**
+   * Tablas cuyo incremento falló después de confirmar la escritura y que {@link #poll()} reintenta
+   */
+  private final Set<String> pendingBumps = ConcurrentHashMap.newKeySet();
+  private ScheduledExecutorService executor;
+
+  /**
+   * Constructor de la clase.
+   *
+   * @param cacheVersionRepository  repositorio de la tabla DC_CACHE_VERSION
+   * @param cacheManager            gestor de cachés de la aplicación
+   * @param reasonOverdraftSnapshot copia en memoria de los motivos
+   * @param enabled                 activa la coherencia entre instancias
+   * @param pollIntervalMillis      intervalo entre lecturas de las versiones
+   */
+  public CacheCoherence(CacheVersionRepository cacheVersionRepository,
+                        CacheManager cacheManager,
+                        ReasonOverdraftSnapshot reasonOverdraftSnapshot,
+                        @Value("${overdraftrs.cache-coherence.enabled:false}") boolean enabled,
+                        @Value("${overdraftrs.cache-coherence.poll-interval-ms:2000}") long pollIntervalMillis) {
+    this.cacheVersionRepository = cacheVersionRepository;
+    this.cacheManager = cacheManager;
+    this.reasonOverdraftSnapshot = reasonOverdraftSnapshot;
+    this.enabled = enabled;
+    this.pollIntervalMillis = Math.max(1, pollIntervalMillis);
+  }
+
+  /**
+   * Arranca la lectura periódica de las versiones, si la coherencia está activada.
+   */
+  @PostConstruct
+  public void start() {
+    if (!enabled) {
+      return;
+    }
+    executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      var thread = new Thread(runnable, "cache-coherence");
+      thread.setDaemon(true);
+      return thread;
+    });
+    executor.scheduleWithFixedDelay(this::poll, 0, pollIntervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Detiene la lectura periódica.
+   */
+  @PreDestroy
+  public void stop() {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Incrementa la versión de la tabla, si la coherencia está activada. Se llama dentro de la transacción de la
+   * escritura, de modo que un error al incrementarla la deshace.
+   *
+   * @param table la tabla modificada
+   */
+  public void bump(String table) {
+    if (enabled) {
+      cacheVersionRepository.bump(table);
+    }
+  }
+
+  /**
+   * Incrementa la versión de la tabla después de una escritura ya confirmada, si la coherencia está activada.
+   * ReasonOverdraftRepositoryExt escribe con su propia conexión, fuera de la transacción de Spring: un error aquí
+   * ya no puede deshacer la escritura, así que la tabla queda pendiente y {@link #poll()} reintenta el incremento
+   * hasta que se aplica.
+   *
+   * @param table la tabla modificada
+   */
+  public void bumpCommitted(String table) {
+    try {
+      bump(table);
+    } catch (RuntimeException e) {
+      log.error("Error bumping cache version of {}, retrying on next poll: {}", table, e.getMessage());
+      pendingBumps.add(table);
+    }
+  }
+
+  /**
+   * Lee las versiones y vacía las cachés de las tablas que han cambiado desde la lectura anterior.
+   * Antes reintenta los incrementos pendientes. La primera lectura solo toma las versiones de partida. Un error
+   * se registra y las versiones se mantienen, de modo que los cambios se detectan en la siguiente lectura correcta.
+   */
+  public synchronized void poll() {
+    retryPendingBumps();
+    Map<String, Long> current;
+    try {
+      current = cacheVersionRepository.findAll();
+    } catch (RuntimeException e) {
+      log.error("Error reading cache versions: {}", e.getMessage());
+      return;
+    }
+    if (versions != null) {
+      CACHES_BY_TABLE.forEach((table, caches) -> {
+        if (!current.getOrDefault(table, 0L).equals(versions.getOrDefault(table, 0L))) {
+          invalidate(table, caches);
+        }
+      });
+    }
+    versions = new HashMap<>(current);
+  }
+
+  private void retryPendingBumps() {
+    for (String table : pendingBumps) {
+      // Se quita antes de incrementar: un fallo concurrente de otra escritura vuelve a dejarla pendiente
+      pendingBumps.remove(table);
+      try {
+        cacheVersionRepository.bump(table);
+        log.info("Pending cache version bump of {} applied", table);
+      } catch (RuntimeException e) {
+        log.error("Error retrying cache version bump of {}: {}", table, e.getMessage());
+        pendingBumps.add(table);
+      }
+    }
+  }
+
+  private void invalidate(String table, List<String> caches) {
+    log.info("{} changed, clearing caches {}", table, caches);
+    caches.forEach(name -> {
+      var cache = cacheManager.getCache(name);
+      if (cache != null) {
+        cache.clear();
+      }
+    });
+    if (Constants.TABLE_REASON_OVERDRAFT.equals(table)) {
+      reasonOverdraftSnapshot.requestRefresh();
+    }
+  }
+}
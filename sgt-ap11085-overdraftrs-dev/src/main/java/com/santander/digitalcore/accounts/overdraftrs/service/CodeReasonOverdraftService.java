@@ -7,16 +7,23 @@ import com.santander.digitalcore.accounts.overdraftrs.dto.CodeReasonOverdraftRes
 import com.santander.digitalcore.accounts.overdraftrs.mapper.CodeReasonOverdraftMapper;
 import com.santander.digitalcore.accounts.overdraftrs.util.Constants;
 import com.santander.digitalcore.accounts.util.lib.core.utils.UtilLeanCoreData;
+import com.santander.digitalcore.accounts.util.lib.db.model.entity.CodeReasonOverdraftEntity;
 import com.santander.digitalcore.accounts.util.lib.db.model.repository.overdraft.CodeReasonOverdraftRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 /**
  * Service to manage the CodeReasonOverdraft entities.
  * This service is responsible for handling business logic related to code reasons for overdrafts.
+ * Writes bump the version of the catalog in DC_CACHE_VERSION in the same transaction, so the other
+ * instances clear their caches (see {@link CacheCoherence}).
  */
 @Service
 @Slf4j
@@ -27,11 +34,15 @@ public class CodeReasonOverdraftService {
 
   private final CodeReasonOverdraftMapper codeReasonOverdraftMapper;
 
+  private final CacheCoherence cacheCoherence;
+
   /**
    * Retrieves a list of all CodeReasonOverdraft objects.
+   * The list is cached and evicted on any create, update or delete of the catalog.
    *
    * @return a list of CodeReasonOverdraft objects
    */
+  @Cacheable(cacheNames = Constants.CACHE_CODE_REASON_OVERDRAFT_LIST, key = "'all'")
   public List<CodeReasonOverdraftResponse> getCodeReasonOverdraftList() {
     return codeReasonOverdraftRepository.findAll()
         .stream()
@@ -41,9 +52,11 @@ public class CodeReasonOverdraftService {
 
   /**
    * Retrieves a list of all active CodeReasonOverdraft objects.
+   * The list is cached and evicted on any create, update or delete of the catalog.
    *
    * @return a list of active CodeReasonOverdraft objects
    */
+  @Cacheable(cacheNames = Constants.CACHE_CODE_REASON_OVERDRAFT_LIST, key = "'active'")
   public List<CodeReasonOverdraftResponse> getActiveCodeReasonOverdraftList() {
     return codeReasonOverdraftRepository.findActive()
         .stream()
@@ -51,11 +64,28 @@ public class CodeReasonOverdraftService {
         .toList();
   }
 
+  /**
+   * Retrieves a CodeReasonOverdraft by its code through the code reason overdraft cache.
+   * Only existing entries are cached; a missing code is looked up again on every call.
+   *
+   * @param code the code of the CodeReasonOverdraft
+   * @return the CodeReasonOverdraft, or null if it doesn't exist
+   */
+  @Cacheable(cacheNames = Constants.CACHE_CODE_REASON_OVERDRAFT, unless = "#result == null")
+  public CodeReasonOverdraftEntity findCodeReasonOverdraft(String code) {
+    return codeReasonOverdraftRepository.findByPK(code);
+  }
+
   /**
    * Creates a new CodeReasonOverdraft.
    *
    * @param codeReasonOverdraftRequest the CodeReasonOverdraft object to be created
    */
+  @Caching(evict = {
+      @CacheEvict(cacheNames = Constants.CACHE_CODE_REASON_OVERDRAFT, key = "#codeReasonOverdraftRequest.reasonCode"),
+      @CacheEvict(cacheNames = Constants.CACHE_CODE_REASON_OVERDRAFT_LIST, allEntries = true)
+  })
+  @Transactional
   public void createCodeReasonOverdraft(CodeReasonOverdraftRequest codeReasonOverdraftRequest) {
     if (codeReasonOverdraftRepository.findByPK(codeReasonOverdraftRequest.getReasonCode()) != null) {
       log.error("CodeReasonOverdraft with code {} already exists", codeReasonOverdraftRequest.getReasonCode());
@@ -66,6 +96,7 @@ public class CodeReasonOverdraftService {
         codeReasonOverdraftRequest.getReasonCodeDescription(),
         UtilLeanCoreData.getUserId(Constants.MS_NAME),
         UtilLeanCoreData.getUtcTimestamp());
+    cacheCoherence.bump(Constants.TABLE_CODE_REASON_OVERDRAFT);
   }
 
   /**
@@ -74,6 +105,11 @@ public class CodeReasonOverdraftService {
    * @param code        the code of the CodeReasonOverdraft to be updated
    * @param description the new description for the CodeReasonOverdraft
    */
+  @Caching(evict = {
+      @CacheEvict(cacheNames = Constants.CACHE_CODE_REASON_OVERDRAFT, key = "#code"),
+      @CacheEvict(cacheNames = Constants.CACHE_CODE_REASON_OVERDRAFT_LIST, allEntries = true)
+  })
+  @Transactional
   public void updateCodeReasonOverdraft(String code, String description) {
     if (codeReasonOverdraftRepository.findByPK(code) == null) {
       log.error("CodeReasonOverdraft with code {} doesn't exists", code);
@@ -82,6 +118,7 @@ public class CodeReasonOverdraftService {
 
     codeReasonOverdraftRepository.update(code, description,
         UtilLeanCoreData.getUserId(Constants.MS_NAME), UtilLeanCoreData.getUtcTimestamp());
+    cacheCoherence.bump(Constants.TABLE_CODE_REASON_OVERDRAFT);
   }
 
   /**
@@ -89,6 +126,11 @@ public class CodeReasonOverdraftService {
    *
    * @param code the code of the CodeReasonOverdraft to be deleted
    */
+  @Caching(evict = {
+      @CacheEvict(cacheNames = Constants.CACHE_CODE_REASON_OVERDRAFT, key = "#code"),
+      @CacheEvict(cacheNames = Constants.CACHE_CODE_REASON_OVERDRAFT_LIST, allEntries = true)
+  })
+  @Transactional
   public void deleteCodeReasonOverdraft(String code) {
     if (codeReasonOverdraftRepository.findByPK(code) == null) {
       log.error("CodeReasonOverdraft with code {} doesn't exists", code);
@@ -96,5 +138,6 @@ public class CodeReasonOverdraftService {
     }
 
     codeReasonOverdraftRepository.delete(code, UtilLeanCoreData.getUserId(Constants.MS_NAME));
+    cacheCoherence.bump(Constants.TABLE_CODE_REASON_OVERDRAFT);
   }
 }
@@ -7,16 +7,23 @@ import com.santander.digitalcore.accounts.overdraftrs.dto.OperatorReasonOverdraf
 import com.santander.digitalcore.accounts.overdraftrs.mapper.OperatorReasonOverdraftMapper;
 import com.santander.digitalcore.accounts.overdraftrs.util.Constants;
 import com.santander.digitalcore.accounts.util.lib.core.utils.UtilLeanCoreData;
+import com.santander.digitalcore.accounts.util.lib.db.model.entity.OperatorReasonOverdraftEntity;
 import com.santander.digitalcore.accounts.util.lib.db.model.repository.overdraft.OperatorReasonOverdraftRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 /**
  * Service to manage the OperatorReasonOverdraft entities.
  * This service is responsible for handling business logic related to operator reasons for overdrafts.
+ * Writes bump the version of the catalog in DC_CACHE_VERSION in the same transaction, so the other
+ * instances clear their caches (see {@link CacheCoherence}).
  */
 @Service
 @Slf4j
@@ -27,11 +34,15 @@ public class OperatorReasonOverdraftService {
 
   private final OperatorReasonOverdraftMapper operatorReasonOverdraftMapper;
 
+  private final CacheCoherence cacheCoherence;
+
   /**
    * Retrieves a list of all OperatorReasonOverdraft objects.
+   * The list is cached and evicted on any create, update or delete of the catalog.
    *
    * @return a list of OperatorReasonOverdraft objects
    */
+  @Cacheable(cacheNames = Constants.CACHE_OPERATOR_REASON_OVERDRAFT_LIST, key = "'all'")
   public List<OperatorReasonOverdraftResponse> getOperatorReasonOverdraftList() {
     return operatorReasonOverdraftRepository.findAll()
         .stream()
@@ -41,9 +52,11 @@ public class OperatorReasonOverdraftService {
 
   /**
    * Retrieves a list of all active OperatorReasonOverdraft objects.
+   * The list is cached and evicted on any create, update or delete of the catalog.
    *
    * @return a list of active OperatorReasonOverdraft objects
    */
+  @Cacheable(cacheNames = Constants.CACHE_OPERATOR_REASON_OVERDRAFT_LIST, key = "'active'")
   public List<OperatorReasonOverdraftResponse> getActiveOperatorReasonOverdraftList() {
     return operatorReasonOverdraftRepository.findActive()
         .stream()
@@ -51,11 +64,28 @@ public class OperatorReasonOverdraftService {
         .toList();
   }
 
+  /**
+   * Retrieves an OperatorReasonOverdraft by its code through the operator reason overdraft cache.
+   * Only existing entries are cached; a missing code is looked up again on every call.
+   *
+   * @param code the code of the OperatorReasonOverdraft
+   * @return the OperatorReasonOverdraft, or null if it doesn't exist
+   */
+  @Cacheable(cacheNames = Constants.CACHE_OPERATOR_REASON_OVERDRAFT, unless = "#result == null")
+  public OperatorReasonOverdraftEntity findOperatorReasonOverdraft(String code) {
+    return operatorReasonOverdraftRepository.findByPK(code);
+  }
+
   /**
    * Creates a new OperatorReasonOverdraft.
    *
    * @param operatorReasonOverdraftRequest the OperatorReasonOverdraft object to be created
    */
+  @Caching(evict = {
+      @CacheEvict(cacheNames = Constants.CACHE_OPERATOR_REASON_OVERDRAFT, key = "#operatorReasonOverdraftRequest.operatorCode"),
+      @CacheEvict(cacheNames = Constants.CACHE_OPERATOR_REASON_OVERDRAFT_LIST, allEntries = true)
+  })
+  @Transactional
   public void createOperatorReasonOverdraft(OperatorReasonOverdraftRequest operatorReasonOverdraftRequest) {
     if (operatorReasonOverdraftRepository.findByPK(operatorReasonOverdraftRequest.getOperatorCode()) != null) {
       log.error("OperatorReasonOverdraft with code {} already exists", operatorReasonOverdraftRequest.getOperatorCode());
@@ -67,6 +97,7 @@ public class OperatorReasonOverdraftService {
         operatorReasonOverdraftRequest.getOperatorDescription(),
         UtilLeanCoreData.getUserId(Constants.MS_NAME),
         UtilLeanCoreData.getUtcTimestamp());
+    cacheCoherence.bump(Constants.TABLE_OPERATOR_REASON_OVERDRAFT);
   }
 
   /**
@@ -75,6 +106,11 @@ public class OperatorReasonOverdraftService {
    * @param code        the code of the OperatorReasonOverdraft to be updated
    * @param description the new description for the OperatorReasonOverdraft
    */
+  @Caching(evict = {
+      @CacheEvict(cacheNames = Constants.CACHE_OPERATOR_REASON_OVERDRAFT, key = "#code"),
+      @CacheEvict(cacheNames = Constants.CACHE_OPERATOR_REASON_OVERDRAFT_LIST, allEntries = true)
+  })
+  @Transactional
   public void updateOperatorReasonOverdraft(String code, String description) {
     if (operatorReasonOverdraftRepository.findByPK(code) == null) {
       log.error("OperatorReasonOverdraft with code {} doesn't exists", code);
@@ -84,6 +120,7 @@ public class OperatorReasonOverdraftService {
 
     operatorReasonOverdraftRepository.update(code, description,
         UtilLeanCoreData.getUserId(Constants.MS_NAME), UtilLeanCoreData.getUtcTimestamp());
+    cacheCoherence.bump(Constants.TABLE_OPERATOR_REASON_OVERDRAFT);
   }
 
   /**
@@ -91,6 +128,11 @@ public class OperatorReasonOverdraftService {
    *
    * @param code the code of the OperatorReasonOverdraft to be deleted
    */
+  @Caching(evict = {
+      @CacheEvict(cacheNames = Constants.CACHE_OPERATOR_REASON_OVERDRAFT, key = "#code"),
+      @CacheEvict(cacheNames = Constants.CACHE_OPERATOR_REASON_OVERDRAFT_LIST, allEntries = true)
+  })
+  @Transactional
   public void deleteOperatorReasonOverdraft(String code) {
     if (operatorReasonOverdraftRepository.findByPK(code) == null) {
       log.error("OperatorReasonOverdraft with code {} doesn't exists", code);
@@ -98,5 +140,6 @@ public class OperatorReasonOverdraftService {
     }
 
     operatorReasonOverdraftRepository.delete(code, UtilLeanCoreData.getUserId(Constants.MS_NAME));
+    cacheCoherence.bump(Constants.TABLE_OPERATOR_REASON_OVERDRAFT);
   }
 }
@@ -0,0 +1,240 @@
+package com.santander.digitalcore.accounts.overdraftrs.service;
+
+import com.santander.digitalcore.accounts.overdraftrs.dto.ReasonOverdraftBatchResult;
+import com.santander.digitalcore.accounts.overdraftrs.dto.ReasonOverdraftDTO;
+import com.santander.digitalcore.accounts.overdraftrs.mapper.ReasonOverdraftMapper;
+import com.santander.digitalcore.accounts.overdraftrs.repository.ReasonOverdraftRepositoryExt;
+import com.santander.digitalcore.accounts.overdraftrs.util.Constants;
+import com.santander.digitalcore.accounts.overdraftrs.util.ReasonOverdraftRules;
+import com.santander.digitalcore.accounts.util.lib.core.exceptions.BadRequestDarwinExceptionLeancore;
+import com.santander.digitalcore.accounts.util.lib.core.exceptions.InternalServerErrorDarwinExceptionLeancore;
+import com.santander.digitalcore.accounts.util.lib.core.utils.UtilLeanCoreData;
+import com.santander.digitalcore.accounts.util.lib.db.model.entity.CodeReasonOverdraftEntity;
+import com.santander.digitalcore.accounts.util.lib.db.model.entity.ReasonOverdraftEntity;
+import com.santander.digitalcore.accounts.util.lib.db.model.entity.ReasonOverdraftEntityPK;
+import lombok.extern.slf4j.Slf4j;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service class for creating reason overdrafts in bulk.
+ * Every item is validated in memory, each distinct code and operator is looked up once through the catalog
+ * services, the keys that already exist are read with one IN query and the valid items are inserted with
+ * JDBC batches in a single transaction. The result of every item is returned in the order of the request.
+ */
+@Slf4j
+@Service
+public class ReasonOverdraftBatchService {
+
+  private static final ReasonOverdraftMapper reasonOverdraftMapper = Mappers.getMapper(ReasonOverdraftMapper.class);
+  private static final BigDecimal DEFAULT_MONTHS = new BigDecimal("99.99");
+
+  private final ReasonOverdraftRepositoryExt reasonOverdraftRepository;
+  private final OperatorReasonOverdraftService operatorReasonOverdraftService;
+  private final CodeReasonOverdraftService codeReasonOverdraftService;
+  private final ReasonOverdraftVersionCache reasonOverdraftVersionCache;
+  private final ReasonOverdraftSnapshot reasonOverdraftSnapshot;
+  private final CacheCoherence cacheCoherence;
+  private final int maxItems;
+  private final int jdbcBatchSize;
+
+  /**
+   * Constructor de la clase.
+   *
+   * @param reasonOverdraftRepository      repositorio de la tabla DC_REASON_OVERDRAFT
+   * @param operatorReasonOverdraftService catálogo de operadores
+   * @param codeReasonOverdraftService     catálogo de códigos
+   * @param reasonOverdraftVersionCache    caché de versiones (ETag) de los motivos
+   * @param reasonOverdraftSnapshot        copia en memoria de los motivos
+   * @param cacheCoherence                 coherencia de las cachés entre instancias
+   * @param maxItems                       número máximo de motivos por petición
+   * @param jdbcBatchSize                  filas enviadas en cada executeBatch
+   */
+  public ReasonOverdraftBatchService(ReasonOverdraftRepositoryExt reasonOverdraftRepository,
+                                     OperatorReasonOverdraftService operatorReasonOverdraftService,
+                                     CodeReasonOverdraftService codeReasonOverdraftService,
+                                     ReasonOverdraftVersionCache reasonOverdraftVersionCache,
+                                     ReasonOverdraftSnapshot reasonOverdraftSnapshot,
+                                     CacheCoherence cacheCoherence,
+                                     @Value("${overdraftrs.batch.max-items:1000}") int maxItems,
+                                     @Value("${overdraftrs.batch.jdbc-batch-size:100}") int jdbcBatchSize) {
+    this.reasonOverdraftRepository = reasonOverdraftRepository;
+    this.operatorReasonOverdraftService = operatorReasonOverdraftService;
+    this.codeReasonOverdraftService = codeReasonOverdraftService;
+    this.reasonOverdraftVersionCache = reasonOverdraftVersionCache;
+    this.reasonOverdraftSnapshot = reasonOverdraftSnapshot;
+    this.cacheCoherence = cacheCoherence;
+    this.maxItems = Math.max(1, maxItems);
+    this.jdbcBatchSize = Math.max(1, jdbcBatchSize);
+  }
+
+  /**
+   * Creates the reason overdrafts of the request.
+   * An item is rejected with the same error codes as {@code POST /reason}: the validation errors, OVERDRAFT-REASON-0003
+   * or 0004 if the operator or code does not exist, and OVERDRAFT-REASON-0002 if the reason already exists or
+   * appears earlier in the same request. A date with an invalid format is rejected with OVERDRAFT-REASON-0040.
+   * The rest are inserted together: if the insert fails, none of them is created.
+   *
+   * @param requests the reason overdrafts to create
+   * @return the result of every item, in the order of the request
+   */
+  public List<ReasonOverdraftBatchResult> createReasonOverdrafts(List<ReasonOverdraftDTO> requests) {
+    if (requests == null || requests.isEmpty() || requests.size() > maxItems) {
+      log.error("Reason overdraft batch must contain between 1 and {} items", maxItems);
+      throw new BadRequestDarwinExceptionLeancore("OVERDRAFT-REASON-0039",
+          "The batch must contain between 1 and " + maxItems + " items");
+    }
+    log.info("Creating reason overdraft batch of {} items", requests.size());
+
+    var items = new ArrayList<ReasonOverdraftDTO>(requests.size());
+    var errors = new ArrayList<List<String>>(requests.size());
+    for (var request : requests) {
+      var item = request != null ? request : new ReasonOverdraftDTO();
+      items.add(item);
+      errors.add(validate(item));
+    }
+
+    var codes = checkCatalogs(items, errors);
+    var keys = checkKeys(items, errors);
+
+    var userId = UtilLeanCoreData.getUserId(Constants.MS_NAME);
+    var now = UtilLeanCoreData.getUtcTimestamp();
+    var entities = new ArrayList<ReasonOverdraftEntity>(keys.size());
+    for (var index : keys.values()) {
+      var item = items.get(index);
+      var reasonOverdraftEntity = reasonOverdraftMapper.mapToEntity(item, userId);
+      reasonOverdraftEntity.setDescData(codes.get(item.getReasonCode()).getReasonCodeDescription());
+      reasonOverdraftEntity.setLastUpdaterUser(userId);
+      reasonOverdraftEntity.setLastUpdaterDateTime(now);
+      reasonOverdraftEntity.setCreationUser(userId);
+      reasonOverdraftEntity.setCreationDateTime(now);
+      entities.add(reasonOverdraftEntity);
+    }
+
+    try {
+      if (!entities.isEmpty()) {
+        reasonOverdraftRepository.insertBatch(entities, jdbcBatchSize);
+      }
+    } catch (SQLException e) {
+      if (ReasonOverdraftRepositoryExt.isDuplicateKey(e)) {
+        // otra petición ha dado de alta alguno de los motivos después de la comprobación
+        log.error("ReasonOverdraft batch rolled back, a reason was created concurrently: {}", e.getMessage());
+        throw new BadRequestDarwinExceptionLeancore("OVERDRAFT-REASON-0002", "ReasonOverdraft already exists");
+      }
+      log.error("DB Error - Error creating reason overdraft batch: {}", e.getMessage());
+      throw new InternalServerErrorDarwinExceptionLeancore("XX1111", e.getMessage(), e);
+    }
+    entities.forEach(entity -> reasonOverdraftVersionCache.put(entity.getPk(), now));
+    if (!entities.isEmpty()) {
+      reasonOverdraftSnapshot.upsert(entities);
+      cacheCoherence.bumpCommitted(Constants.TABLE_REASON_OVERDRAFT);
+    }
+
+    var results = new ArrayList<ReasonOverdraftBatchResult>(items.size());
+    for (var i = 0; i < items.size(); i++) {
+      results.add(errors.get(i).isEmpty()
+          ? ReasonOverdraftBatchResult.created(i, items.get(i))
+          : ReasonOverdraftBatchResult.rejected(i, items.get(i), errors.get(i)));
+    }
+    log.info("Reason overdraft batch created: {} of {} items", entities.size(), items.size());
+    return results;
+  }
+
+  /**
+   * Valida el motivo con las reglas del alta y, si es válido, aplica el valor por defecto de MONTHS.
+   *
+   * @param item el motivo
+   * @return los códigos de error, en una lista modificable
+   */
+  private static List<String> validate(ReasonOverdraftDTO item) {
+    List<String> violations;
+    try {
+      violations = ReasonOverdraftRules.createViolations(item);
+    } catch (DateTimeParseException e) {
+      violations = List.of("OVERDRAFT-REASON-0040");
+    }
+    if (violations.isEmpty() && item.getMonths() == null) {
+      // MONTHS: si no se informa se guarda 99,99, que se trata como null
+      item.setMonths(DEFAULT_MONTHS);
+    }
+    return new ArrayList<>(violations);
+  }
+
+  /**
+   * Comprueba el operador y el código de los motivos válidos, consultando cada valor distinto una sola vez.
+   *
+   * @param items  los motivos
+   * @param errors los errores de cada motivo, a los que se añaden los del catálogo
+   * @return el código del catálogo de cada código consultado, o null si no existe
+   */
+  private Map<String, CodeReasonOverdraftEntity> checkCatalogs(List<ReasonOverdraftDTO> items,
+                                                               List<List<String>> errors) {
+    Map<String, Boolean> operators = new HashMap<>();
+    Map<String, CodeReasonOverdraftEntity> codes = new HashMap<>();
+    for (var i = 0; i < items.size(); i++) {
+      if (!errors.get(i).isEmpty()) {
+        continue;
+      }
+      var item = items.get(i);
+      if (item.getCondition() != null && !operators.computeIfAbsent(item.getCondition(),
+          code -> operatorReasonOverdraftService.findOperatorReasonOverdraft(code) != null)) {
+        errors.get(i).add("OVERDRAFT-REASON-0003");
+      }
+      // HashMap admite valores null: un código inexistente tampoco se vuelve a consultar
+      if (!codes.containsKey(item.getReasonCode())) {
+        codes.put(item.getReasonCode(), codeReasonOverdraftService.findCodeReasonOverdraft(item.getReasonCode()));
+      }
+      if (codes.get(item.getReasonCode()) == null) {
+        errors.get(i).add("OVERDRAFT-REASON-0004");
+      }
+    }
+    return codes;
+  }
+
+  /**
+   * Rechaza los motivos válidos que ya existen o que aparecen antes en la misma petición.
+   *
+   * @param items  los motivos
+   * @param errors los errores de cada motivo
+   * @return la clave y la posición de cada motivo que se va a insertar, en el orden de la petición
+   */
+  private Map<ReasonOverdraftEntityPK, Integer> checkKeys(List<ReasonOverdraftDTO> items, List<List<String>> errors) {
+    Map<ReasonOverdraftEntityPK, Integer> keys = new LinkedHashMap<>();
+    for (var i = 0; i < items.size(); i++) {
+      if (!errors.get(i).isEmpty()) {
+        continue;
+      }
+      var item = items.get(i);
+      var key = reasonOverdraftMapper.mapToEntityPK(item.getReasonCode(), item.getEntity(), item.getBrand());
+      if (keys.putIfAbsent(key, i) != null) {
+        errors.get(i).add("OVERDRAFT-REASON-0002");
+      }
+    }
+    if (keys.isEmpty()) {
+      return keys;
+    }
+
+    try {
+      for (var existing : reasonOverdraftRepository.findExistingKeys(new ArrayList<>(keys.keySet()))) {
+        var index = keys.remove(existing);
+        if (index != null) {
+          errors.get(index).add("OVERDRAFT-REASON-0002");
+        }
+      }
+    } catch (SQLException e) {
+      log.error("DB Error - Error checking existing reason overdrafts: {}", e.getMessage());
+      throw new InternalServerErrorDarwinExceptionLeancore("XX1111", e.getMessage(), e);
+    }
+    return keys;
+  }
+}
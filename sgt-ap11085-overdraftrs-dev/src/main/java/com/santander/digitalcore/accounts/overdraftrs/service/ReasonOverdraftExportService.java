@@ -0,0 +1,95 @@
+package com.santander.digitalcore.accounts.overdraftrs.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.santander.digitalcore.accounts.overdraftrs.config.ReadWriteRoutingDataSource;
+import com.santander.digitalcore.accounts.overdraftrs.dto.ReasonOverdraftDTO;
+import com.santander.digitalcore.accounts.overdraftrs.mapper.ReasonOverdraftMapper;
+import com.santander.digitalcore.accounts.overdraftrs.repository.ReasonOverdraftRepositoryExt;
+import com.santander.digitalcore.accounts.util.lib.core.exceptions.InternalServerErrorDarwinExceptionLeancore;
+import lombok.extern.slf4j.Slf4j;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.SQLException;
+
+/**
+ * Service class for exporting the whole DC_REASON_OVERDRAFT table as NDJSON (one JSON object per line).
+ * Rows are mapped and written as they are read, so memory use does not depend on the number of rows.
+ */
+@Slf4j
+@Service
+public class ReasonOverdraftExportService {
+
+  private static final ReasonOverdraftMapper reasonOverdraftMapper = Mappers.getMapper(ReasonOverdraftMapper.class);
+
+  private final ReasonOverdraftRepositoryExt reasonOverdraftRepository;
+  private final ObjectMapper objectMapper;
+  private final ObjectWriter dtoWriter;
+  private final int fetchSize;
+  private final int flushEvery;
+
+  /**
+   * Constructor de la clase.
+   *
+   * @param reasonOverdraftRepository repositorio de la tabla DC_REASON_OVERDRAFT
+   * @param objectMapper              ObjectMapper de la aplicación
+   * @param fetchSize                 filas que trae el driver en cada viaje a base de datos
+   * @param flushEvery                filas escritas entre cada flush de la respuesta
+   */
+  public ReasonOverdraftExportService(ReasonOverdraftRepositoryExt reasonOverdraftRepository,
+                                      ObjectMapper objectMapper,
+                                      @Value("${overdraftrs.export.fetch-size:500}") int fetchSize,
+                                      @Value("${overdraftrs.export.flush-every:500}") int flushEvery) {
+    this.reasonOverdraftRepository = reasonOverdraftRepository;
+    this.objectMapper = objectMapper;
+    this.dtoWriter = objectMapper.writerFor(ReasonOverdraftDTO.class)
+        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    this.fetchSize = Math.max(1, fetchSize);
+    this.flushEvery = Math.max(1, flushEvery);
+  }
+
+  /**
+   * Writes the reason overdrafts, optionally filtered by entity and brand, to the given stream as NDJSON.
+   * The stream is not closed.
+   *
+   * @param entity the entity to filter by (optional)
+   * @param brand  the brand to filter by (optional)
+   * @param out    the stream to write to
+   * @throws IOException if the stream cannot be written (e.g. the client closed the connection)
+   */
+  public void exportReasonOverdrafts(String entity, String brand, OutputStream out) throws IOException {
+    log.info("Exporting reason overdrafts for entity: {}, brand: {}", entity, brand);
+
+    // el cuerpo se escribe en un hilo de la petición asíncrona, fuera de ReadOnlyRequestFilter
+    try (var ignored = ReadWriteRoutingDataSource.readOnly();
+         JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      var written = new long[1];
+      long rows = reasonOverdraftRepository.forEach(entity, brand, fetchSize, reasonOverdraftEntity -> {
+        try {
+          dtoWriter.writeValue(generator, reasonOverdraftMapper.mapToDto(reasonOverdraftEntity));
+          generator.writeRaw('\n');
+          if (++written[0] % flushEvery == 0) {
+            generator.flush();
+          }
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+      log.info("Reason overdraft export finished: {} rows", rows);
+    } catch (UncheckedIOException e) {
+      log.warn("Reason overdraft export aborted: {}", e.getMessage());
+      throw e.getCause();
+    } catch (SQLException e) {
+      log.error("DB Error - Error exporting reason overdrafts: {}", e.getMessage());
+      throw new InternalServerErrorDarwinExceptionLeancore("XX1111", e.getMessage(), e);
+    }
+  }
+}
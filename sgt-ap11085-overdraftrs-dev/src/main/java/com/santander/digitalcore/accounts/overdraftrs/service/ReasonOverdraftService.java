@@ -1,24 +1,25 @@
 package com.santander.digitalcore.accounts.overdraftrs.service;
 
 import com.santander.digitalcore.accounts.overdraftrs.dto.ReasonOverdraftDTO;
+import com.santander.digitalcore.accounts.overdraftrs.dto.ReasonOverdraftPage;
 import com.santander.digitalcore.accounts.overdraftrs.mapper.ReasonOverdraftMapper;
 import com.santander.digitalcore.accounts.overdraftrs.repository.ReasonOverdraftRepositoryExt;
 import com.santander.digitalcore.accounts.util.lib.core.exceptions.BadRequestDarwinExceptionLeancore;
+import com.santander.digitalcore.accounts.util.lib.core.exceptions.ConflictDarwinExceptionLeancore;
 import com.santander.digitalcore.accounts.util.lib.core.exceptions.NotFoundDarwinExceptionLeancore;
 import com.santander.digitalcore.accounts.util.lib.core.exceptions.InternalServerErrorDarwinExceptionLeancore;
 import com.santander.digitalcore.accounts.util.lib.core.utils.UtilLeanCoreData;
 import com.santander.digitalcore.accounts.overdraftrs.util.Constants;
 import com.santander.digitalcore.accounts.util.lib.db.model.entity.CodeReasonOverdraftEntity;
-import com.santander.digitalcore.accounts.util.lib.db.model.entity.CodeReasonOverdraftEntityPK;
-import com.santander.digitalcore.accounts.util.lib.db.model.entity.OperatorReasonOverdraftEntityPK;
 import com.santander.digitalcore.accounts.util.lib.db.model.entity.ReasonOverdraftEntity;
 import com.santander.digitalcore.accounts.util.lib.db.model.entity.ReasonOverdraftEntityPK;
-import com.santander.digitalcore.accounts.util.lib.db.model.repository.overdraft.CodeReasonOverdraftRepository;
-import com.santander.digitalcore.accounts.util.lib.db.model.repository.overdraft.OperatorReasonOverdraftRepository;
+import com.santander.digitalcore.accounts.overdraftrs.util.ReasonOverdraftCursor;
 import com.santander.digitalcore.accounts.overdraftrs.util.Validations;
 import org.mapstruct.factory.Mappers;
 
 import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,11 +27,19 @@ import java.util.Optional;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 
 /**
  * Service class for managing overdraft reasons.
  * Provides methods to create, update, delete, and retrieve overdraft reasons.
+ * The code and operator catalogs are validated through their services, which cache the lookups.
+ * The version (ETag) of every reason read or written is kept in {@link ReasonOverdraftVersionCache}.
+ * When the in-memory {@link ReasonOverdraftSnapshot} is enabled and loaded, reads are served from it; writes go to
+ * the database and then replace the written reason in the snapshot, so a read after a write on the same instance
+ * sees it.
+ * Every write also bumps the version of DC_REASON_OVERDRAFT so the other instances clear their caches
+ * (see {@link CacheCoherence}).
  */
 @Slf4j
 @Service
@@ -38,8 +47,11 @@ import org.springframework.stereotype.Service;
 public class ReasonOverdraftService {
 
   private ReasonOverdraftRepositoryExt reasonOverdraftRepository;
-  private final OperatorReasonOverdraftRepository operatorReasonOverdraftRepository;
-  private final CodeReasonOverdraftRepository codeReasonOverdraftRepository;
+  private final OperatorReasonOverdraftService operatorReasonOverdraftService;
+  private final CodeReasonOverdraftService codeReasonOverdraftService;
+  private final ReasonOverdraftVersionCache reasonOverdraftVersionCache;
+  private final ReasonOverdraftSnapshot reasonOverdraftSnapshot;
+  private final CacheCoherence cacheCoherence;
   private static final ReasonOverdraftMapper reasonOverdraftMapper = Mappers.getMapper(ReasonOverdraftMapper.class);
 
   /**
@@ -55,15 +67,32 @@ public class ReasonOverdraftService {
     var reasonOverdraftEntityPK = reasonOverdraftMapper.mapToEntityPK(reasonCode, entity, brand);
 
     try {
-      return reasonOverdraftRepository.findByPK(reasonOverdraftEntityPK)
-          .map(reasonOverdraftMapper::mapToDto)
+      // un motivo que aún no está en la copia en memoria (p. ej. recién creado) se busca en base de datos
+      var snapshotEntity = reasonOverdraftSnapshot.isReady()
+          ? reasonOverdraftSnapshot.find(reasonOverdraftEntityPK) : Optional.<ReasonOverdraftEntity>empty();
+      var reasonOverdraftEntity = snapshotEntity.isPresent() ? snapshotEntity.get()
+          : reasonOverdraftRepository.findByPK(reasonOverdraftEntityPK)
           .orElseThrow(() -> new NotFoundDarwinExceptionLeancore("OVERDRAFT-REASON-0001"));
+      reasonOverdraftVersionCache.put(reasonOverdraftEntityPK, reasonOverdraftEntity.getLastUpdaterDateTime());
+      return reasonOverdraftMapper.mapToDto(reasonOverdraftEntity);
     } catch (SQLException e) {
       log.error("DB Error - Error fetching reason overdraft: {}", e.getMessage());
       throw new InternalServerErrorDarwinExceptionLeancore("XX1111", e.getMessage(), e);
     }
   }
 
+  /**
+   * Returns the ETag of a reason overdraft if its version is known from cache, without accessing the database.
+   *
+   * @param reasonCode the reason code of the overdraft
+   * @param entity     the entity associated with the overdraft
+   * @param brand      the brand associated with the overdraft
+   * @return the ETag, or null if the version is not cached
+   */
+  public String getReasonOverdraftETag(String reasonCode, String entity, String brand) {
+    return reasonOverdraftVersionCache.get(reasonOverdraftMapper.mapToEntityPK(reasonCode, entity, brand));
+  }
+
   /**
    * Retrieves a paginated list of reason overdrafts with optional filters.
    *
@@ -84,9 +113,9 @@ public class ReasonOverdraftService {
 
     try {
       //Metodo findlist con filtros y paginacion
-      List<ReasonOverdraftEntity> entities = reasonOverdraftRepository.findList(
-          reasonCode, entity, brand, status, offset, limit
-      );
+      List<ReasonOverdraftEntity> entities = reasonOverdraftSnapshot.isReady()
+          ? reasonOverdraftSnapshot.findList(reasonCode, entity, brand, status, offset, limit)
+          : reasonOverdraftRepository.findList(reasonCode, entity, brand, status, offset, limit);
       return entities.stream()
           .map(reasonOverdraftMapper::mapToDto)
           .toList();
@@ -96,72 +125,120 @@ public class ReasonOverdraftService {
     }
   }
 
+  /**
+   * Retrieves a page of reason overdrafts after the given cursor (keyset pagination).
+   * One extra row is read to know whether there is a next page without a count query.
+   *
+   * @param reasonCode the reason code to filter by (optional)
+   * @param entity     the entity to filter by (optional)
+   * @param brand      the brand to filter by (optional)
+   * @param status     the status to filter by (optional)
+   * @param cursor     the cursor returned with the previous page, or empty for the first page
+   * @param limit      the limit for pagination
+   * @return the page and the cursor of the next one
+   */
+  public ReasonOverdraftPage getReasonOverdraftPage(
+      String reasonCode, String entity, String brand, String status, String cursor, String limit
+  ) {
+    log.info("Fetching reason overdraft page with filters: " +
+            "reasonCode={}, entity={}, brand={}, status={}, cursor={}, limit={}",
+        reasonCode, entity, brand, status, cursor, limit);
+
+    var after = (cursor == null || cursor.isBlank()) ? null : ReasonOverdraftCursor.decode(cursor);
+    var pageSize = Integer.parseInt(limit);
+
+    try {
+      List<ReasonOverdraftEntity> entities = reasonOverdraftSnapshot.isReady()
+          ? reasonOverdraftSnapshot.findListAfter(reasonCode, entity, brand, status, after, pageSize + 1)
+          : reasonOverdraftRepository.findListAfter(reasonCode, entity, brand, status, after, pageSize + 1);
+      var items = entities.stream()
+          .limit(pageSize)
+          .map(reasonOverdraftMapper::mapToDto)
+          .toList();
+      return new ReasonOverdraftPage(items, entities.size() > pageSize ? nextCursor(items) : null);
+    } catch (SQLException e) {
+      log.error("DB Error - Error fetching reason overdraft page: {}", e.getMessage());
+      throw new InternalServerErrorDarwinExceptionLeancore("XX1111", e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Builds the cursor that continues after the last item of a page.
+   *
+   * @param items the items of the page
+   * @return the cursor, or null if the page is empty
+   */
+  public static String nextCursor(List<ReasonOverdraftDTO> items) {
+    if (items.isEmpty()) {
+      return null;
+    }
+    var last = items.get(items.size() - 1);
+    return ReasonOverdraftCursor.encode(last.getEntity(), last.getBrand(), last.getReasonCode());
+  }
+
   /**
    * Creates a new reason overdraft.
+   * The operator and code catalogs are validated through their cached lookups, so the only database
+   * round trip is the insert itself. Duplicates are detected by the primary key constraint of
+   * DC_REASON_OVERDRAFT instead of a previous findByPK, which closes the check-then-insert race.
    *
    * @param request the ReasonOverdraftDTO containing the details of the overdraft to create
    */
   public void createReasonOverdraft(ReasonOverdraftDTO request) {
-    try {
-
+    log.info("Creating reason overdraft with request: {}", request);
+
+    // verifica si existe la condicion
+    if (request.getCondition() != null
+        && operatorReasonOverdraftService.findOperatorReasonOverdraft(request.getCondition()) == null) {
+      log.error("OperatorReasonOverdraft doesn't exist: {}", request.getCondition());
+      throw new BadRequestDarwinExceptionLeancore("OVERDRAFT-REASON-0003",
+          "OperatorReasonOverdraft does not exist");
+    }
+    if (request.getReasonCode() == null) {
+      log.error("ReasonCode is mandatory");
+      throw new BadRequestDarwinExceptionLeancore("OVERDRAFT-REASON-0005", "ReasonCode is mandatory");
+    }
+    CodeReasonOverdraftEntity codeReasonOverdraftEntity =
+        codeReasonOverdraftService.findCodeReasonOverdraft(request.getReasonCode());
+    if (codeReasonOverdraftEntity == null) {
+      log.error("CodeReasonOverdraft doesn't exist: {}", request.getReasonCode());
+      throw new BadRequestDarwinExceptionLeancore("OVERDRAFT-REASON-0004", "CodeReasonOverdraft does not exist");
+    }
 
-      log.info("Creating reason overdraft with request: {}", request);
+    var userId = UtilLeanCoreData.getUserId(Constants.MS_NAME);
+    var now = UtilLeanCoreData.getUtcTimestamp();
+    var reasonOverdraftEntity = reasonOverdraftMapper.mapToEntity(request, userId);
+    //SET the rest of the entity fields
+    reasonOverdraftEntity.setDescData(codeReasonOverdraftEntity.getReasonCodeDescription());
+    reasonOverdraftEntity.setLastUpdaterUser(userId);
+    reasonOverdraftEntity.setLastUpdaterDateTime(now);
+    reasonOverdraftEntity.setCreationUser(userId);
+    reasonOverdraftEntity.setCreationDateTime(now);
 
-      //verifica si ya existe el registro
-      var reasonOverdraftEntityPK =
-          new ReasonOverdraftEntityPK(request.getEntity(), request.getBrand(), request.getReasonCode());
-      if (reasonOverdraftRepository.findByPK(reasonOverdraftEntityPK).isPresent()) {
+    try {
+      reasonOverdraftRepository.insert(reasonOverdraftEntity);
+    } catch (SQLException | DuplicateKeyException e) {
+      if (ReasonOverdraftRepositoryExt.isDuplicateKey(e)) {
         log.error("ReasonOverdraft already exists for entity: {}, " +
             "brand: {}, reasonCode: {}", request.getEntity(), request.getBrand(), request.getReasonCode());
         throw new BadRequestDarwinExceptionLeancore("OVERDRAFT-REASON-0002", "ReasonOverdraft already exists");
       }
-
-      // verifica si existe la condicion
-      if (request.getCondition() != null) {
-        var operatorReasonOverdraftEntityPK =
-            new OperatorReasonOverdraftEntityPK(request.getCondition());
-        if (operatorReasonOverdraftRepository.findByPK(operatorReasonOverdraftEntityPK.getOperatorCode()) == null) {
-          log.error("OperatorReasonOverdraft doesn't exist: {}", request.getCondition());
-          throw new BadRequestDarwinExceptionLeancore("OVERDRAFT-REASON-0003",
-              "OperatorReasonOverdraft does not exist");
-        }
-      }
-      // Initialize entities
-      CodeReasonOverdraftEntity codeReasonOverdraftEntity;
-      if (request.getReasonCode() != null) {
-        var codeReasonOverdraftEntityPK =
-            new CodeReasonOverdraftEntityPK(request.getReasonCode());
-        codeReasonOverdraftEntity = codeReasonOverdraftRepository.findByPK(codeReasonOverdraftEntityPK.getReasonCode());
-        if (codeReasonOverdraftEntity == null) {
-          log.error("CodeReasonOverdraft doesn't exist: {}", request.getReasonCode());
-          throw new BadRequestDarwinExceptionLeancore("OVERDRAFT-REASON-0004", "CodeReasonOverdraft does not exist");
-        }
-      } else {
-        log.error("ReasonCode is mandatory");
-        throw new BadRequestDarwinExceptionLeancore("OVERDRAFT-REASON-0005", "ReasonCode is mandatory");
-      }
-      //verifica si ya existe el registro fin
-
-      var reasonOverdraftEntity = reasonOverdraftMapper.
-          mapToEntity(request, UtilLeanCoreData.getUserId(Constants.MS_NAME));
-      //SET the rest of the entity fields
-      reasonOverdraftEntity.setDescData(codeReasonOverdraftEntity.getReasonCodeDescription());
-      reasonOverdraftEntity.setLastUpdaterUser(UtilLeanCoreData.getUserId(Constants.MS_NAME));
-      reasonOverdraftEntity.setLastUpdaterDateTime(UtilLeanCoreData.getUtcTimestamp());
-      reasonOverdraftEntity.setCreationUser(UtilLeanCoreData.getUserId(Constants.MS_NAME));
-      reasonOverdraftEntity.setCreationDateTime(UtilLeanCoreData.getUtcTimestamp());
-
-      reasonOverdraftRepository.insert(reasonOverdraftEntity);
-    } catch (SQLException e) {
       log.error("DB Error - Error creating reason overdraft: {}", e.getMessage());
       throw new InternalServerErrorDarwinExceptionLeancore("XX1111", e.getMessage(), e);
     }
+    reasonOverdraftVersionCache.put(reasonOverdraftEntity.getPk(), now);
+    reasonOverdraftSnapshot.upsert(List.of(reasonOverdraftEntity));
+    cacheCoherence.bumpCommitted(Constants.TABLE_REASON_OVERDRAFT);
 
     log.info("Reason overdraft created successfully");
   }
 
   /**
    * Updates an existing reason overdraft.
+   * Only the fields present in the request are written, with a single conditional UPDATE that also checks
+   * that something changes and, if the request carries lastUpdaterDateTime, that the row has not been
+   * modified since it was read. The row is only read when the update does not modify it, to tell apart
+   * not found, conflict, invalid dates and no changes.
    *
    * @param reasonCode the reason code of the overdraft to update
    * @param entity     the entity associated with the overdraft
@@ -169,82 +246,79 @@ public class ReasonOverdraftService {
    * @param request    the ReasonOverdraftDTO containing the updated details
    */
   public void updateReasonOverdraft(String reasonCode, String entity, String brand, ReasonOverdraftDTO request) {
-    CodeReasonOverdraftEntity codeReasonOverdraftEntity;
-    ReasonOverdraftEntity updated;
-
     log.info("Updating reason overdraft with request: {}", request);
-    var reasonOverdraftEntityPK = reasonOverdraftMapper.mapToEntityPK(reasonCode, entity, brand);
-    var msName = "";
-    var reasonOverdraftEntityNew =
-        reasonOverdraftMapper.mapToEntity(request, UtilLeanCoreData.getUserId(msName));
 
-    try {
+    // Validación de datos de entrada
+    Validations.updateValidation(request);
 
-      Optional<ReasonOverdraftEntity> reasonOverdraftEntityOld =
-          reasonOverdraftRepository.findByPK(reasonOverdraftEntityPK);
-      if (reasonOverdraftEntityOld.isEmpty()) {
-        throw new NotFoundDarwinExceptionLeancore("OVERDRAFT-REASON-0001");
-      }
-
-      if (reasonOverdraftEntityOld.get().equals(reasonOverdraftEntityNew)) {
-        throw new BadRequestDarwinExceptionLeancore("No fields to update. " +
-            "The new data is identical to the existing data.");
-      }
+    // verifica si existe la condicion
+    if (request.getCondition() != null
+        && operatorReasonOverdraftService.findOperatorReasonOverdraft(request.getCondition()) == null) {
+      log.error("OperatorReasonOverdraft doesn't exist: {}", request.getCondition());
+      throw new BadRequestDarwinExceptionLeancore("OVERDRAFT-REASON-0003",
+          "OperatorReasonOverdraft does not exist");
+    }
 
-      var codeReasonOverdraftEntityPK =
-          new CodeReasonOverdraftEntityPK(request.getReasonCode());
-      codeReasonOverdraftEntity = codeReasonOverdraftRepository.findByPK(codeReasonOverdraftEntityPK.getReasonCode());
+    var changes = new ReasonOverdraftEntity();
+    changes.setPk(reasonOverdraftMapper.mapToEntityPK(reasonCode, entity, brand));
+    changes.setStartDateTime(reasonOverdraftMapper.mapToDateTime(request.getStartDateTime()));
+    changes.setEndDateTime(reasonOverdraftMapper.mapToDateTime(request.getEndDateTime()));
+    changes.setSettlementIndicator(request.getSettlementIndicator());
+    changes.setMandatory(request.getMandatory());
+    changes.setDefaultDate(reasonOverdraftMapper.mapToDate(request.getDefaultDate()));
+    changes.setMonths(request.getMonths());
+    changes.setCounter(request.getCounter());
+    changes.setCondition(request.getCondition());
+    changes.setLastUpdaterUser(UtilLeanCoreData.getUserId(Constants.MS_NAME));
+    // La versión que se devuelve al cliente tiene precisión de milisegundos
+    changes.setLastUpdaterDateTime(UtilLeanCoreData.getUtcTimestamp().truncatedTo(ChronoUnit.MILLIS));
+    var expectedLastUpdaterDateTime = reasonOverdraftMapper.mapToDateTime(request.getLastUpdaterDateTime());
 
-      if (codeReasonOverdraftEntity == null) {
-        log.error("CodeReasonOverdraft doesn't exist: {}", request.getReasonCode());
-        throw new BadRequestDarwinExceptionLeancore("OVERDRAFT-REASON-0004", "CodeReasonOverdraft does not exist");
-      }
-      // verifica si existe la condicion
-      if (request.getCondition() != null) {
-        var operatorReasonOverdraftEntityPK =
-            new OperatorReasonOverdraftEntityPK(request.getCondition());
-        if (operatorReasonOverdraftRepository.findByPK(operatorReasonOverdraftEntityPK.getOperatorCode()) == null) {
-          log.error("OperatorReasonOverdraft doesn't exist: {}", request.getCondition());
-          throw new BadRequestDarwinExceptionLeancore("OVERDRAFT-REASON-0003",
-              "OperatorReasonOverdraft does not exist");
-        }
+    try {
+      if (reasonOverdraftRepository.updateChanged(changes, expectedLastUpdaterDateTime) == 0) {
+        throw notUpdated(changes.getPk(), expectedLastUpdaterDateTime, request);
       }
-      // Validación de datos de entrada
-      Validations.updateValidation(request, reasonOverdraftEntityOld.get());
-
-      updated = new ReasonOverdraftEntity();
-      updated.setPk(reasonOverdraftEntityPK);
-      updated.setDescData(codeReasonOverdraftEntity.getReasonCodeDescription());
-      updated.setMandatory(request.getMandatory() != null ?
-          request.getMandatory() : reasonOverdraftEntityOld.get().getMandatory());
-      updated.setSettlementIndicator(request.getSettlementIndicator() != null ?
-          request.getSettlementIndicator() : reasonOverdraftEntityOld.get().getSettlementIndicator());
-      updated.setDefaultDate(request.getDefaultDate() != null ?
-          reasonOverdraftMapper.mapToDate(request.getDefaultDate()) : reasonOverdraftEntityOld.get().getDefaultDate());
-      updated.setMonths(request.getMonths() != null ?
-          request.getMonths() : reasonOverdraftEntityOld.get().getMonths());
-      updated.setCounter(request.getCounter() != null ?
-          request.getCounter() : reasonOverdraftEntityOld.get().getCounter());
-      updated.setCondition(request.getCondition() != null ?
-          request.getCondition() : reasonOverdraftEntityOld.get().getCondition());
-      updated.setLastUpdaterUser(UtilLeanCoreData.getUserId(Constants.MS_NAME));
-      updated.setLastUpdaterDateTime(UtilLeanCoreData.getUtcTimestamp());
-      updated.setStartDateTime(request.getStartDateTime() != null ?
-          reasonOverdraftMapper.mapToDateTime(request.getStartDateTime()) :
-          reasonOverdraftEntityOld.get().getStartDateTime());
-      updated.setEndDateTime(request.getEndDateTime() != null ?
-          reasonOverdraftMapper.mapToDateTime(request.getEndDateTime()) :
-          reasonOverdraftEntityOld.get().getEndDateTime());
-
-      reasonOverdraftRepository.update(updated);
     } catch (SQLException e) {
       log.error("DB Error - Error updating reason overdraft: {}", e.getMessage());
       throw new InternalServerErrorDarwinExceptionLeancore("XX1111", e.getMessage(), e);
     }
+    reasonOverdraftVersionCache.put(changes.getPk(), changes.getLastUpdaterDateTime());
+    refreshSnapshot(changes.getPk());
+    cacheCoherence.bumpCommitted(Constants.TABLE_REASON_OVERDRAFT);
 
     log.info("Reason overdraft updated successfully");
   }
 
+  /**
+   * Works out why the conditional update did not modify the row.
+   *
+   * @param reasonOverdraftEntityPK     the key of the reason overdraft
+   * @param expectedLastUpdaterDateTime the version sent by the client, or null
+   * @param request                     the update request
+   * @return the exception to throw
+   * @throws SQLException if the row cannot be read
+   */
+  private RuntimeException notUpdated(ReasonOverdraftEntityPK reasonOverdraftEntityPK,
+                                      LocalDateTime expectedLastUpdaterDateTime,
+                                      ReasonOverdraftDTO request) throws SQLException {
+    Optional<ReasonOverdraftEntity> actual = reasonOverdraftRepository.findByPK(reasonOverdraftEntityPK);
+    if (actual.isEmpty()) {
+      reasonOverdraftVersionCache.evict(reasonOverdraftEntityPK);
+      return new NotFoundDarwinExceptionLeancore("OVERDRAFT-REASON-0001");
+    }
+    reasonOverdraftVersionCache.put(reasonOverdraftEntityPK, actual.get().getLastUpdaterDateTime());
+    if (expectedLastUpdaterDateTime != null && (actual.get().getLastUpdaterDateTime() == null
+        || !expectedLastUpdaterDateTime.truncatedTo(ChronoUnit.MILLIS)
+        .equals(actual.get().getLastUpdaterDateTime().truncatedTo(ChronoUnit.MILLIS)))) {
+      log.error("ReasonOverdraft was modified by another request: {}", reasonOverdraftEntityPK);
+      return new ConflictDarwinExceptionLeancore("OVERDRAFT-REASON-0037",
+          "ReasonOverdraft was modified by another request");
+    }
+    Validations.updateValidation(request, actual.get());
+    return new BadRequestDarwinExceptionLeancore("OVERDRAFT-REASON-0038",
+        "No fields to update. The new data is identical to the existing data.");
+  }
+
   /**
    * Deletes a reason overdraft by its reason code, entity, and brand.
    *
@@ -271,6 +345,9 @@ public class ReasonOverdraftService {
       }
 
       reasonOverdraftRepository.delete(reasonOverdraftEntityPK, UtilLeanCoreData.getUserId(Constants.MS_NAME));
+      reasonOverdraftVersionCache.evict(reasonOverdraftEntityPK);
+      refreshSnapshot(reasonOverdraftEntityPK);
+      cacheCoherence.bumpCommitted(Constants.TABLE_REASON_OVERDRAFT);
     } catch (SQLException e) {
       log.error("DB Error - Error deleting reason overdraft: {}", e.getMessage());
       throw new InternalServerErrorDarwinExceptionLeancore("XX1111", e.getMessage(), e);
@@ -279,4 +356,27 @@ public class ReasonOverdraftService {
     log.info("Reason overdraft deleted successfully");
   }
 
+  /**
+   * Replaces a reason that has just been written in the snapshot with the row stored in the database.
+   * The write is already committed, so if the row cannot be read it is removed from the snapshot instead and
+   * read from the database until the next refresh.
+   *
+   * @param reasonOverdraftEntityPK the key of the written reason overdraft
+   */
+  private void refreshSnapshot(ReasonOverdraftEntityPK reasonOverdraftEntityPK) {
+    if (!reasonOverdraftSnapshot.isReady()) {
+      return;
+    }
+    try {
+      var written = reasonOverdraftRepository.findByPK(reasonOverdraftEntityPK);
+      if (written.isPresent()) {
+        reasonOverdraftSnapshot.upsert(List.of(written.get()));
+        return;
+      }
+    } catch (SQLException e) {
+      log.error("DB Error - Error reading written reason overdraft: {}", e.getMessage());
+    }
+    reasonOverdraftSnapshot.remove(reasonOverdraftEntityPK);
+  }
+
 }
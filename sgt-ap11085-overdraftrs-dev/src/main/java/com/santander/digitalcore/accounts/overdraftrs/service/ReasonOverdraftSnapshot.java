@@ -0,0 +1,413 @@
+package com.santander.digitalcore.accounts.overdraftrs.service;
+
+import com.santander.digitalcore.accounts.overdraftrs.repository.ReasonOverdraftRepositoryExt;
+import com.santander.digitalcore.accounts.util.lib.core.utils.UtilLeanCoreData;
+import com.santander.digitalcore.accounts.util.lib.db.model.entity.ReasonOverdraftEntity;
+import com.santander.digitalcore.accounts.util.lib.db.model.entity.ReasonOverdraftEntityPK;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Copia en memoria de la tabla DC_REASON_OVERDRAFT para servir la consulta y el listado de motivos sin acceder a
+ * base de datos. Se activa con overdraftrs.snapshot.enabled.
+ * La tabla se carga completa al arrancar y cada full-reload-interval-ms; entre cargas, un hilo en segundo plano
+ * lee cada refresh-interval-ms solo las filas con LAST_UPDATER_DATE_TIME posterior a la última vista (menos un
+ * margen de overlap-ms para no perder filas escritas con otra zona horaria o con transacciones más lentas). La marca
+ * nunca supera la hora UTC de inicio de la lectura, para que una fila con fecha futura no oculte las siguientes.
+ * Cada refresco con cambios publica una nueva vista inmutable, ordenada por (ENTITY, BRAND, REASON_CODE) e indexada
+ * por entidad, marca y código; el estado (ACT, CAN, PEN) se evalúa en memoria con la hora actual, igual que el filtro
+ * de ReasonOverdraftRepositoryExt.
+ * Las escrituras de esta instancia sustituyen el motivo escrito con {@link #upsert(Collection)} o lo quitan con
+ * {@link #remove(ReasonOverdraftEntityPK)} antes de responder, de modo que una lectura posterior ya lo ve.
+ * Mientras no hay una carga completa correcta, {@link #isReady()} devuelve false y las consultas van a base de datos.
+ */
+@Slf4j
+@Component
+public class ReasonOverdraftSnapshot {
+
+  /**
+   * Orden de la clave primaria, el mismo que ORDER BY ENTITY, BRAND, REASON_CODE
+   */
+  static final Comparator<ReasonOverdraftEntityPK> KEY_ORDER = Comparator
+      .comparing(ReasonOverdraftEntityPK::getEntity)
+      .thenComparing(ReasonOverdraftEntityPK::getBrand)
+      .thenComparing(ReasonOverdraftEntityPK::getReasonCode);
+
+  private static final View EMPTY = View.of(new TreeMap<>(KEY_ORDER));
+
+  /**
+   * Fecha desde la que se leen las modificaciones si ninguna fila tiene LAST_UPDATER_DATE_TIME
+   */
+  private static final LocalDateTime NO_WATERMARK = LocalDateTime.of(1900, 1, 1, 0, 0);
+
+  private final ReasonOverdraftRepositoryExt reasonOverdraftRepository;
+  private final boolean enabled;
+  private final long refreshIntervalMillis;
+  private final Duration overlap;
+  private final long fullReloadIntervalNanos;
+  private final int fetchSize;
+
+  /**
+   * Filas de la tabla; solo se modifica dentro de {@link #refresh()}
+   */
+  private final TreeMap<ReasonOverdraftEntityPK, ReasonOverdraftEntity> rows = new TreeMap<>(KEY_ORDER);
+  private LocalDateTime watermark;
+  private long lastFullReload;
+
+  private volatile View view = EMPTY;
+  private volatile boolean ready;
+  private ScheduledExecutorService executor;
+
+  /**
+   * Constructor de la clase.
+   *
+   * @param reasonOverdraftRepository repositorio de la tabla DC_REASON_OVERDRAFT
+   * @param enabled                   activa la copia en memoria
+   * @param refreshIntervalMillis     intervalo entre lecturas de las filas modificadas
+   * @param overlapMillis             margen hacia atrás sobre la última LAST_UPDATER_DATE_TIME vista
+   * @param fullReloadIntervalMillis  intervalo entre cargas completas (detectan también los borrados físicos)
+   * @param fetchSize                 filas que trae el driver en cada viaje a base de datos en la carga completa
+   */
+  public ReasonOverdraftSnapshot(ReasonOverdraftRepositoryExt reasonOverdraftRepository,
+                                 @Value("${overdraftrs.snapshot.enabled:false}") boolean enabled,
+                                 @Value("${overdraftrs.snapshot.refresh-interval-ms:5000}") long refreshIntervalMillis,
+                                 @Value("${overdraftrs.snapshot.overlap-ms:60000}") long overlapMillis,
+                                 @Value("${overdraftrs.snapshot.full-reload-interval-ms:600000}")
+                                 long fullReloadIntervalMillis,
+                                 @Value("${overdraftrs.snapshot.fetch-size:500}") int fetchSize) {
+    this.reasonOverdraftRepository = reasonOverdraftRepository;
+    this.enabled = enabled;
+    this.refreshIntervalMillis = Math.max(1, refreshIntervalMillis);
+    this.overlap = Duration.ofMillis(Math.max(0, overlapMillis));
+    this.fullReloadIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, fullReloadIntervalMillis));
+    this.fetchSize = Math.max(1, fetchSize);
+  }
+
+  /**
+   * Carga la tabla y arranca el refresco periódico, si la copia en memoria está activada.
+   */
+  @PostConstruct
+  public void start() {
+    if (!enabled) {
+      return;
+    }
+    executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      var thread = new Thread(runnable, "reason-overdraft-snapshot");
+      thread.setDaemon(true);
+      return thread;
+    });
+    refresh();
+    executor.scheduleWithFixedDelay(this::refresh, refreshIntervalMillis, refreshIntervalMillis,
+        TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Detiene el refresco periódico.
+   */
+  @PreDestroy
+  public void stop() {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Indica si la copia en memoria está activada y cargada.
+   *
+   * @return true si las consultas se pueden servir desde memoria
+   */
+  public boolean isReady() {
+    return ready;
+  }
+
+  /**
+   * Pide un refresco inmediato en segundo plano, p. ej. después de una escritura de esta instancia.
+   */
+  public void requestRefresh() {
+    if (executor != null && !executor.isShutdown()) {
+      executor.execute(this::refresh);
+    }
+  }
+
+  /**
+   * Refresca la copia: carga completa si toca o si aún no está cargada, y si no solo las filas modificadas.
+   * Un error se registra y la copia se mantiene hasta el siguiente intento.
+   */
+  public synchronized void refresh() {
+    try {
+      if (!ready || System.nanoTime() - lastFullReload >= fullReloadIntervalNanos) {
+        reload();
+      } else {
+        refreshUpdated();
+      }
+    } catch (SQLException | RuntimeException e) {
+      log.error("Error refreshing reason overdraft snapshot: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Sustituye en la copia los motivos que acaba de escribir esta instancia, sin esperar al siguiente refresco.
+   * Un motivo del que la copia ya tiene una versión posterior se mantiene. Si la copia aún no está cargada no hace
+   * nada: la carga completa leerá los motivos.
+   *
+   * @param written los motivos escritos, tal y como están en base de datos
+   */
+  public synchronized void upsert(Collection<ReasonOverdraftEntity> written) {
+    if (!ready) {
+      return;
+    }
+    var changed = false;
+    for (var row : written) {
+      var previous = rows.get(row.getPk());
+      if (previous == null || !isBefore(row.getLastUpdaterDateTime(), previous.getLastUpdaterDateTime())) {
+        rows.put(row.getPk(), row);
+        changed = true;
+      }
+    }
+    if (changed) {
+      publish();
+    }
+  }
+
+  /**
+   * Quita un motivo de la copia, de modo que se lee de base de datos hasta que el siguiente refresco lo vuelva a
+   * traer.
+   *
+   * @param pk la clave del motivo
+   */
+  public synchronized void remove(ReasonOverdraftEntityPK pk) {
+    if (ready && rows.remove(pk) != null) {
+      publish();
+    }
+  }
+
+  /**
+   * Busca un motivo por su clave.
+   *
+   * @param pk la clave del motivo
+   * @return el motivo, o vacío si no está en la copia
+   */
+  public Optional<ReasonOverdraftEntity> find(ReasonOverdraftEntityPK pk) {
+    return Optional.ofNullable(view.byKey().get(pk));
+  }
+
+  /**
+   * Equivalente en memoria de {@link ReasonOverdraftRepositoryExt#findList}.
+   *
+   * @param reasonCode the reason code (optional)
+   * @param entity     the entity (optional)
+   * @param brand      the brand (optional)
+   * @param status     the status (ACT, CAN, PEN, or null for default active)
+   * @param offset     the offset for pagination (optional)
+   * @param limit      the limit for pagination (optional)
+   * @return the matching reason overdrafts, ordered by ENTITY, BRAND, REASON_CODE
+   */
+  public List<ReasonOverdraftEntity> findList(String reasonCode, String entity, String brand,
+                                              String status, String offset, String limit) {
+    var paged = offset != null && limit != null;
+    return select(reasonCode, entity, brand, status, null,
+        paged ? Integer.parseInt(offset) : 0, paged ? Integer.parseInt(limit) : Integer.MAX_VALUE);
+  }
+
+  /**
+   * Equivalente en memoria de {@link ReasonOverdraftRepositoryExt#findListAfter}.
+   *
+   * @param reasonCode the reason code (optional)
+   * @param entity     the entity (optional)
+   * @param brand      the brand (optional)
+   * @param status     the status (ACT, CAN, PEN, or null for default active)
+   * @param after      the last key of the previous page, or null for the first page
+   * @param limit      the maximum number of rows to return
+   * @return the matching reason overdrafts after the given key, ordered by ENTITY, BRAND, REASON_CODE
+   */
+  public List<ReasonOverdraftEntity> findListAfter(String reasonCode, String entity, String brand,
+                                                   String status, ReasonOverdraftEntityPK after, int limit) {
+    return select(reasonCode, entity, brand, status, after, 0, limit);
+  }
+
+  /**
+   * Número de motivos en la copia.
+   *
+   * @return el número de motivos
+   */
+  public int size() {
+    return view.all().size();
+  }
+
+  private List<ReasonOverdraftEntity> select(String reasonCode, String entity, String brand, String status,
+                                             ReasonOverdraftEntityPK after, int offset, int limit) {
+    var current = view;
+    // se recorre el índice más selectivo de los filtros informados; ya está en el orden de la clave
+    var candidates = current.all();
+    candidates = narrower(candidates, reasonCode, current.byReasonCode());
+    candidates = narrower(candidates, entity, current.byEntity());
+    candidates = narrower(candidates, brand, current.byBrand());
+
+    var now = LocalDateTime.now();
+    var statusFilter = StatusFilter.of(status);
+    List<ReasonOverdraftEntity> result = new ArrayList<>(Math.min(Math.max(limit, 0), candidates.size()));
+    var skipped = 0;
+    for (var row : candidates) {
+      if (result.size() >= limit) {
+        break;
+      }
+      var pk = row.getPk();
+      if ((reasonCode != null && !reasonCode.equals(pk.getReasonCode()))
+          || (entity != null && !entity.equals(pk.getEntity()))
+          || (brand != null && !brand.equals(pk.getBrand()))
+          || (after != null && KEY_ORDER.compare(pk, after) <= 0)
+          || !statusFilter.test(row, now)) {
+        continue;
+      }
+      if (skipped < offset) {
+        skipped++;
+      } else {
+        result.add(row);
+      }
+    }
+    return result;
+  }
+
+  private static List<ReasonOverdraftEntity> narrower(List<ReasonOverdraftEntity> candidates, String value,
+                                                      Map<String, List<ReasonOverdraftEntity>> index) {
+    if (value == null) {
+      return candidates;
+    }
+    var indexed = index.getOrDefault(value, List.of());
+    return indexed.size() < candidates.size() ? indexed : candidates;
+  }
+
+  private void reload() throws SQLException {
+    var started = System.nanoTime();
+    var readStart = UtilLeanCoreData.getUtcTimestamp();
+    var loaded = new TreeMap<ReasonOverdraftEntityPK, ReasonOverdraftEntity>(KEY_ORDER);
+    reasonOverdraftRepository.forEach(null, null, fetchSize, row -> loaded.put(row.getPk(), row));
+    rows.clear();
+    rows.putAll(loaded);
+    watermark = notAfter(maxLastUpdaterDateTime(rows.values(), null), readStart);
+    lastFullReload = System.nanoTime();
+    publish();
+    ready = true;
+    log.info("Reason overdraft snapshot loaded: {} rows in {} ms", rows.size(),
+        TimeUnit.NANOSECONDS.toMillis(lastFullReload - started));
+  }
+
+  private void refreshUpdated() throws SQLException {
+    var readStart = UtilLeanCoreData.getUtcTimestamp();
+    var since = watermark != null ? watermark.minus(overlap) : NO_WATERMARK;
+    var updated = reasonOverdraftRepository.findUpdatedSince(since);
+    var changed = false;
+    for (var row : updated) {
+      var previous = rows.put(row.getPk(), row);
+      // las filas releídas por el margen de overlap tienen la misma versión y no cambian la vista
+      changed |= previous == null
+          || !Objects.equals(previous.getLastUpdaterDateTime(), row.getLastUpdaterDateTime());
+    }
+    watermark = notAfter(maxLastUpdaterDateTime(updated, watermark), readStart);
+    if (changed) {
+      publish();
+      log.debug("Reason overdraft snapshot refreshed: {} rows read", updated.size());
+    }
+  }
+
+  private void publish() {
+    view = View.of(rows);
+  }
+
+  private static LocalDateTime maxLastUpdaterDateTime(Iterable<ReasonOverdraftEntity> rows, LocalDateTime max) {
+    for (var row : rows) {
+      var version = row.getLastUpdaterDateTime();
+      if (version != null && (max == null || version.isAfter(max))) {
+        max = version;
+      }
+    }
+    return max;
+  }
+
+  private static boolean isBefore(LocalDateTime version, LocalDateTime other) {
+    return version != null && other != null && version.isBefore(other);
+  }
+
+  private static LocalDateTime notAfter(LocalDateTime watermark, LocalDateTime limit) {
+    return watermark != null && watermark.isAfter(limit) ? limit : watermark;
+  }
+
+  /**
+   * Filtro de estado, con la misma semántica que las condiciones SQL: una fecha nula no cumple ninguna comparación.
+   */
+  private enum StatusFilter {
+    ACTIVE, CANCELLED, PENDING, ANY;
+
+    static StatusFilter of(String status) {
+      if (status == null || "ACT".equalsIgnoreCase(status)) {
+        return ACTIVE;
+      } else if ("CAN".equalsIgnoreCase(status)) {
+        return CANCELLED;
+      } else if ("PEN".equalsIgnoreCase(status)) {
+        return PENDING;
+      }
+      log.warn("Unhandled status: {}", status);
+      return ANY;
+    }
+
+    boolean test(ReasonOverdraftEntity row, LocalDateTime now) {
+      var start = row.getStartDateTime();
+      var end = row.getEndDateTime();
+      return switch (this) {
+        case ACTIVE -> start != null && end != null && !start.isAfter(now) && !end.isBefore(now);
+        case CANCELLED -> (start != null && start.isAfter(now)) || (end != null && end.isBefore(now));
+        case PENDING -> start != null && start.isAfter(now);
+        case ANY -> true;
+      };
+    }
+  }
+
+  /**
+   * Vista inmutable de la tabla: todas las filas en el orden de la clave, índices por entidad, marca y código
+   * (cada lista también en el orden de la clave) y acceso por clave.
+   */
+  private record View(List<ReasonOverdraftEntity> all,
+                      Map<String, List<ReasonOverdraftEntity>> byEntity,
+                      Map<String, List<ReasonOverdraftEntity>> byBrand,
+                      Map<String, List<ReasonOverdraftEntity>> byReasonCode,
+                      Map<ReasonOverdraftEntityPK, ReasonOverdraftEntity> byKey) {
+
+    static View of(TreeMap<ReasonOverdraftEntityPK, ReasonOverdraftEntity> rows) {
+      Map<String, List<ReasonOverdraftEntity>> byEntity = new HashMap<>();
+      Map<String, List<ReasonOverdraftEntity>> byBrand = new HashMap<>();
+      Map<String, List<ReasonOverdraftEntity>> byReasonCode = new HashMap<>();
+      for (var row : rows.values()) {
+        byEntity.computeIfAbsent(row.getPk().getEntity(), key -> new ArrayList<>()).add(row);
+        byBrand.computeIfAbsent(row.getPk().getBrand(), key -> new ArrayList<>()).add(row);
+        byReasonCode.computeIfAbsent(row.getPk().getReasonCode(), key -> new ArrayList<>()).add(row);
+      }
+      return new View(List.copyOf(rows.values()), freeze(byEntity), freeze(byBrand), freeze(byReasonCode),
+          Map.copyOf(rows));
+    }
+
+    private static Map<String, List<ReasonOverdraftEntity>> freeze(Map<String, List<ReasonOverdraftEntity>> index) {
+      Map<String, List<ReasonOverdraftEntity>> frozen = new HashMap<>(index.size() * 2);
+      index.forEach((key, value) -> frozen.put(key, List.copyOf(value)));
+      return Map.copyOf(frozen);
+    }
+  }
+}
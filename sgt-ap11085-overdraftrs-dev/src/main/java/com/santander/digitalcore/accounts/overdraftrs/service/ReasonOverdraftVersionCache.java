@@ -0,0 +1,77 @@
+package com.santander.digitalcore.accounts.overdraftrs.service;
+
+import com.santander.digitalcore.accounts.overdraftrs.util.Constants;
+import com.santander.digitalcore.accounts.overdraftrs.util.ETags;
+import com.santander.digitalcore.accounts.util.lib.db.model.entity.ReasonOverdraftEntityPK;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Caché de los ETag de los motivos de descubierto, por clave.
+ * Se rellena al leer o modificar un motivo y permite responder 304 Not Modified sin acceder a base de datos.
+ * Las escrituras de esta instancia la actualizan; las de otras instancias solo se ven al expirar la entrada.
+ * Se guarda LAST_UPDATER_DATE_TIME y no el ETag para no sustituir nunca una versión por otra anterior, p. ej. la
+ * de una lectura que ha empezado antes que una escritura y termina después.
+ */
+@Component
+public class ReasonOverdraftVersionCache {
+
+  private static final char SEPARATOR = '\u001F';
+
+  private final Cache cache;
+
+  /**
+   * Constructor de la clase.
+   *
+   * @param cacheManager gestor de cachés de la aplicación
+   */
+  public ReasonOverdraftVersionCache(CacheManager cacheManager) {
+    this.cache = Objects.requireNonNull(cacheManager.getCache(Constants.CACHE_REASON_OVERDRAFT_VERSION),
+        "Cache " + Constants.CACHE_REASON_OVERDRAFT_VERSION + " is not configured");
+  }
+
+  /**
+   * Devuelve el ETag conocido del motivo.
+   *
+   * @param pk la clave del motivo
+   * @return el ETag, o null si no está en caché
+   */
+  public String get(ReasonOverdraftEntityPK pk) {
+    return ETags.of(cache.get(key(pk), LocalDateTime.class));
+  }
+
+  /**
+   * Guarda la versión actual del motivo, salvo que la caché ya tenga una posterior.
+   *
+   * @param pk      la clave del motivo
+   * @param version LAST_UPDATER_DATE_TIME del motivo; si es null se elimina la entrada
+   */
+  public synchronized void put(ReasonOverdraftEntityPK pk, LocalDateTime version) {
+    if (version == null) {
+      evict(pk);
+      return;
+    }
+    var key = key(pk);
+    var current = cache.get(key, LocalDateTime.class);
+    if (current == null || !version.isBefore(current)) {
+      cache.put(key, version);
+    }
+  }
+
+  /**
+   * Elimina la versión del motivo.
+   *
+   * @param pk la clave del motivo
+   */
+  public synchronized void evict(ReasonOverdraftEntityPK pk) {
+    cache.evict(key(pk));
+  }
+
+  private static String key(ReasonOverdraftEntityPK pk) {
+    return pk.getEntity() + SEPARATOR + pk.getBrand() + SEPARATOR + pk.getReasonCode();
+  }
+}
@@ -11,6 +11,19 @@ public final class Constants {
   }
 
   public static final String MS_NAME = "ap11085-overdraftrs";
+  public static final String CACHE_CODE_REASON_OVERDRAFT = "codeReasonOverdraft";
+  public static final String CACHE_OPERATOR_REASON_OVERDRAFT = "operatorReasonOverdraft";
+  public static final String CACHE_CODE_REASON_OVERDRAFT_LIST = "codeReasonOverdraftList";
+  public static final String CACHE_OPERATOR_REASON_OVERDRAFT_LIST = "operatorReasonOverdraftList";
+  public static final String CACHE_REASON_OVERDRAFT_VERSION = "reasonOverdraftVersion";
+  public static final String TABLE_CODE_REASON_OVERDRAFT = "DC_CODE_REASON_OVERDRAFT";
+  public static final String TABLE_OPERATOR_REASON_OVERDRAFT = "DC_OPERATOR_REASON_OVERDRAFT";
+  public static final String TABLE_REASON_OVERDRAFT = "DC_REASON_OVERDRAFT";
+  public static final String HEADER_NEXT_CURSOR = "X-Next-Cursor";
+  public static final int ORA_UNIQUE_CONSTRAINT = 1;
+  public static final String SQLSTATE_UNIQUE_VIOLATION = "23505";
+  public static final Integer NUMBER_16 = 16;
+  public static final Integer NUMBER_15 = 15;
   public static final Integer NUMBER_14 = 14;
   public static final Integer NUMBER_13 = 13;
   public static final Integer NUMBER_12 = 12;
@@ -0,0 +1,194 @@
+package com.santander.digitalcore.accounts.overdraftrs.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Conversión entre texto y fechas con los formatos fijos del API: {@code yyyy-MM-dd} y
+ * {@code yyyy-MM-dd HH:mm:ss.SSS}. Se parsea y se formatea con aritmética de caracteres, sin crear un
+ * DateTimeFormatter ni objetos intermedios por llamada; el resultado es el mismo que con
+ * DateTimeFormatter.ofPattern (incluido el ajuste del día al último del mes, p. ej. 2023-02-30 es 2023-02-28,
+ * y 24:00:00.000 como inicio del día siguiente).
+ * Los años fuera de 0001-9999 se formatean con un DateTimeFormatter compartido.
+ */
+public final class DateTimeCodec {
+
+  /**
+   * Formato de fecha
+   */
+  public static final String DATE_PATTERN = "yyyy-MM-dd";
+
+  /**
+   * Formato de fecha y hora
+   */
+  public static final String DATE_TIME_PATTERN = "yyyy-MM-dd HH:mm:ss.SSS";
+
+  private static final int DATE_LENGTH = 10;
+  private static final int DATE_TIME_LENGTH = 23;
+  private static final int NANOS_PER_MILLI = 1_000_000;
+  private static final int MAX_YEAR = 9999;
+
+  private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(DATE_PATTERN);
+  private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern(DATE_TIME_PATTERN);
+
+  private DateTimeCodec() {
+    //Default constructor
+  }
+
+  /**
+   * Parsea una fecha {@code yyyy-MM-dd}.
+   *
+   * @param text el texto, o null
+   * @return la fecha, o null si el texto es null
+   * @throws DateTimeParseException si el texto no tiene el formato o la fecha no es válida
+   */
+  public static LocalDate parseDate(CharSequence text) {
+    if (text == null) {
+      return null;
+    }
+    if (text.length() != DATE_LENGTH) {
+      throw parseError(text, Math.min(text.length(), DATE_LENGTH));
+    }
+    return date(text);
+  }
+
+  /**
+   * Parsea una fecha y hora {@code yyyy-MM-dd HH:mm:ss.SSS}.
+   *
+   * @param text el texto, o null
+   * @return la fecha y hora, o null si el texto es null
+   * @throws DateTimeParseException si el texto no tiene el formato o la fecha u hora no son válidas
+   */
+  public static LocalDateTime parseDateTime(CharSequence text) {
+    if (text == null) {
+      return null;
+    }
+    if (text.length() != DATE_TIME_LENGTH) {
+      throw parseError(text, Math.min(text.length(), DATE_TIME_LENGTH));
+    }
+    LocalDate date = date(text);
+    expect(text, 10, ' ');
+    int hour = digits(text, 11, 2);
+    expect(text, 13, ':');
+    int minute = digits(text, 14, 2);
+    expect(text, 16, ':');
+    int second = digits(text, 17, 2);
+    expect(text, 19, '.');
+    int millis = digits(text, 20, 3);
+    if (hour == 24 && minute == 0 && second == 0 && millis == 0) {
+      // Igual que ResolverStyle.SMART: 24:00:00.000 es el inicio del día siguiente
+      return date.plusDays(1).atStartOfDay();
+    }
+    if (hour > 23 || minute > 59 || second > 59) {
+      throw parseError(text, 11);
+    }
+    return LocalDateTime.of(date.getYear(), date.getMonthValue(), date.getDayOfMonth(), hour, minute, second,
+        millis * NANOS_PER_MILLI);
+  }
+
+  /**
+   * Formatea una fecha como {@code yyyy-MM-dd}.
+   *
+   * @param date la fecha, o null
+   * @return el texto, o null si la fecha es null
+   */
+  public static String formatDate(LocalDate date) {
+    if (date == null) {
+      return null;
+    }
+    int year = date.getYear();
+    if (year < 1 || year > MAX_YEAR) {
+      return date.format(DATE_FORMATTER);
+    }
+    char[] buffer = new char[DATE_LENGTH];
+    writeDate(buffer, year, date.getMonthValue(), date.getDayOfMonth());
+    return new String(buffer);
+  }
+
+  /**
+   * Formatea una fecha y hora como {@code yyyy-MM-dd HH:mm:ss.SSS}, truncando al milisegundo.
+   *
+   * @param dateTime la fecha y hora, o null
+   * @return el texto, o null si la fecha y hora es null
+   */
+  public static String formatDateTime(LocalDateTime dateTime) {
+    if (dateTime == null) {
+      return null;
+    }
+    int year = dateTime.getYear();
+    if (year < 1 || year > MAX_YEAR) {
+      return dateTime.format(DATE_TIME_FORMATTER);
+    }
+    char[] buffer = new char[DATE_TIME_LENGTH];
+    writeDate(buffer, year, dateTime.getMonthValue(), dateTime.getDayOfMonth());
+    buffer[10] = ' ';
+    write(buffer, 11, dateTime.getHour(), 2);
+    buffer[13] = ':';
+    write(buffer, 14, dateTime.getMinute(), 2);
+    buffer[16] = ':';
+    write(buffer, 17, dateTime.getSecond(), 2);
+    buffer[19] = '.';
+    write(buffer, 20, dateTime.getNano() / NANOS_PER_MILLI, 3);
+    return new String(buffer);
+  }
+
+  private static LocalDate date(CharSequence text) {
+    int year = digits(text, 0, 4);
+    expect(text, 4, '-');
+    int month = digits(text, 5, 2);
+    expect(text, 7, '-');
+    int day = digits(text, 8, 2);
+    if (year < 1) {
+      // yyyy es el año de la era: 0000 no existe
+      throw parseError(text, 0);
+    }
+    if (month < 1 || month > 12) {
+      throw parseError(text, 5);
+    }
+    if (day < 1 || day > 31) {
+      throw parseError(text, 8);
+    }
+    // Igual que DateTimeFormatter con ResolverStyle.SMART: un día inexistente se ajusta al último del mes
+    return LocalDate.of(year, month, Math.min(day, YearMonth.of(year, month).lengthOfMonth()));
+  }
+
+  private static int digits(CharSequence text, int offset, int count) {
+    int value = 0;
+    for (int i = offset; i < offset + count; i++) {
+      char c = text.charAt(i);
+      if (c < '0' || c > '9') {
+        throw parseError(text, i);
+      }
+      value = value * 10 + (c - '0');
+    }
+    return value;
+  }
+
+  private static void expect(CharSequence text, int index, char expected) {
+    if (text.charAt(index) != expected) {
+      throw parseError(text, index);
+    }
+  }
+
+  private static void writeDate(char[] buffer, int year, int month, int day) {
+    write(buffer, 0, year, 4);
+    buffer[4] = '-';
+    write(buffer, 5, month, 2);
+    buffer[7] = '-';
+    write(buffer, 8, day, 2);
+  }
+
+  private static void write(char[] buffer, int offset, int value, int width) {
+    for (int i = offset + width - 1; i >= offset; i--) {
+      buffer[i] = (char) ('0' + value % 10);
+      value /= 10;
+    }
+  }
+
+  private static DateTimeParseException parseError(CharSequence text, int index) {
+    return new DateTimeParseException("Text '" + text + "' could not be parsed at index " + index, text, index);
+  }
+}
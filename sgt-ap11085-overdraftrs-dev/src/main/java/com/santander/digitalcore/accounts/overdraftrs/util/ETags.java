@@ -0,0 +1,105 @@
+package com.santander.digitalcore.accounts.overdraftrs.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.santander.digitalcore.accounts.util.lib.core.exceptions.InternalServerErrorDarwinExceptionLeancore;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Utilidades para las cabeceras ETag, If-None-Match e If-Match.
+ * El ETag de un motivo de descubierto es su LAST_UPDATER_DATE_TIME (UTC, al milisegundo) en base 36, de forma
+ * que se puede volver a convertir en la versión que comprueba el PATCH. El de los catálogos es el SHA-256 de su
+ * contenido en JSON: un hash de 32 bits podría coincidir para dos catálogos distintos y devolver un 304 erróneo.
+ */
+public final class ETags {
+
+  private static final int RADIX = 36;
+  private static final String ANY = "*";
+  private static final String WEAK_PREFIX = "W/";
+  private static final ObjectMapper DIGEST_MAPPER = JsonMapper.builder().findAndAddModules().build();
+
+  private ETags() {
+    //Default constructor
+  }
+
+  /**
+   * ETag fuerte de una versión.
+   *
+   * @param version LAST_UPDATER_DATE_TIME del registro
+   * @return el ETag entre comillas, o null si no hay versión
+   */
+  public static String of(LocalDateTime version) {
+    if (version == null) {
+      return null;
+    }
+    var millis = version.truncatedTo(ChronoUnit.MILLIS).toInstant(ZoneOffset.UTC).toEpochMilli();
+    return '"' + Long.toString(millis, RADIX) + '"';
+  }
+
+  /**
+   * ETag fuerte de un catálogo.
+   *
+   * @param items los elementos del catálogo
+   * @return el ETag entre comillas
+   */
+  public static String of(List<?> items) {
+    try {
+      var digest = MessageDigest.getInstance("SHA-256").digest(DIGEST_MAPPER.writeValueAsBytes(items));
+      return '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + '"';
+    } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+      throw new InternalServerErrorDarwinExceptionLeancore("XX1111", e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Convierte un ETag generado con {@link #of(LocalDateTime)} en la versión que representa.
+   *
+   * @param etag el ETag recibido en If-Match
+   * @return la versión, o null si el ETag no tiene el formato esperado
+   */
+  public static LocalDateTime toVersion(String etag) {
+    var value = etag.trim();
+    if (value.length() < 3 || value.charAt(0) != '"' || value.charAt(value.length() - 1) != '"') {
+      return null;
+    }
+    try {
+      var millis = Long.parseLong(value.substring(1, value.length() - 1), RADIX);
+      return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Indica si el valor de If-None-Match incluye el ETag actual. Se usa la comparación débil (RFC 9110),
+   * por lo que los valores W/"..." también coinciden.
+   *
+   * @param ifNoneMatch el valor de la cabecera If-None-Match (lista separada por comas), o null
+   * @param etag        el ETag actual, o null si no se conoce
+   * @return true si se puede responder 304 Not Modified
+   */
+  public static boolean matches(String ifNoneMatch, String etag) {
+    if (ifNoneMatch == null || etag == null) {
+      return false;
+    }
+    for (String candidate : ifNoneMatch.split(",")) {
+      var value = candidate.trim();
+      if (value.startsWith(WEAK_PREFIX)) {
+        value = value.substring(WEAK_PREFIX.length());
+      }
+      if (ANY.equals(value) || etag.equals(value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,59 @@
+package com.santander.digitalcore.accounts.overdraftrs.util;
+
+import com.santander.digitalcore.accounts.util.lib.core.exceptions.BadRequestDarwinExceptionLeancore;
+import com.santander.digitalcore.accounts.util.lib.db.model.entity.ReasonOverdraftEntityPK;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Cursor opaco para la paginación por clave del listado de motivos de descubierto.
+ * Codifica en Base64 URL-safe la última clave (ENTITY, BRAND, REASON_CODE) devuelta, en el mismo
+ * orden que el ORDER BY del listado.
+ */
+public final class ReasonOverdraftCursor {
+
+  private static final char SEPARATOR = '\u001F';
+  private static final String INVALID_CURSOR = "OVERDRAFT-REASON-0036";
+
+  private ReasonOverdraftCursor() {
+    //Default constructor
+  }
+
+  /**
+   * Codifica la clave del último motivo devuelto.
+   *
+   * @param entity     entidad
+   * @param brand      marca
+   * @param reasonCode código de motivo
+   * @return el cursor
+   */
+  public static String encode(String entity, String brand, String reasonCode) {
+    var raw = entity + SEPARATOR + brand + SEPARATOR + reasonCode;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodifica un cursor generado con {@link #encode(String, String, String)}.
+   *
+   * @param cursor el cursor recibido en _cursor
+   * @return la clave a partir de la cual continuar
+   * @throws BadRequestDarwinExceptionLeancore si el cursor no es válido
+   */
+  public static ReasonOverdraftEntityPK decode(String cursor) {
+    String raw;
+    try {
+      raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      throw new BadRequestDarwinExceptionLeancore(INVALID_CURSOR, "_cursor is not valid");
+    }
+    int first = raw.indexOf(SEPARATOR);
+    int second = first < 0 ? -1 : raw.indexOf(SEPARATOR, first + 1);
+    if (first <= 0 || second <= first + 1 || second == raw.length() - 1
+        || raw.indexOf(SEPARATOR, second + 1) >= 0) {
+      throw new BadRequestDarwinExceptionLeancore(INVALID_CURSOR, "_cursor is not valid");
+    }
+    return new ReasonOverdraftEntityPK(raw.substring(0, first), raw.substring(first + 1, second),
+        raw.substring(second + 1));
+  }
+}
@@ -0,0 +1,221 @@
+package com.santander.digitalcore.accounts.overdraftrs.util;
+
+import com.santander.digitalcore.accounts.overdraftrs.dto.ReasonOverdraftDTO;
+import com.santander.digitalcore.accounts.util.lib.core.exceptions.BadRequestDarwinExceptionLeancore;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * Reglas de validación del cuerpo de las peticiones de alta y modificación de motivos de descubierto.
+ * Los conjuntos de reglas se construyen una sola vez al cargar la clase. Cada validación convierte la
+ * petición en un {@link Fields} (fechas parseadas una vez, indicadores en mayúsculas y fecha actual
+ * leída una vez) y evalúa todas las reglas en una sola pasada, recogiendo todos los errores.
+ * El orden de las reglas es el de las validaciones originales, de modo que el primer error es el mismo
+ * que se devolvía antes.
+ */
+public final class ReasonOverdraftRules {
+
+  private static final BigDecimal MAX_DAYS = new BigDecimal("0.30");
+  private static final BigDecimal MAX_MONTHS = new BigDecimal("99.30");
+  private static final BigDecimal MAX_COUNTER = new BigDecimal("9999");
+  private static final String YES = "Y";
+  private static final String NO = "N";
+
+  /**
+   * Reglas del alta
+   */
+  private static final RuleSet<Fields> CREATE = RuleSet.<Fields>builder()
+      .rule("OVERDRAFT-REASON-0016", f -> isEmpty(f.request().getReasonCode()))
+      .rule("OVERDRAFT-REASON-0017", f -> isEmpty(f.request().getEntity()))
+      .rule("OVERDRAFT-REASON-0018", f -> isEmpty(f.request().getBrand()))
+      .rule("OVERDRAFT-REASON-0019", f -> !isEmpty(f.request().getReasonCode())
+          && !hasValidLength(f.request().getReasonCode()))
+      .rule("OVERDRAFT-REASON-0020", f -> !isEmpty(f.request().getReasonCode())
+          && hasValidLength(f.request().getReasonCode()) && !isDigits(f.request().getReasonCode()))
+      .rule("OVERDRAFT-REASON-0032", f -> f.request().getStartDateTime() == null)
+      .rule("OVERDRAFT-REASON-0033", f -> f.request().getEndDateTime() == null)
+      .rule("OVERDRAFT-REASON-0023", f -> f.start() != null && f.end() != null && f.start().isAfter(f.end()))
+      .rule("OVERDRAFT-REASON-0022", f -> f.start() != null && f.start().isBefore(f.today().atStartOfDay()))
+      .rule("OVERDRAFT-REASON-0031", f -> f.end() != null && f.end().isBefore(f.today().atStartOfDay()))
+      .rule("OVERDRAFT-REASON-0029", f -> isEmpty(f.mandatory()))
+      .rule("OVERDRAFT-REASON-0030", f -> !isEmpty(f.mandatory()) && !isYesOrNo(f.mandatory()))
+      .rule("OVERDRAFT-REASON-0027", ReasonOverdraftRules::defaultDateMissing)
+      .rule("OVERDRAFT-REASON-0028", ReasonOverdraftRules::defaultDateInThePast)
+      .rule("OVERDRAFT-REASON-0024", f -> monthsWithTooManyDays(f.request().getMonths()))
+      .rule("OVERDRAFT-REASON-0025", f -> monthsOutOfRange(f.request().getMonths()))
+      .rule("OVERDRAFT-REASON-0026", f -> counterOutOfRange(f.request().getCounter()))
+      .rule("OVERDRAFT-REASON-0034", f -> isEmpty(f.settlementIndicator()))
+      .rule("OVERDRAFT-REASON-0035", f -> !isEmpty(f.settlementIndicator()) && !isYesOrNo(f.settlementIndicator()))
+      .build();
+
+  /**
+   * Reglas de la modificación sin leer la fila actual: solo se validan los campos informados
+   */
+  private static final RuleSet<Fields> UPDATE = RuleSet.<Fields>builder()
+      .rule("OVERDRAFT-REASON-0016", f -> isEmpty(f.request().getReasonCode()))
+      .rule("OVERDRAFT-REASON-0017", f -> isEmpty(f.request().getEntity()))
+      .rule("OVERDRAFT-REASON-0018", f -> isEmpty(f.request().getBrand()))
+      .rule("OVERDRAFT-REASON-0019", f -> !isEmpty(f.request().getReasonCode())
+          && !hasValidLength(f.request().getReasonCode()))
+      .rule("OVERDRAFT-REASON-0020", f -> !isEmpty(f.request().getReasonCode())
+          && hasValidLength(f.request().getReasonCode()) && !isDigits(f.request().getReasonCode()))
+      .rule("OVERDRAFT-REASON-0024", f -> monthsWithTooManyDays(f.request().getMonths()))
+      .rule("OVERDRAFT-REASON-0025", f -> monthsOutOfRange(f.request().getMonths()))
+      .rule("OVERDRAFT-REASON-0026", f -> counterOutOfRange(f.request().getCounter()))
+      .rule("OVERDRAFT-REASON-0022", f -> f.start() != null && f.start().isBefore(f.now()))
+      .rule("OVERDRAFT-REASON-0021", f -> f.start() != null && f.end() != null && f.end().isBefore(f.start()))
+      .rule("OVERDRAFT-REASON-0029", f -> f.mandatory() != null && f.mandatory().isEmpty())
+      .rule("OVERDRAFT-REASON-0030", f -> !isEmpty(f.mandatory()) && !isYesOrNo(f.mandatory()))
+      .rule("OVERDRAFT-REASON-0027", ReasonOverdraftRules::defaultDateMissing)
+      .rule("OVERDRAFT-REASON-0028", ReasonOverdraftRules::defaultDateInThePast)
+      .rule("OVERDRAFT-REASON-0034", f -> f.settlementIndicator() != null && f.settlementIndicator().isEmpty())
+      .rule("OVERDRAFT-REASON-0035", f -> !isEmpty(f.settlementIndicator()) && !isYesOrNo(f.settlementIndicator()))
+      .build();
+
+  private ReasonOverdraftRules() {
+    //Default constructor
+  }
+
+  /**
+   * Errores de validación del alta.
+   *
+   * @param request El objeto DTO que contiene los datos del motivo de descubierto.
+   * @return los códigos de error en el orden de las validaciones; vacía si la petición es válida.
+   * @throws DateTimeParseException si alguna fecha no tiene el formato esperado y no hay otros errores.
+   */
+  public static List<String> createViolations(ReasonOverdraftDTO request) {
+    return violations(CREATE, request);
+  }
+
+  /**
+   * Errores de validación de la modificación.
+   *
+   * @param request El objeto DTO que contiene los datos del motivo de descubierto.
+   * @return los códigos de error en el orden de las validaciones; vacía si la petición es válida.
+   * @throws DateTimeParseException si alguna fecha no tiene el formato esperado y no hay otros errores.
+   */
+  public static List<String> updateViolations(ReasonOverdraftDTO request) {
+    return violations(UPDATE, request);
+  }
+
+  /**
+   * Lanza el primer error de la lista, si lo hay.
+   *
+   * @param violations los códigos de error
+   * @throws BadRequestDarwinExceptionLeancore con el primer código de error
+   */
+  public static void throwFirst(List<String> violations) {
+    if (!violations.isEmpty()) {
+      throw new BadRequestDarwinExceptionLeancore(violations.get(0));
+    }
+  }
+
+  /**
+   * Comprueba que la cadena solo tenga dígitos ASCII, sin expresiones regulares.
+   *
+   * @param value la cadena, no vacía
+   * @return true si todos los caracteres son dígitos
+   */
+  public static boolean isDigits(String value) {
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c < '0' || c > '9') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static List<String> violations(RuleSet<Fields> rules, ReasonOverdraftDTO request) {
+    Fields fields = Fields.of(request);
+    List<String> violations = rules.violations(fields);
+    // Una fecha con formato incorrecto se notifica como antes, con la excepción del parseo
+    if (violations.isEmpty() && fields.parseError() != null) {
+      throw fields.parseError();
+    }
+    return violations;
+  }
+
+  private static boolean isEmpty(String value) {
+    return value == null || value.isEmpty();
+  }
+
+  private static boolean hasValidLength(String reasonCode) {
+    return reasonCode.length() <= Constants.NUMBER_4 && reasonCode.length() > Constants.NUMBER_1;
+  }
+
+  private static boolean isYesOrNo(String upperCaseValue) {
+    return YES.equals(upperCaseValue) || NO.equals(upperCaseValue);
+  }
+
+  private static boolean defaultDateMissing(Fields f) {
+    return YES.equals(f.mandatory()) && f.request().getDefaultDate() == null;
+  }
+
+  private static boolean defaultDateInThePast(Fields f) {
+    return f.defaultDate() != null && f.defaultDate().isBefore(f.today());
+  }
+
+  private static boolean monthsWithTooManyDays(BigDecimal months) {
+    return months != null && months.remainder(BigDecimal.ONE).compareTo(MAX_DAYS) > 0;
+  }
+
+  private static boolean monthsOutOfRange(BigDecimal months) {
+    return months != null && (months.compareTo(BigDecimal.ZERO) < 0 || months.compareTo(MAX_MONTHS) > 0);
+  }
+
+  private static boolean counterOutOfRange(BigDecimal counter) {
+    return counter != null && (counter.compareTo(BigDecimal.ZERO) < 0 || counter.compareTo(MAX_COUNTER) > 0);
+  }
+
+  /**
+   * Vista de la petición con cada campo preparado una sola vez.
+   *
+   * @param request             la petición original
+   * @param start               startDateTime parseada, o null si no se informa o no se puede parsear
+   * @param end                 endDateTime parseada, o null si no se informa o no se puede parsear
+   * @param defaultDate         defaultDate parseada, o null si no se informa o no se puede parsear
+   * @param mandatory           mandatory en mayúsculas
+   * @param settlementIndicator settlementIndicator en mayúsculas
+   * @param today               fecha actual
+   * @param now                 fecha y hora actual
+   * @param parseError          primer error de parseo de fechas, o null
+   */
+  record Fields(ReasonOverdraftDTO request, LocalDateTime start, LocalDateTime end, LocalDate defaultDate,
+                String mandatory, String settlementIndicator, LocalDate today, LocalDateTime now,
+                DateTimeParseException parseError) {
+
+    static Fields of(ReasonOverdraftDTO request) {
+      DateTimeParseException parseError = null;
+      LocalDateTime start = null;
+      LocalDateTime end = null;
+      LocalDate defaultDate = null;
+      try {
+        start = DateTimeCodec.parseDateTime(request.getStartDateTime());
+      } catch (DateTimeParseException e) {
+        parseError = e;
+      }
+      try {
+        end = DateTimeCodec.parseDateTime(request.getEndDateTime());
+      } catch (DateTimeParseException e) {
+        parseError = parseError != null ? parseError : e;
+      }
+      try {
+        defaultDate = DateTimeCodec.parseDate(request.getDefaultDate());
+      } catch (DateTimeParseException e) {
+        parseError = parseError != null ? parseError : e;
+      }
+      LocalDateTime now = LocalDateTime.now();
+      return new Fields(request, start, end, defaultDate, upperCase(request.getMandatory()),
+          upperCase(request.getSettlementIndicator()), now.toLocalDate(), now, parseError);
+    }
+
+    private static String upperCase(String value) {
+      return value != null ? value.toUpperCase() : null;
+    }
+  }
+}
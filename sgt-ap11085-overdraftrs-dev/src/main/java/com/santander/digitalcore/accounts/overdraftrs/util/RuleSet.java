@@ -0,0 +1,99 @@
+package com.santander.digitalcore.accounts.overdraftrs.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Conjunto inmutable de reglas de validación, cada una con el código de error que se devuelve si no se cumple.
+ * Se construye una sola vez (normalmente en un campo static final) y después se evalúa en una sola pasada
+ * sobre el objeto a validar, recogiendo todas las reglas incumplidas en el orden en que se declararon.
+ *
+ * @param <T> tipo del objeto a validar
+ */
+public final class RuleSet<T> {
+
+  private final String[] errorCodes;
+  private final Predicate<T>[] violations;
+
+  private RuleSet(List<String> errorCodes, List<Predicate<T>> violations) {
+    this.errorCodes = errorCodes.toArray(new String[0]);
+    @SuppressWarnings("unchecked")
+    Predicate<T>[] compiled = violations.toArray(new Predicate[0]);
+    this.violations = compiled;
+  }
+
+  /**
+   * Crea un constructor de reglas vacío.
+   *
+   * @param <T> tipo del objeto a validar
+   * @return el constructor
+   */
+  public static <T> Builder<T> builder() {
+    return new Builder<>();
+  }
+
+  /**
+   * Evalúa todas las reglas sobre el objeto.
+   *
+   * @param target el objeto a validar
+   * @return los códigos de error de las reglas incumplidas, en orden de declaración; vacía si es válido
+   */
+  public List<String> violations(T target) {
+    List<String> codes = null;
+    for (int i = 0; i < violations.length; i++) {
+      if (violations[i].test(target)) {
+        if (codes == null) {
+          codes = new ArrayList<>(2);
+        }
+        codes.add(errorCodes[i]);
+      }
+    }
+    return codes == null ? List.of() : codes;
+  }
+
+  /**
+   * Número de reglas del conjunto.
+   *
+   * @return el número de reglas
+   */
+  public int size() {
+    return errorCodes.length;
+  }
+
+  /**
+   * Constructor de un {@link RuleSet}.
+   *
+   * @param <T> tipo del objeto a validar
+   */
+  public static final class Builder<T> {
+
+    private final List<String> errorCodes = new ArrayList<>();
+    private final List<Predicate<T>> violations = new ArrayList<>();
+
+    private Builder() {
+    }
+
+    /**
+     * Añade una regla.
+     *
+     * @param errorCode código de error si se incumple
+     * @param violation condición que se cumple cuando el objeto NO es válido
+     * @return este constructor
+     */
+    public Builder<T> rule(String errorCode, Predicate<T> violation) {
+      errorCodes.add(errorCode);
+      violations.add(violation);
+      return this;
+    }
+
+    /**
+     * Construye el conjunto de reglas.
+     *
+     * @return el conjunto inmutable
+     */
+    public RuleSet<T> build() {
+      return new RuleSet<>(errorCodes, violations);
+    }
+  }
+}
@@ -3,6 +3,7 @@ package com.santander.digitalcore.accounts.overdraftrs.web;
 import com.santander.digitalcore.accounts.overdraftrs.dto.OperatorReasonOverdraftRequest;
 import com.santander.digitalcore.accounts.overdraftrs.dto.OperatorReasonOverdraftResponse;
 import com.santander.digitalcore.accounts.overdraftrs.service.OperatorReasonOverdraftService;
+import com.santander.digitalcore.accounts.overdraftrs.util.ETags;
 import com.santander.digitalcore.accounts.overdraftrs.web.info.CreateOperatorReasonOverdraftPostDoc;
 import com.santander.digitalcore.accounts.overdraftrs.web.info.DeleteOperatorReasonOverdraftDoc;
 import com.santander.digitalcore.accounts.overdraftrs.web.info.GetOperatorReasonOverdraftDoc;
@@ -12,6 +13,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,6 +23,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -39,10 +43,12 @@ public class OperatorReasonOverdraftController {
   /**
    * Endpoint to retrieve the list of OperatorReasonOverdraft.
    *
-   * @param active optional parameter to retrieve only the active records.
+   * @param active      optional parameter to retrieve only the active records.
+   * @param ifNoneMatch optional ETag of the catalog version the client already has.
    * @return <ul>
-   * <li>HTTP 200 OK with a list of OperatorReasonOverdraft objects if available.</li>
+   * <li>HTTP 200 OK with a list of OperatorReasonOverdraft objects and the ETag of the catalog if available.</li>
    * <li>HTTP 204 No Content if there are no OperatorReasonOverdrafts available.</li>
+   * <li>HTTP 304 Not Modified if If-None-Match matches the current catalog version.</li>
    * <li>HTTP 500 Internal Server Error if an unexpected error occurs.</li>
    * </ul>
    */
@@ -50,7 +56,8 @@ public class OperatorReasonOverdraftController {
   @GetMapping
   public ResponseEntity<List<OperatorReasonOverdraftResponse>> getOperatorReasonOverdraftList(
       @Parameter(required = false, description = "Active", example = "true")
-      @RequestParam(required = false) Boolean active) {
+      @RequestParam(required = false) Boolean active,
+      @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
     List<OperatorReasonOverdraftResponse> operatorReasonOverdraftRequests = active != null && active
         ? operatorReasonOverdraftService.getActiveOperatorReasonOverdraftList()
         : operatorReasonOverdraftService.getOperatorReasonOverdraftList();
@@ -59,7 +66,12 @@ public class OperatorReasonOverdraftController {
       return ResponseEntity.noContent().build();
     }
 
-    return ResponseEntity.ok(operatorReasonOverdraftRequests);
+    // el catálogo se sirve desde caché: el 304 no accede a base de datos ni escribe la respuesta
+    var etag = ETags.of(operatorReasonOverdraftRequests);
+    if (ETags.matches(ifNoneMatch, etag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+    return ResponseEntity.ok().eTag(etag).body(operatorReasonOverdraftRequests);
   }
 
   /**
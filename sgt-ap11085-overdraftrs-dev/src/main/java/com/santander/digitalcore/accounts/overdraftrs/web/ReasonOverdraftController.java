@@ -1,16 +1,28 @@
 package com.santander.digitalcore.accounts.overdraftrs.web;
 
+import com.santander.digitalcore.accounts.overdraftrs.dto.ReasonOverdraftBatchResult;
 import com.santander.digitalcore.accounts.overdraftrs.dto.ReasonOverdraftDTO;
+import com.santander.digitalcore.accounts.overdraftrs.service.ReasonOverdraftBatchService;
+import com.santander.digitalcore.accounts.overdraftrs.service.ReasonOverdraftExportService;
 import com.santander.digitalcore.accounts.overdraftrs.service.ReasonOverdraftService;
 
+import com.santander.digitalcore.accounts.overdraftrs.mapper.ReasonOverdraftMapper;
+import com.santander.digitalcore.accounts.overdraftrs.util.Constants;
+import com.santander.digitalcore.accounts.overdraftrs.util.ETags;
 import com.santander.digitalcore.accounts.overdraftrs.util.OperationType;
 import com.santander.digitalcore.accounts.overdraftrs.util.Validations;
+import com.santander.digitalcore.accounts.overdraftrs.web.info.CreateReasonOverdraftBatchPostDoc;
 import com.santander.digitalcore.accounts.overdraftrs.web.info.CreateReasonOverdraftPostDoc;
 import com.santander.digitalcore.accounts.overdraftrs.web.info.DeleteReasonOverdraftDoc;
+import com.santander.digitalcore.accounts.overdraftrs.web.info.ExportReasonOverdraftDoc;
 import com.santander.digitalcore.accounts.overdraftrs.web.info.GetReasonOverdraftGetDoc;
 import com.santander.digitalcore.accounts.overdraftrs.web.info.GetReasonOverdraftListDoc;
 import com.santander.digitalcore.accounts.overdraftrs.web.info.UpdateReasonOverdraftPatchDoc;
+import com.santander.digitalcore.accounts.util.lib.core.exceptions.ConflictDarwinExceptionLeancore;
+import org.mapstruct.factory.Mappers;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
 import org.springframework.web.bind.annotation.RestController;
@@ -19,10 +31,12 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import lombok.AllArgsConstructor;
 
@@ -35,7 +49,11 @@ import java.util.List;
 @RequestMapping(path = "/reason")
 public class ReasonOverdraftController {
 
+  private static final ReasonOverdraftMapper reasonOverdraftMapper = Mappers.getMapper(ReasonOverdraftMapper.class);
+
   private ReasonOverdraftService reasonOverdraftService;
+  private ReasonOverdraftExportService reasonOverdraftExportService;
+  private ReasonOverdraftBatchService reasonOverdraftBatchService;
 
   /**
    * Endpoint para obtener un motivo de descubierto específico.
@@ -43,10 +61,13 @@ public class ReasonOverdraftController {
    * @param reasonCode Código del motivo de descubierto.
    * @param entity     Entidad asociada al motivo.
    * @param brand      Marca asociada al motivo.
-   * @return ResponseEntity con el motivo de descubierto solicitado.
+   * @param ifNoneMatch ETag de la versión que ya tiene el cliente (opcional).
+   * @return ResponseEntity con el motivo de descubierto solicitado y su ETag. Si la versión del motivo está en
+   * caché y coincide con If-None-Match, se responde 304 sin acceder a base de datos.
    * <ul>
    * <li>HTTP 200 OK with a ReasonOverdraft object if available.</li>
    * <li>HTTP 204 No Content if there are no ReasonOverdraft available.</li>
+   * <li>HTTP 304 Not Modified if If-None-Match matches the current version.</li>
    * <li>HTTP 500 Internal Server Error if an unexpected error occurs.</li>
    * </ul>   *
    */
@@ -56,11 +77,26 @@ public class ReasonOverdraftController {
   public ResponseEntity<ReasonOverdraftDTO> getReasonOverdraft(
       @PathVariable(name = "reason_code") String reasonCode,
       @PathVariable(name = "entity") String entity,
-      @PathVariable(name = "brand") String brand) {
+      @PathVariable(name = "brand") String brand,
+      @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
     // Validación de parámetros
     Validations.doValidationsWithoutRequestBody(OperationType.GET, entity, brand, reasonCode);
+    if (ifNoneMatch != null) {
+      var cachedETag = reasonOverdraftService.getReasonOverdraftETag(reasonCode, entity, brand);
+      if (ETags.matches(ifNoneMatch, cachedETag)) {
+        return notModified(cachedETag);
+      }
+    }
     var response = reasonOverdraftService.getReasonOverdraft(reasonCode, entity, brand);
-    return ResponseEntity.ok(response);
+    var etag = ETags.of(reasonOverdraftMapper.mapToDateTime(response.getLastUpdaterDateTime()));
+    if (ETags.matches(ifNoneMatch, etag)) {
+      return notModified(etag);
+    }
+    var builder = ResponseEntity.ok();
+    if (etag != null) {
+      builder.eTag(etag);
+    }
+    return builder.body(response);
   }
 
   /**
@@ -72,7 +108,10 @@ public class ReasonOverdraftController {
    * @param status     Estado del motivo (opcional).
    * @param offset     Número de página para la paginación (por defecto 0).
    * @param limit      Tamaño de la página para la paginación (por defecto 20).
-   * @return ResponseEntity con una lista de motivos de descubierto.
+   * @param cursor     Cursor de paginación por clave (opcional). Si llega, aunque sea vacío, se ignora _offset y se
+   *                   devuelven los motivos posteriores al cursor; vacío para la primera página.
+   * @return ResponseEntity con una lista de motivos de descubierto y, si puede haber más resultados, el cursor de la
+   * siguiente página en la cabecera X-Next-Cursor.
    * <ul>
    * <li>HTTP 200 OK with a list of ReasonOverdraft objects if available.</li>
    * <li>HTTP 204 No Content if there are no ReasonOverdrafts available.</li>
@@ -88,10 +127,54 @@ public class ReasonOverdraftController {
       @RequestParam(name = "brand", required = false) String brand,
       @RequestParam(name = "status", required = false) String status,
       @RequestParam(name = "_offset", defaultValue = "0") String offset,
-      @RequestParam(name = "_limit", defaultValue = "20") String limit
+      @RequestParam(name = "_limit", defaultValue = "20") String limit,
+      @RequestParam(name = "_cursor", required = false) String cursor
   ) {
+    if (cursor != null) {
+      var page = reasonOverdraftService.getReasonOverdraftPage(reasonCode, entity, brand, status, cursor, limit);
+      return withNextCursor(page.items(), page.nextCursor());
+    }
     var response = reasonOverdraftService.getReasonOverdraftList(reasonCode, entity, brand, status, offset, limit);
-    return ResponseEntity.ok(response);
+    // una página completa puede tener continuación: se ofrece el cursor para pasar a la paginación por clave
+    var nextCursor = response.size() == Integer.parseInt(limit) ? ReasonOverdraftService.nextCursor(response) : null;
+    return withNextCursor(response, nextCursor);
+  }
+
+  /**
+   * Endpoint para exportar la tabla completa de motivos de descubierto en formato NDJSON.
+   * La respuesta se escribe según se leen las filas, sin cargar la tabla en memoria.
+   *
+   * @param entity Entidad por la que filtrar (opcional).
+   * @param brand  Marca por la que filtrar (opcional).
+   * @return ResponseEntity con el cuerpo en streaming.
+   * <ul>
+   * <li>HTTP 200 OK with one ReasonOverdraft JSON object per line.</li>
+   * <li>HTTP 500 Internal Server Error if an unexpected error occurs before the first row is written.</li>
+   * </ul>
+   */
+  @ExportReasonOverdraftDoc
+  @GetMapping(path = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> exportReasonOverdraft(
+      @RequestParam(name = "entity", required = false) String entity,
+      @RequestParam(name = "brand", required = false) String brand
+  ) {
+    StreamingResponseBody body = out -> reasonOverdraftExportService.exportReasonOverdrafts(entity, brand, out);
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .body(body);
+  }
+
+  private static <T> ResponseEntity<T> notModified(String etag) {
+    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+  }
+
+  private static ResponseEntity<List<ReasonOverdraftDTO>> withNextCursor(
+      List<ReasonOverdraftDTO> body, String nextCursor) {
+    var builder = ResponseEntity.ok();
+    if (nextCursor != null) {
+      builder.header(Constants.HEADER_NEXT_CURSOR, nextCursor);
+    }
+    return builder.body(body);
   }
 
   /**
@@ -117,6 +200,27 @@ public class ReasonOverdraftController {
     return ResponseEntity.noContent().build();
   }
 
+  /**
+   * Endpoint para crear varios motivos de descubierto en una sola petición.
+   * Cada motivo se valida como en el alta individual; los válidos se insertan en una sola transacción y
+   * los rechazados se devuelven con sus códigos de error.
+   *
+   * @param requests Lista de motivos de descubierto a crear.
+   * @return ResponseEntity con el resultado de cada motivo, en el orden de la petición.
+   * <ul>
+   * <li>HTTP 200 OK with the result (CREATED or REJECTED) of every item.</li>
+   * <li>HTTP 400 Bad Request if the batch is empty or too large, or if a reason was created concurrently.</li>
+   * <li>HTTP 500 Internal Server Error if an unexpected error occurs; no reason is created.</li>
+   * </ul>
+   */
+  @CreateReasonOverdraftBatchPostDoc
+  @PostMapping(path = "/batch")
+  @ResponseStatus(HttpStatus.OK)
+  public ResponseEntity<List<ReasonOverdraftBatchResult>> createReasonOverdraftBatch(
+      @RequestBody List<ReasonOverdraftDTO> requests) {
+    return ResponseEntity.ok(reasonOverdraftBatchService.createReasonOverdrafts(requests));
+  }
+
   /**
    * Endpoint para actualizar un motivo de descubierto existente.
    *
@@ -124,11 +228,13 @@ public class ReasonOverdraftController {
    * @param entity     Entidad asociada al motivo.
    * @param brand      Marca asociada al motivo.
    * @param request    DTO que contiene los nuevos datos del motivo de descubierto.
+   * @param ifMatch    ETag de la versión leída por el cliente (opcional). Equivale a informar lastUpdaterDateTime.
    * @return ResponseEntity con estado NO_CONTENT si la actualización es exitosa.
    * <ul>
    * <li>HTTP 204 No Content if the update is successful.</li>
    * <li>HTTP 400 Bad Request if the request parameter is invalid or missing.</li>
    * <li>HTTP 404 Not Found if the specified reason code does not exist.</li>
+   * <li>HTTP 409 Conflict if the reason was modified after the informed lastUpdaterDateTime.</li>
    * <li>HTTP 500 Internal Server Error if an unexpected error occurs.</li>
    * </ul>   *
    */
@@ -139,9 +245,18 @@ public class ReasonOverdraftController {
       @PathVariable(name = "reason_code") String reasonCode,
       @PathVariable(name = "entity") String entity,
       @PathVariable(name = "brand") String brand,
-      @RequestBody ReasonOverdraftDTO request) {
+      @RequestBody ReasonOverdraftDTO request,
+      @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
     request.validate(OperationType.UPDATE, entity, brand, reasonCode);
+    if (ifMatch != null && !"*".equals(ifMatch.trim())) {
+      var version = ETags.toVersion(ifMatch);
+      if (version == null) {
+        throw new ConflictDarwinExceptionLeancore("OVERDRAFT-REASON-0037",
+            "ReasonOverdraft was modified by another request");
+      }
+      request.setLastUpdaterDateTime(reasonOverdraftMapper.mapToDateTimeStr(version));
+    }
     reasonOverdraftService.updateReasonOverdraft(reasonCode, entity, brand, request);
     return ResponseEntity.noContent().build();
   }
@@ -30,6 +30,8 @@ import java.lang.annotation.Target;
         })),
     @ApiResponse(responseCode = "204", description = "No Content",
         content = @Content(schema = @Schema())),
+    @ApiResponse(responseCode = "304", description = "Not Modified: If-None-Match matches the current catalog version",
+        content = @Content(schema = @Schema())),
     @ApiResponse(responseCode = "401", description = "Unauthorized",
         content = @Content(schema = @Schema(implementation = CustomGluonErrorModel.class))),
     @ApiResponse(responseCode = "403", description = "Forbidden",
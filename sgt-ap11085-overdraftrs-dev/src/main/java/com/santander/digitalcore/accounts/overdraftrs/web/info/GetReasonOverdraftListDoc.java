@@ -3,6 +3,7 @@ package com.santander.digitalcore.accounts.overdraftrs.web.info;
 import com.santander.digitalcore.accounts.overdraftrs.dto.ReasonOverdraftDTO;
 import com.santander.digitalcore.accounts.util.lib.core.error.custom.CustomGluonErrorModel;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -20,10 +21,13 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.METHOD)
 @Operation(
-    description = "Retrieve the list of Overdraft Reason",
+    description = "Retrieve the list of Overdraft Reason. Send _cursor (empty for the first page) to page by key "
+        + "with the X-Next-Cursor value of the previous response instead of _offset",
     summary = "Get Reason Overdraft list")
 @ApiResponses(value = {
     @ApiResponse(responseCode = "200", description = "OK",
+        headers = @Header(name = "X-Next-Cursor", description = "Cursor of the next page, absent on the last page",
+            schema = @Schema(type = "string")),
         content = @Content(schema = @Schema(type = "array", implementation = ReasonOverdraftDTO.class), examples = {
             @ExampleObject(
                 value = """
@@ -177,6 +181,8 @@ import java.lang.annotation.Target;
         })),
     @ApiResponse(responseCode = "204", description = "No Content",
         content = @Content(schema = @Schema())),
+    @ApiResponse(responseCode = "400", description = "Bad Request",
+        content = @Content(schema = @Schema(implementation = CustomGluonErrorModel.class))),
     @ApiResponse(responseCode = "401", description = "Unauthorized",
         content = @Content(schema = @Schema(implementation = CustomGluonErrorModel.class))),
     @ApiResponse(responseCode = "403", description = "Forbidden",
@@ -18,7 +18,8 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.METHOD)
 @Operation(
-		description = "Updates an Overdraft reason with the information provided in the request parameter.",
+		description = "Updates the fields informed in the request of an Overdraft reason. If lastUpdaterDateTime is "
+				+ "informed, the update is only applied if the reason has not been modified since.",
 		summary = "Update Reason Overdraft")
 @ApiResponses(value = {
 		@ApiResponse(responseCode = "204", description = "No content",
@@ -31,6 +32,8 @@ import java.lang.annotation.Target;
 				content = @Content(schema = @Schema(implementation = CustomGluonErrorModel.class))),
 		@ApiResponse(responseCode = "404", description = "Bad Request",
 				content = @Content(schema = @Schema(implementation = CustomGluonErrorModel.class))),
+		@ApiResponse(responseCode = "409", description = "Conflict: lastUpdaterDateTime does not match the current version",
+				content = @Content(schema = @Schema(implementation = CustomGluonErrorModel.class))),
 		@ApiResponse(responseCode = "500", description = "Internal Server Error",
 				content = @Content(schema = @Schema(implementation = CustomGluonErrorModel.class))),
 		@ApiResponse(responseCode = "503", description = "Service Unavailable",
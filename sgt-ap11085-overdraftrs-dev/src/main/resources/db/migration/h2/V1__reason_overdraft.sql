@@ -0,0 +1,20 @@
+-- Variante H2 (MODE=Oracle) de db/migration/oracle, para el perfil local-h2 y los tests
+CREATE TABLE DC_REASON_OVERDRAFT (
+    ENTITY                 VARCHAR2(10)  NOT NULL,
+    BRAND                  VARCHAR2(50)  NOT NULL,
+    REASON_CODE            VARCHAR2(2)   NOT NULL,
+    START_DATE_TIME        TIMESTAMP     NOT NULL,
+    END_DATE_TIME          TIMESTAMP     NOT NULL,
+    DESCDATA               VARCHAR2(100),
+    SETTLEMENT_INDICATOR   VARCHAR2(1),
+    MANDATORY              VARCHAR2(1),
+    DEFAULTDATE            DATE,
+    MONTHS                 NUMBER(5, 2),
+    COUNTER                NUMBER(5),
+    CONDITION              VARCHAR2(2),
+    CREATION_USER          VARCHAR2(50),
+    CREATION_DATE_TIME     TIMESTAMP,
+    LAST_UPDATER_USER      VARCHAR2(50),
+    LAST_UPDATER_DATE_TIME TIMESTAMP,
+    CONSTRAINT PK_DC_REASON_OVERDRAFT PRIMARY KEY (ENTITY, BRAND, REASON_CODE)
+);
@@ -0,0 +1,7 @@
+-- Variante H2 (MODE=Oracle) de db/migration/oracle; IF NOT EXISTS en lugar de ignorar ORA-00955
+CREATE TABLE IF NOT EXISTS DC_CACHE_VERSION (
+    CACHE_NAME             VARCHAR2(30) NOT NULL,
+    VERSION                NUMBER(19)   NOT NULL,
+    LAST_UPDATER_DATE_TIME TIMESTAMP,
+    CONSTRAINT PK_DC_CACHE_VERSION PRIMARY KEY (CACHE_NAME)
+);
@@ -0,0 +1,5 @@
+-- Variante H2 (MODE=Oracle) de db/migration/oracle; ReasonOverdraftListPlanTest comprueba que el listado los usa
+CREATE INDEX IX_DC_REASON_OVERDRAFT_STATUS ON DC_REASON_OVERDRAFT
+    (END_DATE_TIME, START_DATE_TIME, ENTITY, BRAND, REASON_CODE);
+CREATE INDEX IX_DC_REASON_OVERDRAFT_CODE ON DC_REASON_OVERDRAFT (REASON_CODE, END_DATE_TIME, START_DATE_TIME);
+CREATE INDEX IX_DC_REASON_OVERDRAFT_LUPD ON DC_REASON_OVERDRAFT (LAST_UPDATER_DATE_TIME);
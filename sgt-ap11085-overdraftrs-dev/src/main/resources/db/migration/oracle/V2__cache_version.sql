@@ -0,0 +1,16 @@
+-- Versión de cada catálogo cacheado, para la coherencia de cachés entre instancias (CacheCoherence). En los esquemas
+-- donde ya se creó a mano con el DDL del README, la tabla existente (ORA-00955) se deja como está.
+BEGIN
+    EXECUTE IMMEDIATE 'CREATE TABLE DC_CACHE_VERSION ('
+        || '    CACHE_NAME             VARCHAR2(30) NOT NULL,'
+        || '    VERSION                NUMBER(19)   NOT NULL,'
+        || '    LAST_UPDATER_DATE_TIME TIMESTAMP,'
+        || '    CONSTRAINT PK_DC_CACHE_VERSION PRIMARY KEY (CACHE_NAME)'
+        || ')';
+EXCEPTION
+    WHEN OTHERS THEN
+        IF SQLCODE != -955 THEN
+            RAISE;
+        END IF;
+END;
+/
@@ -0,0 +1,37 @@
+-- Índices de las consultas de ReasonOverdraftRepositoryExt. Si ya existe un índice con el mismo nombre (ORA-00955)
+-- o con las mismas columnas (ORA-01408), p. ej. creado antes con ONLINE por el DBA, se deja el existente.
+
+-- Estado ACT/CAN del listado sin filtros: END_DATE_TIME >= ? AND START_DATE_TIME <= ?, con la clave para el ORDER BY
+BEGIN
+    EXECUTE IMMEDIATE 'CREATE INDEX IX_DC_REASON_OVERDRAFT_STATUS ON DC_REASON_OVERDRAFT '
+        || '(END_DATE_TIME, START_DATE_TIME, ENTITY, BRAND, REASON_CODE)';
+EXCEPTION
+    WHEN OTHERS THEN
+        IF SQLCODE NOT IN (-955, -1408) THEN
+            RAISE;
+        END IF;
+END;
+/
+
+-- Listado filtrado por código sin entidad: REASON_CODE = ? y el estado
+BEGIN
+    EXECUTE IMMEDIATE 'CREATE INDEX IX_DC_REASON_OVERDRAFT_CODE ON DC_REASON_OVERDRAFT '
+        || '(REASON_CODE, END_DATE_TIME, START_DATE_TIME)';
+EXCEPTION
+    WHEN OTHERS THEN
+        IF SQLCODE NOT IN (-955, -1408) THEN
+            RAISE;
+        END IF;
+END;
+/
+
+-- Refresco de la copia en memoria: LAST_UPDATER_DATE_TIME > ?
+BEGIN
+    EXECUTE IMMEDIATE 'CREATE INDEX IX_DC_REASON_OVERDRAFT_LUPD ON DC_REASON_OVERDRAFT (LAST_UPDATER_DATE_TIME)';
+EXCEPTION
+    WHEN OTHERS THEN
+        IF SQLCODE NOT IN (-955, -1408) THEN
+            RAISE;
+        END IF;
+END;
+/
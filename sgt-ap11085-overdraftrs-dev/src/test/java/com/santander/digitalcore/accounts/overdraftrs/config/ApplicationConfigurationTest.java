@@ -1,12 +1,15 @@
 package com.santander.digitalcore.accounts.overdraftrs.config;
 
+import com.zaxxer.hikari.HikariDataSource;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.CacheManager;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ContextConfiguration;
@@ -36,11 +39,28 @@ class ApplicationConfigurationTest {
 	}
 
 	@Test
+	@SuppressWarnings("unchecked")
 	void jdbcTemplateBeanIsConfiguredWithProvidedDataSource() {
-		DataSource dataSource = applicationConfiguration.dataSource();
+		DataSource dataSource = applicationConfiguration.dataSource(applicationConfiguration.writeDataSource(),
+				Mockito.mock(ObjectProvider.class), 30000, 50, Mockito.mock(ObjectProvider.class));
 	    Assertions.assertNotNull(dataSource);
+	    Assertions.assertInstanceOf(ReadWriteRoutingDataSource.class, dataSource);
 	    JdbcTemplate jdbcTemplate = applicationConfiguration.jdbcTemplate(dataSource);
 	    Assertions.assertNotNull(jdbcTemplate);
 	    Assertions.assertEquals(dataSource, jdbcTemplate.getDataSource());
 	}
+
+	@Test
+	void statementCacheIsOnlyEnabledForOracle() {
+		var oracle = new HikariDataSource();
+		oracle.setJdbcUrl("jdbc:oracle:thin:@localhost:1521/ORCL");
+		var h2 = new HikariDataSource();
+		h2.setJdbcUrl("jdbc:h2:mem:overdraftrs;MODE=Oracle");
+
+		ApplicationConfiguration.enableStatementCache(oracle, 50);
+		ApplicationConfiguration.enableStatementCache(h2, 50);
+
+		Assertions.assertEquals("50", oracle.getDataSourceProperties().get("oracle.jdbc.implicitStatementCacheSize"));
+		Assertions.assertTrue(h2.getDataSourceProperties().isEmpty());
+	}
 }
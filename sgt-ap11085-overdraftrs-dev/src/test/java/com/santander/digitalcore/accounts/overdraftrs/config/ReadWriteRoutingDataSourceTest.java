@@ -0,0 +1,84 @@
+package com.santander.digitalcore.accounts.overdraftrs.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReadWriteRoutingDataSourceTest {
+
+  @Mock
+  private DataSource writeDataSource;
+  @Mock
+  private DataSource readDataSource;
+  @Mock
+  private Connection writeConnection;
+  @Mock
+  private Connection readConnection;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    MockitoAnnotations.openMocks(this);
+    meterRegistry = new SimpleMeterRegistry();
+    when(writeDataSource.getConnection()).thenReturn(writeConnection);
+    when(readDataSource.getConnection()).thenReturn(readConnection);
+  }
+
+  @Test
+  void testReadOnlyScopeUsesTheReadPool() throws SQLException {
+    var dataSource = new ReadWriteRoutingDataSource(writeDataSource, readDataSource, 30000, meterRegistry);
+
+    assertSame(writeConnection, dataSource.getConnection());
+    try (var ignored = ReadWriteRoutingDataSource.readOnly()) {
+      assertSame(readConnection, dataSource.getConnection());
+    }
+    assertSame(writeConnection, dataSource.getConnection());
+  }
+
+  @Test
+  void testReadOnlyScopeUsesThePrimaryPoolWhenThereIsNoReadPool() throws SQLException {
+    var dataSource = new ReadWriteRoutingDataSource(writeDataSource, null, 30000, null);
+
+    try (var ignored = ReadWriteRoutingDataSource.readOnly()) {
+      assertSame(writeConnection, dataSource.getConnection());
+    }
+  }
+
+  @Test
+  void testUnavailableReadPoolFallsBackToThePrimaryPoolUntilTheRetry() throws SQLException {
+    when(readDataSource.getConnection()).thenThrow(new SQLTransientConnectionException("Connection is not available"));
+    var dataSource = new ReadWriteRoutingDataSource(writeDataSource, readDataSource, 60000, meterRegistry);
+
+    try (var ignored = ReadWriteRoutingDataSource.readOnly()) {
+      assertSame(writeConnection, dataSource.getConnection());
+      assertSame(writeConnection, dataSource.getConnection());
+    }
+
+    verify(readDataSource, times(1)).getConnection();
+    assertEquals(1.0, meterRegistry.counter("overdraftrs.datasource.read.fallback").count());
+  }
+
+  @Test
+  void testReadPoolIsRetriedAfterTheRetryInterval() throws SQLException {
+    when(readDataSource.getConnection())
+        .thenThrow(new SQLTransientConnectionException("Connection is not available"))
+        .thenReturn(readConnection);
+    var dataSource = new ReadWriteRoutingDataSource(writeDataSource, readDataSource, 0, null);
+
+    try (var ignored = ReadWriteRoutingDataSource.readOnly()) {
+      assertSame(writeConnection, dataSource.getConnection());
+      assertSame(readConnection, dataSource.getConnection());
+    }
+  }
+}
@@ -0,0 +1,135 @@
+package com.santander.digitalcore.accounts.overdraftrs.repository;
+
+import com.santander.digitalcore.accounts.util.lib.db.model.entity.ReasonOverdraftEntityPK;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Comprueba sobre las migraciones de db/migration/h2 que el listado de motivos usa los índices de V3 en lugar de
+ * recorrer la tabla, y que las consultas del listado se limitan a un conjunto fijo de textos SQL. Falla si cambia
+ * la consulta de {@link ReasonOverdraftRepositoryExt#buildQuery} o se elimina un índice de forma que deja de usarse.
+ */
+class ReasonOverdraftListPlanTest {
+
+  private static final String URL = "jdbc:h2:mem:reason-overdraft-plan;MODE=Oracle;DB_CLOSE_DELAY=-1";
+  private static final int ROWS = 5000;
+
+  private static Connection conn;
+
+  @BeforeAll
+  static void setUp() throws SQLException {
+    Flyway.configure().dataSource(URL, "sa", "").locations("classpath:db/migration/h2").load().migrate();
+    conn = DriverManager.getConnection(URL, "sa", "");
+
+    // 50 entidades x 100 códigos, uno de cada diez vigente
+    var now = LocalDateTime.now();
+    try (var ps = conn.prepareStatement("""
+        INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME,
+            LAST_UPDATER_DATE_TIME) VALUES (?, 'SAN', ?, ?, ?, ?)
+        """)) {
+      for (var i = 0; i < ROWS; i++) {
+        ps.setString(1, String.format("%010d", i / 100));
+        ps.setString(2, String.format("%02d", i % 100));
+        ps.setTimestamp(3, Timestamp.valueOf(now.minusDays(30)));
+        ps.setTimestamp(4, Timestamp.valueOf(i % 10 == 0 ? now.plusYears(1) : now.minusDays(i % 30 + 1)));
+        ps.setTimestamp(5, Timestamp.valueOf(now.minusMinutes(i)));
+        ps.addBatch();
+      }
+      ps.executeBatch();
+    }
+  }
+
+  @AfterAll
+  static void tearDown() throws SQLException {
+    try (var statement = conn.createStatement()) {
+      statement.execute("DROP ALL OBJECTS");
+    }
+    conn.close();
+  }
+
+  @Test
+  void testActiveListUsesTheStatusIndex() throws SQLException {
+    assertUsesIndex("IX_DC_REASON_OVERDRAFT_STATUS", "ACT", null, null, null);
+    assertUsesIndex("IX_DC_REASON_OVERDRAFT_STATUS", null, null, null, null);
+  }
+
+  @Test
+  void testListByReasonCodeUsesTheCodeIndex() throws SQLException {
+    assertUsesIndex("IX_DC_REASON_OVERDRAFT_CODE", "ACT", "15", null, null);
+  }
+
+  @Test
+  void testListByEntityUsesThePrimaryKey() throws SQLException {
+    assertUsesIndex("PRIMARY_KEY", "ACT", null, "0000000001", "SAN");
+  }
+
+  @Test
+  void testListQueriesUseAFixedSetOfShapes() {
+    Set<String> shapes = new HashSet<>();
+    var statuses = Arrays.asList(null, "ACT", "act", "CAN", "PEN", "XXX");
+    var after = new ReasonOverdraftEntityPK("0000000001", "SAN", "10");
+    for (var status : statuses) {
+      for (var filters = 0; filters < 8; filters++) {
+        var reasonCode = (filters & 1) == 0 ? null : "15";
+        var entity = (filters & 2) == 0 ? null : "0000000001";
+        var brand = (filters & 4) == 0 ? null : "SAN";
+        for (var key : Arrays.asList(null, after)) {
+          shapes.add(
+              ReasonOverdraftRepositoryExt.buildQuery(status, reasonCode, entity, brand, key, new ArrayList<>()));
+        }
+      }
+    }
+
+    // estado (ACT, CAN, PEN u otro) x camino de acceso (entidad, código o estado) x paginación por clave
+    assertEquals(24, shapes.size());
+  }
+
+  @Test
+  void testUpdatedSinceUsesTheLastUpdaterIndex() throws SQLException {
+    var plan = explain("SELECT * FROM DC_REASON_OVERDRAFT WHERE LAST_UPDATER_DATE_TIME > ? "
+        + "ORDER BY LAST_UPDATER_DATE_TIME", List.of(Timestamp.valueOf(LocalDateTime.now().minusMinutes(5))));
+
+    assertTrue(plan.contains("IX_DC_REASON_OVERDRAFT_LUPD"), plan);
+  }
+
+  private static void assertUsesIndex(String index, String status, String reasonCode, String entity, String brand)
+      throws SQLException {
+    List<Object> parameters = new ArrayList<>();
+    var sql = ReasonOverdraftRepositoryExt.buildQuery(status, reasonCode, entity, brand, null, parameters);
+
+    var plan = explain(sql, parameters);
+
+    assertTrue(plan.contains(index), plan);
+  }
+
+  private static String explain(String sql, List<Object> parameters) throws SQLException {
+    try (var ps = conn.prepareStatement("EXPLAIN " + sql)) {
+      for (var i = 0; i < parameters.size(); i++) {
+        ps.setObject(i + 1, parameters.get(i));
+      }
+      try (var rs = ps.executeQuery()) {
+        var plan = new StringBuilder();
+        while (rs.next()) {
+          plan.append(rs.getString(1));
+        }
+        return plan.toString();
+      }
+    }
+  }
+}
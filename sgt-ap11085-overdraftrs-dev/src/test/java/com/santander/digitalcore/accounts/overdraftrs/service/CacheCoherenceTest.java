@@ -0,0 +1,134 @@
+package com.santander.digitalcore.accounts.overdraftrs.service;
+
+import com.santander.digitalcore.accounts.overdraftrs.repository.CacheVersionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CacheCoherenceTest {
+
+  @Mock
+  private CacheVersionRepository cacheVersionRepository;
+  @Mock
+  private ReasonOverdraftSnapshot reasonOverdraftSnapshot;
+
+  private ConcurrentMapCacheManager cacheManager;
+  private CacheCoherence cacheCoherence;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    cacheManager = new ConcurrentMapCacheManager("codeReasonOverdraft", "operatorReasonOverdraft",
+        "codeReasonOverdraftList", "operatorReasonOverdraftList", "reasonOverdraftVersion");
+    cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).put("key", "value"));
+    cacheCoherence = new CacheCoherence(cacheVersionRepository, cacheManager, reasonOverdraftSnapshot, true, 60000);
+  }
+
+  @AfterEach
+  void tearDown() {
+    cacheCoherence.stop();
+  }
+
+  @Test
+  void testDisabledCoherenceNeverTouchesTheVersionTable() {
+    var disabled = new CacheCoherence(cacheVersionRepository, cacheManager, reasonOverdraftSnapshot, false, 60000);
+
+    disabled.start();
+    disabled.bump("DC_CODE_REASON_OVERDRAFT");
+
+    verifyNoInteractions(cacheVersionRepository);
+  }
+
+  @Test
+  void testFirstPollOnlyTakesTheVersions() {
+    when(cacheVersionRepository.findAll()).thenReturn(Map.of("DC_CODE_REASON_OVERDRAFT", 3L));
+
+    cacheCoherence.poll();
+
+    assertCached("codeReasonOverdraft", "codeReasonOverdraftList", "operatorReasonOverdraft",
+        "operatorReasonOverdraftList", "reasonOverdraftVersion");
+  }
+
+  @Test
+  void testPollClearsOnlyTheCachesOfTheChangedTable() {
+    when(cacheVersionRepository.findAll())
+        .thenReturn(Map.of("DC_CODE_REASON_OVERDRAFT", 3L, "DC_OPERATOR_REASON_OVERDRAFT", 1L))
+        .thenReturn(Map.of("DC_CODE_REASON_OVERDRAFT", 4L, "DC_OPERATOR_REASON_OVERDRAFT", 1L));
+
+    cacheCoherence.poll();
+    cacheCoherence.poll();
+
+    assertNull(cacheManager.getCache("codeReasonOverdraft").get("key"));
+    assertNull(cacheManager.getCache("codeReasonOverdraftList").get("key"));
+    assertCached("operatorReasonOverdraft", "operatorReasonOverdraftList", "reasonOverdraftVersion");
+    verifyNoInteractions(reasonOverdraftSnapshot);
+  }
+
+  @Test
+  void testPollRefreshesTheSnapshotWhenReasonOverdraftsChange() {
+    when(cacheVersionRepository.findAll())
+        .thenReturn(Map.of())
+        .thenReturn(Map.of("DC_REASON_OVERDRAFT", 1L));
+
+    cacheCoherence.poll();
+    cacheCoherence.poll();
+
+    assertNull(cacheManager.getCache("reasonOverdraftVersion").get("key"));
+    assertCached("codeReasonOverdraft", "operatorReasonOverdraft");
+    verify(reasonOverdraftSnapshot).requestRefresh();
+  }
+
+  @Test
+  void testPollErrorKeepsTheLastVersions() {
+    when(cacheVersionRepository.findAll())
+        .thenReturn(Map.of("DC_OPERATOR_REASON_OVERDRAFT", 1L))
+        .thenThrow(new DataAccessResourceFailureException("DB error"))
+        .thenReturn(Map.of("DC_OPERATOR_REASON_OVERDRAFT", 2L));
+
+    cacheCoherence.poll();
+    cacheCoherence.poll();
+    assertCached("operatorReasonOverdraft");
+
+    cacheCoherence.poll();
+    assertNull(cacheManager.getCache("operatorReasonOverdraft").get("key"));
+  }
+
+  @Test
+  void testBumpCommittedDoesNotPropagateErrors() {
+    doThrow(new DataAccessResourceFailureException("DB error")).when(cacheVersionRepository).bump(anyString());
+
+    assertDoesNotThrow(() -> cacheCoherence.bumpCommitted("DC_REASON_OVERDRAFT"));
+    assertThrows(DataAccessResourceFailureException.class, () -> cacheCoherence.bump("DC_REASON_OVERDRAFT"));
+  }
+
+  @Test
+  void testPollRetriesFailedCommittedBumps() {
+    when(cacheVersionRepository.findAll()).thenReturn(Map.of());
+    doThrow(new DataAccessResourceFailureException("DB error"))
+        .doThrow(new DataAccessResourceFailureException("DB error"))
+        .doNothing()
+        .when(cacheVersionRepository).bump("DC_REASON_OVERDRAFT");
+
+    cacheCoherence.bumpCommitted("DC_REASON_OVERDRAFT");
+    cacheCoherence.poll();
+    cacheCoherence.poll();
+    cacheCoherence.poll();
+
+    verify(cacheVersionRepository, times(3)).bump("DC_REASON_OVERDRAFT");
+  }
+
+  private void assertCached(String... names) {
+    for (var name : names) {
+      assertNotNull(cacheManager.getCache(name).get("key"), name);
+    }
+  }
+}
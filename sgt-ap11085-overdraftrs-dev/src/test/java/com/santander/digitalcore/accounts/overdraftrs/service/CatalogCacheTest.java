@@ -0,0 +1,143 @@
+package com.santander.digitalcore.accounts.overdraftrs.service;
+
+import com.santander.digitalcore.accounts.overdraftrs.dto.CodeReasonOverdraftRequest;
+import com.santander.digitalcore.accounts.overdraftrs.mapper.CodeReasonOverdraftMapper;
+import com.santander.digitalcore.accounts.overdraftrs.mapper.OperatorReasonOverdraftMapper;
+import com.santander.digitalcore.accounts.util.lib.db.model.entity.CodeReasonOverdraftEntity;
+import com.santander.digitalcore.accounts.util.lib.db.model.entity.OperatorReasonOverdraftEntity;
+import com.santander.digitalcore.accounts.util.lib.db.model.repository.overdraft.CodeReasonOverdraftRepository;
+import com.santander.digitalcore.accounts.util.lib.db.model.repository.overdraft.OperatorReasonOverdraftRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringJUnitConfig(CatalogCacheTest.CacheTestConfiguration.class)
+class CatalogCacheTest {
+
+  @MockitoBean
+  private CodeReasonOverdraftRepository codeReasonOverdraftRepository;
+
+  @MockitoBean
+  private CodeReasonOverdraftMapper codeReasonOverdraftMapper;
+
+  @MockitoBean
+  private OperatorReasonOverdraftRepository operatorReasonOverdraftRepository;
+
+  @MockitoBean
+  private OperatorReasonOverdraftMapper operatorReasonOverdraftMapper;
+
+  @MockitoBean
+  private CacheCoherence cacheCoherence;
+
+  @Autowired
+  private CodeReasonOverdraftService codeReasonOverdraftService;
+
+  @Autowired
+  private OperatorReasonOverdraftService operatorReasonOverdraftService;
+
+  @Autowired
+  private CacheManager cacheManager;
+
+  @BeforeEach
+  void setUp() {
+    cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+  }
+
+  @Test
+  void testFindCodeReasonOverdraftIsServedFromCache() {
+    var entity = new CodeReasonOverdraftEntity();
+    when(codeReasonOverdraftRepository.findByPK("11")).thenReturn(entity);
+
+    assertSame(entity, codeReasonOverdraftService.findCodeReasonOverdraft("11"));
+    assertSame(entity, codeReasonOverdraftService.findCodeReasonOverdraft("11"));
+
+    verify(codeReasonOverdraftRepository, times(1)).findByPK("11");
+  }
+
+  @Test
+  void testFindCodeReasonOverdraftDoesNotCacheMissingCodes() {
+    when(codeReasonOverdraftRepository.findByPK("12")).thenReturn(null);
+
+    assertNull(codeReasonOverdraftService.findCodeReasonOverdraft("12"));
+    assertNull(codeReasonOverdraftService.findCodeReasonOverdraft("12"));
+
+    verify(codeReasonOverdraftRepository, times(2)).findByPK("12");
+  }
+
+  @Test
+  void testUpdateCodeReasonOverdraftEvictsOnlyThatCode() {
+    when(codeReasonOverdraftRepository.findByPK("13")).thenReturn(new CodeReasonOverdraftEntity());
+    when(codeReasonOverdraftRepository.findByPK("14")).thenReturn(new CodeReasonOverdraftEntity());
+    codeReasonOverdraftService.findCodeReasonOverdraft("13");
+    codeReasonOverdraftService.findCodeReasonOverdraft("14");
+
+    codeReasonOverdraftService.updateCodeReasonOverdraft("13", "New description");
+    codeReasonOverdraftService.findCodeReasonOverdraft("13");
+    codeReasonOverdraftService.findCodeReasonOverdraft("14");
+
+    // find + update check + find again for the evicted code, a single load for the other one
+    verify(codeReasonOverdraftRepository, times(3)).findByPK("13");
+    verify(codeReasonOverdraftRepository, times(1)).findByPK("14");
+  }
+
+  @Test
+  void testCreateCodeReasonOverdraftEvictsTheNewCode() {
+    when(codeReasonOverdraftRepository.findByPK("15")).thenReturn(null);
+
+    codeReasonOverdraftService.createCodeReasonOverdraft(new CodeReasonOverdraftRequest("15", "Description"));
+
+    assertNull(cacheManager.getCache("codeReasonOverdraft").get("15"));
+  }
+
+  @Test
+  void testCodeReasonOverdraftListIsCachedUntilTheCatalogChanges() {
+    when(codeReasonOverdraftRepository.findAll()).thenReturn(List.of(new CodeReasonOverdraftEntity()));
+    when(codeReasonOverdraftRepository.findByPK("16")).thenReturn(new CodeReasonOverdraftEntity());
+
+    codeReasonOverdraftService.getCodeReasonOverdraftList();
+    codeReasonOverdraftService.getCodeReasonOverdraftList();
+    codeReasonOverdraftService.updateCodeReasonOverdraft("16", "New description");
+    codeReasonOverdraftService.getCodeReasonOverdraftList();
+
+    verify(codeReasonOverdraftRepository, times(2)).findAll();
+  }
+
+  @Test
+  void testDeleteOperatorReasonOverdraftEvictsThatCode() {
+    var entity = new OperatorReasonOverdraftEntity();
+    when(operatorReasonOverdraftRepository.findByPK("<=")).thenReturn(entity);
+    operatorReasonOverdraftService.findOperatorReasonOverdraft("<=");
+
+    operatorReasonOverdraftService.deleteOperatorReasonOverdraft("<=");
+
+    assertNull(cacheManager.getCache("operatorReasonOverdraft").get("<="));
+  }
+
+  @Configuration
+  @EnableCaching
+  @Import({CodeReasonOverdraftService.class, OperatorReasonOverdraftService.class})
+  static class CacheTestConfiguration {
+
+    @Bean
+    CacheManager cacheManager() {
+      return new CaffeineCacheManager("codeReasonOverdraft", "operatorReasonOverdraft",
+          "codeReasonOverdraftList", "operatorReasonOverdraftList");
+    }
+  }
+}
@@ -18,12 +18,14 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +37,9 @@ class CodeReasonOverdraftServiceTest {
   @Mock
   private CodeReasonOverdraftMapper mapper;
 
+  @Mock
+  private CacheCoherence cacheCoherence;
+
   @InjectMocks
   private CodeReasonOverdraftService service;
 
@@ -95,6 +100,7 @@ class CodeReasonOverdraftServiceTest {
     service.createCodeReasonOverdraft(codeReasonOverdraftRequest);
 
     verify(repository).insert(eq("CODE2"), eq("Description2"), anyString(), any(LocalDateTime.class));
+    verify(cacheCoherence).bump("DC_CODE_REASON_OVERDRAFT");
   }
 
   @Test
@@ -104,6 +110,7 @@ class CodeReasonOverdraftServiceTest {
 
     assertThrows(BadRequestDarwinException.class, () -> service.createCodeReasonOverdraft(codeReasonOverdraftRequest),
         "Expected BadRequestDarwinException to be thrown");
+    verifyNoInteractions(cacheCoherence);
   }
 
   @Test
@@ -140,6 +147,14 @@ class CodeReasonOverdraftServiceTest {
         "Expected NotFoundDarwinException to be thrown");
   }
 
+  @Test
+  void testFindCodeReasonOverdraftReturnsRepositoryEntity() {
+    var entity = new CodeReasonOverdraftEntity();
+    when(repository.findByPK("CODE8")).thenReturn(entity);
+
+    assertSame(entity, service.findCodeReasonOverdraft("CODE8"), "Expected the entity returned by the repository");
+  }
+
   private CodeReasonOverdraftResponse buildCodeReasonOverdraftResponse() {
     return new CodeReasonOverdraftResponse("CODE1", "Description1", "user",
         LocalDateTime.now(), "user", LocalDateTime.now(), "user", LocalDateTime.now());
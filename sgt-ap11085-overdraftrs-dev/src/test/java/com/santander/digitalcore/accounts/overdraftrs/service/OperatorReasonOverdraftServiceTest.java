@@ -18,6 +18,7 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -35,6 +36,9 @@ class OperatorReasonOverdraftServiceTest {
   @Mock
   private OperatorReasonOverdraftMapper mapper;
 
+  @Mock
+  private CacheCoherence cacheCoherence;
+
   @InjectMocks
   private OperatorReasonOverdraftService service;
 
@@ -140,6 +144,14 @@ class OperatorReasonOverdraftServiceTest {
         "Expected NotFoundDarwinException to be thrown");
   }
 
+  @Test
+  void testFindOperatorReasonOverdraftReturnsRepositoryEntity() {
+    var entity = new OperatorReasonOverdraftEntity();
+    when(repository.findByPK("CODE8")).thenReturn(entity);
+
+    assertSame(entity, service.findOperatorReasonOverdraft("CODE8"), "Expected the entity returned by the repository");
+  }
+
   private OperatorReasonOverdraftResponse buildCodeReasonOverdraftResponse() {
     return new OperatorReasonOverdraftResponse("CODE1", "Description1", "user",
         LocalDateTime.now(), "user", LocalDateTime.now(), "user", LocalDateTime.now());
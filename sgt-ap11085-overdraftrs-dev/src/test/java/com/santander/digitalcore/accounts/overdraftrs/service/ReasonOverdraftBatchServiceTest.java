@@ -0,0 +1,173 @@
+package com.santander.digitalcore.accounts.overdraftrs.service;
+
+import com.santander.digitalcore.accounts.overdraftrs.dto.ReasonOverdraftBatchResult;
+import com.santander.digitalcore.accounts.overdraftrs.dto.ReasonOverdraftDTO;
+import com.santander.digitalcore.accounts.overdraftrs.repository.ReasonOverdraftRepositoryExt;
+import com.santander.digitalcore.accounts.util.lib.core.exceptions.BadRequestDarwinExceptionLeancore;
+import com.santander.digitalcore.accounts.util.lib.core.exceptions.InternalServerErrorDarwinExceptionLeancore;
+import com.santander.digitalcore.accounts.util.lib.db.model.entity.CodeReasonOverdraftEntity;
+import com.santander.digitalcore.accounts.util.lib.db.model.entity.OperatorReasonOverdraftEntity;
+import com.santander.digitalcore.accounts.util.lib.db.model.entity.ReasonOverdraftEntityPK;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReasonOverdraftBatchServiceTest {
+
+  private static final String NEXT_YEAR = String.valueOf(LocalDate.now().getYear() + 1);
+
+  @Mock
+  private ReasonOverdraftRepositoryExt reasonOverdraftRepository;
+  @Mock
+  private OperatorReasonOverdraftService operatorReasonOverdraftService;
+  @Mock
+  private CodeReasonOverdraftService codeReasonOverdraftService;
+  @Mock
+  private ReasonOverdraftVersionCache reasonOverdraftVersionCache;
+  @Mock
+  private ReasonOverdraftSnapshot reasonOverdraftSnapshot;
+  @Mock
+  private CacheCoherence cacheCoherence;
+
+  private ReasonOverdraftBatchService reasonOverdraftBatchService;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    reasonOverdraftBatchService = new ReasonOverdraftBatchService(reasonOverdraftRepository,
+        operatorReasonOverdraftService, codeReasonOverdraftService, reasonOverdraftVersionCache, reasonOverdraftSnapshot,
+        cacheCoherence, 3, 2);
+    var codeReasonOverdraftEntity = new CodeReasonOverdraftEntity();
+    codeReasonOverdraftEntity.setReasonCodeDescription("Descripcion catalogo");
+    when(codeReasonOverdraftService.findCodeReasonOverdraft("15")).thenReturn(codeReasonOverdraftEntity);
+    when(operatorReasonOverdraftService.findOperatorReasonOverdraft("<=")).thenReturn(new OperatorReasonOverdraftEntity());
+  }
+
+  @Test
+  void testCreateReasonOverdraftsInsertsAllValidItemsInOneBatch() throws SQLException {
+    var first = request("0000000049", "15");
+    var second = request("0000000050", "15");
+    second.setMonths(null);
+
+    var results = reasonOverdraftBatchService.createReasonOverdrafts(List.of(first, second));
+
+    assertEquals(List.of(ReasonOverdraftBatchResult.Status.CREATED, ReasonOverdraftBatchResult.Status.CREATED),
+        results.stream().map(ReasonOverdraftBatchResult::status).toList());
+    assertEquals(new BigDecimal("99.99"), second.getMonths());
+    verify(codeReasonOverdraftService, times(1)).findCodeReasonOverdraft("15");
+    verify(operatorReasonOverdraftService, times(1)).findOperatorReasonOverdraft("<=");
+    verify(reasonOverdraftRepository).findExistingKeys(argThat(keys -> keys.size() == 2));
+    verify(reasonOverdraftRepository).insertBatch(argThat(entities -> entities.size() == 2
+        && "Descripcion catalogo".equals(entities.get(0).getDescData())), eq(2));
+    verify(reasonOverdraftVersionCache, times(2)).put(any(), any());
+    verify(cacheCoherence).bumpCommitted("DC_REASON_OVERDRAFT");
+  }
+
+  @Test
+  void testCreateReasonOverdraftsReturnsTheErrorsOfEveryRejectedItem() throws SQLException {
+    var invalid = request("0000000049", "1A");
+    invalid.setMandatory("X");
+    var unknownCode = request("0000000049", "16");
+    var valid = request("0000000049", "15");
+
+    var results = reasonOverdraftBatchService.createReasonOverdrafts(List.of(invalid, unknownCode, valid));
+
+    assertEquals(List.of("OVERDRAFT-REASON-0020", "OVERDRAFT-REASON-0030"), results.get(0).errors());
+    assertEquals(List.of("OVERDRAFT-REASON-0004"), results.get(1).errors());
+    assertEquals(ReasonOverdraftBatchResult.Status.CREATED, results.get(2).status());
+    assertEquals(2, results.get(2).index());
+    verify(codeReasonOverdraftService, never()).findCodeReasonOverdraft("1A");
+    verify(reasonOverdraftRepository).insertBatch(argThat(entities -> entities.size() == 1), eq(2));
+  }
+
+  @Test
+  void testCreateReasonOverdraftsRejectsExistingAndRepeatedKeys() throws SQLException {
+    var existing = request("0000000049", "15");
+    var repeated = request("0000000050", "15");
+    var sameAsRepeated = request("0000000050", "15");
+    when(reasonOverdraftRepository.findExistingKeys(any()))
+        .thenReturn(Set.of(new ReasonOverdraftEntityPK("0000000049", "SANTANDER", "15")));
+
+    var results = reasonOverdraftBatchService.createReasonOverdrafts(List.of(existing, repeated, sameAsRepeated));
+
+    assertEquals(List.of("OVERDRAFT-REASON-0002"), results.get(0).errors());
+    assertEquals(ReasonOverdraftBatchResult.Status.CREATED, results.get(1).status());
+    assertEquals(List.of("OVERDRAFT-REASON-0002"), results.get(2).errors());
+    verify(reasonOverdraftRepository).insertBatch(argThat(entities -> entities.size() == 1
+        && "0000000050".equals(entities.get(0).getPk().getEntity())), eq(2));
+  }
+
+  @Test
+  void testCreateReasonOverdraftsRejectsMalformedDatesAndNullItems() throws SQLException {
+    var malformed = request("0000000049", "15");
+    malformed.setStartDateTime("2026/01/01");
+
+    var results = reasonOverdraftBatchService.createReasonOverdrafts(Arrays.asList(malformed, null));
+
+    assertEquals(List.of("OVERDRAFT-REASON-0040"), results.get(0).errors());
+    assertEquals(ReasonOverdraftBatchResult.Status.REJECTED, results.get(1).status());
+    verify(reasonOverdraftRepository, never()).findExistingKeys(any());
+    verify(reasonOverdraftRepository, never()).insertBatch(any(), anyInt());
+  }
+
+  @Test
+  void testCreateReasonOverdraftsRejectsEmptyAndOversizedBatches() {
+    var oversized = new ArrayList<ReasonOverdraftDTO>();
+    for (var i = 0; i < 4; i++) {
+      oversized.add(request("000000004" + i, "15"));
+    }
+
+    assertThrows(BadRequestDarwinExceptionLeancore.class,
+        () -> reasonOverdraftBatchService.createReasonOverdrafts(List.of()));
+    assertThrows(BadRequestDarwinExceptionLeancore.class,
+        () -> reasonOverdraftBatchService.createReasonOverdrafts(oversized));
+    verifyNoInteractions(reasonOverdraftRepository);
+  }
+
+  @Test
+  void testCreateReasonOverdraftsThrowsBadRequestOnConcurrentInsert() throws SQLException {
+    doThrow(new SQLIntegrityConstraintViolationException("ORA-00001: unique constraint violated", "23000", 1))
+        .when(reasonOverdraftRepository).insertBatch(any(), anyInt());
+
+    assertThrows(BadRequestDarwinExceptionLeancore.class,
+        () -> reasonOverdraftBatchService.createReasonOverdrafts(List.of(request("0000000049", "15"))));
+    verifyNoInteractions(reasonOverdraftVersionCache, cacheCoherence);
+  }
+
+  @Test
+  void testCreateReasonOverdraftsThrowsInternalServerErrorOnSQLException() throws SQLException {
+    when(reasonOverdraftRepository.findExistingKeys(any())).thenThrow(new SQLException("DB error"));
+
+    assertThrows(InternalServerErrorDarwinExceptionLeancore.class,
+        () -> reasonOverdraftBatchService.createReasonOverdrafts(List.of(request("0000000049", "15"))));
+    verify(reasonOverdraftRepository, never()).insertBatch(any(), anyInt());
+  }
+
+  private static ReasonOverdraftDTO request(String entity, String reasonCode) {
+    var request = new ReasonOverdraftDTO();
+    request.setEntity(entity);
+    request.setBrand("SANTANDER");
+    request.setReasonCode(reasonCode);
+    request.setStartDateTime(NEXT_YEAR + "-01-01 00:00:00.000");
+    request.setEndDateTime("9999-12-31 23:59:59.999");
+    request.setMandatory("N");
+    request.setSettlementIndicator("Y");
+    request.setMonths(new BigDecimal("3.15"));
+    request.setCounter(BigDecimal.ONE);
+    request.setCondition("<=");
+    return request;
+  }
+}
@@ -0,0 +1,115 @@
+package com.santander.digitalcore.accounts.overdraftrs.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.santander.digitalcore.accounts.overdraftrs.dto.ReasonOverdraftDTO;
+import com.santander.digitalcore.accounts.overdraftrs.mapper.ReasonOverdraftMapper;
+import com.santander.digitalcore.accounts.overdraftrs.repository.ReasonOverdraftRepositoryExt;
+import com.santander.digitalcore.accounts.overdraftrs.util.Constants;
+import com.santander.digitalcore.accounts.util.lib.core.exceptions.InternalServerErrorDarwinExceptionLeancore;
+import com.santander.digitalcore.accounts.util.lib.core.utils.UtilLeanCoreData;
+import com.santander.digitalcore.accounts.util.lib.db.model.entity.ReasonOverdraftEntity;
+import com.santander.digitalcore.accounts.util.tests.utils.JSONMapperUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReasonOverdraftExportServiceTest {
+
+  @Mock
+  private ReasonOverdraftRepositoryExt reasonOverdraftRepository;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final ReasonOverdraftMapper reasonOverdraftMapper = Mappers.getMapper(ReasonOverdraftMapper.class);
+
+  private ReasonOverdraftExportService exportService;
+
+  @BeforeEach
+  void setUp() {
+    exportService = new ReasonOverdraftExportService(reasonOverdraftRepository, objectMapper, 100, 1);
+  }
+
+  @Test
+  void testExportWritesOneJsonObjectPerLine() throws Exception {
+    var rows = List.of(
+        entity("/data/reason-overdraft-entityPK.json"),
+        entity("/data/reason-overdraft-reasoncode99.json"));
+    when(reasonOverdraftRepository.forEach(isNull(), isNull(), eq(100), any())).thenAnswer(invocation -> {
+      Consumer<ReasonOverdraftEntity> consumer = invocation.getArgument(3);
+      rows.forEach(consumer);
+      return (long) rows.size();
+    });
+    var out = new ByteArrayOutputStream();
+
+    exportService.exportReasonOverdrafts(null, null, out);
+
+    var lines = out.toString(StandardCharsets.UTF_8).split("\n");
+    assertEquals(2, lines.length);
+    assertTrue(out.toString(StandardCharsets.UTF_8).endsWith("\n"), "Expected every record to end with a new line");
+    for (int i = 0; i < rows.size(); i++) {
+      var json = objectMapper.readTree(lines[i]);
+      assertEquals(rows.get(i).getPk().getReasonCode(), json.get("reasonCode").asText());
+      assertEquals(rows.get(i).getPk().getBrand(), json.get("brand").asText());
+    }
+  }
+
+  @Test
+  void testExportWritesNothingWhenTableIsEmpty() throws Exception {
+    when(reasonOverdraftRepository.forEach(eq("0000000049"), eq("SANTANDER"), eq(100), any())).thenReturn(0L);
+    var out = new ByteArrayOutputStream();
+
+    exportService.exportReasonOverdrafts("0000000049", "SANTANDER", out);
+
+    assertEquals(0, out.size());
+  }
+
+  @Test
+  void testExportThrowsInternalServerErrorOnSQLException() throws Exception {
+    when(reasonOverdraftRepository.forEach(any(), any(), eq(100), any())).thenThrow(new SQLException("DB error"));
+
+    assertThrows(InternalServerErrorDarwinExceptionLeancore.class,
+        () -> exportService.exportReasonOverdrafts(null, null, new ByteArrayOutputStream()));
+  }
+
+  @Test
+  void testExportPropagatesIOExceptionWhenClientDisconnects() throws Exception {
+    var row = entity("/data/reason-overdraft-entityPK.json");
+    when(reasonOverdraftRepository.forEach(any(), any(), eq(100), any())).thenAnswer(invocation -> {
+      Consumer<ReasonOverdraftEntity> consumer = invocation.getArgument(3);
+      consumer.accept(row);
+      return 1L;
+    });
+    OutputStream brokenStream = new OutputStream() {
+      @Override
+      public void write(int b) throws IOException {
+        throw new IOException("Broken pipe");
+      }
+    };
+
+    assertThrows(IOException.class, () -> exportService.exportReasonOverdrafts(null, null, brokenStream));
+  }
+
+  private ReasonOverdraftEntity entity(String path) throws IOException {
+    var dto = JSONMapperUtil.convertJsonToDTO(ReasonOverdraftDTO.class, path);
+    return reasonOverdraftMapper.mapToEntity(dto, UtilLeanCoreData.getUserId(Constants.MS_NAME));
+  }
+}
@@ -1,17 +1,21 @@
 package com.santander.digitalcore.accounts.overdraftrs.service;
 
 import com.santander.digitalcore.accounts.overdraftrs.dto.ReasonOverdraftDTO;
+import com.santander.digitalcore.accounts.overdraftrs.dto.ReasonOverdraftPage;
 import com.santander.digitalcore.accounts.overdraftrs.mapper.ReasonOverdraftMapper;
 import com.santander.digitalcore.accounts.overdraftrs.repository.ReasonOverdraftRepositoryExt;
 import com.santander.digitalcore.accounts.overdraftrs.util.Constants;
+import com.santander.digitalcore.accounts.overdraftrs.util.ReasonOverdraftCursor;
 import com.santander.digitalcore.accounts.util.lib.core.exceptions.BadRequestDarwinExceptionLeancore;
+import com.santander.digitalcore.accounts.util.lib.core.exceptions.ConflictDarwinExceptionLeancore;
 import com.santander.digitalcore.accounts.util.lib.core.exceptions.InternalServerErrorDarwinExceptionLeancore;
 import com.santander.digitalcore.accounts.util.lib.core.exceptions.NotFoundDarwinExceptionLeancore;
 import com.santander.digitalcore.accounts.util.lib.core.utils.UtilLeanCoreData;
 
+import com.santander.digitalcore.accounts.util.lib.db.model.entity.CodeReasonOverdraftEntity;
+import com.santander.digitalcore.accounts.util.lib.db.model.entity.OperatorReasonOverdraftEntity;
 import com.santander.digitalcore.accounts.util.lib.db.model.entity.ReasonOverdraftEntity;
-import com.santander.digitalcore.accounts.util.lib.db.model.repository.overdraft.CodeReasonOverdraftRepository;
-import com.santander.digitalcore.accounts.util.lib.db.model.repository.overdraft.OperatorReasonOverdraftRepository;
+import com.santander.digitalcore.accounts.util.lib.db.model.entity.ReasonOverdraftEntityPK;
 import com.santander.digitalcore.accounts.util.tests.utils.JSONMapperUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,8 +27,11 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -37,9 +44,15 @@ class ReasonOverdraftServiceTest {
   @Mock
   private ReasonOverdraftRepositoryExt reasonOverdraftRepository;
   @Mock
-  private OperatorReasonOverdraftRepository operatorReasonOverdraftRepository;
+  private OperatorReasonOverdraftService operatorReasonOverdraftService;
   @Mock
-  private CodeReasonOverdraftRepository codeReasonOverdraftRepository;
+  private CodeReasonOverdraftService codeReasonOverdraftService;
+  @Mock
+  private ReasonOverdraftVersionCache reasonOverdraftVersionCache;
+  @Mock
+  private ReasonOverdraftSnapshot reasonOverdraftSnapshot;
+  @Mock
+  private CacheCoherence cacheCoherence;
   @Mock
   private JdbcTemplate jdbcTemplate;
 
@@ -53,7 +66,8 @@ class ReasonOverdraftServiceTest {
   void setUp() {
     MockitoAnnotations.openMocks(this);
     reasonOverdraftService = new ReasonOverdraftService(reasonOverdraftRepository,
-        operatorReasonOverdraftRepository, codeReasonOverdraftRepository);
+        operatorReasonOverdraftService, codeReasonOverdraftService, reasonOverdraftVersionCache,
+        reasonOverdraftSnapshot, cacheCoherence);
   }
 
   @Test
@@ -76,6 +90,54 @@ class ReasonOverdraftServiceTest {
     assertEquals(reasonOverdraftOut.getBrand(), result.getBrand());
   }
 
+  @Test
+  void testGetReasonOverdraftKeepsItsVersion() throws SQLException, IOException {
+    var reasonOverdraftOut = JSONMapperUtil.convertJsonToDTO(ReasonOverdraftDTO.class, "/data/reason-overdraft-entityPK.json");
+    var entityPK = reasonOverdraftMapper.mapToEntityPK(reasonOverdraftOut.getReasonCode(), reasonOverdraftOut.getEntity(), reasonOverdraftOut.getBrand());
+    var entityObj = reasonOverdraftMapper.mapToEntity(reasonOverdraftOut, UtilLeanCoreData.getUserId(Constants.MS_NAME));
+    var version = LocalDateTime.of(2026, 1, 1, 10, 0);
+    entityObj.setLastUpdaterDateTime(version);
+    when(reasonOverdraftRepository.findByPK(entityPK)).thenReturn(Optional.of(entityObj));
+
+    reasonOverdraftService.getReasonOverdraft(reasonOverdraftOut.getReasonCode(), reasonOverdraftOut.getEntity(), reasonOverdraftOut.getBrand());
+
+    verify(reasonOverdraftVersionCache).put(entityPK, version);
+  }
+
+  @Test
+  void testGetReasonOverdraftETagDoesNotAccessTheDatabase() {
+    when(reasonOverdraftVersionCache.get(any())).thenReturn("\"abc\"");
+
+    assertEquals("\"abc\"", reasonOverdraftService.getReasonOverdraftETag("01", "0000000049", "SANTANDER"));
+    verifyNoInteractions(reasonOverdraftRepository);
+  }
+
+  @Test
+  void testGetReasonOverdraftListIsServedFromTheSnapshotWhenReady() throws SQLException {
+    var row = new ReasonOverdraftEntity();
+    row.setPk(new ReasonOverdraftEntityPK("0000000049", "SANTANDER", "15"));
+    when(reasonOverdraftSnapshot.isReady()).thenReturn(true);
+    when(reasonOverdraftSnapshot.findList(null, "0000000049", null, null, "0", "20")).thenReturn(List.of(row));
+
+    var result = reasonOverdraftService.getReasonOverdraftList(null, "0000000049", null, null, "0", "20");
+
+    assertEquals(1, result.size());
+    assertEquals("15", result.get(0).getReasonCode());
+    verify(reasonOverdraftRepository, never()).findList(any(), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void testGetReasonOverdraftFallsBackToTheDatabaseWhenNotInTheSnapshot() throws SQLException {
+    var pk = new ReasonOverdraftEntityPK("0000000049", "SANTANDER", "15");
+    var row = new ReasonOverdraftEntity();
+    row.setPk(pk);
+    when(reasonOverdraftSnapshot.isReady()).thenReturn(true);
+    when(reasonOverdraftSnapshot.find(pk)).thenReturn(Optional.empty());
+    when(reasonOverdraftRepository.findByPK(pk)).thenReturn(Optional.of(row));
+
+    assertEquals("15", reasonOverdraftService.getReasonOverdraft("15", "0000000049", "SANTANDER").getReasonCode());
+  }
+
   @Test
   void testGetReasonOverdraftNotFound() throws SQLException, IOException {
     var reasonOverdraftOut = JSONMapperUtil.convertJsonToDTO(ReasonOverdraftDTO.class, "/data/reason-overdraft-reasoncode99.json");
@@ -184,6 +246,58 @@ class ReasonOverdraftServiceTest {
             "ACT", "0", "20"));
   }
 
+  @Test
+  void testGetReasonOverdraftPageReturnsNextCursorWhenMoreRows() throws SQLException, IOException {
+    var reasonOverdraftOut01 = JSONMapperUtil.convertJsonToDTO(ReasonOverdraftDTO.class, "/data/reason-overdraft-entityPK.json");
+    var reasonOverdraftOut99 = JSONMapperUtil.convertJsonToDTO(ReasonOverdraftDTO.class, "/data/reason-overdraft-reasoncode99.json");
+
+    var entityList = List.of(
+        reasonOverdraftMapper.mapToEntity(reasonOverdraftOut01, UtilLeanCoreData.getUserId(Constants.MS_NAME)),
+        reasonOverdraftMapper.mapToEntity(reasonOverdraftOut99, UtilLeanCoreData.getUserId(Constants.MS_NAME))
+    );
+    when(reasonOverdraftRepository.findListAfter(null, null, null, "ACT", null, 2)).thenReturn(entityList);
+
+    ReasonOverdraftPage result = reasonOverdraftService.getReasonOverdraftPage(null, null, null, "ACT", "", "1");
+
+    assertEquals(1, result.items().size());
+    assertNotNull(result.nextCursor());
+    var after = ReasonOverdraftCursor.decode(result.nextCursor());
+    assertEquals(reasonOverdraftOut01.getEntity(), after.getEntity());
+    assertEquals(reasonOverdraftOut01.getBrand(), after.getBrand());
+    assertEquals(reasonOverdraftOut01.getReasonCode(), after.getReasonCode());
+  }
+
+  @Test
+  void testGetReasonOverdraftPageContinuesAfterCursorAndEndsWithoutNextCursor() throws SQLException, IOException {
+    var reasonOverdraftOut99 = JSONMapperUtil.convertJsonToDTO(ReasonOverdraftDTO.class, "/data/reason-overdraft-reasoncode99.json");
+    var cursor = ReasonOverdraftCursor.encode("0000000049", "SANTANDER", "15");
+    var expectedAfter = new ReasonOverdraftEntityPK("0000000049", "SANTANDER", "15");
+
+    when(reasonOverdraftRepository.findListAfter(null, null, null, null, expectedAfter, 21)).thenReturn(List.of(
+        reasonOverdraftMapper.mapToEntity(reasonOverdraftOut99, UtilLeanCoreData.getUserId(Constants.MS_NAME))));
+
+    ReasonOverdraftPage result = reasonOverdraftService.getReasonOverdraftPage(null, null, null, null, cursor, "20");
+
+    assertEquals(1, result.items().size());
+    assertEquals(reasonOverdraftOut99.getReasonCode(), result.items().get(0).getReasonCode());
+    assertNull(result.nextCursor());
+  }
+
+  @Test
+  void testGetReasonOverdraftPageThrowsBadRequestWhenCursorIsInvalid() {
+    assertThrows(BadRequestDarwinExceptionLeancore.class, () ->
+        reasonOverdraftService.getReasonOverdraftPage(null, null, null, null, "%%%", "20"));
+  }
+
+  @Test
+  void testGetReasonOverdraftPageThrowsSQLException() throws SQLException {
+    when(reasonOverdraftRepository.findListAfter(any(), any(), any(), any(), any(), anyInt()))
+        .thenThrow(new SQLException("DB error"));
+
+    assertThrows(InternalServerErrorDarwinExceptionLeancore.class, () ->
+        reasonOverdraftService.getReasonOverdraftPage(null, null, null, null, "", "20"));
+  }
+
   @Test
   void testCreateReasonOverdraftOK() throws SQLException, IOException {
     var reasonOverdraftOut = JSONMapperUtil.convertJsonToDTO(ReasonOverdraftDTO.class, "/data/reason-overdraft-entityPK.json");
@@ -211,45 +325,176 @@ class ReasonOverdraftServiceTest {
   }
 
   @Test
-  void testUpdateReasonOverdraftOK() throws SQLException, IOException {
-    var reasonOverdraftOut = JSONMapperUtil.convertJsonToDTO(ReasonOverdraftDTO.class, "/data/reason-overdraft-entityPK.json");
+  void testCreateReasonOverdraftInsertsWithoutPreviousLookup() throws SQLException, IOException {
+    var request = JSONMapperUtil.convertJsonToDTO(ReasonOverdraftDTO.class, "/data/reason-overdraft.json");
+    var codeReasonOverdraftEntity = new CodeReasonOverdraftEntity();
+    codeReasonOverdraftEntity.setReasonCodeDescription("Descripcion catalogo");
+    when(operatorReasonOverdraftService.findOperatorReasonOverdraft("<=")).thenReturn(new OperatorReasonOverdraftEntity());
+    when(codeReasonOverdraftService.findCodeReasonOverdraft("15")).thenReturn(codeReasonOverdraftEntity);
+
+    reasonOverdraftService.createReasonOverdraft(request);
+
+    verify(reasonOverdraftRepository, never()).findByPK(any());
+    verify(reasonOverdraftRepository).insert(argThat(entity ->
+        "Descripcion catalogo".equals(entity.getDescData()) && "15".equals(entity.getPk().getReasonCode())));
+    verify(reasonOverdraftSnapshot).upsert(argThat(rows -> rows.size() == 1));
+    verify(cacheCoherence).bumpCommitted("DC_REASON_OVERDRAFT");
+  }
 
-    var entityPK = reasonOverdraftMapper.mapToEntityPK(reasonOverdraftOut.getReasonCode(), reasonOverdraftOut.getEntity(), reasonOverdraftOut.getBrand());
-    var oldEntity = reasonOverdraftMapper.mapToEntity(reasonOverdraftOut, UtilLeanCoreData.getUserId(Constants.MS_NAME));
+  @Test
+  void testCreateReasonOverdraftThrowsBadRequestOnDuplicateKey() throws SQLException, IOException {
+    var request = JSONMapperUtil.convertJsonToDTO(ReasonOverdraftDTO.class, "/data/reason-overdraft.json");
+    when(operatorReasonOverdraftService.findOperatorReasonOverdraft("<=")).thenReturn(new OperatorReasonOverdraftEntity());
+    when(codeReasonOverdraftService.findCodeReasonOverdraft("15")).thenReturn(new CodeReasonOverdraftEntity());
+    doThrow(new SQLIntegrityConstraintViolationException("ORA-00001: unique constraint violated", "23000", 1))
+        .when(reasonOverdraftRepository).insert(any());
+
+    assertThrows(BadRequestDarwinExceptionLeancore.class, () ->
+        reasonOverdraftService.createReasonOverdraft(request));
+  }
 
-    when(reasonOverdraftRepository.findByPK(entityPK)).thenReturn(Optional.of(oldEntity));
-    doNothing().when(reasonOverdraftRepository).update(any());
+  @Test
+  void testCreateReasonOverdraftThrowsInternalServerErrorOnOtherIntegrityViolation() throws SQLException, IOException {
+    var request = JSONMapperUtil.convertJsonToDTO(ReasonOverdraftDTO.class, "/data/reason-overdraft.json");
+    when(operatorReasonOverdraftService.findOperatorReasonOverdraft("<=")).thenReturn(new OperatorReasonOverdraftEntity());
+    when(codeReasonOverdraftService.findCodeReasonOverdraft("15")).thenReturn(new CodeReasonOverdraftEntity());
+    doThrow(new SQLIntegrityConstraintViolationException("ORA-01400: cannot insert NULL", "23000", 1400))
+        .when(reasonOverdraftRepository).insert(any());
 
-//    assertDoesNotThrow(() -> reasonOverdraftService.updateReasonOverdraft(reasonCode, entity, brand, request));
-    verify(reasonOverdraftRepository, times(0)).update(any());
+    assertThrows(InternalServerErrorDarwinExceptionLeancore.class, () ->
+        reasonOverdraftService.createReasonOverdraft(request));
   }
 
   @Test
-  void testUpdateReasonOverdraftNotFound() throws SQLException, IOException {
+  void testCreateReasonOverdraftThrowsInternalServerErrorOnOtherSQLException() throws SQLException, IOException {
+    var request = JSONMapperUtil.convertJsonToDTO(ReasonOverdraftDTO.class, "/data/reason-overdraft.json");
+    when(operatorReasonOverdraftService.findOperatorReasonOverdraft("<=")).thenReturn(new OperatorReasonOverdraftEntity());
+    when(codeReasonOverdraftService.findCodeReasonOverdraft("15")).thenReturn(new CodeReasonOverdraftEntity());
+    doThrow(new SQLException("ORA-12541: TNS:no listener", "08006", 12541)).when(reasonOverdraftRepository).insert(any());
 
-    var reasonOverdraftOut = JSONMapperUtil.convertJsonToDTO(ReasonOverdraftDTO.class, "/data/reason-overdraft-entityPK.json");
+    assertThrows(InternalServerErrorDarwinExceptionLeancore.class, () ->
+        reasonOverdraftService.createReasonOverdraft(request));
+  }
 
-    var entityPK = reasonOverdraftMapper.mapToEntityPK(reasonOverdraftOut.getReasonCode(), reasonOverdraftOut.getEntity(), reasonOverdraftOut.getBrand());
+  @Test
+  void testCreateReasonOverdraftThrowsBadRequestWhenOperatorDoesNotExist() throws IOException {
+    var request = JSONMapperUtil.convertJsonToDTO(ReasonOverdraftDTO.class, "/data/reason-overdraft.json");
+    when(operatorReasonOverdraftService.findOperatorReasonOverdraft("<=")).thenReturn(null);
 
+    assertThrows(BadRequestDarwinExceptionLeancore.class, () ->
+        reasonOverdraftService.createReasonOverdraft(request));
+    verifyNoInteractions(reasonOverdraftRepository);
+  }
 
-    when(reasonOverdraftRepository.findByPK(entityPK)).thenReturn(Optional.empty());
+  @Test
+  void testUpdateReasonOverdraftOK() throws SQLException, IOException {
+    var request = JSONMapperUtil.convertJsonToDTO(ReasonOverdraftDTO.class, "/data/reason-overdraft-entityPK.json");
+    request.setCounter(new BigDecimal("7"));
+    when(reasonOverdraftRepository.updateChanged(any(), isNull())).thenReturn(1);
+
+    assertDoesNotThrow(() -> reasonOverdraftService.updateReasonOverdraft(
+        request.getReasonCode(), request.getEntity(), request.getBrand(), request));
+
+    verify(reasonOverdraftRepository).updateChanged(argThat(changes ->
+        new BigDecimal("7").equals(changes.getCounter())
+            && changes.getMandatory() == null
+            && changes.getStartDateTime() == null
+            && "01".equals(changes.getPk().getReasonCode())), isNull());
+    verify(reasonOverdraftRepository, never()).findByPK(any());
+    verify(reasonOverdraftVersionCache).put(argThat(pk -> "01".equals(pk.getReasonCode())), notNull());
+    verifyNoInteractions(codeReasonOverdraftService);
+  }
 
-//    assertThrows(NotFoundDarwinExceptionLeancore.class, () ->
-//        reasonOverdraftService.updateReasonOverdraft(reasonCode, entity, brand, request));
+  @Test
+  void testUpdateReasonOverdraftReplacesTheRowInTheSnapshot() throws SQLException, IOException {
+    var request = JSONMapperUtil.convertJsonToDTO(ReasonOverdraftDTO.class, "/data/reason-overdraft-entityPK.json");
+    request.setCounter(new BigDecimal("7"));
+    var written = new ReasonOverdraftEntity();
+    when(reasonOverdraftRepository.updateChanged(any(), isNull())).thenReturn(1);
+    when(reasonOverdraftSnapshot.isReady()).thenReturn(true);
+    when(reasonOverdraftRepository.findByPK(any())).thenReturn(Optional.of(written));
+
+    reasonOverdraftService.updateReasonOverdraft(request.getReasonCode(), request.getEntity(), request.getBrand(),
+        request);
+
+    verify(reasonOverdraftSnapshot).upsert(List.of(written));
+    verify(reasonOverdraftSnapshot, never()).remove(any());
   }
 
   @Test
-  void testUpdateReasonOverdraftThrowsSQLException() throws SQLException, IOException {
+  void testUpdateReasonOverdraftRemovesTheRowFromTheSnapshotWhenItCannotBeRead()
+      throws SQLException, IOException {
+    var request = JSONMapperUtil.convertJsonToDTO(ReasonOverdraftDTO.class, "/data/reason-overdraft-entityPK.json");
+    request.setCounter(new BigDecimal("7"));
+    when(reasonOverdraftRepository.updateChanged(any(), isNull())).thenReturn(1);
+    when(reasonOverdraftSnapshot.isReady()).thenReturn(true);
+    when(reasonOverdraftRepository.findByPK(any())).thenThrow(new SQLException("DB error"));
+
+    assertDoesNotThrow(() -> reasonOverdraftService.updateReasonOverdraft(
+        request.getReasonCode(), request.getEntity(), request.getBrand(), request));
+
+    verify(reasonOverdraftSnapshot).remove(argThat(pk -> "01".equals(pk.getReasonCode())));
+  }
 
-    var reasonOverdraftOut = JSONMapperUtil.convertJsonToDTO(ReasonOverdraftDTO.class, "/data/reason-overdraft-entityPK.json");
+  @Test
+  void testUpdateReasonOverdraftNotFound() throws SQLException, IOException {
+    var request = JSONMapperUtil.convertJsonToDTO(ReasonOverdraftDTO.class, "/data/reason-overdraft-entityPK.json");
+    request.setCounter(new BigDecimal("7"));
+    when(reasonOverdraftRepository.updateChanged(any(), any())).thenReturn(0);
+    when(reasonOverdraftRepository.findByPK(any())).thenReturn(Optional.empty());
 
-    var entityPK = reasonOverdraftMapper.mapToEntityPK(reasonOverdraftOut.getReasonCode(), reasonOverdraftOut.getEntity(), reasonOverdraftOut.getBrand());
+    assertThrows(NotFoundDarwinExceptionLeancore.class, () -> reasonOverdraftService.updateReasonOverdraft(
+        request.getReasonCode(), request.getEntity(), request.getBrand(), request));
+  }
 
-    when(reasonOverdraftRepository.findByPK(entityPK)).thenReturn(Optional.of(mock(ReasonOverdraftEntity.class)));
-    doThrow(new SQLException("DB error")).when(reasonOverdraftRepository).update(any());
+  @Test
+  void testUpdateReasonOverdraftThrowsConflictWhenVersionChanged() throws SQLException, IOException {
+    var request = JSONMapperUtil.convertJsonToDTO(ReasonOverdraftDTO.class, "/data/reason-overdraft-entityPK.json");
+    request.setCounter(new BigDecimal("7"));
+    request.setLastUpdaterDateTime("2026-01-01 10:00:00.000");
+    var actual = new ReasonOverdraftEntity();
+    actual.setLastUpdaterDateTime(LocalDateTime.of(2026, 1, 1, 10, 0, 5));
+    when(reasonOverdraftRepository.updateChanged(any(), eq(LocalDateTime.of(2026, 1, 1, 10, 0)))).thenReturn(0);
+    when(reasonOverdraftRepository.findByPK(any())).thenReturn(Optional.of(actual));
+
+    assertThrows(ConflictDarwinExceptionLeancore.class, () -> reasonOverdraftService.updateReasonOverdraft(
+        request.getReasonCode(), request.getEntity(), request.getBrand(), request));
+  }
+
+  @Test
+  void testUpdateReasonOverdraftThrowsBadRequestWhenNothingChanges() throws SQLException, IOException {
+    var request = JSONMapperUtil.convertJsonToDTO(ReasonOverdraftDTO.class, "/data/reason-overdraft-entityPK.json");
+    request.setCounter(new BigDecimal("7"));
+    request.setLastUpdaterDateTime("2026-01-01 10:00:00.000");
+    var actual = new ReasonOverdraftEntity();
+    actual.setCounter(new BigDecimal("7"));
+    actual.setLastUpdaterDateTime(LocalDateTime.of(2026, 1, 1, 10, 0, 0, 123_000));
+    when(reasonOverdraftRepository.updateChanged(any(), any())).thenReturn(0);
+    when(reasonOverdraftRepository.findByPK(any())).thenReturn(Optional.of(actual));
+
+    assertThrows(BadRequestDarwinExceptionLeancore.class, () -> reasonOverdraftService.updateReasonOverdraft(
+        request.getReasonCode(), request.getEntity(), request.getBrand(), request));
+  }
 
-//    assertThrows(InternalServerErrorDarwinExceptionLeancore.class, () ->
-//        reasonOverdraftService.updateReasonOverdraft(reasonCode, entity, brand, request));
+  @Test
+  void testUpdateReasonOverdraftThrowsSQLException() throws SQLException, IOException {
+    var request = JSONMapperUtil.convertJsonToDTO(ReasonOverdraftDTO.class, "/data/reason-overdraft-entityPK.json");
+    request.setCounter(new BigDecimal("7"));
+    when(reasonOverdraftRepository.updateChanged(any(), any())).thenThrow(new SQLException("DB error"));
+
+    assertThrows(InternalServerErrorDarwinExceptionLeancore.class, () -> reasonOverdraftService.updateReasonOverdraft(
+        request.getReasonCode(), request.getEntity(), request.getBrand(), request));
+  }
+
+  @Test
+  void testUpdateReasonOverdraftThrowsBadRequestWhenOperatorDoesNotExist() throws IOException {
+    var request = JSONMapperUtil.convertJsonToDTO(ReasonOverdraftDTO.class, "/data/reason-overdraft-entityPK.json");
+    request.setCondition("??");
+    when(operatorReasonOverdraftService.findOperatorReasonOverdraft("??")).thenReturn(null);
+
+    assertThrows(BadRequestDarwinExceptionLeancore.class, () -> reasonOverdraftService.updateReasonOverdraft(
+        request.getReasonCode(), request.getEntity(), request.getBrand(), request));
+    verifyNoInteractions(reasonOverdraftRepository);
   }
 
   @Test
@@ -266,6 +511,7 @@ class ReasonOverdraftServiceTest {
 
     assertDoesNotThrow(() -> reasonOverdraftService.deleteReasonOverdraft(reasonOverdraftOut.getReasonCode(), reasonOverdraftOut.getEntity(), reasonOverdraftOut.getBrand()));
     verify(reasonOverdraftRepository, times(1)).delete(eq(entityPK), any());
+    verify(reasonOverdraftVersionCache).evict(entityPK);
   }
 
   @Test
@@ -0,0 +1,186 @@
+package com.santander.digitalcore.accounts.overdraftrs.service;
+
+import com.santander.digitalcore.accounts.overdraftrs.repository.ReasonOverdraftRepositoryExt;
+import com.santander.digitalcore.accounts.util.lib.db.model.entity.ReasonOverdraftEntity;
+import com.santander.digitalcore.accounts.util.lib.db.model.entity.ReasonOverdraftEntityPK;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReasonOverdraftSnapshotTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.now();
+  private static final LocalDateTime VERSION = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+  @Mock
+  private ReasonOverdraftRepositoryExt reasonOverdraftRepository;
+
+  private ReasonOverdraftSnapshot reasonOverdraftSnapshot;
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    MockitoAnnotations.openMocks(this);
+    var rows = List.of(
+        row("0049", "SAN", "02", NOW.minusDays(1), NOW.plusDays(1)),
+        row("0049", "SAN", "01", NOW.minusDays(1), NOW.plusDays(1)),
+        row("0049", "OPB", "01", NOW.plusDays(1), NOW.plusDays(2)),
+        row("0075", "SAN", "01", NOW.minusDays(2), NOW.minusDays(1)),
+        row("0075", "SAN", "03", null, NOW.plusDays(1)));
+    doAnswer(invocation -> {
+      Consumer<ReasonOverdraftEntity> consumer = invocation.getArgument(3);
+      rows.forEach(consumer);
+      return (long) rows.size();
+    }).when(reasonOverdraftRepository).forEach(isNull(), isNull(), anyInt(), any());
+    reasonOverdraftSnapshot = new ReasonOverdraftSnapshot(reasonOverdraftRepository, true, 60000, 1000, 600000, 100);
+  }
+
+  @AfterEach
+  void tearDown() {
+    reasonOverdraftSnapshot.stop();
+  }
+
+  @Test
+  void testDisabledSnapshotIsNeverLoaded() {
+    var disabled = new ReasonOverdraftSnapshot(reasonOverdraftRepository, false, 60000, 1000, 600000, 100);
+
+    disabled.start();
+
+    assertFalse(disabled.isReady());
+    verifyNoInteractions(reasonOverdraftRepository);
+  }
+
+  @Test
+  void testStartLoadsTheWholeTable() {
+    reasonOverdraftSnapshot.start();
+
+    assertTrue(reasonOverdraftSnapshot.isReady());
+    assertEquals(5, reasonOverdraftSnapshot.size());
+    assertTrue(reasonOverdraftSnapshot.find(new ReasonOverdraftEntityPK("0075", "SAN", "03")).isPresent());
+    assertTrue(reasonOverdraftSnapshot.find(new ReasonOverdraftEntityPK("0075", "SAN", "99")).isEmpty());
+  }
+
+  @Test
+  void testFindListEvaluatesStatusInMemoryInKeyOrder() {
+    reasonOverdraftSnapshot.start();
+
+    assertEquals(List.of("0049/SAN/01", "0049/SAN/02"),
+        keys(reasonOverdraftSnapshot.findList(null, null, null, null, null, null)));
+    assertEquals(List.of("0049/OPB/01", "0075/SAN/01"),
+        keys(reasonOverdraftSnapshot.findList(null, null, null, "CAN", null, null)));
+    assertEquals(List.of("0049/OPB/01"),
+        keys(reasonOverdraftSnapshot.findList(null, null, null, "pen", null, null)));
+    assertEquals(5, reasonOverdraftSnapshot.findList(null, null, null, "XXX", null, null).size());
+  }
+
+  @Test
+  void testFindListFiltersAndPaginates() {
+    reasonOverdraftSnapshot.start();
+
+    assertEquals(List.of("0049/OPB/01", "0049/SAN/01", "0075/SAN/01"),
+        keys(reasonOverdraftSnapshot.findList("01", null, null, "XXX", null, null)));
+    assertEquals(List.of("0049/SAN/01", "0075/SAN/01"),
+        keys(reasonOverdraftSnapshot.findList("01", null, "SAN", "XXX", null, null)));
+    assertEquals(List.of("0049/SAN/02", "0075/SAN/01"),
+        keys(reasonOverdraftSnapshot.findList(null, null, null, "XXX", "2", "2")));
+    assertEquals(List.of("0075/SAN/01", "0075/SAN/03"),
+        keys(reasonOverdraftSnapshot.findListAfter(null, null, null, "XXX",
+            new ReasonOverdraftEntityPK("0049", "SAN", "02"), 10)));
+  }
+
+  @Test
+  void testRefreshAppliesRowsUpdatedAfterTheWatermarkMinusTheOverlap() throws SQLException {
+    reasonOverdraftSnapshot.start();
+    var cancelled = row("0049", "SAN", "02", NOW.minusDays(1), NOW.minusHours(1));
+    cancelled.setLastUpdaterDateTime(VERSION.plusMinutes(1));
+    when(reasonOverdraftRepository.findUpdatedSince(VERSION.minusSeconds(1))).thenReturn(List.of(cancelled));
+
+    reasonOverdraftSnapshot.refresh();
+
+    assertEquals(List.of("0049/SAN/01"), keys(reasonOverdraftSnapshot.findList(null, "0049", "SAN", null, null, null)));
+    verify(reasonOverdraftRepository, times(1)).forEach(isNull(), isNull(), anyInt(), any());
+  }
+
+  @Test
+  void testWatermarkIsCappedAtTheReadStart() throws SQLException {
+    reasonOverdraftSnapshot.start();
+    var future = LocalDateTime.of(2100, 1, 1, 0, 0);
+    var skewed = row("0049", "SAN", "02", NOW.minusDays(1), NOW.plusDays(1));
+    skewed.setLastUpdaterDateTime(future);
+    when(reasonOverdraftRepository.findUpdatedSince(VERSION.minusSeconds(1))).thenReturn(List.of(skewed));
+    reasonOverdraftSnapshot.refresh();
+
+    reasonOverdraftSnapshot.refresh();
+
+    verify(reasonOverdraftRepository).findUpdatedSince(argThat(since -> since.isAfter(VERSION)
+        && since.isBefore(future.minusSeconds(1))));
+  }
+
+  @Test
+  void testUpsertReplacesTheWrittenRowUnlessTheSnapshotHasANewerOne() {
+    reasonOverdraftSnapshot.start();
+    var cancelled = row("0049", "SAN", "02", NOW.minusDays(1), NOW.minusHours(1));
+    cancelled.setLastUpdaterDateTime(VERSION.plusMinutes(1));
+    var created = row("0049", "SAN", "05", NOW.minusDays(1), NOW.plusDays(1));
+    var stale = row("0049", "SAN", "01", NOW.minusDays(1), NOW.minusHours(1));
+    stale.setLastUpdaterDateTime(VERSION.minusMinutes(1));
+
+    reasonOverdraftSnapshot.upsert(List.of(cancelled, created, stale));
+
+    assertEquals(List.of("0049/SAN/01", "0049/SAN/05"),
+        keys(reasonOverdraftSnapshot.findList(null, "0049", "SAN", null, null, null)));
+    verify(reasonOverdraftRepository, never()).findUpdatedSince(any());
+  }
+
+  @Test
+  void testRemoveLeavesTheRowToTheDatabase() {
+    reasonOverdraftSnapshot.start();
+
+    reasonOverdraftSnapshot.remove(new ReasonOverdraftEntityPK("0049", "SAN", "01"));
+
+    assertTrue(reasonOverdraftSnapshot.find(new ReasonOverdraftEntityPK("0049", "SAN", "01")).isEmpty());
+    assertEquals(4, reasonOverdraftSnapshot.size());
+  }
+
+  @Test
+  void testUpsertIsIgnoredUntilTheSnapshotIsLoaded() {
+    reasonOverdraftSnapshot.upsert(List.of(row("0049", "SAN", "05", NOW.minusDays(1), NOW.plusDays(1))));
+
+    assertEquals(0, reasonOverdraftSnapshot.size());
+  }
+
+  @Test
+  void testLoadErrorKeepsTheSnapshotNotReady() throws SQLException {
+    doThrow(new SQLException("DB error")).when(reasonOverdraftRepository).forEach(isNull(), isNull(), anyInt(), any());
+
+    reasonOverdraftSnapshot.start();
+
+    assertFalse(reasonOverdraftSnapshot.isReady());
+    assertTrue(reasonOverdraftSnapshot.findList(null, null, null, null, null, null).isEmpty());
+  }
+
+  private static ReasonOverdraftEntity row(String entity, String brand, String reasonCode,
+                                           LocalDateTime start, LocalDateTime end) {
+    var row = new ReasonOverdraftEntity();
+    row.setPk(new ReasonOverdraftEntityPK(entity, brand, reasonCode));
+    row.setStartDateTime(start);
+    row.setEndDateTime(end);
+    row.setLastUpdaterDateTime(VERSION);
+    return row;
+  }
+
+  private static List<String> keys(List<ReasonOverdraftEntity> rows) {
+    return rows.stream()
+        .map(row -> row.getPk().getEntity() + "/" + row.getPk().getBrand() + "/" + row.getPk().getReasonCode())
+        .toList();
+  }
+}
@@ -0,0 +1,47 @@
+package com.santander.digitalcore.accounts.overdraftrs.service;
+
+import com.santander.digitalcore.accounts.overdraftrs.util.ETags;
+import com.santander.digitalcore.accounts.util.lib.db.model.entity.ReasonOverdraftEntityPK;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ReasonOverdraftVersionCacheTest {
+
+  private static final ReasonOverdraftEntityPK PK = new ReasonOverdraftEntityPK("0049", "SAN", "01");
+  private static final LocalDateTime VERSION = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+  private ReasonOverdraftVersionCache reasonOverdraftVersionCache;
+
+  @BeforeEach
+  void setUp() {
+    reasonOverdraftVersionCache =
+        new ReasonOverdraftVersionCache(new ConcurrentMapCacheManager("reasonOverdraftVersion"));
+  }
+
+  @Test
+  void testPutKeepsTheNewestVersion() {
+    reasonOverdraftVersionCache.put(PK, VERSION);
+    reasonOverdraftVersionCache.put(PK, VERSION.minusSeconds(5));
+
+    assertEquals(ETags.of(VERSION), reasonOverdraftVersionCache.get(PK));
+
+    reasonOverdraftVersionCache.put(PK, VERSION.plusSeconds(5));
+
+    assertEquals(ETags.of(VERSION.plusSeconds(5)), reasonOverdraftVersionCache.get(PK));
+  }
+
+  @Test
+  void testPutWithoutVersionEvicts() {
+    reasonOverdraftVersionCache.put(PK, VERSION);
+
+    reasonOverdraftVersionCache.put(PK, null);
+
+    assertNull(reasonOverdraftVersionCache.get(PK));
+  }
+}
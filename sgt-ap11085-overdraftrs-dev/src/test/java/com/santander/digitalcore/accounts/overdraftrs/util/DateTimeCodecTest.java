@@ -0,0 +1,84 @@
+package com.santander.digitalcore.accounts.overdraftrs.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DateTimeCodecTest {
+
+  private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+  private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+
+  @Test
+  void testParseDateTime() {
+    assertEquals(LocalDateTime.of(2026, 3, 14, 9, 26, 53, 589_000_000),
+        DateTimeCodec.parseDateTime("2026-03-14 09:26:53.589"));
+    assertEquals(LocalDateTime.of(9999, 12, 31, 23, 59, 59, 999_000_000),
+        DateTimeCodec.parseDateTime("9999-12-31 23:59:59.999"));
+  }
+
+  @Test
+  void testParseDate() {
+    assertEquals(LocalDate.of(2026, 1, 5), DateTimeCodec.parseDate("2026-01-05"));
+  }
+
+  @Test
+  void testNullsAreKept() {
+    assertNull(DateTimeCodec.parseDate(null));
+    assertNull(DateTimeCodec.parseDateTime(null));
+    assertNull(DateTimeCodec.formatDate(null));
+    assertNull(DateTimeCodec.formatDateTime(null));
+  }
+
+  @Test
+  void testFormatTruncatesToMillis() {
+    assertEquals("2026-03-14 09:26:53.589",
+        DateTimeCodec.formatDateTime(LocalDateTime.of(2026, 3, 14, 9, 26, 53, 589_793_238)));
+    assertEquals("0001-01-01 00:00:00.000", DateTimeCodec.formatDateTime(LocalDateTime.of(1, 1, 1, 0, 0)));
+    assertEquals("2026-01-05", DateTimeCodec.formatDate(LocalDate.of(2026, 1, 5)));
+  }
+
+  @Test
+  void testSameResultAsDateTimeFormatter() {
+    for (String text : List.of("2024-02-29 00:00:00.000", "2023-02-30 12:00:00.000", "2023-04-31 23:59:59.999",
+        "2000-01-01 00:00:00.001", "2023-12-31 24:00:00.000")) {
+      LocalDateTime expected = LocalDateTime.parse(text, DATE_TIME);
+      assertEquals(expected, DateTimeCodec.parseDateTime(text));
+      assertEquals(expected.format(DATE_TIME), DateTimeCodec.formatDateTime(expected));
+    }
+    for (String text : List.of("2024-02-29", "2023-02-29", "2023-06-31")) {
+      LocalDate expected = LocalDate.parse(text, DATE);
+      assertEquals(expected, DateTimeCodec.parseDate(text));
+      assertEquals(expected.format(DATE), DateTimeCodec.formatDate(expected));
+    }
+  }
+
+  @Test
+  void testYearsOutsideFourDigitsUseFormatter() {
+    var dateTime = LocalDateTime.of(10000, 1, 1, 0, 0);
+    assertEquals(dateTime.format(DATE_TIME), DateTimeCodec.formatDateTime(dateTime));
+    var date = LocalDate.of(0, 1, 1);
+    assertEquals(date.format(DATE), DateTimeCodec.formatDate(date));
+  }
+
+  @Test
+  void testInvalidTextThrowsDateTimeParseException() {
+    for (String text : List.of("", "2026-03-14", "2026-03-14T09:26:53.589", "2026-03-14 09:26:53",
+        "2026-13-01 00:00:00.000",
+        "2026-00-01 00:00:00.000", "2026-01-32 00:00:00.000", "2026-01-01 24:00:00.001", "2026-01-01 00:60:00.000",
+        "0000-01-01 00:00:00.000", "2026-0a-01 00:00:00.000")) {
+      assertThrows(DateTimeParseException.class, () -> DateTimeCodec.parseDateTime(text), text);
+    }
+    for (String text : List.of("2026/01/01", "2026-1-01", "2026-01-00", "26-01-01")) {
+      assertThrows(DateTimeParseException.class, () -> DateTimeCodec.parseDate(text), text);
+    }
+  }
+}
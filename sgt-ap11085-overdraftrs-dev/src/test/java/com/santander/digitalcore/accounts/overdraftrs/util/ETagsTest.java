@@ -0,0 +1,64 @@
+package com.santander.digitalcore.accounts.overdraftrs.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ETagsTest {
+
+  @Test
+  void testVersionRoundTripKeepsMilliseconds() {
+    var version = LocalDateTime.of(2026, 3, 14, 9, 26, 53, 589_793_238);
+
+    var etag = ETags.of(version);
+
+    assertTrue(etag.startsWith("\"") && etag.endsWith("\""));
+    assertEquals(LocalDateTime.of(2026, 3, 14, 9, 26, 53, 589_000_000), ETags.toVersion(etag));
+  }
+
+  @Test
+  void testSameMillisecondGivesSameETag() {
+    assertEquals(ETags.of(LocalDateTime.of(2026, 1, 1, 0, 0, 0, 1_000_001)),
+        ETags.of(LocalDateTime.of(2026, 1, 1, 0, 0, 0, 1_999_999)));
+  }
+
+  @Test
+  void testNullVersionHasNoETag() {
+    assertNull(ETags.of((LocalDateTime) null));
+  }
+
+  @Test
+  void testToVersionRejectsUnknownFormats() {
+    assertNull(ETags.toVersion("abc"));
+    assertNull(ETags.toVersion("\"not-a-version\""));
+    assertNull(ETags.toVersion("W/\"abc\""));
+  }
+
+  @Test
+  void testCatalogETagChangesWithContent() {
+    assertEquals(ETags.of(List.of("01", "02")), ETags.of(List.of("01", "02")));
+    assertNotEquals(ETags.of(List.of("01", "02")), ETags.of(List.of("01", "03")));
+    assertNotEquals(ETags.of(List.of("01")), ETags.of(List.of("01", "02")));
+    // "Aa" y "BB" tienen el mismo hashCode
+    assertNotEquals(ETags.of(List.of("Aa")), ETags.of(List.of("BB")));
+  }
+
+  @Test
+  void testMatches() {
+    var etag = "\"abc\"";
+
+    assertTrue(ETags.matches("\"abc\"", etag));
+    assertTrue(ETags.matches("\"xyz\", W/\"abc\"", etag));
+    assertTrue(ETags.matches("*", etag));
+    assertFalse(ETags.matches("\"xyz\"", etag));
+    assertFalse(ETags.matches(null, etag));
+    assertFalse(ETags.matches("\"abc\"", null));
+  }
+}
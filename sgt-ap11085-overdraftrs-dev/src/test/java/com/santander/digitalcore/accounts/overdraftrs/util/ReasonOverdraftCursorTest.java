@@ -0,0 +1,49 @@
+package com.santander.digitalcore.accounts.overdraftrs.util;
+
+import com.santander.digitalcore.accounts.util.lib.core.exceptions.BadRequestDarwinExceptionLeancore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReasonOverdraftCursorTest {
+
+  @Test
+  void testEncodeAndDecodeRoundTrip() {
+    var cursor = ReasonOverdraftCursor.encode("0000000049", "SANTANDER", "15");
+
+    var pk = ReasonOverdraftCursor.decode(cursor);
+
+    assertEquals("0000000049", pk.getEntity());
+    assertEquals("SANTANDER", pk.getBrand());
+    assertEquals("15", pk.getReasonCode());
+  }
+
+  @Test
+  void testEncodeIsUrlSafe() {
+    var cursor = ReasonOverdraftCursor.encode("0000000049", "BRAND/WITH+CHARS??", "9999");
+
+    assertFalse(cursor.contains("+") || cursor.contains("/") || cursor.contains("="),
+        "Expected a URL-safe cursor without padding");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"not base64!", "", "MDA0OQ"})
+  void testDecodeThrowsBadRequestWhenCursorIsInvalid(String cursor) {
+    assertThrows(BadRequestDarwinExceptionLeancore.class, () -> ReasonOverdraftCursor.decode(cursor));
+  }
+
+  @Test
+  void testDecodeThrowsBadRequestWhenCursorHasTooManyParts() {
+    var raw = "0049\u001FSAN\u001F15\u001Fextra";
+    var cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+    assertThrows(BadRequestDarwinExceptionLeancore.class, () -> ReasonOverdraftCursor.decode(cursor));
+  }
+}
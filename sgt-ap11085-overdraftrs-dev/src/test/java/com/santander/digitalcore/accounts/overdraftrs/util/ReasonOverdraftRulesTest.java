@@ -0,0 +1,135 @@
+package com.santander.digitalcore.accounts.overdraftrs.util;
+
+import com.santander.digitalcore.accounts.overdraftrs.dto.ReasonOverdraftDTO;
+import com.santander.digitalcore.accounts.util.lib.core.exceptions.BadRequestDarwinExceptionLeancore;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReasonOverdraftRulesTest {
+
+  private static final String NEXT_YEAR = String.valueOf(LocalDate.now().getYear() + 1);
+
+  @Test
+  void testValidCreateRequestHasNoViolations() {
+    assertEquals(List.of(), ReasonOverdraftRules.createViolations(validRequest()));
+  }
+
+  @Test
+  void testCreateCollectsEveryViolationInValidationOrder() {
+    var request = validRequest();
+    request.setReasonCode("12A");
+    request.setMandatory("X");
+    request.setCounter(new BigDecimal("10000"));
+    request.setSettlementIndicator("");
+
+    assertEquals(List.of("OVERDRAFT-REASON-0020", "OVERDRAFT-REASON-0030", "OVERDRAFT-REASON-0026",
+        "OVERDRAFT-REASON-0034"), ReasonOverdraftRules.createViolations(request));
+  }
+
+  @Test
+  void testCreateRequiresDatesAndMandatoryFields() {
+    var request = new ReasonOverdraftDTO();
+
+    assertEquals(List.of("OVERDRAFT-REASON-0016", "OVERDRAFT-REASON-0017", "OVERDRAFT-REASON-0018",
+        "OVERDRAFT-REASON-0032", "OVERDRAFT-REASON-0033", "OVERDRAFT-REASON-0029", "OVERDRAFT-REASON-0034"),
+        ReasonOverdraftRules.createViolations(request));
+  }
+
+  @Test
+  void testCreateChecksDateOrderAndMandatoryDefaultDate() {
+    var request = validRequest();
+    request.setStartDateTime(NEXT_YEAR + "-06-01 00:00:00.000");
+    request.setEndDateTime(NEXT_YEAR + "-01-01 00:00:00.000");
+    request.setMandatory("y");
+    request.setDefaultDate(null);
+
+    assertEquals(List.of("OVERDRAFT-REASON-0023", "OVERDRAFT-REASON-0027"),
+        ReasonOverdraftRules.createViolations(request));
+  }
+
+  @Test
+  void testMonthsRules() {
+    var request = validRequest();
+    request.setMonths(new BigDecimal("2.31"));
+    assertEquals(List.of("OVERDRAFT-REASON-0024"), ReasonOverdraftRules.createViolations(request));
+
+    request.setMonths(new BigDecimal("-1"));
+    assertEquals(List.of("OVERDRAFT-REASON-0025"), ReasonOverdraftRules.createViolations(request));
+  }
+
+  @Test
+  void testUpdateOnlyValidatesInformedFields() {
+    var request = new ReasonOverdraftDTO();
+    request.setEntity("0049");
+    request.setBrand("SAN");
+    request.setReasonCode("0101");
+
+    assertEquals(List.of(), ReasonOverdraftRules.updateViolations(request));
+
+    request.setStartDateTime(NEXT_YEAR + "-06-01 00:00:00.000");
+    request.setEndDateTime(NEXT_YEAR + "-01-01 00:00:00.000");
+    request.setMandatory("");
+    assertEquals(List.of("OVERDRAFT-REASON-0021", "OVERDRAFT-REASON-0029"),
+        ReasonOverdraftRules.updateViolations(request));
+  }
+
+  @Test
+  void testMalformedDateIsReportedWhenThereAreNoOtherViolations() {
+    var request = validRequest();
+    request.setStartDateTime("2026/01/01");
+
+    assertThrows(DateTimeParseException.class, () -> ReasonOverdraftRules.createViolations(request));
+
+    request.setReasonCode("1");
+    assertEquals(List.of("OVERDRAFT-REASON-0019"), ReasonOverdraftRules.createViolations(request));
+  }
+
+  @Test
+  void testThrowFirstUsesFirstViolation() {
+    assertThrows(BadRequestDarwinExceptionLeancore.class,
+        () -> ReasonOverdraftRules.throwFirst(List.of("OVERDRAFT-REASON-0020", "OVERDRAFT-REASON-0030")));
+    assertDoesNotThrow(() -> ReasonOverdraftRules.throwFirst(List.of()));
+  }
+
+  @Test
+  void testIsDigits() {
+    assertTrue(ReasonOverdraftRules.isDigits("0123456789"));
+    assertFalse(ReasonOverdraftRules.isDigits("12a"));
+    assertFalse(ReasonOverdraftRules.isDigits("\u0661\u0662"));
+  }
+
+  @Test
+  void testCreateValidationDefaultsMonths() {
+    var request = validRequest();
+    request.setMonths(null);
+
+    Validations.createValidation(request);
+
+    assertEquals(new BigDecimal("99.99"), request.getMonths());
+  }
+
+  private static ReasonOverdraftDTO validRequest() {
+    var request = new ReasonOverdraftDTO();
+    request.setEntity("0049");
+    request.setBrand("SAN");
+    request.setReasonCode("0101");
+    request.setStartDateTime(NEXT_YEAR + "-01-01 00:00:00.000");
+    request.setEndDateTime("9999-12-31 23:59:59.999");
+    request.setMandatory("N");
+    request.setSettlementIndicator("Y");
+    request.setMonths(new BigDecimal("3.15"));
+    request.setCounter(BigDecimal.ONE);
+    return request;
+  }
+}
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -24,6 +25,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -51,6 +53,21 @@ class CodeReasonOverdraftControllerTest {
         .andExpect(jsonPath("$[1].reasonCodeDescription").value("Description 2"));
   }
 
+  @Test
+  void testGetCodeReasonOverdraftListNotModified() throws Exception {
+    var list = List.of(new CodeReasonOverdraftResponse("01", "Description 1", "user",
+        LocalDateTime.of(2026, 1, 1, 0, 0), "user", LocalDateTime.of(2026, 1, 2, 0, 0), null, null));
+    when(codeReasonOverdraftService.getCodeReasonOverdraftList()).thenReturn(list);
+
+    var etag = mockMvc.perform(get("/code_reason"))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    mockMvc.perform(get("/code_reason").header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, etag));
+  }
+
   @Test
   void testGetCodeReasonOverdraftListNoContent() throws Exception {
     when(codeReasonOverdraftService.getCodeReasonOverdraftList()).thenReturn(Collections.emptyList());
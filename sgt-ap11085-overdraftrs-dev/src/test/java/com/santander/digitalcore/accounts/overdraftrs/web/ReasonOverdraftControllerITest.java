@@ -23,6 +23,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import javax.sql.DataSource;
+import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -229,13 +230,13 @@ public class ReasonOverdraftControllerITest extends BaseControllerIT {
   @Test
   void testUpdateReasonOverdraftNotFound() throws Exception {
     // Set input variable(s)
-    var request = JSONMapperUtil.convertJsonToDTO(ReasonOverdraftDTO.class, "/data/reason-overdraft.json");
+    var request = JSONMapperUtil.convertJsonToDTO(ReasonOverdraftDTO.class, "/data/reason-overdraft-entityPK.json");
 
     // Test mock(s) setup
     when(rs.next()).thenReturn(false);
 
     // Set updated values
-    request.setDescData("Updated description");
+    request.setCounter(new BigDecimal("7"));
 
     // Execute and extract result
     var result = executeHTTPCall(HttpMethod.PATCH,
@@ -0,0 +1,102 @@
+-- Callback de Flyway del perfil local-h2: se ejecuta después de las migraciones de db/migration/h2
+-- Motivos que consulta load-test/reason-overdraft.js
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '10', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 10', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '11', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 11', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '12', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 12', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '13', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 13', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '14', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 14', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '15', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 15', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '16', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 16', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '17', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 17', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '18', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 18', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '19', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 19', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '20', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 20', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '21', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 21', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '22', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 22', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '23', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 23', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '24', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 24', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '25', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 25', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '26', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 26', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '27', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 27', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '28', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 28', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '29', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 29', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '30', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 30', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '31', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 31', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '32', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 32', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '33', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 33', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '34', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 34', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '35', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 35', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '36', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 36', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '37', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 37', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '38', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 38', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '39', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 39', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '40', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 40', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '41', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 41', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '42', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 42', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '43', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 43', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '44', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 44', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '45', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 45', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '46', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 46', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '47', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 47', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '48', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 48', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '49', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 49', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '50', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 50', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '51', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 51', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '52', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 52', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '53', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 53', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '54', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 54', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '55', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 55', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '56', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 56', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '57', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 57', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '58', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 58', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'SAN', '59', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 59', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '10', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 10', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '11', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 11', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '12', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 12', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '13', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 13', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '14', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 14', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '15', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 15', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '16', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 16', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '17', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 17', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '18', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 18', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '19', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 19', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '20', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 20', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '21', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 21', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '22', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 22', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '23', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 23', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '24', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 24', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '25', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 25', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '26', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 26', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '27', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 27', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '28', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 28', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '29', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 29', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '30', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 30', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '31', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 31', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '32', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 32', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '33', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 33', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '34', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 34', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '35', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 35', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '36', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 36', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '37', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 37', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '38', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 38', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '39', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 39', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '40', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 40', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '41', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 41', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '42', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 42', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '43', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 43', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '44', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 44', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '45', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 45', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '46', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 46', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '47', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 47', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '48', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 48', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '49', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 49', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '50', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 50', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '51', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 51', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '52', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 52', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '53', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 53', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '54', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 54', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '55', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 55', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '56', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 56', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '57', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 57', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '58', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 58', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');
+INSERT INTO DC_REASON_OVERDRAFT (ENTITY, BRAND, REASON_CODE, START_DATE_TIME, END_DATE_TIME, DESCDATA, SETTLEMENT_INDICATOR, MANDATORY, DEFAULTDATE, MONTHS, COUNTER, CONDITION, CREATION_USER, CREATION_DATE_TIME, LAST_UPDATER_USER, LAST_UPDATER_DATE_TIME) VALUES ('0000000049', 'BANIF', '59', TIMESTAMP '2025-01-01 00:00:00', TIMESTAMP '9999-12-31 23:59:59', 'Motivo 59', 'N', 'Y', DATE '2025-09-10', 9.25, 3, '<=', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00', 'LOADTEST', TIMESTAMP '2025-01-01 00:00:00');